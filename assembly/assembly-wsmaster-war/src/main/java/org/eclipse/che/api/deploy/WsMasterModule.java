@@ -18,6 +18,7 @@ import com.google.inject.persist.jpa.JpaPersistModule;
 import org.eclipse.che.account.api.AccountModule;
 import org.eclipse.che.api.agent.server.launcher.AgentLauncher;
 import org.eclipse.che.api.core.jdbc.jpa.eclipselink.EntityListenerInjectionManagerInitializer;
+import org.eclipse.che.api.core.jdbc.jpa.eclipselink.SharedCacheManager;
 import org.eclipse.che.api.core.jdbc.jpa.guice.JpaInitializer;
 import org.eclipse.che.api.core.rest.CheJsonProvider;
 import org.eclipse.che.api.core.rest.MessageBodyAdapter;
@@ -47,6 +48,7 @@ public class WsMasterModule extends AbstractModule {
         bind(JpaInitializer.class).to(org.eclipse.che.api.core.h2.jdbc.jpa.guice.CheJpaInitializer.class).asEagerSingleton();
         bind(CheUserCreator.class);
         bind(EntityListenerInjectionManagerInitializer.class).asEagerSingleton();
+        bind(SharedCacheManager.class).asEagerSingleton();
         install(new UserJpaModule());
         install(new SshJpaModule());
         install(new WorkspaceJpaModule());
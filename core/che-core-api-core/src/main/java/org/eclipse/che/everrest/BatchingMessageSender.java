@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import org.everrest.core.impl.provider.json.JsonException;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.everrest.websockets.message.JsonMessageConverter;
+import org.everrest.websockets.message.OutputMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.websocket.CloseReason;
+import javax.websocket.EncodeException;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends messages of the websocket connection which negotiated batching.
+ * <p>
+ * Messages broadcast to channels are collected during the flush window, which starts with the first collected message,
+ * and then are sent as a single text frame containing the JSON array of the messages.
+ * Any other message, e.g. the response to the client request, is sent immediately after the collected ones
+ * in its own frame, so the order of the messages is kept and responses aren't delayed.
+ * <p>
+ * Frames are sent asynchronously one by one, the next frame is sent when the sending of the previous one is completed.
+ * So neither the thread which sends the message nor the thread of the scheduler shared by all the connections
+ * is blocked by the slow client. Frames waiting to be sent are limited by {@link #MAX_PENDING_LENGTH},
+ * the connection of the client which doesn't keep up with the messages is closed when the limit is exceeded.
+ */
+class BatchingMessageSender {
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingMessageSender.class);
+
+    /** Max number of messages in the batch, batch is sent without waiting for the end of the flush window when it is reached. */
+    static final int MAX_BATCH_MESSAGES = 256;
+    /** Max length of the batch in chars, batch is sent without waiting for the end of the flush window when it is reached. */
+    static final int MAX_BATCH_LENGTH   = 64 * 1024;
+    /** Max length in chars of the frames waiting to be sent, connection is closed when it is exceeded. */
+    static final int MAX_PENDING_LENGTH = 16 * 1024 * 1024;
+
+    private final Session                  session;
+    private final JsonMessageConverter     converter;
+    private final long                     flushWindow;
+    private final ScheduledExecutorService scheduler;
+    private final StringBuilder            batch;
+    /** Frames waiting for the sending of the previous frame to complete. */
+    private final Queue<Frame>             frames;
+
+    private int                batchSize;
+    /** Length in chars of the frames waiting to be sent. */
+    private long               pendingLength;
+    /** Whether the pending frames limit is exceeded, so the connection is being closed. */
+    private boolean            overflowed;
+    private ScheduledFuture<?> scheduledFlush;
+    /** Whether the frame is being sent at the moment. */
+    private boolean            sending;
+    /** Whether {@link #sendNext()} is in progress, so the frames are sent by it. */
+    private boolean            draining;
+    private long               framesSent;
+    private long               messagesSent;
+
+    /**
+     * @param flushWindow
+     *         time in milliseconds during which the broadcast messages are collected before being sent
+     */
+    BatchingMessageSender(Session session,
+                          JsonMessageConverter converter,
+                          long flushWindow,
+                          ScheduledExecutorService scheduler) {
+        this.session = session;
+        this.converter = converter;
+        this.flushWindow = flushWindow;
+        this.scheduler = scheduler;
+        this.batch = new StringBuilder();
+        this.frames = new ArrayDeque<>();
+    }
+
+    synchronized void send(OutputMessage message) throws EncodeException {
+        if (overflowed) {
+            return;
+        }
+        final String text;
+        try {
+            text = converter.toString(message);
+        } catch (JsonException e) {
+            throw new EncodeException(message, e.getMessage(), e);
+        }
+        if (!(message instanceof ChannelBroadcastMessage)) {
+            flush();
+            enqueue(text, 1);
+            return;
+        }
+
+        batch.append(batchSize == 0 ? '[' : ',').append(text);
+        batchSize++;
+        if (batchSize >= MAX_BATCH_MESSAGES || batch.length() >= MAX_BATCH_LENGTH) {
+            flush();
+        } else if (scheduledFlush == null) {
+            scheduledFlush = scheduler.schedule(this::flush, flushWindow, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Sends collected messages if there are any. */
+    synchronized void flush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (batchSize == 0) {
+            return;
+        }
+
+        final String frame = batch.append(']').toString();
+        final int messages = batchSize;
+        batch.setLength(0);
+        batchSize = 0;
+        enqueue(frame, messages);
+    }
+
+    /** Drops collected messages and the frames which are not sent yet, e.g. when connection is closed. */
+    synchronized void close() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        batch.setLength(0);
+        batchSize = 0;
+        frames.clear();
+        pendingLength = 0;
+        LOG.debug("Websocket connection {} closed, frames sent: {}, messages sent: {}", session.getId(), framesSent, messagesSent);
+    }
+
+    synchronized long getFramesSent() {
+        return framesSent;
+    }
+
+    synchronized long getMessagesSent() {
+        return messagesSent;
+    }
+
+    /** Returns number of frames waiting to be sent. */
+    synchronized int getPendingFrames() {
+        return frames.size();
+    }
+
+    private void enqueue(String text, int messages) {
+        if (overflowed) {
+            return;
+        }
+        if (pendingLength + text.length() > MAX_PENDING_LENGTH) {
+            overflow();
+            return;
+        }
+        frames.add(new Frame(text, messages));
+        pendingLength += text.length();
+        sendNext();
+    }
+
+    /**
+     * Drops the pending frames and closes the connection of the client which doesn't keep up with the messages,
+     * the client is expected to reconnect and reload its state. Connection is closed by the scheduler,
+     * so the thread which sends the message isn't blocked by the closing handshake.
+     */
+    private void overflow() {
+        LOG.warn("Websocket connection {} is closed because its client doesn't keep up with the messages, {} frames are pending",
+                 session.getId(), frames.size());
+        overflowed = true;
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        batch.setLength(0);
+        batchSize = 0;
+        frames.clear();
+        pendingLength = 0;
+        scheduler.execute(() -> {
+            try {
+                session.close(new CloseReason(CloseReason.CloseCodes.VIOLATED_POLICY, "Too many pending messages"));
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Unable to close websocket connection {}: {}", session.getId(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Starts sending of the next frame if the previous one is sent.
+     * Container may complete the sending in the calling thread, so the frames
+     * are sent in the loop instead of the recursive calls from the completion handler.
+     */
+    private void sendNext() {
+        if (draining) {
+            return;
+        }
+        draining = true;
+        try {
+            while (!sending && !frames.isEmpty()) {
+                if (!session.isOpen()) {
+                    frames.clear();
+                    pendingLength = 0;
+                    return;
+                }
+                final Frame frame = frames.poll();
+                pendingLength -= frame.text.length();
+                sending = true;
+                try {
+                    session.getAsyncRemote().sendText(frame.text, result -> onSent(frame, result));
+                } catch (RuntimeException e) {
+                    sending = false;
+                    LOG.warn("Unable to send messages to websocket connection {}: {}", session.getId(), e.getMessage());
+                }
+            }
+        } finally {
+            draining = false;
+        }
+    }
+
+    private synchronized void onSent(Frame frame, SendResult result) {
+        sending = false;
+        if (result.isOK()) {
+            framesSent++;
+            messagesSent += frame.messages;
+            WebSocketMetrics.frameSent(frame.messages, frame.text.length());
+        } else {
+            LOG.warn("Unable to send messages to websocket connection {}: {}", session.getId(), result.getException().getMessage());
+        }
+        sendNext();
+    }
+
+    private static class Frame {
+        final String text;
+        final int    messages;
+
+        Frame(String text, int messages) {
+            this.text = text;
+            this.messages = messages;
+        }
+    }
+}
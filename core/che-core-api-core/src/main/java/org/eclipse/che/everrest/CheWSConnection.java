@@ -10,23 +10,67 @@
  *******************************************************************************/
 package org.eclipse.che.everrest;
 
+import static org.eclipse.che.everrest.ServerContainerInitializeListener.BATCH_FLUSH_WINDOW_ATTRIBUTE;
+import static org.eclipse.che.everrest.ServerContainerInitializeListener.BATCH_PARAMETER;
+import static org.eclipse.che.everrest.ServerContainerInitializeListener.BATCH_SCHEDULER_ATTRIBUTE;
 import static org.eclipse.che.everrest.ServerContainerInitializeListener.ENVIRONMENT_CONTEXT;
 
 import org.everrest.websockets.WSConnectionImpl;
+import org.everrest.websockets.message.JsonMessageConverter;
+import org.everrest.websockets.message.OutputMessage;
 
+import javax.websocket.CloseReason;
+import javax.websocket.EncodeException;
 import javax.websocket.EndpointConfig;
 import javax.websocket.Session;
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * @author Sergii Kabashniuk
  */
 public class CheWSConnection extends WSConnectionImpl {
+    /** Not null if client requested batching of the messages and it is enabled on the server. */
+    private volatile BatchingMessageSender batchingSender;
+
     @Override
     public void onOpen(Session session, EndpointConfig config) {
         final Map<String, Object> userProperties = config.getUserProperties();
         setAttribute(ENVIRONMENT_CONTEXT, userProperties.get(ENVIRONMENT_CONTEXT));
+        final Long flushWindow = (Long)userProperties.get(BATCH_FLUSH_WINDOW_ATTRIBUTE);
+        if (flushWindow != null && flushWindow > 0 && isBatchingRequested(session)) {
+            batchingSender = new BatchingMessageSender(session,
+                                                       new JsonMessageConverter(),
+                                                       flushWindow,
+                                                       (ScheduledExecutorService)userProperties.get(BATCH_SCHEDULER_ATTRIBUTE));
+        }
         super.onOpen(session, config);
 
     }
+
+    @Override
+    public void sendMessage(OutputMessage output) throws EncodeException, IOException {
+        final BatchingMessageSender sender = batchingSender;
+        if (sender == null) {
+            super.sendMessage(output);
+        } else {
+            sender.send(output);
+        }
+    }
+
+    @Override
+    public void onClose(Session session, CloseReason closeReason) {
+        final BatchingMessageSender sender = batchingSender;
+        if (sender != null) {
+            sender.close();
+        }
+        super.onClose(session, closeReason);
+    }
+
+    private boolean isBatchingRequested(Session session) {
+        final List<String> values = session.getRequestParameterMap().get(BATCH_PARAMETER);
+        return values != null && values.contains("true");
+    }
 }
@@ -14,6 +14,7 @@ import com.google.common.base.MoreObjects;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.lang.JmxUtils;
 import org.eclipse.che.commons.subject.Subject;
 import org.everrest.core.DependencySupplier;
 import org.everrest.core.ResourceBinder;
@@ -33,6 +34,7 @@ import org.everrest.websockets.message.JsonMessageConverter;
 import org.everrest.websockets.message.OutputMessage;
 import org.everrest.websockets.message.RestInputMessage;
 
+import javax.management.ObjectName;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
@@ -52,6 +54,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static javax.websocket.server.ServerEndpointConfig.Builder.create;
 import static javax.websocket.server.ServerEndpointConfig.Configurator;
@@ -66,6 +69,10 @@ public class ServerContainerInitializeListener implements ServletContextListener
     public static final String EVERREST_CONFIG_ATTRIBUTE    = EverrestConfiguration.class.getName();
     public static final String EXECUTOR_ATTRIBUTE           = "everrest.Executor";
     public static final String SECURITY_CONTEXT             = SecurityContext.class.getName();
+    public static final String BATCH_FLUSH_WINDOW_ATTRIBUTE = "ide.websocket.batch.flushWindow";
+    public static final String BATCH_SCHEDULER_ATTRIBUTE    = "ide.websocket.batch.scheduler";
+    /** Query parameter of the websocket URL with which client requests batching of the messages sent to it. */
+    public static final String BATCH_PARAMETER              = "batch";
 
     private WebApplicationDeclaredRoles webApplicationDeclaredRoles;
     private EverrestConfiguration       everrestConfiguration;
@@ -74,6 +81,9 @@ public class ServerContainerInitializeListener implements ServletContextListener
     private String                      websocketContext;
     private String                      websocketEndPoint;
     private String                      eventBusEndPoint;
+    private long                        batchFlushWindow;
+    private ScheduledExecutorService    batchScheduler;
+    private ObjectName                  metricsName;
 
     @Override
     public final void contextInitialized(ServletContextEvent sce) {
@@ -81,6 +91,15 @@ public class ServerContainerInitializeListener implements ServletContextListener
         websocketContext = MoreObjects.firstNonNull(servletContext.getInitParameter("org.everrest.websocket.context"), "");
         websocketEndPoint = MoreObjects.firstNonNull(servletContext.getInitParameter("org.eclipse.che.websocket.endpoint"), "");
         eventBusEndPoint = MoreObjects.firstNonNull(servletContext.getInitParameter("org.eclipse.che.eventbus.endpoint"), "");
+        batchFlushWindow = Long.parseLong(MoreObjects.firstNonNull(servletContext.getInitParameter("org.eclipse.che.websocket.batch.window"),
+                                                                   "0"));
+        if (batchFlushWindow > 0) {
+            batchScheduler = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("WSBatchFlusher-" + servletContext.getServletContextName() + "-%d")
+                                              .setDaemon(true)
+                                              .build());
+        }
+        metricsName = JmxUtils.register(new WebSocketMetrics(), "WebSocket");
         webApplicationDeclaredRoles = new WebApplicationDeclaredRoles(servletContext);
         everrestConfiguration = (EverrestConfiguration)servletContext.getAttribute(EVERREST_CONFIG_ATTRIBUTE);
         if (everrestConfiguration == null) {
@@ -111,6 +130,10 @@ public class ServerContainerInitializeListener implements ServletContextListener
                 executor.shutdownNow();
             }
         }
+        if (batchScheduler != null) {
+            batchScheduler.shutdownNow();
+        }
+        JmxUtils.unregister(metricsName);
     }
 
     protected ServerEndpointConfig createWsServerEndpointConfig(ServletContext servletContext) {
@@ -123,6 +146,10 @@ public class ServerContainerInitializeListener implements ServletContextListener
         endpointConfig.getUserProperties().put(EVERREST_PROCESSOR_ATTRIBUTE, getEverrestProcessor(servletContext));
         endpointConfig.getUserProperties().put(EVERREST_CONFIG_ATTRIBUTE, getEverrestConfiguration(servletContext));
         endpointConfig.getUserProperties().put(EXECUTOR_ATTRIBUTE, createExecutor(servletContext));
+        if (batchScheduler != null) {
+            endpointConfig.getUserProperties().put(BATCH_FLUSH_WINDOW_ATTRIBUTE, batchFlushWindow);
+            endpointConfig.getUserProperties().put(BATCH_SCHEDULER_ATTRIBUTE, batchScheduler);
+        }
         return endpointConfig;
     }
 
@@ -136,6 +163,10 @@ public class ServerContainerInitializeListener implements ServletContextListener
         endpointConfig.getUserProperties().put(EVERREST_PROCESSOR_ATTRIBUTE, getEverrestProcessor(servletContext));
         endpointConfig.getUserProperties().put(EVERREST_CONFIG_ATTRIBUTE, getEverrestConfiguration(servletContext));
         endpointConfig.getUserProperties().put(EXECUTOR_ATTRIBUTE, createExecutor(servletContext));
+        if (batchScheduler != null) {
+            endpointConfig.getUserProperties().put(BATCH_FLUSH_WINDOW_ATTRIBUTE, batchFlushWindow);
+            endpointConfig.getUserProperties().put(BATCH_SCHEDULER_ATTRIBUTE, batchScheduler);
+        }
         return endpointConfig;
     }
 
@@ -217,6 +248,7 @@ public class ServerContainerInitializeListener implements ServletContextListener
 
         @Override
         public RestInputMessage decode(String s) throws DecodeException {
+            WebSocketMetrics.frameReceived(s.length());
             try {
                 return jsonMessageConverter.fromString(s, RestInputMessage.class);
             } catch (JsonException e) {
@@ -236,7 +268,9 @@ public class ServerContainerInitializeListener implements ServletContextListener
         @Override
         public String encode(OutputMessage output) throws EncodeException {
             try {
-                return jsonMessageConverter.toString(output);
+                final String text = jsonMessageConverter.toString(output);
+                WebSocketMetrics.frameSent(1, text.length());
+                return text;
             } catch (JsonException e) {
                 throw new EncodeException(output, e.getMessage(), e);
             }
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the websocket traffic of this server, shared by all the websocket connections.
+ * Bytes are counted as the length of the text frames in chars, compression applied by the container isn't taken into account.
+ * <p>
+ * Counters are exposed as {@code org.eclipse.che:type=WebSocket} MXBean, see {@link ServerContainerInitializeListener}.
+ */
+public final class WebSocketMetrics implements WebSocketMetricsMXBean {
+    private static final AtomicLong FRAMES_SENT     = new AtomicLong();
+    private static final AtomicLong MESSAGES_SENT   = new AtomicLong();
+    private static final AtomicLong BYTES_SENT      = new AtomicLong();
+    private static final AtomicLong FRAMES_RECEIVED = new AtomicLong();
+    private static final AtomicLong BYTES_RECEIVED  = new AtomicLong();
+
+    WebSocketMetrics() {
+    }
+
+    /** Registers the text frame sent to the client, frame may contain several messages when batching is enabled. */
+    static void frameSent(int messages, int bytes) {
+        FRAMES_SENT.incrementAndGet();
+        MESSAGES_SENT.addAndGet(messages);
+        BYTES_SENT.addAndGet(bytes);
+    }
+
+    /** Registers the text frame received from the client. */
+    static void frameReceived(int bytes) {
+        FRAMES_RECEIVED.incrementAndGet();
+        BYTES_RECEIVED.addAndGet(bytes);
+    }
+
+    @Override
+    public long getFramesSent() {
+        return FRAMES_SENT.get();
+    }
+
+    @Override
+    public long getMessagesSent() {
+        return MESSAGES_SENT.get();
+    }
+
+    @Override
+    public long getBytesSent() {
+        return BYTES_SENT.get();
+    }
+
+    @Override
+    public long getFramesReceived() {
+        return FRAMES_RECEIVED.get();
+    }
+
+    @Override
+    public long getBytesReceived() {
+        return BYTES_RECEIVED.get();
+    }
+}
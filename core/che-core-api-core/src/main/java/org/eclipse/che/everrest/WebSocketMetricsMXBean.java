@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+/**
+ * Websocket traffic of this server.
+ *
+ * @see WebSocketMetrics
+ */
+public interface WebSocketMetricsMXBean {
+
+    /** Returns number of text frames sent to the clients. */
+    long getFramesSent();
+
+    /** Returns number of messages sent to the clients, frame may contain several messages when batching is enabled. */
+    long getMessagesSent();
+
+    /** Returns length of the sent frames in chars. */
+    long getBytesSent();
+
+    /** Returns number of text frames received from the clients. */
+    long getFramesReceived();
+
+    /** Returns length of the received frames in chars. */
+    long getBytesReceived();
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.everrest.websockets.message.JsonMessageConverter;
+import org.everrest.websockets.message.OutputMessage;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.websocket.CloseReason;
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link BatchingMessageSender}.
+ */
+public class BatchingMessageSenderTest {
+    private static final long FLUSH_WINDOW = 10;
+
+    private Session                  session;
+    private RemoteEndpoint.Async     remote;
+    private JsonMessageConverter     converter;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?>       scheduledFlush;
+    private BatchingMessageSender    sender;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        session = mock(Session.class);
+        remote = mock(RemoteEndpoint.Async.class);
+        converter = mock(JsonMessageConverter.class);
+        scheduler = mock(ScheduledExecutorService.class);
+        scheduledFlush = mock(ScheduledFuture.class);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAsyncRemote()).thenReturn(remote);
+        // frames are sent immediately by default
+        doAnswer(inv -> {
+            ((SendHandler)inv.getArguments()[1]).onResult(new SendResult());
+            return null;
+        }).when(remote).sendText(anyString(), any(SendHandler.class));
+        doReturn(scheduledFlush).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        sender = new BatchingMessageSender(session, converter, FLUSH_WINDOW, scheduler);
+    }
+
+    @Test
+    public void shouldSendBroadcastMessagesInOneFrameAfterFlushWindow() throws Exception {
+        sender.send(broadcastMessage("{\"body\":\"1\"}"));
+        sender.send(broadcastMessage("{\"body\":\"2\"}"));
+        sender.send(broadcastMessage("{\"body\":\"3\"}"));
+
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flushCaptor.capture(), eq(FLUSH_WINDOW), eq(TimeUnit.MILLISECONDS));
+        verify(remote, never()).sendText(anyString(), any(SendHandler.class));
+
+        flushCaptor.getValue().run();
+
+        verify(remote).sendText(eq("[{\"body\":\"1\"},{\"body\":\"2\"},{\"body\":\"3\"}]"), any(SendHandler.class));
+        assertEquals(sender.getFramesSent(), 1);
+        assertEquals(sender.getMessagesSent(), 3);
+    }
+
+    @Test
+    public void shouldSendCollectedMessagesBeforeResponse() throws Exception {
+        sender.send(broadcastMessage("{\"body\":\"1\"}"));
+        sender.send(responseMessage("{\"uuid\":\"x\"}"));
+
+        InOrder inOrder = inOrder(remote);
+        inOrder.verify(remote).sendText(eq("[{\"body\":\"1\"}]"), any(SendHandler.class));
+        inOrder.verify(remote).sendText(eq("{\"uuid\":\"x\"}"), any(SendHandler.class));
+        verify(scheduledFlush).cancel(false);
+        assertEquals(sender.getFramesSent(), 2);
+    }
+
+    @Test
+    public void shouldSendResponseImmediatelyWhenNothingCollected() throws Exception {
+        sender.send(responseMessage("{\"uuid\":\"x\"}"));
+
+        verify(remote).sendText(eq("{\"uuid\":\"x\"}"), any(SendHandler.class));
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void shouldFlushWhenBatchIsFull() throws Exception {
+        for (int i = 0; i < BatchingMessageSender.MAX_BATCH_MESSAGES; i++) {
+            sender.send(broadcastMessage("{}"));
+        }
+
+        verify(remote).sendText(anyString(), any(SendHandler.class));
+        assertEquals(sender.getMessagesSent(), BatchingMessageSender.MAX_BATCH_MESSAGES);
+
+        sender.send(broadcastMessage("{}"));
+
+        verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void shouldNotSendNextFrameUntilPreviousOneIsSent() throws Exception {
+        final List<SendHandler> handlers = new ArrayList<>();
+        doAnswer(inv -> handlers.add((SendHandler)inv.getArguments()[1])).when(remote).sendText(anyString(), any(SendHandler.class));
+
+        // slow client doesn't block the sender
+        sender.send(responseMessage("{\"uuid\":\"1\"}"));
+        sender.send(responseMessage("{\"uuid\":\"2\"}"));
+
+        verify(remote).sendText(eq("{\"uuid\":\"1\"}"), any(SendHandler.class));
+        verify(remote, never()).sendText(eq("{\"uuid\":\"2\"}"), any(SendHandler.class));
+        assertEquals(sender.getPendingFrames(), 1);
+
+        handlers.get(0).onResult(new SendResult());
+
+        verify(remote).sendText(eq("{\"uuid\":\"2\"}"), any(SendHandler.class));
+        assertEquals(sender.getPendingFrames(), 0);
+        assertEquals(sender.getFramesSent(), 1);
+    }
+
+    @Test
+    public void shouldNotCountFramesWhichAreNotSent() throws Exception {
+        doAnswer(inv -> {
+            ((SendHandler)inv.getArguments()[1]).onResult(new SendResult(new IOException("closed")));
+            return null;
+        }).when(remote).sendText(anyString(), any(SendHandler.class));
+
+        sender.send(responseMessage("{\"uuid\":\"1\"}"));
+        sender.send(responseMessage("{\"uuid\":\"2\"}"));
+
+        verify(remote, times(2)).sendText(anyString(), any(SendHandler.class));
+        assertEquals(sender.getFramesSent(), 0);
+    }
+
+    @Test
+    public void shouldCloseConnectionWhenPendingFramesLimitIsExceeded() throws Exception {
+        doAnswer(inv -> null).when(remote).sendText(anyString(), any(SendHandler.class));
+        final StringBuilder sb = new StringBuilder();
+        while (sb.length() < BatchingMessageSender.MAX_PENDING_LENGTH / 4) {
+            sb.append('a');
+        }
+        final String text = sb.toString();
+
+        // the first frame is being sent and the rest are pending
+        for (int i = 0; i < 5; i++) {
+            sender.send(responseMessage(text));
+        }
+        assertEquals(sender.getPendingFrames(), 4);
+
+        sender.send(responseMessage(text));
+
+        assertEquals(sender.getPendingFrames(), 0);
+        ArgumentCaptor<Runnable> closeCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).execute(closeCaptor.capture());
+        closeCaptor.getValue().run();
+        ArgumentCaptor<CloseReason> reasonCaptor = ArgumentCaptor.forClass(CloseReason.class);
+        verify(session).close(reasonCaptor.capture());
+        assertEquals(reasonCaptor.getValue().getCloseCode(), CloseReason.CloseCodes.VIOLATED_POLICY);
+
+        // messages aren't collected after overflow
+        sender.send(responseMessage("{}"));
+        assertEquals(sender.getPendingFrames(), 0);
+    }
+
+    @Test
+    public void shouldDropCollectedMessagesOnClose() throws Exception {
+        sender.send(broadcastMessage("{}"));
+
+        sender.close();
+        sender.flush();
+
+        verify(scheduledFlush).cancel(false);
+        verify(remote, never()).sendText(anyString(), any(SendHandler.class));
+    }
+
+    private OutputMessage broadcastMessage(String json) throws Exception {
+        ChannelBroadcastMessage message = mock(ChannelBroadcastMessage.class);
+        when(converter.toString(message)).thenReturn(json);
+        return message;
+    }
+
+    private OutputMessage responseMessage(String json) throws Exception {
+        OutputMessage message = mock(OutputMessage.class);
+        when(converter.toString(message)).thenReturn(json);
+        return message;
+    }
+}
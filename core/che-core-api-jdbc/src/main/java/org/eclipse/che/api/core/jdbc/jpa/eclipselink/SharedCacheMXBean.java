@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.jdbc.jpa.eclipselink;
+
+import org.eclipse.che.api.core.jdbc.jpa.eclipselink.SharedCacheManager.EntityCacheSize;
+
+import java.util.List;
+
+/**
+ * EclipseLink shared(second-level) cache of the persistence unit.
+ *
+ * @see SharedCacheManager
+ */
+public interface SharedCacheMXBean {
+
+    /** Returns the size of the shared cache of each entity which is not isolated from the shared cache. */
+    List<EntityCacheSize> getSizes();
+
+    /**
+     * Removes all the entities from the shared cache, the next reads will go to the database.
+     * Should be used when the database is modified bypassing the persistence unit.
+     */
+    void clear();
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.jdbc.jpa.eclipselink;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+
+import org.eclipse.che.commons.lang.JmxUtils;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.sessions.server.ServerSession;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.ObjectName;
+import javax.persistence.EntityManagerFactory;
+import java.beans.ConstructorProperties;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exposes EclipseLink shared(second-level) cache of the persistence unit
+ * as the {@code org.eclipse.che:type=SharedCache} MXBean.
+ *
+ * <p>The shared cache is kept consistent by EclipseLink for all the modifications
+ * performed through the entity managers of the persistence unit, including
+ * the removals performed by cascade removal subscribers, so the components
+ * don't need to evict the entities they modify. Results of the named queries
+ * are not cached, the queries always go to the database.
+ *
+ * <p>Cache size and type of each entity are configured by the persistence unit
+ * properties, see {@code eclipselink.cache.size.<ENTITY>} and {@code eclipselink.cache.type.<ENTITY>}.
+ * Cache hits and misses are not counted by EclipseLink unless the persistence unit
+ * is configured with {@code eclipselink.profiler=PerformanceMonitor}, which logs them periodically.
+ *
+ * <p>Should be bound as eager singleton.
+ *
+ * @author Yevhenii Voevodin
+ */
+@Singleton
+public class SharedCacheManager implements SharedCacheMXBean {
+
+    private final Provider<EntityManagerFactory> emFactoryProvider;
+
+    private ObjectName mbeanName;
+
+    @Inject
+    public SharedCacheManager(Provider<EntityManagerFactory> emFactoryProvider) {
+        this.emFactoryProvider = emFactoryProvider;
+    }
+
+    @PostConstruct
+    public void registerMBean() {
+        mbeanName = JmxUtils.register(this, "SharedCache");
+    }
+
+    @PreDestroy
+    public void unregisterMBean() {
+        JmxUtils.unregister(mbeanName);
+    }
+
+    @Override
+    public List<EntityCacheSize> getSizes() {
+        final ServerSession session = emFactoryProvider.get().unwrap(ServerSession.class);
+        final List<EntityCacheSize> sizes = new ArrayList<>();
+        for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+            if (descriptor.isAggregateDescriptor() || descriptor.isIsolated()) {
+                continue;
+            }
+            final IdentityMap identityMap = session.getIdentityMapAccessorInstance().getIdentityMap(descriptor);
+            sizes.add(new EntityCacheSize(descriptor.getAlias(),
+                                          identityMap.getSize(),
+                                          descriptor.getIdentityMapSize()));
+        }
+        return sizes;
+    }
+
+    @Override
+    public void clear() {
+        emFactoryProvider.get().getCache().evictAll();
+    }
+
+    /** Describes the size of the shared cache of a single entity. */
+    public static class EntityCacheSize {
+        private final String entityName;
+        private final int    size;
+        private final int    configuredSize;
+
+        @ConstructorProperties({"entityName", "size", "configuredSize"})
+        public EntityCacheSize(String entityName, int size, int configuredSize) {
+            this.entityName = entityName;
+            this.size = size;
+            this.configuredSize = configuredSize;
+        }
+
+        /** Returns the name of the entity. */
+        public String getEntityName() {
+            return entityName;
+        }
+
+        /** Returns the number of cached entities. */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the configured size of the entity cache, it is not an upper bound of {@link #getSize()}:
+         * for the {@code SoftWeak} cache it is the number of the most recently used entities
+         * which are held by soft references, the rest of the entities are held weakly.
+         */
+        public int getConfiguredSize() {
+            return configuredSize;
+        }
+
+        @Override
+        public String toString() {
+            return "EntityCacheSize{" +
+                   "entityName='" + entityName + '\'' +
+                   ", size=" + size +
+                   ", configuredSize=" + configuredSize +
+                   '}';
+        }
+    }
+}
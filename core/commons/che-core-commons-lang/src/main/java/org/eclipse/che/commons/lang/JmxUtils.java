@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.commons.lang;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Registers components statistics in the platform MBean server,
+ * so they can be read by any JMX client, e.g. jconsole.
+ */
+public class JmxUtils {
+    private static final Logger LOG = LoggerFactory.getLogger(JmxUtils.class);
+
+    /** Domain of the names of registered MBeans. */
+    public static final String DOMAIN = "org.eclipse.che";
+
+    /**
+     * Registers the given MBean with the name {@code org.eclipse.che:type=<type>}.
+     *
+     * <p>Registration failure doesn't affect the component, so it is only logged.
+     *
+     * @param mbean
+     *         MBean or MXBean to register
+     * @param type
+     *         the type of the component
+     * @return the name of registered MBean, or {@code null} if it is not registered
+     */
+    public static ObjectName register(Object mbean, String type) {
+        try {
+            return register(mbean, new ObjectName(DOMAIN, "type", type));
+        } catch (JMException x) {
+            LOG.warn("Unable to register MBean of type '{}'. {}", type, x.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Registers the given MBean with the name {@code org.eclipse.che:type=<type>,name=<name>},
+     * it is used when there may be several components of the same type.
+     *
+     * @param mbean
+     *         MBean or MXBean to register
+     * @param type
+     *         the type of the component
+     * @param name
+     *         the name of the component, may contain any characters
+     * @return the name of registered MBean, or {@code null} if it is not registered
+     * @see #register(Object, String)
+     */
+    public static ObjectName register(Object mbean, String type, String name) {
+        try {
+            return register(mbean, new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name)));
+        } catch (JMException x) {
+            LOG.warn("Unable to register MBean '{}' of type '{}'. {}", name, type, x.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Unregisters MBean with the given name, does nothing if the name is {@code null}.
+     *
+     * @see #register(Object, String)
+     */
+    public static void unregister(ObjectName name) {
+        if (name == null) {
+            return;
+        }
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException x) {
+            LOG.warn("Unable to unregister MBean '{}'. {}", name, x.getMessage());
+        }
+    }
+
+    private static ObjectName register(Object mbean, ObjectName name) throws JMException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(mbean, name);
+        return name;
+    }
+
+    private JmxUtils() {
+    }
+}
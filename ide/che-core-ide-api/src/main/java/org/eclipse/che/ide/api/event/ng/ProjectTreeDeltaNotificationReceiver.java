@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.api.event.ng;
+
+
+import org.eclipse.che.api.core.jsonrpc.shared.JsonRpcRequest;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeDeltaDto;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeItemDeltaDto;
+import org.eclipse.che.ide.api.app.AppContext;
+import org.eclipse.che.ide.api.resources.Container;
+import org.eclipse.che.ide.api.resources.ExternalResourceDelta;
+import org.eclipse.che.ide.api.resources.ResourceDelta;
+import org.eclipse.che.ide.dto.DtoFactory;
+import org.eclipse.che.ide.jsonrpc.JsonRpcRequestReceiver;
+import org.eclipse.che.ide.resource.Path;
+import org.eclipse.che.ide.util.loging.Log;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.List;
+
+import static org.eclipse.che.ide.api.resources.ResourceDelta.ADDED;
+import static org.eclipse.che.ide.api.resources.ResourceDelta.REMOVED;
+import static org.eclipse.che.ide.api.resources.ResourceDelta.UPDATED;
+
+/**
+ * Receives project tree deltas from server side. There are three type of deltas for files and
+ * directories in a project tree: creation, removal, modification. Deltas are passed further to
+ * an instance of workspace {@link Container} which applies them to the loaded resources.
+ * <p>
+ * Each notification has a sequence number, if any notification has been lost, e.g. because of
+ * reconnection or server restart, whole workspace is synchronized instead of applying deltas.
+ *
+ * @author Dmitry Kuleshov
+ */
+@Singleton
+public class ProjectTreeDeltaNotificationReceiver implements JsonRpcRequestReceiver {
+    private static final long NO_SEQUENCE = -1;
+
+    private final DtoFactory dtoFactory;
+    private final AppContext appContext;
+
+    private long lastSequence = NO_SEQUENCE;
+
+    @Inject
+    public ProjectTreeDeltaNotificationReceiver(DtoFactory dtoFactory, AppContext appContext) {
+        this.dtoFactory = dtoFactory;
+        this.appContext = appContext;
+    }
+
+    @Override
+    public void receive(JsonRpcRequest request) {
+        final String params = request.getParams();
+        final ProjectTreeDeltaDto projectTreeDeltaDto = dtoFactory.createDtoFromJson(params, ProjectTreeDeltaDto.class);
+
+        final long sequence = projectTreeDeltaDto.getSequence();
+        final boolean gap = lastSequence != NO_SEQUENCE && sequence != lastSequence + 1;
+        lastSequence = sequence;
+
+        if (gap) {
+            Log.debug(getClass(), "Project tree deltas have been lost, received sequence: " + sequence);
+
+            appContext.getWorkspaceRoot().synchronize();
+            return;
+        }
+
+        final List<ProjectTreeItemDeltaDto> items = projectTreeDeltaDto.getDeltas();
+        final ResourceDelta[] deltas = new ResourceDelta[items.size()];
+
+        for (int i = 0; i < deltas.length; i++) {
+            final String path = items.get(i).getPath();
+
+            if (path == null || path.isEmpty()) {
+                appContext.getWorkspaceRoot().synchronize();
+                return;
+            }
+
+            deltas[i] = new ExternalResourceDelta(Path.valueOf(path), Path.valueOf(path), getStatus(items.get(i).getType()));
+        }
+
+        Log.debug(getClass(), "Received " + deltas.length + " project tree deltas, sequence: " + sequence);
+
+        appContext.getWorkspaceRoot().synchronize(deltas);
+    }
+
+    private int getStatus(FileWatcherEventType type) {
+        switch (type) {
+            case CREATED:
+                return ADDED;
+            case DELETED:
+                return REMOVED;
+            default:
+                return UPDATED;
+        }
+    }
+}
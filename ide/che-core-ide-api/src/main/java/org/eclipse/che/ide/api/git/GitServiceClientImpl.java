@@ -636,7 +636,8 @@ public class GitServiceClientImpl implements GitServiceClient {
     @Override
     public void log(DevMachine devMachine, ProjectConfigDto project, List<String> fileFilter, boolean isTextFormat,
                     @NotNull AsyncRequestCallback<LogResponse> callback) {
-        StringBuilder params = new StringBuilder().append("?projectPath=").append(project.getPath());
+        // files changed by the commit are requested separately when commit is selected
+        StringBuilder params = new StringBuilder().append("?projectPath=").append(project.getPath()).append("&diffCommitFile=false");
         if (fileFilter != null) {
             for (String file : fileFilter) {
                 params.append("&fileFilter=").append(file);
@@ -652,7 +653,7 @@ public class GitServiceClientImpl implements GitServiceClient {
 
     @Override
     public Promise<LogResponse> log(DevMachine devMachine, Path project, Path[] fileFilter, boolean plainText) {
-        StringBuilder params = new StringBuilder().append("?projectPath=").append(project.toString());
+        StringBuilder params = new StringBuilder().append("?projectPath=").append(project.toString()).append("&diffCommitFile=false");
         if (fileFilter != null) {
             for (Path file : fileFilter) {
                 params.append("&fileFilter=").append(file.toString());
@@ -68,12 +68,20 @@ public interface WorkspaceServiceClient {
     /**
      * Gets all workspaces of current user.
      *
+     * @return a promise that will provide a list of {@link WorkspaceDto}, or rejects with an error
+     * @see WorkspaceService#getWorkspaces(Integer, Integer, String)
+     */
+    Promise<List<WorkspaceDto>> getWorkspaces();
+
+    /**
+     * Gets page of workspaces of current user.
+     *
      * @param skip
      *         the number of the items to skip
      * @param limit
-     *         the limit of the items in the response, default is 30
+     *         the limit of the items in the response
      * @return a promise that will provide a list of {@link WorkspaceDto}, or rejects with an error
-     * @see #getWorkspaces(int, int)
+     * @see WorkspaceService#getWorkspaces(Integer, Integer, String)
      */
     Promise<List<WorkspaceDto>> getWorkspaces(int skip, int limit);
 
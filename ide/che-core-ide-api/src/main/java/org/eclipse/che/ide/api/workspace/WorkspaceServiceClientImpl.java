@@ -126,12 +126,21 @@ public class WorkspaceServiceClientImpl implements WorkspaceServiceClient {
         });
     }
 
+    @Override
+    public Promise<List<WorkspaceDto>> getWorkspaces() {
+        return getWorkspaces(baseHttpUrl);
+    }
+
     @Override
     public Promise<List<WorkspaceDto>> getWorkspaces(int skip, int limit) {
+        return getWorkspaces(baseHttpUrl + "?skipCount=" + skip + "&maxItems=" + limit);
+    }
+
+    private Promise<List<WorkspaceDto>> getWorkspaces(final String url) {
         return newPromise(new RequestCall<List<WorkspaceDto>>() {
             @Override
             public void makeCall(AsyncCallback<List<WorkspaceDto>> callback) {
-                getWorkspaces(callback);
+                getWorkspaces(url, callback);
             }
         }).then(new Function<List<WorkspaceDto>, List<WorkspaceDto>>() {
             @Override
@@ -145,8 +154,7 @@ public class WorkspaceServiceClientImpl implements WorkspaceServiceClient {
         });
     }
 
-    private void getWorkspaces(@NotNull AsyncCallback<List<WorkspaceDto>> callback) {
-        final String url = baseHttpUrl;
+    private void getWorkspaces(String url, @NotNull AsyncCallback<List<WorkspaceDto>> callback) {
         asyncRequestFactory.createGetRequest(url)
                            .header(ACCEPT, APPLICATION_JSON)
                            .loader(loaderFactory.newLoader("Getting info about workspaces..."))
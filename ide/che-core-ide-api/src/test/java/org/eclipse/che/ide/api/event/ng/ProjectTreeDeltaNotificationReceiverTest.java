@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.api.event.ng;
+
+import org.eclipse.che.api.core.jsonrpc.shared.JsonRpcRequest;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeDeltaDto;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeItemDeltaDto;
+import org.eclipse.che.ide.api.app.AppContext;
+import org.eclipse.che.ide.api.resources.Container;
+import org.eclipse.che.ide.api.resources.ResourceDelta;
+import org.eclipse.che.ide.dto.DtoFactory;
+import org.eclipse.che.ide.resource.Path;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
+import static org.eclipse.che.ide.api.resources.ResourceDelta.ADDED;
+import static org.eclipse.che.ide.api.resources.ResourceDelta.REMOVED;
+import static org.eclipse.che.ide.api.resources.ResourceDelta.UPDATED;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ProjectTreeDeltaNotificationReceiver}
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ProjectTreeDeltaNotificationReceiverTest {
+    @Mock
+    private DtoFactory                           dtoFactory;
+    @Mock
+    private AppContext                           appContext;
+    @InjectMocks
+    private ProjectTreeDeltaNotificationReceiver receiver;
+
+    @Mock
+    private ProjectTreeDeltaDto dto;
+    @Mock
+    private JsonRpcRequest      request;
+    @Mock
+    private Container           container;
+
+    @Before
+    public void setUp() throws Exception {
+        when(dtoFactory.createDtoFromJson(any(), eq(ProjectTreeDeltaDto.class))).thenReturn(dto);
+        when(appContext.getWorkspaceRoot()).thenReturn(container);
+    }
+
+    @Test
+    public void shouldPassDeltasToWorkspaceRoot() {
+        List<ProjectTreeItemDeltaDto> deltas = Arrays.asList(delta("/project/a", CREATED),
+                                                             delta("/project/b", DELETED),
+                                                             delta("/project/c", MODIFIED));
+        when(dto.getSequence()).thenReturn(1L);
+        when(dto.getDeltas()).thenReturn(deltas);
+
+        receiver.receive(request);
+
+        ArgumentCaptor<ResourceDelta> captor = ArgumentCaptor.forClass(ResourceDelta.class);
+        verify(container).synchronize(captor.capture(), captor.capture(), captor.capture());
+        assertEquals(Path.valueOf("/project/a"), captor.getAllValues().get(0).getToPath());
+        assertEquals(ADDED, captor.getAllValues().get(0).getKind());
+        assertEquals(REMOVED, captor.getAllValues().get(1).getKind());
+        assertEquals(UPDATED, captor.getAllValues().get(2).getKind());
+        verify(container, never()).synchronize();
+    }
+
+    @Test
+    public void shouldSynchronizeWorkspaceWhenDeltasHaveBeenLost() {
+        List<ProjectTreeItemDeltaDto> deltas = Collections.singletonList(delta("/project/a", CREATED));
+        when(dto.getSequence()).thenReturn(1L);
+        when(dto.getDeltas()).thenReturn(deltas);
+        receiver.receive(request);
+
+        when(dto.getSequence()).thenReturn(3L);
+        receiver.receive(request);
+
+        verify(container).synchronize();
+    }
+
+    @Test
+    public void shouldSynchronizeWorkspaceWhenWorkspaceRootIsModified() {
+        List<ProjectTreeItemDeltaDto> deltas = Collections.singletonList(delta("", MODIFIED));
+        when(dto.getSequence()).thenReturn(1L);
+        when(dto.getDeltas()).thenReturn(deltas);
+
+        receiver.receive(request);
+
+        verify(container).synchronize();
+        verify(container, never()).synchronize((ResourceDelta[])anyVararg());
+    }
+
+    private ProjectTreeItemDeltaDto delta(String path, FileWatcherEventType type) {
+        ProjectTreeItemDeltaDto delta = mock(ProjectTreeItemDeltaDto.class);
+        when(delta.getPath()).thenReturn(path);
+        when(delta.getType()).thenReturn(type);
+        return delta;
+    }
+}
@@ -56,6 +56,7 @@ import org.eclipse.che.ide.dto.DtoFactory;
 import org.eclipse.che.ide.resource.Path;
 import org.eclipse.che.ide.util.Arrays;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -126,6 +127,14 @@ public final class ResourceManager {
 
     private static final Resource[] NO_RESOURCES = new Resource[0];
 
+    /**
+     * Max number of containers reloaded after applying external deltas, if there are more of them
+     * their closest common container is reloaded instead.
+     *
+     * @see #synchronize(ResourceDelta[])
+     */
+    private static final int MAX_CONTAINERS_TO_RELOAD = 10;
+
     private final ProjectServiceClient   ps;
     private final EventBus               eventBus;
     private final EditorAgent            editorAgent;
@@ -967,52 +976,66 @@ public final class ResourceManager {
         });
     }
 
+    /**
+     * Applies external deltas to the loaded resources. Removals and file updates are applied locally,
+     * additions and container updates are collected and applied by reloading affected containers,
+     * each container is reloaded once. Deltas of the resources which aren't loaded are skipped,
+     * they will be fetched on demand.
+     */
     protected Promise<ResourceDelta[]> synchronize(final ResourceDelta[] deltas) {
 
         Promise<Void> promise = promises.resolve(null);
 
+        final List<Path> containersToReload = new ArrayList<>();
+
         for (final ResourceDelta delta : deltas) {
             if (delta.getKind() == ADDED) {
                 if (delta.getFlags() == (MOVED_FROM | MOVED_TO)) {
 
-                    promise.thenPromise(new Function<Void, Promise<Void>>() {
+                    promise = promise.thenPromise(new Function<Void, Promise<Void>>() {
                         @Override
                         public Promise<Void> apply(Void ignored) throws FunctionException {
                             return onExternalDeltaMoved(delta);
                         }
                     });
 
-                } else {
+                } else if (delta.getToPath().segmentCount() == 1) {
 
-                    promise.thenPromise(new Function<Void, Promise<Void>>() {
+                    promise = promise.thenPromise(new Function<Void, Promise<Void>>() {
                         @Override
                         public Promise<Void> apply(Void ignored) throws FunctionException {
                             return onExternalDeltaAdded(delta);
                         }
                     });
 
+                } else {
+                    onExternalDeltaAdded(delta, containersToReload);
                 }
             } else if (delta.getKind() == REMOVED) {
-
-                promise.thenPromise(new Function<Void, Promise<Void>>() {
-                    @Override
-                    public Promise<Void> apply(Void ignored) throws FunctionException {
-                        return onExternalDeltaRemoved(delta);
-                    }
-                });
-
+                onExternalDeltaRemoved(delta);
             } else if (delta.getKind() == UPDATED) {
-
-                promise.thenPromise(new Function<Void, Promise<Void>>() {
-                    @Override
-                    public Promise<Void> apply(Void ignored) throws FunctionException {
-                        return onExternalDeltaUpdated(delta);
-                    }
-                });
-
+                if (delta.getToPath().segmentCount() == 0) {
+                    workspaceRoot.synchronize();
+                } else {
+                    onExternalDeltaUpdated(delta, containersToReload);
+                }
             }
         }
 
+        for (final Container container : getContainersToReload(containersToReload)) {
+            promise = promise.thenPromise(new Function<Void, Promise<Void>>() {
+                @Override
+                public Promise<Void> apply(Void ignored) throws FunctionException {
+                    return synchronize(container).then(new Function<Resource[], Void>() {
+                        @Override
+                        public Void apply(Resource[] ignored) throws FunctionException {
+                            return null;
+                        }
+                    });
+                }
+            });
+        }
+
         return promise.then(new Function<Void, ResourceDelta[]>() {
             @Override
             public ResourceDelta[] apply(Void ignored) throws FunctionException {
@@ -1021,6 +1044,54 @@ public final class ResourceManager {
         });
     }
 
+    /**
+     * Returns loaded containers which should be reloaded to apply collected changes. Nested containers are
+     * reloaded with their parent, too many containers are replaced with their closest common container.
+     */
+    private Container[] getContainersToReload(List<Path> paths) {
+        if (paths.isEmpty()) {
+            return new Container[0];
+        }
+
+        final List<Path> outermost = new ArrayList<>();
+        for (Path path : paths) {
+            boolean nested = false;
+            for (Path another : paths) {
+                if (!another.equals(path) && another.isPrefixOf(path)) {
+                    nested = true;
+                    break;
+                }
+            }
+            if (!nested && !outermost.contains(path)) {
+                outermost.add(path);
+            }
+        }
+
+        if (outermost.size() > MAX_CONTAINERS_TO_RELOAD) {
+            Path common = outermost.get(0);
+            for (Path path : outermost) {
+                common = common.uptoSegment(common.matchingFirstSegments(path));
+            }
+
+            final Optional<Resource> container = store.getResource(common);
+            if (common.segmentCount() == 0 || !container.isPresent()) {
+                return new Container[]{workspaceRoot};
+            }
+
+            return new Container[]{(Container)container.get()};
+        }
+
+        final List<Container> containers = new ArrayList<>();
+        for (Path path : outermost) {
+            final Optional<Resource> container = store.getResource(path);
+            if (container.isPresent()) {
+                containers.add((Container)container.get());
+            }
+        }
+
+        return containers.toArray(new Container[containers.size()]);
+    }
+
     private Promise<Void> onExternalDeltaMoved(final ResourceDelta delta) {
         //search resource to remove at first
         return findResource(delta.getFromPath(), true).thenPromise(new Function<Optional<Resource>, Promise<Void>>() {
@@ -1092,43 +1163,38 @@ public final class ResourceManager {
         });
     }
 
-    private Promise<Void> onExternalDeltaUpdated(final ResourceDelta delta) {
-        if (delta.getToPath().segmentCount() == 0) {
-            workspaceRoot.synchronize();
-
-            return null;
+    private void onExternalDeltaAdded(ResourceDelta delta, List<Path> containersToReload) {
+        final Optional<Resource> resource = store.getResource(delta.getToPath());
+        if (resource.isPresent()) {
+            eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource.get(), ADDED | DERIVED)));
+            return;
         }
 
-        return findResource(delta.getToPath(), true).then(new Function<Optional<Resource>, Void>() {
-            @Override
-            public Void apply(Optional<Resource> resource) throws FunctionException {
-
-                if (resource.isPresent()) {
-                    if (resource.get() instanceof Container) {
-                        ((Container)resource.get()).synchronize();
-                    } else {
-                        eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource.get(), UPDATED | DERIVED)));
-                    }
-                }
-
-                return null;
-            }
-        });
+        final Path parent = delta.getToPath().parent();
+        if (store.getResource(parent).isPresent()) {
+            containersToReload.add(parent);
+        }
     }
 
-    private Promise<Void> onExternalDeltaRemoved(final ResourceDelta delta) {
-        return findResource(delta.getFromPath(), true).then(new Function<Optional<Resource>, Void>() {
-            @Override
-            public Void apply(Optional<Resource> resource) throws FunctionException {
+    private void onExternalDeltaUpdated(ResourceDelta delta, List<Path> containersToReload) {
+        final Optional<Resource> resource = store.getResource(delta.getToPath());
+        if (!resource.isPresent()) {
+            return;
+        }
 
-                if (resource.isPresent()) {
-                    store.dispose(resource.get().getLocation(), true);
-                    eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource.get(), REMOVED | DERIVED)));
-                }
+        if (resource.get() instanceof Container) {
+            containersToReload.add(delta.getToPath());
+        } else {
+            eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource.get(), UPDATED | DERIVED)));
+        }
+    }
 
-                return null;
-            }
-        });
+    private void onExternalDeltaRemoved(ResourceDelta delta) {
+        final Optional<Resource> resource = store.getResource(delta.getFromPath());
+        if (resource.isPresent()) {
+            store.dispose(resource.get().getLocation(), true);
+            eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource.get(), REMOVED | DERIVED)));
+        }
     }
 
     protected Promise<Resource[]> search(final Container container, String fileMask, String contentMask) {
@@ -83,9 +83,6 @@ import org.eclipse.che.ide.workspace.start.StartWorkspaceNotification;
 @Singleton
 public class WorkspaceEventsHandler {
 
-    private final static int SKIP_COUNT = 0;
-    private final static int MAX_COUNT  = 10;
-
     private final EventBus                            eventBus;
     private final CoreLocalizationConstant            locale;
     private final NotificationManager                 notificationManager;
@@ -409,7 +406,7 @@ public class WorkspaceEventsHandler {
                     loader.setError(LoaderPresenter.Phase.STARTING_WORKSPACE_RUNTIME);
                     final String workspaceName = workspace.getConfig().getName();
                     final String error = statusEvent.getError();
-                    workspaceServiceClient.getWorkspaces(SKIP_COUNT, MAX_COUNT).then(showErrorDialog(workspaceName, error));
+                    workspaceServiceClient.getWorkspaces().then(showErrorDialog(workspaceName, error));
                     eventBus.fireEvent(new WorkspaceStoppedEvent(workspace));
                     break;
 
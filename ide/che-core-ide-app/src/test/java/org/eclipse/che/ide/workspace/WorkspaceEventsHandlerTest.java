@@ -79,7 +79,6 @@ import static org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEven
 import static org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent.EventType.STARTING;
 import static org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent.EventType.STOPPED;
 import static org.eclipse.che.ide.api.notification.StatusNotification.DisplayMode.FLOAT_MODE;
-import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -294,7 +293,7 @@ public class WorkspaceEventsHandlerTest {
     public void onErrorEventReceivedTest() throws Exception {
         WorkspaceConfigDto workspaceConfig = mock(WorkspaceConfigDto.class);
         when(workspace.getConfig()).thenReturn(workspaceConfig);
-        when(workspaceServiceClient.getWorkspaces(anyInt(), anyInt())).thenReturn(workspacesPromise);
+        when(workspaceServiceClient.getWorkspaces()).thenReturn(workspacesPromise);
         List<WorkspaceDto> workspaces = new ArrayList<>(1);
         workspaces.add(workspace);
         MessageDialog errorDialog = mock(MessageDialog.class);
@@ -177,6 +177,10 @@ public class SubPanelViewImpl extends Composite implements SubPanelView,
         }
 
         widgetsPanel.showWidget(widget.getWidget().asWidget());
+        // widget can't lay out its content while it's hidden, so let it know that it's shown
+        if (widget.getWidget() instanceof RequiresResize) {
+            ((RequiresResize)widget.getWidget()).onResize();
+        }
 
         // add 'active' attribute for active widget for testing purpose
         for (WidgetToShow widgetToShow : widgets2Tabs.keySet()) {
@@ -31,6 +31,10 @@ public class NodeDescriptor {
     private List<NodeDescriptor> children = new ArrayList<>();
     private boolean root;
 
+    /** Position of this descriptor in the parent's children, valid only while parent's index is valid. */
+    private int     index;
+    private boolean childrenIndexValid;
+
     private String domId;
 
     private boolean childrenRendered;
@@ -70,6 +74,7 @@ public class NodeDescriptor {
 
         children.add(actualIndex, child);
         child.parent = this;
+        invalidateChildrenIndex();
     }
 
     public void addChildren(int index, List<NodeDescriptor> children) {
@@ -84,10 +89,44 @@ public class NodeDescriptor {
         for (NodeDescriptor child : children) {
             child.parent = this;
         }
+        invalidateChildrenIndex();
     }
 
     public void clear() {
         children.clear();
+        invalidateChildrenIndex();
+    }
+
+    /**
+     * Returns the position of the given child in the children of this descriptor or -1 if it isn't a child.
+     * Positions are recalculated lazily once per modification of the children, so sequential lookups are
+     * performed in constant time.
+     */
+    public int indexOf(NodeDescriptor child) {
+        if (child == null || child.parent != this) {
+            return -1;
+        }
+
+        if (!childrenIndexValid) {
+            for (int i = 0; i < children.size(); i++) {
+                children.get(i).index = i;
+            }
+            childrenIndexValid = true;
+        }
+
+        final int childIndex = child.index;
+        if (childIndex < children.size() && children.get(childIndex) == child) {
+            return childIndex;
+        }
+
+        //children list has been modified bypassing this descriptor
+        childrenIndexValid = false;
+        return children.indexOf(child);
+    }
+
+    /** Marks positions of the children as stale, should be called after each reordering of the children. */
+    void invalidateChildrenIndex() {
+        childrenIndexValid = false;
     }
 
     public List<NodeDescriptor> getChildren() {
@@ -115,7 +154,11 @@ public class NodeDescriptor {
     }
 
     public void remove(NodeDescriptor descriptor) {
-        children.remove(descriptor);
+        final int childIndex = indexOf(descriptor);
+        if (childIndex != -1) {
+            children.remove(childIndex);
+            invalidateChildrenIndex();
+        }
     }
 
     public void reset() {
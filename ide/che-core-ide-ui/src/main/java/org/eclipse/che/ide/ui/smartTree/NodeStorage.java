@@ -34,9 +34,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Hierarchical type storage. Based on Parent-Child relationship,
@@ -179,11 +180,7 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      * @return
      */
     public List<Node> getAll() {
-        List<NodeDescriptor> allChildren = new LinkedList<>(roots.getChildren());
-        for (int i = 0; i < allChildren.size(); i++) {
-            allChildren.addAll(allChildren.get(i).getChildren());
-        }
-        return unwrap(allChildren);
+        return unwrap(collectDescendants(roots));
     }
 
     /**
@@ -194,11 +191,7 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      * @return
      */
     public List<Node> getAllChildren(Node parent) {
-        List<NodeDescriptor> allChildren = new LinkedList<>(getWrapper(parent).getChildren());
-        for (int i = 0; i < allChildren.size(); i++) {
-            allChildren.addAll(allChildren.get(i).getChildren());
-        }
-        return unwrap(allChildren);
+        return unwrap(collectDescendants(getWrapper(parent)));
     }
 
     /**
@@ -207,12 +200,16 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      * @return
      */
     public int getAllItemsCount() {
-        List<NodeDescriptor> allChildren = new LinkedList<>(roots.getChildren());
-        for (int i = 0; i < allChildren.size(); i++) {
-            allChildren.addAll(allChildren.get(i).getChildren());
-        }
+        return collectDescendants(roots).size();
+    }
 
-        return allChildren.size();
+    /** Collects descendants of the given descriptor level by level, each level keeps children order. */
+    private List<NodeDescriptor> collectDescendants(NodeDescriptor parent) {
+        List<NodeDescriptor> descendants = new ArrayList<>(parent.getChildren());
+        for (int i = 0; i < descendants.size(); i++) {
+            descendants.addAll(descendants.get(i).getChildren());
+        }
+        return descendants;
     }
 
     /**
@@ -297,11 +294,14 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      * @return
      */
     public Node getNextSibling(Node item) {
-        Node parent = getParent(item);
-        List<Node> children = parent == null ? getRootItems() : getChildren(parent);
-        int index = children.indexOf(item);
-        if (children.size() > (index + 1)) {
-            return children.get(index + 1);
+        NodeDescriptor nodeDescriptor = getWrapper(item);
+        if (nodeDescriptor == null || nodeDescriptor.getParent() == null) {
+            return null;
+        }
+        List<NodeDescriptor> siblings = nodeDescriptor.getParent().getChildren();
+        int index = nodeDescriptor.getParent().indexOf(nodeDescriptor);
+        if (index != -1 && siblings.size() > (index + 1)) {
+            return siblings.get(index + 1).getNode();
         }
         return null;
     }
@@ -313,11 +313,13 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      * @return
      */
     public Node getPreviousSibling(Node item) {
-        Node parent = getParent(item);
-        List<Node> children = parent == null ? getRootItems() : getChildren(parent);
-        int index = children.indexOf(item);
+        NodeDescriptor nodeDescriptor = getWrapper(item);
+        if (nodeDescriptor == null || nodeDescriptor.getParent() == null) {
+            return null;
+        }
+        int index = nodeDescriptor.getParent().indexOf(nodeDescriptor);
         if (index > 0) {
-            return children.get(index - 1);
+            return nodeDescriptor.getParent().getChildren().get(index - 1).getNode();
         }
         return null;
     }
@@ -358,12 +360,11 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      * @return
      */
     public int indexOf(Node item) {
-        Node parent = getParent(item);
-        if (parent == null) {
-            return getRootItems().indexOf(item);
-        } else {
-            return getChildren(parent).indexOf(item);
+        NodeDescriptor nodeDescriptor = getWrapper(item);
+        if (nodeDescriptor == null || nodeDescriptor.getParent() == null) {
+            return -1;
         }
+        return nodeDescriptor.getParent().indexOf(nodeDescriptor);
     }
 
     /**
@@ -404,29 +405,16 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      */
     public void insert(NodeDescriptor parent, int index, List<Node> children) {
         int initialCount = parent.getChildren().size();
-        parent.addChildren(index, wrap(children));
+        List<NodeDescriptor> added = wrap(children);
+        parent.addChildren(index, added);
 
         if (initialCount != parent.getChildren().size()) {
-            List<Node> addedChildren = new ArrayList<>();
-            List<NodeDescriptor> currentChildren = parent.getChildren();
-            if (isSorted()) {
-                int currentChildrenSize = currentChildren.size();
-                for (int i = 0; i < currentChildrenSize; i++) {
-                    int childrenSize = children.size();
-                    for (int j = 0; j < childrenSize; j++) {
-                        Node currentData = currentChildren.get(i).getNode();
-                        Node child = children.get(j);
-                        if (child == currentData) {
-                            addedChildren.add(child);
-                            break;
-                        }
-                    }
-                }
-            } else {
-                for (NodeDescriptor currentChild : currentChildren) {
-                    if (children.contains(currentChild.getNode())) {
-                        addedChildren.add(currentChild.getNode());
-                    }
+            //descriptors don't override equals, so lookup is performed by identity
+            Set<NodeDescriptor> addedDescriptors = new HashSet<>(added);
+            List<Node> addedChildren = new ArrayList<>(added.size());
+            for (NodeDescriptor currentChild : parent.getChildren()) {
+                if (addedDescriptors.contains(currentChild)) {
+                    addedChildren.add(currentChild.getNode());
                 }
             }
             if (addedChildren.size() != 0) {
@@ -446,18 +434,13 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      */
     public void insert(NodeDescriptor parent, int index, Node child) {
         int initialCount = parent.getChildren().size();
-        parent.addChild(index, wrap(child));
+        NodeDescriptor added = wrap(child);
+        parent.addChild(index, added);
 
         if (parent.getChildren().size() != initialCount) {
-            int addedIndex = -1;
+            int addedIndex;
             if (isSorted()) {
-                List<NodeDescriptor> childrenModels = parent.getChildren();
-                for (int i = 0; i < childrenModels.size(); i++) {
-                    if (childrenModels.get(i).getNode().equals(child)) {
-                        addedIndex = i;
-                        break;
-                    }
-                }
+                addedIndex = parent.indexOf(added);
             } else {
                 addedIndex = index;
             }
@@ -471,12 +454,12 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
         if (nodeDescriptor != null) {
             Node parent = getParent(node);
             List<Node> children = getAllChildren(node);
-            int visibleIndex = nodeDescriptor.getParent().getChildren().indexOf(nodeDescriptor);
+            int visibleIndex = nodeDescriptor.getParent().indexOf(nodeDescriptor);
             nodeDescriptor.getParent().remove(nodeDescriptor);
             if (visibleIndex != -1) {
                 fireEvent(new StoreRemoveEvent(visibleIndex, node, parent, children));
             } else {
-                List<NodeDescriptor> descriptors = new LinkedList<>();
+                List<NodeDescriptor> descriptors = new ArrayList<>();
                 descriptors.add(nodeDescriptor);
                 for (int i = 0; i < descriptors.size(); i++) {
                     nodeDescriptor = descriptors.get(i);
@@ -496,8 +479,7 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
 
     private void removeChildren(NodeDescriptor parent) {
         if (parent.getChildren().size() != 0) {
-            List<NodeDescriptor> models = new LinkedList<>();
-            models.addAll(parent.getChildren());
+            List<NodeDescriptor> models = new ArrayList<>(parent.getChildren());
             parent.clear();
             for (int i = 0; i < models.size(); i++) {
                 NodeDescriptor wrapper = models.get(i);
@@ -521,8 +503,7 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
             roots.addChildren(0, wrap(children));
         } else {
             NodeDescriptor parentNodeDescriptor = getWrapper(parent);
-            List<NodeDescriptor> models = new LinkedList<>();
-            models.addAll(parentNodeDescriptor.getChildren());
+            List<NodeDescriptor> models = new ArrayList<>(parentNodeDescriptor.getChildren());
             for (int i = 0; i < models.size(); i++) {
                 NodeDescriptor wrapper = models.get(i);
                 models.addAll(wrapper.getChildren());
@@ -755,9 +736,11 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
     public void applySort(boolean suppressEvent) {
         Comparator<NodeDescriptor> comparator = buildFullComparator();
         Collections.sort(roots.getChildren(), comparator);
+        roots.invalidateChildrenIndex();
 
         for (NodeDescriptor descriptor : idToNodeMap.values()) {
             Collections.sort(descriptor.getChildren(), comparator);
+            descriptor.invalidateChildrenIndex();
         }
 
         if (!suppressEvent) {
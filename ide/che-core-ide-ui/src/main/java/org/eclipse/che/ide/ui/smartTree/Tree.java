@@ -1374,40 +1374,25 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
             Node parent = nodeStorage.getParent(event.getNodes().get(0));
 
             final Element container = getContainer(parent);
-            final int index = event.getIndex();
+            final List<Node> added = event.getNodes();
 
             if (parent == null) {
-                for (Node child : event.getNodes()) {
-                    if (index == 0) {
-                        container.insertFirst(renderNode(child, 0));
-                    } else if (index == getNodeStorage().getRootCount() - event.getNodes().size()) {
-                        com.google.gwt.dom.client.Node lastChild = container.getLastChild();
-                        container.insertAfter(renderNode(child, 0), lastChild);
-                    } else {
-                        container.insertBefore(renderNode(child, 0), container.getChild(index));
-                    }
-                    scrollIntoView(child);
+                for (Node child : added) {
+                    insertRenderedNode(container, child, 0);
                 }
+                scrollIntoView(added.get(added.size() - 1));
             } else {
                 NodeDescriptor descriptor = getNodeDescriptor(parent);
                 if (descriptor != null && descriptor.isChildrenRendered()) {
                     int parentDepth = nodeStorage.getDepth(parent);
 
-                    int parentChildCount = nodeStorage.getChildCount(parent);
-                    for (Node child : event.getNodes()) {
-                        if (!descriptor.isExpanded() && nodeStorage.getChildCount(descriptor.getNode()) == 1) {
-                            setExpanded(descriptor.getNode(), true);
-                        }
-                        if (index == 0) {
-                            container.insertFirst(renderNode(child, parentDepth));
-                        } else if (index == parentChildCount - event.getNodes().size()) {
-                            com.google.gwt.dom.client.Node lastChild = container.getLastChild();
-                            container.insertAfter(renderNode(child, parentDepth), lastChild);
-                        } else {
-                            container.insertBefore(renderNode(child, parentDepth), container.getChild(index));
-                        }
-                        scrollIntoView(child);
+                    if (!descriptor.isExpanded() && nodeStorage.getChildCount(descriptor.getNode()) == added.size()) {
+                        setExpanded(descriptor.getNode(), true);
                     }
+                    for (Node child : added) {
+                        insertRenderedNode(container, child, parentDepth);
+                    }
+                    scrollIntoView(added.get(added.size() - 1));
                 } else {
                     redraw(parent);
                 }
@@ -1426,6 +1411,20 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         }
     }
 
+    /**
+     * Renders the node and inserts it into the container at the node's position in the storage.
+     * Nodes of a batch should be inserted in the storage order, so all the preceding siblings are already rendered.
+     */
+    private void insertRenderedNode(Element container, Node child, int depth) {
+        final Element rendered = renderNode(child, depth);
+        final int index = nodeStorage.indexOf(child);
+        if (index < 0 || index >= container.getChildCount()) {
+            container.appendChild(rendered);
+        } else {
+            container.insertBefore(rendered, container.getChild(index));
+        }
+    }
+
     @SuppressWarnings("unused") //temporary no need to use event parameter
     private void onClear(StoreClearEvent event) {
         clear();
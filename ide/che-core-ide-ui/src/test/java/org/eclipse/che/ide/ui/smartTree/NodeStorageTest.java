@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ui.smartTree;
+
+import org.eclipse.che.ide.api.data.tree.Node;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link NodeStorage}.
+ */
+public class NodeStorageTest {
+    private static final int LARGE_CHILDREN_COUNT = 20000;
+
+    private NodeStorage storage;
+    private Node        root;
+
+    @Before
+    public void setUp() {
+        storage = new NodeStorage();
+        root = node("root");
+        storage.add(root);
+    }
+
+    @Test
+    public void shouldNavigateBetweenSiblings() {
+        Node first = node("a");
+        Node second = node("b");
+        Node third = node("c");
+        storage.add(root, asList(first, second, third));
+
+        assertEquals(storage.indexOf(second), 1);
+        assertEquals(storage.getNextSibling(first), second);
+        assertEquals(storage.getPreviousSibling(third), second);
+        assertNull(storage.getPreviousSibling(first));
+        assertNull(storage.getNextSibling(third));
+        assertEquals(storage.indexOf(root), 0);
+    }
+
+    @Test
+    public void shouldUpdateIndexesAfterInsertAndRemove() {
+        Node first = node("a");
+        Node second = node("b");
+        Node third = node("c");
+        storage.add(root, asList(first, third));
+        assertEquals(storage.indexOf(third), 1);
+
+        storage.insert(root, 1, second);
+        assertEquals(storage.indexOf(second), 1);
+        assertEquals(storage.indexOf(third), 2);
+
+        storage.remove(first);
+        assertEquals(storage.indexOf(second), 0);
+        assertEquals(storage.indexOf(third), 1);
+        assertEquals(storage.indexOf(first), -1);
+        assertNull(storage.getPreviousSibling(second));
+    }
+
+    @Test
+    public void shouldUpdateIndexesAfterSort() {
+        Node c = node("c");
+        Node a = node("a");
+        Node b = node("b");
+        storage.add(root, asList(c, a, b));
+        assertEquals(storage.indexOf(a), 1);
+
+        storage.addSortInfo(new NodeStorage.StoreSortInfo(new Comparator<Node>() {
+            @Override
+            public int compare(Node o1, Node o2) {
+                return o1.getName().compareTo(o2.getName());
+            }
+        }, SortDir.ASC));
+
+        assertEquals(storage.indexOf(a), 0);
+        assertEquals(storage.indexOf(b), 1);
+        assertEquals(storage.indexOf(c), 2);
+        assertEquals(storage.getNextSibling(a), b);
+    }
+
+    @Test
+    public void shouldCollectAllDescendantsInLevelOrder() {
+        Node child = node("child");
+        Node grandChild = node("grandChild");
+        Node sibling = node("sibling");
+        storage.add(root, asList(child, sibling));
+        storage.add(child, grandChild);
+
+        assertEquals(storage.getAllChildren(root), asList(child, sibling, grandChild));
+        assertEquals(storage.getAll(), asList(root, child, sibling, grandChild));
+        assertEquals(storage.getAllItemsCount(), 4);
+    }
+
+    @Test
+    public void shouldNavigateLargeDirectoryInLinearTime() {
+        List<Node> children = new ArrayList<>(LARGE_CHILDREN_COUNT);
+        for (int i = 0; i < LARGE_CHILDREN_COUNT; i++) {
+            children.add(node("file" + i));
+        }
+        storage.add(root, children);
+
+        long start = System.currentTimeMillis();
+        Node current = storage.getFirstChild(root);
+        int visited = 0;
+        while (current != null) {
+            assertEquals(storage.indexOf(current), visited);
+            current = storage.getNextSibling(current);
+            visited++;
+        }
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertEquals(visited, LARGE_CHILDREN_COUNT);
+        assertEquals(storage.getAllItemsCount(), LARGE_CHILDREN_COUNT + 1);
+        // quadratic navigation takes tens of seconds for such directory
+        assertTrue("Navigation took " + elapsed + "ms", elapsed < 5000);
+    }
+
+    private Node node(String name) {
+        Node node = mock(Node.class);
+        when(node.getName()).thenReturn(name);
+        return node;
+    }
+}
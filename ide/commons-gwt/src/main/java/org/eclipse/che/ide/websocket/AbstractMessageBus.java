@@ -11,6 +11,7 @@
 package org.eclipse.che.ide.websocket;
 
 import com.google.gwt.core.client.JavaScriptException;
+import com.google.gwt.core.client.JsArray;
 import com.google.gwt.http.client.RequestBuilder;
 import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.rpc.AsyncCallback;
@@ -45,6 +46,11 @@ abstract class AbstractMessageBus implements MessageBus {
     /** Max. number of attempts to reconnect for every <code>RECONNECTION_PERIOD</code> ms. */
     private final static int    MAX_RECONNECTION_ATTEMPTS = 5;
     private final static String MESSAGE_TYPE_HEADER_NAME  = "x-everrest-websocket-message-type";
+    /**
+     * Query parameter with which the bus asks server to batch the messages it sends. Server which supports batching
+     * may send several messages in one frame as JSON array, server which doesn't simply ignores the parameter.
+     */
+    private final static String BATCH_PARAMETER           = "batch=true";
 
     /** Timer for sending heartbeat pings to prevent autoclosing an idle WebSocket connection. */
     private final Timer                                    heartbeatTimer;
@@ -68,6 +74,12 @@ abstract class AbstractMessageBus implements MessageBus {
     private WebSocket  ws;
     private WsListener wsListener;
 
+    private long framesReceived;
+    private long messagesReceived;
+    private long bytesReceived;
+    private long framesSent;
+    private long bytesSent;
+
     public AbstractMessageBus(String wsConnectionUrl) {
         this.wsConnectionUrl = wsConnectionUrl;
 
@@ -123,7 +135,7 @@ abstract class AbstractMessageBus implements MessageBus {
     }
 
     private void initialize() {
-        ws = WebSocket.create(wsConnectionUrl);
+        ws = WebSocket.create(wsConnectionUrl + (wsConnectionUrl.contains("?") ? '&' : '?') + BATCH_PARAMETER);
         wsListener = new WsListener();
         ws.setOnMessageHandler(this);
         ws.setOnOpenHandler(wsListener);
@@ -183,8 +195,55 @@ abstract class AbstractMessageBus implements MessageBus {
     /** {@inheritDoc} */
     @Override
     public void onMessageReceived(MessageReceivedEvent event) {
-        Message message = parseMessage(event.getMessage());
+        final String text = event.getMessage();
+        framesReceived++;
+        bytesReceived += text.length();
+
+        if (text.startsWith("[")) {
+            // several messages batched by server in one frame
+            JsArray<Message> messages = parseBatch(text);
+            messagesReceived += messages.length();
+            for (int i = 0; i < messages.length(); i++) {
+                processMessage(messages.get(i));
+            }
+        } else {
+            messagesReceived++;
+            processMessage(parseMessage(text));
+        }
+    }
+
+    /** Returns number of frames received since the bus has been created. */
+    public long getFramesReceived() {
+        return framesReceived;
+    }
+
+    /** Returns number of messages received since the bus has been created, it is greater than number of frames if server batches messages. */
+    public long getMessagesReceived() {
+        return messagesReceived;
+    }
+
+    /** Returns total length of the received frames in chars. */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
 
+    /** Returns number of frames sent since the bus has been created. */
+    public long getFramesSent() {
+        return framesSent;
+    }
+
+    /** Returns total length of the sent frames in chars. */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Dispatch the received {@link Message} to the reply callback or to the channel subscribers.
+     *
+     * @param message
+     *         {@link Message}
+     */
+    private void processMessage(Message message) {
         // http code 202 is "Accepted": The request has been accepted for processing,
         // but the processing has not been completed.
         // At this point, we ignore this code, since the request might or might not eventually be acted upon,
@@ -252,6 +311,17 @@ abstract class AbstractMessageBus implements MessageBus {
         return Message.deserialize(message);
     }
 
+    /**
+     * Parse text frame which contains JSON array of messages.
+     *
+     * @param batch
+     *         text frame
+     * @return array of {@link Message}
+     */
+    private static native JsArray<Message> parseBatch(String batch) /*-{
+        return JSON.parse(batch);
+    }-*/;
+
     /**
      * Get message for heartbeat request
      *
@@ -336,6 +406,8 @@ abstract class AbstractMessageBus implements MessageBus {
         }
         try {
             ws.send(message);
+            framesSent++;
+            bytesSent += message.length();
         } catch (JavaScriptException e) {
             throw new WebSocketException(e.getMessage(), e);
         }
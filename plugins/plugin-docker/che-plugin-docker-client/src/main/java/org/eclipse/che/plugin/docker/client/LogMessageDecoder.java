@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Incremental decoder of docker multiplexed stream framing.
+ * <p/>
+ * Each frame of the stream consists of 8 bytes header (stream type and payload length) followed by payload.
+ * Unlike reading of the stream with blocking {@link java.io.InputStream} this decoder may be fed with chunks of any
+ * size, e.g. with content of buffers that are filled by non-blocking channels, and keeps state of partially received
+ * headers and lines between calls of {@link #decode(byte[], int, int)}.
+ * <p/>
+ * Payload is split into lines by {@code <LF>} or {@code <CR><LF>} sequences. Single {@code <CR>} char is included
+ * in the log message. Lines longer than {@value #MAX_LINE_LENGTH} bytes are split, the split is made before
+ * the first byte of a char, so multi-byte UTF-8 chars are not broken between messages.
+ * <p/>
+ * Instances of this class are not thread safe.
+ *
+ * @author Alexander Garagatyi
+ */
+class LogMessageDecoder {
+    private static final Logger LOG = LoggerFactory.getLogger(LogMessageDecoder.class);
+
+    static final int STREAM_HEADER_LENGTH = 8;
+    static final int MAX_LINE_LENGTH      = 1024;
+
+    private final MessageProcessor<LogMessage> target;
+    private final byte[]                       header;
+    private final ByteArrayOutputStream        lineBuf;
+
+    private int             headerLength;
+    private int             payloadRemaining;
+    private boolean         carriageReturnPending;
+    private LogMessage.Type logMessageType;
+
+    LogMessageDecoder(MessageProcessor<LogMessage> target) {
+        this.target = target;
+        this.header = new byte[STREAM_HEADER_LENGTH];
+        this.lineBuf = new ByteArrayOutputStream(MAX_LINE_LENGTH);
+        this.logMessageType = LogMessage.Type.DOCKER;
+    }
+
+    /**
+     * Decodes next chunk of the stream and sends all completed lines to the target message processor.
+     *
+     * @throws IllegalArgumentException
+     *         if frame header contains unknown stream type
+     */
+    void decode(byte[] data, int offset, int length) {
+        final int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            if (payloadRemaining == 0) {
+                final int headerBytes = Math.min(STREAM_HEADER_LENGTH - headerLength, end - i);
+                System.arraycopy(data, i, header, headerLength, headerBytes);
+                headerLength += headerBytes;
+                i += headerBytes;
+                if (headerLength == STREAM_HEADER_LENGTH) {
+                    logMessageType = getLogMessageType(header);
+                    payloadRemaining = getPayloadLength(header);
+                    headerLength = 0;
+                }
+            } else {
+                final int payloadEnd = i + Math.min(payloadRemaining, end - i);
+                payloadRemaining -= payloadEnd - i;
+                for (; i < payloadEnd; i++) {
+                    processPayloadByte(data[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Signals end of the stream, sends the rest of buffered content to the target message processor.
+     */
+    void finish() {
+        if (headerLength != 0) {
+            LOG.debug("Invalid stream, can't read header. Header of each frame must contain 8 bytes but got {}", headerLength);
+            headerLength = 0;
+        }
+        if (carriageReturnPending) {
+            carriageReturnPending = false;
+            lineBuf.write('\r');
+        }
+        if (lineBuf.size() > 0) {
+            flushLine();
+        }
+    }
+
+    private void processPayloadByte(byte b) {
+        if (carriageReturnPending) {
+            carriageReturnPending = false;
+            if (b == '\n') {
+                flushLine();
+                return;
+            }
+            lineBuf.write('\r'); // include <CR> char in log message
+            flushLine();
+        }
+        if (b == '\n') {
+            flushLine();
+        } else if (b == '\r') {
+            carriageReturnPending = true;
+        } else {
+            if (lineBuf.size() >= MAX_LINE_LENGTH && !isContinuationByte(b)) {
+                flushLine();
+            }
+            lineBuf.write(b);
+        }
+    }
+
+    /** Checks whether the byte is a continuation byte of multi-byte UTF-8 char, i.e. has {@code 10xxxxxx} form. */
+    private static boolean isContinuationByte(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private void flushLine() {
+        final String line = new String(lineBuf.toByteArray(), UTF_8);
+        lineBuf.reset();
+        target.process(new LogMessage(logMessageType, line));
+    }
+
+    private int getPayloadLength(byte[] header) {
+        return (header[7] & 0xFF) + ((header[6] & 0xFF) << 8) + ((header[5] & 0xFF) << 16) + ((header[4] & 0xFF) << 24);
+    }
+
+    private LogMessage.Type getLogMessageType(byte[] header) {
+        switch (header[0]) {
+            case 0:
+                return LogMessage.Type.STDIN;
+            case 1:
+                return LogMessage.Type.STDOUT;
+            case 2:
+                return LogMessage.Type.STDERR;
+            default:
+                throw new IllegalArgumentException(String.format("Invalid docker stream type %d", header[0]));
+        }
+    }
+}
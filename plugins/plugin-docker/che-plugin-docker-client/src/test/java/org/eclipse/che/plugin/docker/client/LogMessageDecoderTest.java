@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @author Alexander Garagatyi
+ */
+public class LogMessageDecoderTest {
+    private List<LogMessage>  messages;
+    private LogMessageDecoder decoder;
+
+    @BeforeMethod
+    public void setUp() {
+        messages = new ArrayList<>();
+        decoder = new LogMessageDecoder(messages::add);
+    }
+
+    @Test
+    public void shouldDecodeFramesFedByteByByte() throws Exception {
+        byte[] stream = concat(frame(1, "first\nsec"), frame(2, "ond\r\nthird"));
+
+        for (byte b : stream) {
+            decoder.decode(new byte[] {b}, 0, 1);
+        }
+        decoder.finish();
+
+        assertEquals(messages.size(), 3);
+        assertEquals(messages.get(0).getContent(), "first");
+        assertEquals(messages.get(0).getType(), LogMessage.Type.STDOUT);
+        assertEquals(messages.get(1).getContent(), "second");
+        assertEquals(messages.get(1).getType(), LogMessage.Type.STDERR);
+        assertEquals(messages.get(2).getContent(), "third");
+    }
+
+    @Test
+    public void shouldIncludeSingleCarriageReturnInLogMessage() throws Exception {
+        byte[] stream = frame(1, "progress 1%\rprogress 2%\r");
+
+        decoder.decode(stream, 0, stream.length);
+        decoder.finish();
+
+        assertEquals(messages.size(), 2);
+        assertEquals(messages.get(0).getContent(), "progress 1%\r");
+        assertEquals(messages.get(1).getContent(), "progress 2%\r");
+    }
+
+    @Test
+    public void shouldSplitTooLongLines() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < LogMessageDecoder.MAX_LINE_LENGTH + 10; i++) {
+            sb.append('a');
+        }
+        byte[] stream = frame(1, sb.toString() + '\n');
+
+        decoder.decode(stream, 0, stream.length);
+        decoder.finish();
+
+        assertEquals(messages.size(), 2);
+        assertEquals(messages.get(0).getContent().length(), LogMessageDecoder.MAX_LINE_LENGTH);
+        assertEquals(messages.get(1).getContent().length(), 10);
+    }
+
+    @Test
+    public void shouldNotBreakMultiByteCharsSplitBetweenChunks() throws Exception {
+        byte[] stream = frame(1, "привет\n");
+
+        decoder.decode(stream, 0, 10);
+        decoder.decode(stream, 10, stream.length - 10);
+        decoder.finish();
+
+        assertEquals(messages.size(), 1);
+        assertEquals(messages.get(0).getContent(), "привет");
+    }
+
+    @Test
+    public void shouldNotBreakMultiByteCharsWhenSplittingTooLongLines() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < LogMessageDecoder.MAX_LINE_LENGTH - 1; i++) {
+            sb.append('a');
+        }
+        sb.append("приветhello");
+        byte[] stream = frame(1, sb.toString() + '\n');
+
+        decoder.decode(stream, 0, stream.length);
+        decoder.finish();
+
+        assertEquals(messages.size(), 2);
+        assertEquals(messages.get(0).getContent() + messages.get(1).getContent(), sb.toString());
+        assertEquals(messages.get(0).getContent().length(), LogMessageDecoder.MAX_LINE_LENGTH);
+        assertTrue(messages.get(0).getContent().endsWith("п"));
+    }
+
+    @Test
+    public void shouldNotSplitLineWithMaxLength() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < LogMessageDecoder.MAX_LINE_LENGTH; i++) {
+            sb.append('a');
+        }
+        byte[] stream = frame(1, sb.toString() + '\n');
+
+        decoder.decode(stream, 0, stream.length);
+        decoder.finish();
+
+        assertEquals(messages.size(), 1);
+        assertEquals(messages.get(0).getContent(), sb.toString());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowExceptionOnInvalidStreamType() throws Exception {
+        byte[] stream = frame(5, "test");
+
+        decoder.decode(stream, 0, stream.length);
+    }
+
+    private static byte[] frame(int type, String content) {
+        byte[] payload = content.getBytes(UTF_8);
+        return ByteBuffer.allocate(LogMessageDecoder.STREAM_HEADER_LENGTH + payload.length)
+                         .put((byte)type)
+                         .put(new byte[3])
+                         .putInt(payload.length)
+                         .put(payload)
+                         .array();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        return ByteBuffer.allocate(first.length + second.length)
+                         .put(first)
+                         .put(second)
+                         .array();
+    }
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import com.google.common.base.Utf8;
+
+import org.eclipse.che.commons.lang.JmxUtils;
+import org.eclipse.che.plugin.docker.client.LogMessage;
+import org.eclipse.che.plugin.docker.client.MessageProcessor;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import javax.management.ObjectName;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Collects statistics of streaming of containers logs: number of threads which are busy with
+ * streaming and amount of output received from each container. Output is counted in bytes
+ * of UTF-8 encoded log messages. The statistics are available over JMX
+ * as {@code org.eclipse.che:type=ContainerLogsStreaming}.
+ *
+ * @author Alexander Garagatyi
+ */
+@Singleton
+public class ContainerLogsStreamingStatistics implements ContainerLogsStreamingStatisticsMXBean {
+    private final AtomicInteger                    activeStreamers;
+    private final Map<String, ContainerLogsStream> streams;
+
+    private ObjectName mbeanName;
+
+    public ContainerLogsStreamingStatistics() {
+        this.activeStreamers = new AtomicInteger();
+        this.streams = new ConcurrentHashMap<>();
+    }
+
+    @PostConstruct
+    void registerMBean() {
+        mbeanName = JmxUtils.register(this, "ContainerLogsStreaming");
+    }
+
+    @PreDestroy
+    void unregisterMBean() {
+        JmxUtils.unregister(mbeanName);
+    }
+
+    @Override
+    public int getActiveStreamers() {
+        return activeStreamers.get();
+    }
+
+    @Override
+    public Map<String, Long> getOutputRates() {
+        final long now = System.currentTimeMillis();
+        return streams.entrySet()
+                      .stream()
+                      .collect(toMap(Map.Entry::getKey, entry -> entry.getValue().getRate(now)));
+    }
+
+    @Override
+    public long getReceivedBytes(String container) {
+        final ContainerLogsStream stream = streams.get(container);
+        return stream == null ? 0 : stream.receivedBytes.sum();
+    }
+
+    /**
+     * Registers start of logs streaming of the container.
+     *
+     * @return message processor that counts output of container and passes messages to the specified processor
+     */
+    MessageProcessor<LogMessage> streamingStarted(String container, MessageProcessor<LogMessage> processor) {
+        activeStreamers.incrementAndGet();
+        final ContainerLogsStream stream = streams.computeIfAbsent(container, c -> new ContainerLogsStream());
+        return message -> {
+            // content is decoded from UTF-8 stream, so it has no unpaired surrogates
+            stream.receivedBytes.add(Utf8.encodedLength(message.getContent()));
+            processor.process(message);
+        };
+    }
+
+    /** Registers end of logs streaming of the container. */
+    void streamingStopped(String container) {
+        activeStreamers.decrementAndGet();
+        streams.remove(container);
+    }
+
+    private static class ContainerLogsStream {
+        final long      startTime     = System.currentTimeMillis();
+        final LongAdder receivedBytes = new LongAdder();
+
+        long getRate(long now) {
+            final long elapsedSeconds = Math.max(1, (now - startTime) / 1000);
+            return receivedBytes.sum() / elapsedSeconds;
+        }
+    }
+}
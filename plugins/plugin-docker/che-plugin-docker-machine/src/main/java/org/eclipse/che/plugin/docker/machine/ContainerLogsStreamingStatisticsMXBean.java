@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import java.util.Map;
+
+/**
+ * Statistics of streaming of containers logs.
+ *
+ * @see ContainerLogsStreamingStatistics
+ */
+public interface ContainerLogsStreamingStatisticsMXBean {
+
+    /** Returns number of threads which are currently reading logs of containers. */
+    int getActiveStreamers();
+
+    /**
+     * Returns average rate of logs output of each container which logs are streamed,
+     * in bytes per second since streaming start.
+     */
+    Map<String, Long> getOutputRates();
+
+    /** Returns number of bytes of logs received from container or 0 if logs of container are not streamed. */
+    long getReceivedBytes(String container);
+}
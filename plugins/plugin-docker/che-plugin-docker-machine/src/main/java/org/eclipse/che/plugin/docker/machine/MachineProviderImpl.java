@@ -37,6 +37,8 @@ import org.eclipse.che.commons.lang.Size;
 import org.eclipse.che.commons.lang.os.WindowsPathEscaper;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.DockerConnectorConfiguration;
+import org.eclipse.che.plugin.docker.client.LogMessage;
+import org.eclipse.che.plugin.docker.client.MessageProcessor;
 import org.eclipse.che.plugin.docker.client.ProgressLineFormatterImpl;
 import org.eclipse.che.plugin.docker.client.ProgressMonitor;
 import org.eclipse.che.plugin.docker.client.UserSpecificDockerRegistryCredentialsProvider;
@@ -126,6 +128,7 @@ public class MachineProviderImpl implements MachineInstanceProvider {
     private final String                                        networkDriver;
     private final Set<String>                                   additionalNetworks;
     private final WindowsPathEscaper                            windowsPathEscaper;
+    private final ContainerLogsStreamingStatistics              logsStreamingStatistics;
 
     @Inject
     public MachineProviderImpl(DockerConnector docker,
@@ -146,7 +149,8 @@ public class MachineProviderImpl implements MachineInstanceProvider {
                                @Named("che.docker.swap") double memorySwapMultiplier,
                                @Named("machine.docker.networks") Set<Set<String>> additionalNetworks,
                                @Nullable @Named("che.docker.network_driver") String networkDriver,
-                               WindowsPathEscaper windowsPathEscaper)
+                               WindowsPathEscaper windowsPathEscaper,
+                               ContainerLogsStreamingStatistics logsStreamingStatistics)
             throws IOException {
         this.docker = docker;
         this.dockerCredentials = dockerCredentials;
@@ -230,6 +234,7 @@ public class MachineProviderImpl implements MachineInstanceProvider {
                                                     .flatMap(Set::stream)
                                                     .collect(toSet());
 
+        this.logsStreamingStatistics = logsStreamingStatistics;
         // TODO single point of failure in case of highly loaded system
         executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("MachineLogsStreamer-%d")
                                                                            .setDaemon(true)
@@ -558,55 +563,68 @@ public class MachineProviderImpl implements MachineInstanceProvider {
                                                    String machineId,
                                                    LineConsumer outputConsumer) {
         executor.execute(() -> {
-            long lastProcessedLogDate = 0;
-            boolean isContainerRunning = true;
-            int errorsCounter = 0;
-            long lastErrorTime = 0;
-            while (isContainerRunning) {
-                try {
-                    docker.getContainerLogs(GetContainerLogsParams.create(container)
-                                                                  .withFollow(true)
-                                                                  .withSince(lastProcessedLogDate),
-                                            new LogMessagePrinter(outputConsumer));
-                    isContainerRunning = false;
-                } catch (SocketTimeoutException ste) {
-                    lastProcessedLogDate = System.currentTimeMillis() / 1000L;
-                    // reconnect to container
-                } catch (ContainerNotFoundException e) {
-                    isContainerRunning = false;
-                } catch (IOException e) {
-                    long errorTime = System.currentTimeMillis();
-                    lastProcessedLogDate = errorTime / 1000L;
-                    LOG.warn("Failed to get logs from machine {} of workspace {} backed by container {}, because: {}.",
-                             machineId,
-                             workspaceId,
-                             container,
-                             e.getMessage(),
-                             e);
-                    if (errorTime - lastErrorTime < 20_000L) { // if new error occurs less than 20 seconds after previous
-                        if (++errorsCounter == 5) {
-                            LOG.error("Too many errors while streaming logs from machine {} of workspace {} backed by container {}. " +
-                                      "Logs streaming is closed. Last error: {}.",
-                                      machineId,
-                                      workspaceId,
-                                      container,
-                                      e.getMessage(),
-                                      e);
-                            break;
-                        }
-                    } else {
-                        errorsCounter = 1;
-                    }
-                    lastErrorTime = errorTime;
+            final MessageProcessor<LogMessage> logsProcessor =
+                    logsStreamingStatistics.streamingStarted(container, new LogMessagePrinter(outputConsumer));
+            try {
+                streamContainerLogs(container, workspaceId, machineId, logsProcessor);
+            } finally {
+                logsStreamingStatistics.streamingStopped(container);
+            }
+        });
+    }
 
-                    try {
-                        sleep(1_000);
-                    } catch (InterruptedException ie) {
-                        return;
+    private void streamContainerLogs(String container,
+                                     String workspaceId,
+                                     String machineId,
+                                     MessageProcessor<LogMessage> logsProcessor) {
+        long lastProcessedLogDate = 0;
+        boolean isContainerRunning = true;
+        int errorsCounter = 0;
+        long lastErrorTime = 0;
+        while (isContainerRunning) {
+            try {
+                docker.getContainerLogs(GetContainerLogsParams.create(container)
+                                                              .withFollow(true)
+                                                              .withSince(lastProcessedLogDate),
+                                        logsProcessor);
+                isContainerRunning = false;
+            } catch (SocketTimeoutException ste) {
+                lastProcessedLogDate = System.currentTimeMillis() / 1000L;
+                // reconnect to container
+            } catch (ContainerNotFoundException e) {
+                isContainerRunning = false;
+            } catch (IOException e) {
+                long errorTime = System.currentTimeMillis();
+                lastProcessedLogDate = errorTime / 1000L;
+                LOG.warn("Failed to get logs from machine {} of workspace {} backed by container {}, because: {}.",
+                         machineId,
+                         workspaceId,
+                         container,
+                         e.getMessage(),
+                         e);
+                if (errorTime - lastErrorTime < 20_000L) { // if new error occurs less than 20 seconds after previous
+                    if (++errorsCounter == 5) {
+                        LOG.error("Too many errors while streaming logs from machine {} of workspace {} backed by container {}. " +
+                                  "Logs streaming is closed. Last error: {}.",
+                                  machineId,
+                                  workspaceId,
+                                  container,
+                                  e.getMessage(),
+                                  e);
+                        break;
                     }
+                } else {
+                    errorsCounter = 1;
+                }
+                lastErrorTime = errorTime;
+
+                try {
+                    sleep(1_000);
+                } catch (InterruptedException ie) {
+                    return;
                 }
             }
-        });
+        }
     }
 
     private void cleanUpContainer(String containerId) {
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import org.eclipse.che.plugin.docker.client.LogMessage;
+import org.eclipse.che.plugin.docker.client.MessageProcessor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link ContainerLogsStreamingStatistics}.
+ *
+ * @author Alexander Garagatyi
+ */
+@Listeners(MockitoTestNGListener.class)
+public class ContainerLogsStreamingStatisticsTest {
+    private static final String CONTAINER = "container1";
+
+    @Mock
+    private LogMessage                   logMessage;
+    @Mock
+    private MessageProcessor<LogMessage> processor;
+
+    private ContainerLogsStreamingStatistics statistics;
+
+    @BeforeMethod
+    public void setUp() {
+        statistics = new ContainerLogsStreamingStatistics();
+        when(logMessage.getContent()).thenReturn("test log");
+    }
+
+    @Test
+    public void shouldCountReceivedOutputAndDelegateMessages() {
+        MessageProcessor<LogMessage> countingProcessor = statistics.streamingStarted(CONTAINER, processor);
+
+        countingProcessor.process(logMessage);
+        countingProcessor.process(logMessage);
+
+        verify(processor, times(2)).process(logMessage);
+        assertEquals(statistics.getActiveStreamers(), 1);
+        assertEquals(statistics.getReceivedBytes(CONTAINER), 16);
+        assertTrue(statistics.getOutputRates().containsKey(CONTAINER));
+    }
+
+    @Test
+    public void shouldCountBytesOfMultiByteChars() {
+        when(logMessage.getContent()).thenReturn("привет");
+
+        statistics.streamingStarted(CONTAINER, processor).process(logMessage);
+
+        assertEquals(statistics.getReceivedBytes(CONTAINER), 12);
+    }
+
+    @Test
+    public void shouldForgetContainerWhenStreamingStopped() {
+        statistics.streamingStarted(CONTAINER, processor).process(logMessage);
+
+        statistics.streamingStopped(CONTAINER);
+
+        assertEquals(statistics.getActiveStreamers(), 0);
+        assertEquals(statistics.getReceivedBytes(CONTAINER), 0);
+        assertTrue(statistics.getOutputRates().isEmpty());
+    }
+}
@@ -1208,7 +1208,8 @@ public class MachineProviderImplTest {
                                            memorySwapMultiplier,
                                            additionalNetworks,
                                            null,
-                                           pathEscaper);
+                                           pathEscaper,
+                                           new ContainerLogsStreamingStatistics());
         }
     }
 }
@@ -44,7 +44,7 @@ import java.io.OutputStreamWriter;
  *
  * @author Anatoliy Bazko
  */
-public class Gdb extends GdbProcess {
+public class Gdb extends GdbProcess implements GdbDriver {
     private static final Logger LOG              = LoggerFactory.getLogger(GdbProcess.class);
     private static final String PROCESS_NAME     = "gdb";
     private static final String OUTPUT_SEPARATOR = "(gdb) ";
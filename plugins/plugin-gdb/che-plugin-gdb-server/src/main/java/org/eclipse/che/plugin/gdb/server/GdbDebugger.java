@@ -73,7 +73,7 @@ public class GdbDebugger implements Debugger {
 
     private Location currentLocation;
 
-    private final Gdb              gdb;
+    private final GdbDriver        gdb;
     private final DebuggerCallback debuggerCallback;
 
     GdbDebugger(String host,
@@ -81,7 +81,7 @@ public class GdbDebugger implements Debugger {
                 String name,
                 String version,
                 String file,
-                Gdb gdb,
+                GdbDriver gdb,
                 DebuggerCallback debuggerCallback) {
         this.host = host;
         this.port = port;
@@ -117,6 +117,21 @@ public class GdbDebugger implements Debugger {
                                           String file,
                                           String srcDirectory,
                                           DebuggerCallback debuggerCallback) throws DebuggerException {
+        return newInstance(host, port, file, srcDirectory, false, debuggerCallback);
+    }
+
+    /**
+     * Creates debugger which controls GDB either through the command line interface
+     * or through the machine interface if {@code machineInterface} is true.
+     *
+     * @see GdbMi
+     */
+    public static GdbDebugger newInstance(String host,
+                                          int port,
+                                          String file,
+                                          String srcDirectory,
+                                          boolean machineInterface,
+                                          DebuggerCallback debuggerCallback) throws DebuggerException {
         if (!exists(Paths.get(file))) {
             throw new DebuggerException("Can't start GDB: binary " + file + " not found");
         }
@@ -127,24 +142,25 @@ public class GdbDebugger implements Debugger {
 
         for (int i = 0; i < CONNECTION_ATTEMPTS - 1; i++) {
             try {
-                return init(host, port, file, srcDirectory, debuggerCallback);
+                return init(host, port, file, srcDirectory, machineInterface, debuggerCallback);
             } catch (DebuggerException e) {
                 LOG.error("Connection attempt " + i + ": " + e.getMessage(), e);
             }
         }
 
-        return init(host, port, file, srcDirectory, debuggerCallback);
+        return init(host, port, file, srcDirectory, machineInterface, debuggerCallback);
     }
 
     private static GdbDebugger init(String host,
                                     int port,
                                     String file,
                                     String srcDirectory,
+                                    boolean machineInterface,
                                     DebuggerCallback debuggerCallback) throws DebuggerException {
 
-        Gdb gdb;
+        GdbDriver gdb;
         try {
-            gdb = Gdb.start();
+            gdb = machineInterface ? GdbMi.start() : Gdb.start();
         } catch (IOException e) {
             throw new DebuggerException("Can't start GDB: " + e.getMessage(), e);
         }
@@ -23,7 +23,8 @@ import static java.util.stream.Collectors.toMap;
  * @author Anatoliy Bazko
  */
 public class GdbDebuggerFactory implements DebuggerFactory {
-    private static final String TYPE = "gdb";
+    private static final String TYPE           = "gdb";
+    private static final String MI_INTERPRETER = "mi";
 
     @Override
     public String getType() {
@@ -56,6 +57,8 @@ public class GdbDebuggerFactory implements DebuggerFactory {
             sources = Paths.get(file).getParent().toString();
         }
 
-        return GdbDebugger.newInstance(host, port, file, sources, debuggerCallback);
+        boolean machineInterface = normalizedProps.getOrDefault("interpreter", "").toLowerCase().startsWith(MI_INTERPRETER);
+
+        return GdbDebugger.newInstance(host, port, file, sources, machineInterface, debuggerCallback);
     }
 }
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server;
+
+import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.plugin.gdb.server.exception.GdbException;
+import org.eclipse.che.plugin.gdb.server.parser.GdbContinue;
+import org.eclipse.che.plugin.gdb.server.parser.GdbDirectory;
+import org.eclipse.che.plugin.gdb.server.parser.GdbInfoArgs;
+import org.eclipse.che.plugin.gdb.server.parser.GdbInfoBreak;
+import org.eclipse.che.plugin.gdb.server.parser.GdbInfoLine;
+import org.eclipse.che.plugin.gdb.server.parser.GdbInfoLocals;
+import org.eclipse.che.plugin.gdb.server.parser.GdbInfoProgram;
+import org.eclipse.che.plugin.gdb.server.parser.GdbPType;
+import org.eclipse.che.plugin.gdb.server.parser.GdbPrint;
+import org.eclipse.che.plugin.gdb.server.parser.GdbRun;
+import org.eclipse.che.plugin.gdb.server.parser.GdbVersion;
+
+import javax.validation.constraints.NotNull;
+import java.io.IOException;
+
+/**
+ * Commands of GDB used by {@link GdbDebugger}.
+ *
+ * @see Gdb
+ * @see GdbMi
+ */
+public interface GdbDriver {
+
+    GdbVersion getGdbVersion();
+
+    /**
+     * `run` command.
+     */
+    GdbRun run() throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `set var` command.
+     */
+    void setVar(String varName, String value) throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `ptype` command.
+     */
+    GdbPType ptype(String variable) throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `print` command.
+     */
+    GdbPrint print(String variable) throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `continue` command.
+     */
+    GdbContinue cont() throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `step` command.
+     */
+    GdbInfoLine step() throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `finish` command.
+     */
+    GdbInfoLine finish() throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `next` command, returns null if program is finished.
+     */
+    @Nullable
+    GdbInfoLine next() throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `quit` command.
+     */
+    void quit() throws IOException, GdbException, InterruptedException;
+
+    /**
+     * `break` command
+     */
+    void breakpoint(@NotNull String file, int lineNumber) throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `break` command
+     */
+    void breakpoint(int lineNumber) throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `directory` command.
+     */
+    GdbDirectory directory(@NotNull String directory) throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `file` command.
+     */
+    void file(@NotNull String file) throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `clear` command.
+     */
+    void clear(@NotNull String file, int lineNumber) throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `clear` command.
+     */
+    void clear(int lineNumber) throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `delete` command.
+     */
+    void delete() throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `target remote` command.
+     */
+    void targetRemote(String host, int port) throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `info break` command.
+     */
+    GdbInfoBreak infoBreak() throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `info args` command.
+     */
+    GdbInfoArgs infoArgs() throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `info locals` command.
+     */
+    GdbInfoLocals infoLocals() throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `info line` command.
+     */
+    GdbInfoLine infoLine() throws IOException, InterruptedException, DebuggerException;
+
+    /**
+     * `info program` command.
+     */
+    GdbInfoProgram infoProgram() throws IOException, InterruptedException, DebuggerException;
+}
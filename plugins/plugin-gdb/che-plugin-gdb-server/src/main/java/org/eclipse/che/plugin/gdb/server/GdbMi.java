@@ -0,0 +1,657 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server;
+
+import org.eclipse.che.api.debug.shared.model.Breakpoint;
+import org.eclipse.che.api.debug.shared.model.Location;
+import org.eclipse.che.api.debug.shared.model.impl.BreakpointImpl;
+import org.eclipse.che.api.debug.shared.model.impl.LocationImpl;
+import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.plugin.gdb.server.exception.GdbException;
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+import org.eclipse.che.plugin.gdb.server.exception.GdbTerminatedException;
+import org.eclipse.che.plugin.gdb.server.parser.GdbContinue;
+import org.eclipse.che.plugin.gdb.server.parser.GdbDirectory;
+import org.eclipse.che.plugin.gdb.server.parser.GdbInfoArgs;
+import org.eclipse.che.plugin.gdb.server.parser.GdbInfoBreak;
+import org.eclipse.che.plugin.gdb.server.parser.GdbInfoLine;
+import org.eclipse.che.plugin.gdb.server.parser.GdbInfoLocals;
+import org.eclipse.che.plugin.gdb.server.parser.GdbInfoProgram;
+import org.eclipse.che.plugin.gdb.server.parser.GdbMiRecord;
+import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
+import org.eclipse.che.plugin.gdb.server.parser.GdbPType;
+import org.eclipse.che.plugin.gdb.server.parser.GdbPrint;
+import org.eclipse.che.plugin.gdb.server.parser.GdbRun;
+import org.eclipse.che.plugin.gdb.server.parser.GdbVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.validation.constraints.NotNull;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * GDB controlled through the machine interface (GDB/MI).
+ *
+ * <p>Unlike {@link Gdb} the output of the process is read by the blocking reader thread and
+ * every command is prefixed with the unique token, so the results are bound to the commands
+ * by tokens instead of the order of output. Thus several commands may be sent without waiting
+ * for the results, see {@link #sendCommand(String)}.
+ *
+ * <p>Execution commands (run, continue, step etc) complete when GDB reports
+ * {@code *stopped} async record, every such record is also passed to the stop listeners.
+ */
+public class GdbMi implements GdbDriver {
+    private static final Logger LOG          = LoggerFactory.getLogger(GdbMi.class);
+    private static final String PROCESS_NAME = "gdb";
+    private static final String INTERPRETER  = "--interpreter=mi2";
+
+    private final Process                                            process;
+    private final Writer                                             writer;
+    private final Thread                                             outputReader;
+    private final AtomicLong                                         tokens;
+    private final ConcurrentMap<Long, CompletableFuture<GdbMiRecord>> results;
+    private final List<Consumer<GdbMiRecord>>                        stopListeners;
+
+    private volatile StopWaiter  stopWaiter;
+    private volatile GdbMiRecord lastStop;
+    private volatile boolean     terminated;
+
+    private GdbVersion gdbVersion;
+
+    GdbMi() throws IOException {
+        this.tokens = new AtomicLong();
+        this.results = new ConcurrentHashMap<>();
+        this.stopListeners = new CopyOnWriteArrayList<>();
+
+        ProcessBuilder processBuilder = new ProcessBuilder(PROCESS_NAME, "-q", INTERPRETER);
+        processBuilder.redirectErrorStream(true);
+        process = processBuilder.start();
+
+        writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+
+        outputReader = new OutputReader(PROCESS_NAME + " MI output reader");
+        outputReader.setDaemon(true);
+        outputReader.start();
+
+        try {
+            GdbMiRecord record = execute("-gdb-version");
+            gdbVersion = GdbVersion.parse(GdbOutput.of(record.getConsoleOutput()));
+        } catch (InterruptedException | DebuggerException e) {
+            LOG.error(e.getMessage(), e);
+            gdbVersion = new GdbVersion("Unknown", "Unknown");
+        }
+    }
+
+    /**
+     * Starts GDB.
+     */
+    public static GdbMi start() throws IOException {
+        return new GdbMi();
+    }
+
+    @Override
+    public GdbVersion getGdbVersion() {
+        return gdbVersion;
+    }
+
+    /**
+     * Sends command to GDB without waiting for the result.
+     * Returned future is completed by the result record of the command, including {@code ^error} one.
+     */
+    public CompletableFuture<GdbMiRecord> sendCommand(String command) throws IOException {
+        return sendCommand(tokens.incrementAndGet(), command);
+    }
+
+    /**
+     * Adds listener which is notified about every {@code *stopped} record.
+     * Listener is invoked by the output reader thread and mustn't send commands synchronously.
+     */
+    public void addStopListener(Consumer<GdbMiRecord> listener) {
+        stopListeners.add(listener);
+    }
+
+    public void removeStopListener(Consumer<GdbMiRecord> listener) {
+        stopListeners.remove(listener);
+    }
+
+    /**
+     * `-exec-run` command.
+     */
+    @Override
+    public GdbRun run() throws IOException, InterruptedException, DebuggerException {
+        GdbMiRecord stopped = executeAndWaitForStop("-exec-run");
+        return new GdbRun(getBreakpoint(stopped));
+    }
+
+    /**
+     * `-gdb-set var` command.
+     */
+    @Override
+    public void setVar(String varName, String value) throws IOException, InterruptedException, DebuggerException {
+        execute("-gdb-set var " + varName + "=" + value);
+    }
+
+    /**
+     * `ptype` command.
+     */
+    @Override
+    public GdbPType ptype(String variable) throws IOException, InterruptedException, DebuggerException {
+        GdbMiRecord record = execute(console("ptype " + variable));
+        return GdbPType.parse(GdbOutput.of(record.getConsoleOutput()));
+    }
+
+    /**
+     * `-data-evaluate-expression` command.
+     */
+    @Override
+    public GdbPrint print(String variable) throws IOException, InterruptedException, DebuggerException {
+        GdbMiRecord record = execute("-data-evaluate-expression " + quote(variable));
+        return new GdbPrint(record.getString("value"));
+    }
+
+    /**
+     * `-exec-continue` command.
+     */
+    @Override
+    public GdbContinue cont() throws IOException, InterruptedException, DebuggerException {
+        GdbMiRecord stopped = executeAndWaitForStop("-exec-continue");
+        return new GdbContinue(getBreakpoint(stopped));
+    }
+
+    /**
+     * `-exec-step` command.
+     */
+    @Override
+    public GdbInfoLine step() throws IOException, InterruptedException, DebuggerException {
+        return getLine(executeAndWaitForStop("-exec-step"));
+    }
+
+    /**
+     * `-exec-finish` command.
+     */
+    @Override
+    public GdbInfoLine finish() throws IOException, InterruptedException, DebuggerException {
+        return getLine(executeAndWaitForStop("-exec-finish"));
+    }
+
+    /**
+     * `-exec-next` command.
+     */
+    @Nullable
+    @Override
+    public GdbInfoLine next() throws IOException, InterruptedException, DebuggerException {
+        GdbMiRecord stopped = executeAndWaitForStop("-exec-next");
+        if (isExited(stopped)) {
+            return null;
+        }
+        return getLine(stopped);
+    }
+
+    /**
+     * `-gdb-exit` command.
+     */
+    @Override
+    public void quit() throws IOException, GdbException, InterruptedException {
+        try {
+            sendCommand("-gdb-exit");
+        } finally {
+            stop();
+        }
+    }
+
+    /**
+     * `-break-insert` command.
+     */
+    @Override
+    public void breakpoint(@NotNull String file, int lineNumber) throws IOException,
+                                                                        InterruptedException,
+                                                                        DebuggerException {
+        execute("-break-insert " + quote(file + ":" + lineNumber));
+    }
+
+    /**
+     * `-break-insert` command.
+     */
+    @Override
+    public void breakpoint(int lineNumber) throws IOException, InterruptedException, DebuggerException {
+        execute("-break-insert " + lineNumber);
+    }
+
+    /**
+     * `-environment-directory` command.
+     */
+    @Override
+    public GdbDirectory directory(@NotNull String directory) throws IOException,
+                                                                    InterruptedException,
+                                                                    DebuggerException {
+        GdbMiRecord record = execute("-environment-directory " + quote(directory));
+        return new GdbDirectory(record.getString("source-path"));
+    }
+
+    /**
+     * `-file-exec-and-symbols` command.
+     */
+    @Override
+    public void file(@NotNull String file) throws IOException, InterruptedException, DebuggerException {
+        execute("-file-exec-and-symbols " + quote(file));
+    }
+
+    /**
+     * Deletes breakpoints at the given location, there is no `clear` command in GDB/MI.
+     */
+    @Override
+    public void clear(@NotNull String file, int lineNumber) throws IOException, InterruptedException, DebuggerException {
+        clearBreakpoints(file, lineNumber);
+    }
+
+    /**
+     * Deletes breakpoints at the given line, there is no `clear` command in GDB/MI.
+     */
+    @Override
+    public void clear(int lineNumber) throws IOException, InterruptedException, DebuggerException {
+        clearBreakpoints(null, lineNumber);
+    }
+
+    /**
+     * `-break-delete` command.
+     */
+    @Override
+    public void delete() throws IOException, InterruptedException, DebuggerException {
+        execute("-break-delete");
+    }
+
+    /**
+     * `-target-select remote` command.
+     */
+    @Override
+    public void targetRemote(String host, int port) throws IOException, InterruptedException, DebuggerException {
+        execute("-target-select remote " + (host != null ? host : "") + ":" + port);
+    }
+
+    /**
+     * `-break-list` command.
+     */
+    @Override
+    public GdbInfoBreak infoBreak() throws IOException, InterruptedException, DebuggerException {
+        List<Breakpoint> breakpoints = new ArrayList<>();
+        for (Map<String, Object> bkpt : listBreakpoints()) {
+            String file = (String)bkpt.get("file");
+            String line = (String)bkpt.get("line");
+            if (file != null && line != null) {
+                breakpoints.add(new BreakpointImpl(new LocationImpl(file, Integer.parseInt(line))));
+            }
+        }
+        return new GdbInfoBreak(breakpoints);
+    }
+
+    /**
+     * `-stack-list-arguments` command.
+     */
+    @Override
+    public GdbInfoArgs infoArgs() throws IOException, InterruptedException, DebuggerException {
+        GdbMiRecord record = execute("-stack-list-arguments 1 0 0");
+
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (Object frame : record.getList("stack-args")) {
+            if (frame instanceof Map) {
+                variables.putAll(toVariables(((Map<?, ?>)frame).get("args")));
+            }
+        }
+        return new GdbInfoArgs(variables);
+    }
+
+    /**
+     * `-stack-list-locals` command.
+     */
+    @Override
+    public GdbInfoLocals infoLocals() throws IOException, InterruptedException, DebuggerException {
+        GdbMiRecord record = execute("-stack-list-locals 1");
+        return new GdbInfoLocals(toVariables(record.getList("locals")));
+    }
+
+    /**
+     * `-stack-info-frame` command.
+     */
+    @Override
+    public GdbInfoLine infoLine() throws IOException, InterruptedException, DebuggerException {
+        GdbMiRecord record = execute("-stack-info-frame");
+        Location location = getLocation(record.getTuple("frame"));
+        if (location != null) {
+            return new GdbInfoLine(location);
+        }
+
+        record = execute(console("info line"));
+        return GdbInfoLine.parse(GdbOutput.of(record.getConsoleOutput()));
+    }
+
+    /**
+     * Program state is taken from the last {@code *stopped} record, no command is sent.
+     */
+    @Override
+    public GdbInfoProgram infoProgram() throws IOException, InterruptedException, DebuggerException {
+        GdbMiRecord stopped = lastStop;
+        if (stopped == null || isExited(stopped)) {
+            return new GdbInfoProgram(null);
+        }
+
+        Map<String, Object> frame = stopped.getTuple("frame");
+        return new GdbInfoProgram(frame != null ? (String)frame.get("addr") : null);
+    }
+
+    /**
+     * Stops process.
+     */
+    protected void stop() {
+        outputReader.interrupt();
+        process.destroyForcibly();
+        terminate("GDB has been stopped");
+    }
+
+    private CompletableFuture<GdbMiRecord> sendCommand(long token, String command) throws IOException {
+        CompletableFuture<GdbMiRecord> result = new CompletableFuture<>();
+        results.put(token, result);
+
+        if (terminated) {
+            results.remove(token);
+            result.completeExceptionally(new GdbTerminatedException("GDB has been terminated"));
+            return result;
+        }
+
+        LOG.debug("{}{}", token, command);
+
+        try {
+            synchronized (writer) {
+                writer.write(token + command);
+                writer.write('\n');
+                writer.flush();
+            }
+        } catch (IOException e) {
+            results.remove(token);
+            throw e;
+        }
+
+        return result;
+    }
+
+    /**
+     * Sends command and waits for its result.
+     *
+     * @throws GdbException
+     *         if GDB responds with {@code ^error}
+     */
+    private GdbMiRecord execute(String command) throws IOException, InterruptedException, GdbException {
+        return await(sendCommand(command));
+    }
+
+    /**
+     * Sends execution command and waits until the program is stopped.
+     * Execution commands are performed one by one.
+     */
+    private synchronized GdbMiRecord executeAndWaitForStop(String command) throws IOException,
+                                                                                  InterruptedException,
+                                                                                  GdbException {
+        long token = tokens.incrementAndGet();
+        StopWaiter waiter = new StopWaiter(token);
+        stopWaiter = waiter;
+        try {
+            await(sendCommand(token, command));
+            return await(waiter.stopped);
+        } finally {
+            stopWaiter = null;
+        }
+    }
+
+    private GdbMiRecord await(CompletableFuture<GdbMiRecord> future) throws InterruptedException, GdbException {
+        GdbMiRecord record;
+        try {
+            record = future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof GdbException) {
+                throw (GdbException)cause;
+            }
+            throw new GdbException(cause.getMessage(), e);
+        }
+
+        if (record.isError()) {
+            throw new GdbException(record.getString("msg"));
+        }
+        return record;
+    }
+
+    private void clearBreakpoints(@Nullable String file, int lineNumber) throws IOException,
+                                                                                InterruptedException,
+                                                                                DebuggerException {
+        StringBuilder numbers = new StringBuilder();
+        for (Map<String, Object> bkpt : listBreakpoints()) {
+            if (String.valueOf(lineNumber).equals(bkpt.get("line"))
+                && (file == null || file.equals(bkpt.get("file")) || file.equals(bkpt.get("fullname")))) {
+                numbers.append(' ').append(bkpt.get("number"));
+            }
+        }
+
+        if (numbers.length() == 0) {
+            throw new GdbException("No breakpoint at " + (file != null ? file + ":" : "") + lineNumber);
+        }
+        execute("-break-delete" + numbers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> listBreakpoints() throws IOException, InterruptedException, GdbException {
+        GdbMiRecord record = execute("-break-list");
+        Map<String, Object> table = record.getTuple("BreakpointTable");
+        if (table == null || !(table.get("body") instanceof List)) {
+            return new ArrayList<>();
+        }
+
+        List<Map<String, Object>> breakpoints = new ArrayList<>();
+        for (Object bkpt : (List<Object>)table.get("body")) {
+            if (bkpt instanceof Map) {
+                breakpoints.add((Map<String, Object>)bkpt);
+            }
+        }
+        return breakpoints;
+    }
+
+    private GdbInfoLine getLine(GdbMiRecord stopped) throws IOException, InterruptedException, DebuggerException {
+        Location location = getLocation(stopped.getTuple("frame"));
+        return location != null ? new GdbInfoLine(location) : infoLine();
+    }
+
+    @Nullable
+    private Breakpoint getBreakpoint(GdbMiRecord stopped) {
+        if (!"breakpoint-hit".equals(stopped.getString("reason"))) {
+            return null;
+        }
+
+        Location location = getLocation(stopped.getTuple("frame"));
+        return location != null ? new BreakpointImpl(location) : null;
+    }
+
+    @Nullable
+    private Location getLocation(@Nullable Map<String, Object> frame) {
+        if (frame == null || frame.get("file") == null || frame.get("line") == null) {
+            return null;
+        }
+        return new LocationImpl((String)frame.get("file"), Integer.parseInt((String)frame.get("line")));
+    }
+
+    private boolean isExited(GdbMiRecord stopped) {
+        String reason = stopped.getString("reason");
+        return reason != null && reason.startsWith("exited");
+    }
+
+    private Map<String, String> toVariables(Object list) {
+        Map<String, String> variables = new LinkedHashMap<>();
+        if (list instanceof List) {
+            for (Object item : (List<?>)list) {
+                if (item instanceof Map) {
+                    Map<?, ?> variable = (Map<?, ?>)item;
+                    variables.put((String)variable.get("name"), (String)variable.get("value"));
+                }
+            }
+        }
+        return variables;
+    }
+
+    /**
+     * Wraps CLI command to be executed through the machine interface.
+     */
+    private String console(String command) {
+        return "-interpreter-exec console " + quote(command);
+    }
+
+    private String quote(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private void terminate(String message) {
+        terminated = true;
+
+        GdbTerminatedException exception = new GdbTerminatedException(message);
+        for (Long token : results.keySet()) {
+            CompletableFuture<GdbMiRecord> result = results.remove(token);
+            if (result != null) {
+                result.completeExceptionally(exception);
+            }
+        }
+
+        StopWaiter waiter = stopWaiter;
+        if (waiter != null) {
+            waiter.stopped.completeExceptionally(exception);
+        }
+    }
+
+    /**
+     * Waits for the {@code *stopped} record caused by the execution command.
+     * Stops which happen before GDB confirms that the command is running are ignored.
+     */
+    private static class StopWaiter {
+        private final long                           token;
+        private final CompletableFuture<GdbMiRecord> stopped;
+
+        private volatile boolean running;
+
+        private StopWaiter(long token) {
+            this.token = token;
+            this.stopped = new CompletableFuture<>();
+        }
+    }
+
+    /**
+     * Reads records from the process output until the process is terminated.
+     */
+    private class OutputReader extends Thread {
+
+        public OutputReader(String name) {
+            super(name);
+        }
+
+        @Override
+        public void run() {
+            StringBuilder consoleOutput = new StringBuilder();
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                                                                                  StandardCharsets.UTF_8))) {
+                String line;
+                while (!isInterrupted() && (line = reader.readLine()) != null) {
+                    GdbMiRecord record;
+                    try {
+                        record = GdbMiRecord.parse(line);
+                    } catch (GdbParseException e) {
+                        // output of the debugged program
+                        LOG.debug(line);
+                        continue;
+                    }
+
+                    switch (record.getType()) {
+                        case CONSOLE_STREAM:
+                            consoleOutput.append(record.getText());
+                            break;
+                        case RESULT:
+                            record.setConsoleOutput(consoleOutput.toString());
+                            consoleOutput.setLength(0);
+                            onResult(record);
+                            break;
+                        case EXEC_ASYNC:
+                            onExecAsync(record);
+                            break;
+                        default:
+                            LOG.debug(line);
+                    }
+                }
+            } catch (IOException e) {
+                if (!isInterrupted()) {
+                    LOG.error(e.getMessage(), e);
+                }
+            }
+
+            terminate("GDB has been terminated with output: " + consoleOutput);
+            LOG.debug(getName() + " has been stopped");
+        }
+
+        private void onResult(GdbMiRecord record) {
+            Long token = record.getToken();
+            if (token == null) {
+                LOG.debug(record.toString());
+                return;
+            }
+
+            StopWaiter waiter = stopWaiter;
+            if (waiter != null && waiter.token == token && "running".equals(record.getRecordClass())) {
+                waiter.running = true;
+            }
+
+            CompletableFuture<GdbMiRecord> result = results.remove(token);
+            if (result != null) {
+                result.complete(record);
+            }
+        }
+
+        private void onExecAsync(GdbMiRecord record) {
+            if (!"stopped".equals(record.getRecordClass())) {
+                return;
+            }
+
+            lastStop = record;
+            for (Consumer<GdbMiRecord> listener : stopListeners) {
+                try {
+                    listener.accept(record);
+                } catch (RuntimeException e) {
+                    LOG.error(e.getMessage(), e);
+                }
+            }
+
+            StopWaiter waiter = stopWaiter;
+            if (waiter != null && waiter.running) {
+                waiter.stopped.complete(record);
+            }
+        }
+    }
+}
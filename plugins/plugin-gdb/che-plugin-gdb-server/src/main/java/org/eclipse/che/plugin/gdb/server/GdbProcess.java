@@ -10,19 +10,17 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.gdb.server;
 
-import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 
-import static java.lang.Math.min;
-
 /**
  * @author Anatoliy Bazko
  */
@@ -41,6 +39,7 @@ public abstract class GdbProcess {
         this.outputs = new ArrayBlockingQueue<>(MAX_CAPACITY);
 
         ProcessBuilder processBuilder = new ProcessBuilder(commands);
+        processBuilder.redirectErrorStream(true);
         process = processBuilder.start();
 
         outputReader = new OutputReader(commands[0] + " output reader");
@@ -59,6 +58,7 @@ public abstract class GdbProcess {
 
     /**
      * Continuously reads process output and store in the {@code #outputs}.
+     * Reading blocks until process writes something, so output is handled as soon as it appears.
      */
     private class OutputReader extends Thread {
 
@@ -69,48 +69,31 @@ public abstract class GdbProcess {
         @Override
         public void run() {
             StringBuilder buf = new StringBuilder();
+            char[] chunk = new char[MAX_OUTPUT];
 
-            while (!isInterrupted()) {
-                if (!process.isAlive()) {
-                    outputs.add(GdbOutput.of(buf.toString(), true));
-                    break;
-                }
+            try (Reader reader = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)) {
+                int read;
+                while (!isInterrupted() && (read = reader.read(chunk)) != -1) {
+                    buf.append(chunk, 0, read);
+                    extractOutput(buf);
 
-                try {
-                    InputStream in = getInput();
-                    if (in != null) {
-                        String data = read(in);
-                        if (!data.isEmpty()) {
-                            buf.append(data);
-                            if (buf.length() > MAX_OUTPUT) {
-                                buf.delete(0, buf.length() - MAX_OUTPUT);
-                            }
-                        }
+                    if (buf.length() > MAX_OUTPUT) {
+                        buf.delete(0, buf.length() - MAX_OUTPUT);
                     }
-                } catch (IOException e) {
-                    LOG.error(e.getMessage(), e);
                 }
-
-                if (buf.length() > 0) {
-                    extractOutput(buf);
+            } catch (IOException e) {
+                if (!isInterrupted()) {
+                    LOG.error(e.getMessage(), e);
                 }
+            }
 
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    break;
-                }
+            if (!isInterrupted()) {
+                outputs.add(GdbOutput.of(buf.toString(), true));
             }
 
             LOG.debug(getName() + " has been stopped");
         }
 
-        private InputStream getInput() throws IOException {
-            return hasError() ? process.getErrorStream()
-                              : (hasInput() ? (hasError() ? process.getErrorStream() : process.getInputStream())
-                                            : null);
-        }
-
         private void extractOutput(StringBuilder buf) {
             int indexOf;
             while ((indexOf = buf.indexOf(outputSeparator)) >= 0) {
@@ -122,23 +105,6 @@ public abstract class GdbProcess {
                 buf.delete(0, indexOf + outputSeparator.length());
             }
         }
-
-        private boolean hasError() throws IOException {
-            return process.getErrorStream().available() != 0;
-        }
-
-        private boolean hasInput() throws IOException {
-            return process.getInputStream().available() != 0;
-        }
-
-        @Nullable
-        private String read(InputStream in) throws IOException {
-            int available = min(in.available(), MAX_OUTPUT);
-            byte[] buf = new byte[available];
-            int read = in.read(buf, 0, available);
-
-            return new String(buf, 0, read, StandardCharsets.UTF_8);
-        }
     }
 
 }
@@ -32,7 +32,7 @@ public class GdbInfoBreak {
 
     private final List<Breakpoint> breakpoints;
 
-    private GdbInfoBreak(List<Breakpoint> breakpoints) {
+    public GdbInfoBreak(List<Breakpoint> breakpoints) {
         this.breakpoints = breakpoints;
     }
 
@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single output record of GDB machine interface, e.g.
+ * <pre>
+ *     12^done,value="1"
+ *     *stopped,reason="breakpoint-hit",frame={file="h.cpp",line="7"}
+ *     ~"GNU gdb 7.11\n"
+ * </pre>
+ *
+ * <p>Values of results are represented as {@link String} for constants,
+ * {@link Map} for tuples and {@link List} for lists. Names of results in lists are omitted.
+ */
+public class GdbMiRecord {
+
+    public enum Type {
+        RESULT,
+        EXEC_ASYNC,
+        STATUS_ASYNC,
+        NOTIFY_ASYNC,
+        CONSOLE_STREAM,
+        TARGET_STREAM,
+        LOG_STREAM,
+        PROMPT
+    }
+
+    private static final String PROMPT = "(gdb)";
+
+    private final Type                type;
+    private final Long                token;
+    private final String              recordClass;
+    private final Map<String, Object> results;
+    private final String              text;
+
+    private String consoleOutput = "";
+
+    private GdbMiRecord(Type type, Long token, String recordClass, Map<String, Object> results, String text) {
+        this.type = type;
+        this.token = token;
+        this.recordClass = recordClass;
+        this.results = results;
+        this.text = text;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /** Returns the token of the command this record is produced for or null if record isn't bound to command. */
+    @Nullable
+    public Long getToken() {
+        return token;
+    }
+
+    /** Returns the class of result or async record, e.g. {@code done}, {@code error}, {@code stopped}. */
+    @Nullable
+    public String getRecordClass() {
+        return recordClass;
+    }
+
+    public Map<String, Object> getResults() {
+        return results;
+    }
+
+    /** Returns the text of stream record. */
+    @Nullable
+    public String getText() {
+        return text;
+    }
+
+    /** Returns the console output printed by GDB while the command of this result record was executed. */
+    public String getConsoleOutput() {
+        return consoleOutput;
+    }
+
+    public void setConsoleOutput(String consoleOutput) {
+        this.consoleOutput = consoleOutput;
+    }
+
+    public boolean isError() {
+        return type == Type.RESULT && "error".equals(recordClass);
+    }
+
+    @Nullable
+    public String getString(String name) {
+        Object value = results.get(name);
+        return value instanceof String ? (String)value : null;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getTuple(String name) {
+        Object value = results.get(name);
+        return value instanceof Map ? (Map<String, Object>)value : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Object> getList(String name) {
+        Object value = results.get(name);
+        return value instanceof List ? (List<Object>)value : Collections.emptyList();
+    }
+
+    @Override
+    public String toString() {
+        return "GdbMiRecord{" +
+               "type=" + type +
+               ", token=" + token +
+               ", recordClass='" + recordClass + '\'' +
+               ", results=" + results +
+               ", text='" + text + '\'' +
+               '}';
+    }
+
+    /**
+     * Factory method.
+     */
+    public static GdbMiRecord parse(String line) throws GdbParseException {
+        if (line.trim().equals(PROMPT)) {
+            return new GdbMiRecord(Type.PROMPT, null, null, Collections.emptyMap(), null);
+        }
+        return new Parser(line).parse();
+    }
+
+    private static class Parser {
+        private final String line;
+        private       int    pos;
+
+        private Parser(String line) {
+            this.line = line;
+        }
+
+        private GdbMiRecord parse() throws GdbParseException {
+            int tokenEnd = pos;
+            while (tokenEnd < line.length() && Character.isDigit(line.charAt(tokenEnd))) {
+                tokenEnd++;
+            }
+            Long token = tokenEnd > pos ? Long.valueOf(line.substring(pos, tokenEnd)) : null;
+            pos = tokenEnd;
+
+            if (pos >= line.length()) {
+                throw new GdbParseException(GdbMiRecord.class, line);
+            }
+
+            char prefix = line.charAt(pos++);
+            switch (prefix) {
+                case '^':
+                    return asyncOrResult(Type.RESULT, token);
+                case '*':
+                    return asyncOrResult(Type.EXEC_ASYNC, token);
+                case '+':
+                    return asyncOrResult(Type.STATUS_ASYNC, token);
+                case '=':
+                    return asyncOrResult(Type.NOTIFY_ASYNC, token);
+                case '~':
+                    return new GdbMiRecord(Type.CONSOLE_STREAM, token, null, Collections.emptyMap(), cString());
+                case '@':
+                    return new GdbMiRecord(Type.TARGET_STREAM, token, null, Collections.emptyMap(), cString());
+                case '&':
+                    return new GdbMiRecord(Type.LOG_STREAM, token, null, Collections.emptyMap(), cString());
+                default:
+                    throw new GdbParseException(GdbMiRecord.class, line);
+            }
+        }
+
+        private GdbMiRecord asyncOrResult(Type type, Long token) throws GdbParseException {
+            int classEnd = line.indexOf(',', pos);
+            if (classEnd < 0) {
+                classEnd = line.length();
+            }
+            String recordClass = line.substring(pos, classEnd).trim();
+            pos = classEnd;
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            while (pos < line.length() && line.charAt(pos) == ',') {
+                pos++;
+                result(results);
+            }
+            return new GdbMiRecord(type, token, recordClass, results, null);
+        }
+
+        private void result(Map<String, Object> target) throws GdbParseException {
+            int eq = line.indexOf('=', pos);
+            if (eq < 0) {
+                throw new GdbParseException(GdbMiRecord.class, line);
+            }
+            String name = line.substring(pos, eq);
+            pos = eq + 1;
+            target.put(name, value());
+        }
+
+        private Object value() throws GdbParseException {
+            if (pos >= line.length()) {
+                throw new GdbParseException(GdbMiRecord.class, line);
+            }
+            switch (line.charAt(pos)) {
+                case '"':
+                    return cString();
+                case '{':
+                    return tuple();
+                case '[':
+                    return list();
+                default:
+                    throw new GdbParseException(GdbMiRecord.class, line);
+            }
+        }
+
+        private Map<String, Object> tuple() throws GdbParseException {
+            Map<String, Object> tuple = new LinkedHashMap<>();
+            pos++;
+            if (peek() == '}') {
+                pos++;
+                return tuple;
+            }
+            result(tuple);
+            while (peek() == ',') {
+                pos++;
+                result(tuple);
+            }
+            expect('}');
+            return tuple;
+        }
+
+        private List<Object> list() throws GdbParseException {
+            List<Object> list = new ArrayList<>();
+            pos++;
+            if (peek() == ']') {
+                pos++;
+                return list;
+            }
+            listItem(list);
+            while (peek() == ',') {
+                pos++;
+                listItem(list);
+            }
+            expect(']');
+            return list;
+        }
+
+        private void listItem(List<Object> list) throws GdbParseException {
+            char c = peek();
+            if (c == '"' || c == '{' || c == '[') {
+                list.add(value());
+            } else {
+                // list of results, names are omitted
+                Map<String, Object> item = new LinkedHashMap<>(1);
+                result(item);
+                list.add(item.values().iterator().next());
+            }
+        }
+
+        private String cString() throws GdbParseException {
+            expect('"');
+            StringBuilder sb = new StringBuilder();
+            while (pos < line.length()) {
+                char c = line.charAt(pos++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\' || pos >= line.length()) {
+                    sb.append(c);
+                    continue;
+                }
+                char escaped = line.charAt(pos++);
+                switch (escaped) {
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    case 't':
+                        sb.append('\t');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    default:
+                        if (escaped >= '0' && escaped <= '7') {
+                            int end = pos;
+                            while (end < line.length() && end < pos + 2 && line.charAt(end) >= '0' && line.charAt(end) <= '7') {
+                                end++;
+                            }
+                            sb.append((char)Integer.parseInt(line.substring(pos - 1, end), 8));
+                            pos = end;
+                        } else {
+                            sb.append(escaped);
+                        }
+                }
+            }
+            throw new GdbParseException(GdbMiRecord.class, line);
+        }
+
+        private char peek() {
+            return pos < line.length() ? line.charAt(pos) : 0;
+        }
+
+        private void expect(char c) throws GdbParseException {
+            if (peek() != c) {
+                throw new GdbParseException(GdbMiRecord.class, line);
+            }
+            pos++;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server;
+
+import org.eclipse.che.plugin.gdb.server.parser.GdbMiRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Compares latency of the commands sent through the command line interface ({@link Gdb})
+ * and through the machine interface ({@link GdbMi}).
+ */
+public class GdbLatencyTest {
+    private static final Logger LOG        = LoggerFactory.getLogger(GdbLatencyTest.class);
+    private static final int    ITERATIONS = 50;
+
+    private String file;
+    private Path   sourceDirectory;
+
+    @BeforeClass
+    public void beforeClass() throws Exception {
+        file = GdbLatencyTest.class.getResource("/hello").getFile();
+        sourceDirectory = Paths.get(GdbLatencyTest.class.getResource("/h.cpp").getFile());
+    }
+
+    @Test
+    public void testCommandLineInterfaceLatency() throws Exception {
+        Gdb gdb = Gdb.start();
+        try {
+            long time = measure(gdb);
+            LOG.info("CLI: {} x print took {} ms", ITERATIONS, NANOSECONDS.toMillis(time));
+        } finally {
+            gdb.stop();
+        }
+    }
+
+    @Test
+    public void testMachineInterfaceLatency() throws Exception {
+        GdbMi gdb = GdbMi.start();
+        try {
+            long time = measure(gdb);
+            LOG.info("MI: {} x print took {} ms", ITERATIONS, NANOSECONDS.toMillis(time));
+
+            long start = System.nanoTime();
+            List<CompletableFuture<GdbMiRecord>> results = new ArrayList<>(ITERATIONS);
+            for (int i = 0; i < ITERATIONS; i++) {
+                results.add(gdb.sendCommand("-data-evaluate-expression i"));
+            }
+            for (CompletableFuture<GdbMiRecord> result : results) {
+                assertEquals(result.get().getString("value"), "0");
+            }
+            LOG.info("MI pipelined: {} x print took {} ms", ITERATIONS, NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            gdb.stop();
+        }
+    }
+
+    /**
+     * Stops at the breakpoint and returns the time of {@link #ITERATIONS} sequential `print` commands.
+     */
+    private long measure(GdbDriver gdb) throws Exception {
+        gdb.directory(sourceDirectory.getParent().toString());
+        gdb.file(file);
+        gdb.breakpoint(7);
+        gdb.run();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(gdb.print("i").getValue(), "0");
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link GdbMiRecord}.
+ */
+public class GdbMiRecordTest {
+
+    @Test
+    public void testParseResult() throws Exception {
+        GdbMiRecord record = GdbMiRecord.parse("12^done,value=\"1\"");
+
+        assertEquals(record.getType(), GdbMiRecord.Type.RESULT);
+        assertEquals(record.getToken(), Long.valueOf(12));
+        assertEquals(record.getRecordClass(), "done");
+        assertEquals(record.getString("value"), "1");
+        assertFalse(record.isError());
+    }
+
+    @Test
+    public void testParseError() throws Exception {
+        GdbMiRecord record = GdbMiRecord.parse("3^error,msg=\"No symbol \\\"j\\\" in current context.\"");
+
+        assertTrue(record.isError());
+        assertEquals(record.getString("msg"), "No symbol \"j\" in current context.");
+    }
+
+    @Test
+    public void testParseStopped() throws Exception {
+        GdbMiRecord record = GdbMiRecord.parse("*stopped,reason=\"breakpoint-hit\",disp=\"keep\",bkptno=\"1\"," +
+                                               "frame={addr=\"0x0000000000400a16\",func=\"main\",args=[]," +
+                                               "file=\"h.cpp\",fullname=\"/tmp/h.cpp\",line=\"7\"}," +
+                                               "thread-id=\"1\",stopped-threads=\"all\"");
+
+        assertEquals(record.getType(), GdbMiRecord.Type.EXEC_ASYNC);
+        assertNull(record.getToken());
+        assertEquals(record.getRecordClass(), "stopped");
+        assertEquals(record.getString("reason"), "breakpoint-hit");
+
+        Map<String, Object> frame = record.getTuple("frame");
+        assertEquals(frame.get("file"), "h.cpp");
+        assertEquals(frame.get("line"), "7");
+        assertTrue(((List<?>)frame.get("args")).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testParseListOfResults() throws Exception {
+        GdbMiRecord record = GdbMiRecord.parse("5^done,stack-args=[frame={level=\"0\",args=[{name=\"argc\",value=\"1\"}]}]");
+
+        List<Object> frames = record.getList("stack-args");
+        assertEquals(frames.size(), 1);
+
+        List<Object> args = (List<Object>)((Map<String, Object>)frames.get(0)).get("args");
+        Map<String, Object> arg = (Map<String, Object>)args.get(0);
+        assertEquals(arg.get("name"), "argc");
+        assertEquals(arg.get("value"), "1");
+    }
+
+    @Test
+    public void testParseStreams() throws Exception {
+        GdbMiRecord record = GdbMiRecord.parse("~\"type = int\\n\"");
+        assertEquals(record.getType(), GdbMiRecord.Type.CONSOLE_STREAM);
+        assertEquals(record.getText(), "type = int\n");
+
+        record = GdbMiRecord.parse("&\"a\\\\b\\011c\"");
+        assertEquals(record.getType(), GdbMiRecord.Type.LOG_STREAM);
+        assertEquals(record.getText(), "a\\b\tc");
+    }
+
+    @Test
+    public void testParsePrompt() throws Exception {
+        assertEquals(GdbMiRecord.parse("(gdb) ").getType(), GdbMiRecord.Type.PROMPT);
+    }
+
+    @Test(expectedExceptions = GdbParseException.class)
+    public void testParseFailsOnProgramOutput() throws Exception {
+        GdbMiRecord.parse("Hello World!");
+    }
+
+    @Test(expectedExceptions = GdbParseException.class)
+    public void testParseFailsOnUnterminatedString() throws Exception {
+        GdbMiRecord.parse("1^done,value=\"1");
+    }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import org.eclipse.che.plugin.jdb.server.expression.ExpressionParser;
+import org.eclipse.che.plugin.jdb.server.expression.LookupCache;
+
+/**
+ * Condition of the breakpoint. Keeps parsed expression and the results of JDI lookups
+ * between evaluations, so condition is compiled once per breakpoint.
+ * Also collects statistics of the condition evaluations.
+ */
+public class BreakpointCondition {
+    private final ExpressionParser parser;
+    private final LookupCache      lookupCache;
+
+    private volatile long evaluations;
+    private volatile long hits;
+    private volatile long evaluationTimeNanos;
+
+    public BreakpointCondition(String expression) {
+        this.parser = ExpressionParser.newInstance(expression);
+        this.lookupCache = new LookupCache();
+    }
+
+    public ExpressionParser getParser() {
+        return parser;
+    }
+
+    public LookupCache getLookupCache() {
+        return lookupCache;
+    }
+
+    /** Registers evaluation of the condition. */
+    public void onEvaluated(boolean hit, long timeNanos) {
+        evaluations++;
+        evaluationTimeNanos += timeNanos;
+        if (hit) {
+            hits++;
+        }
+    }
+
+    /** Returns the number of condition evaluations. */
+    public long getEvaluationsCount() {
+        return evaluations;
+    }
+
+    /** Returns the number of evaluations when condition was true and target VM was suspended. */
+    public long getHitsCount() {
+        return hits;
+    }
+
+    /** Returns the total time spent on condition evaluations in nanoseconds. */
+    public long getEvaluationTimeNanos() {
+        return evaluationTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BreakpointCondition{" +
+               "expression='" + parser.getExpression() + '\'' +
+               ", evaluations=" + evaluations +
+               ", hits=" + hits +
+               ", evaluationTimeNanos=" + evaluationTimeNanos +
+               '}';
+    }
+}
@@ -56,14 +56,17 @@ import org.eclipse.che.api.debug.shared.model.impl.event.DisconnectEventImpl;
 import org.eclipse.che.api.debug.shared.model.impl.event.SuspendEventImpl;
 import org.eclipse.che.api.debugger.server.Debugger;
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
+import org.eclipse.che.commons.lang.JmxUtils;
 import org.eclipse.che.plugin.jdb.server.exceptions.DebuggerAbsentInformationException;
 import org.eclipse.che.plugin.jdb.server.expression.Evaluator;
+import org.eclipse.che.plugin.jdb.server.expression.LookupCache;
 import org.eclipse.che.plugin.jdb.server.expression.ExpressionException;
 import org.eclipse.che.plugin.jdb.server.expression.ExpressionParser;
 import org.eclipse.che.plugin.jdb.server.utils.JavaDebuggerUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.management.ObjectName;
 import java.io.IOException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
@@ -73,6 +76,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -89,9 +93,10 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
  * @author Artem Zatsarynnyi
  * @author Valeriy Svydenko
  */
-public class JavaDebugger implements EventsHandler, Debugger {
-    private static final Logger            LOG          = LoggerFactory.getLogger(JavaDebugger.class);
-    private static final JavaDebuggerUtils debuggerUtil = new JavaDebuggerUtils();
+public class JavaDebugger implements EventsHandler, Debugger, JavaDebuggerMXBean {
+    private static final Logger            LOG                = LoggerFactory.getLogger(JavaDebugger.class);
+    private static final JavaDebuggerUtils debuggerUtil       = new JavaDebuggerUtils();
+    private static final String            CONDITION_PROPERTY = "org.eclipse.che.ide.java.debug.condition.expression.parser";
 
     private final String           host;
     private final int              port;
@@ -109,6 +114,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
     /** Target Java VM representation. */
     private VirtualMachine  vm;
     private EventsCollector eventsCollector;
+    private ObjectName      mbeanName;
 
     /** Current thread. Not <code>null</code> is thread suspended, e.g breakpoint reached. */
     private ThreadReference thread;
@@ -172,6 +178,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
             }
         }
         eventsCollector = new EventsCollector(vm.eventQueue(), this);
+        mbeanName = JmxUtils.register(this, "JavaDebugger", host + ':' + port);
         LOG.debug("Connect {}:{}", host, port);
     }
 
@@ -205,6 +212,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
     public void disconnect() throws DebuggerException {
         resume(newDto(ResumeActionDto.class));
         vm.dispose();
+        JmxUtils.unregister(mbeanName);
         LOG.debug("Close connection to {}:{}", host, port);
     }
 
@@ -251,8 +259,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
             breakPointRequest.setSuspendPolicy(EventRequest.SUSPEND_ALL);
             String expression = breakpoint.getCondition();
             if (!(expression == null || expression.isEmpty())) {
-                ExpressionParser parser = ExpressionParser.newInstance(expression);
-                breakPointRequest.putProperty("org.eclipse.che.ide.java.debug.condition.expression.parser", parser);
+                breakPointRequest.putProperty(CONDITION_PROPERTY, new BreakpointCondition(expression));
             }
             breakPointRequest.setEnabled(true);
         } catch (NativeMethodException | IllegalThreadStateException | InvalidRequestStateException e) {
@@ -342,6 +349,11 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
     @Override
     public void resume(ResumeAction action) throws DebuggerException {
+        // Classes may be redefined while target VM is suspended, e.g. by hot swap,
+        // JDI doesn't notify about it so the lookups of breakpoint conditions are dropped.
+        for (BreakpointCondition condition : getBreakpointConditions()) {
+            condition.getLookupCache().invalidate();
+        }
         try {
             vm.resume();
             LOG.debug("Resume VM");
@@ -556,11 +568,13 @@ public class JavaDebugger implements EventsHandler, Debugger {
     private boolean processBreakPointEvent(com.sun.jdi.event.BreakpointEvent event) throws DebuggerException {
         setCurrentThread(event.thread());
         boolean hitBreakpoint;
-        ExpressionParser parser =
-                (ExpressionParser)event.request().getProperty("org.eclipse.che.ide.java.debug.condition.expression.parser");
-        if (parser != null) {
-            com.sun.jdi.Value result = evaluate(parser);
+        BreakpointCondition condition = (BreakpointCondition)event.request().getProperty(CONDITION_PROPERTY);
+        if (condition != null) {
+            final long startTime = System.nanoTime();
+            com.sun.jdi.Value result = evaluate(condition.getParser(), condition.getLookupCache());
             hitBreakpoint = result instanceof com.sun.jdi.BooleanValue && ((com.sun.jdi.BooleanValue)result).value();
+            condition.onEvaluated(hitBreakpoint, System.nanoTime() - startTime);
+            LOG.debug("Breakpoint condition evaluated at {}: {}", event.location(), condition);
         } else {
             // If there is no expression.
             hitBreakpoint = true;
@@ -590,6 +604,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
     private boolean processDisconnectEvent() {
         debuggerCallback.onEvent(new DisconnectEventImpl());
         eventsCollector.stop();
+        JmxUtils.unregister(mbeanName);
         return true;
     }
 
@@ -662,9 +677,13 @@ public class JavaDebugger implements EventsHandler, Debugger {
     }
 
     private com.sun.jdi.Value evaluate(ExpressionParser parser) throws DebuggerException {
+        return evaluate(parser, new LookupCache());
+    }
+
+    private com.sun.jdi.Value evaluate(ExpressionParser parser, LookupCache lookupCache) throws DebuggerException {
         final long startTime = System.currentTimeMillis();
         try {
-            return parser.evaluate(new Evaluator(vm, getCurrentThread()));
+            return parser.evaluate(new Evaluator(vm, getCurrentThread(), lookupCache));
         } catch (ExpressionException e) {
             throw new DebuggerException(e.getMessage());
         } finally {
@@ -675,6 +694,74 @@ public class JavaDebugger implements EventsHandler, Debugger {
         }
     }
 
+    @Override
+    public int getConditionalBreakpoints() {
+        return getBreakpointConditions().size();
+    }
+
+    @Override
+    public long getConditionEvaluations() {
+        long evaluations = 0;
+        for (BreakpointCondition condition : getBreakpointConditions()) {
+            evaluations += condition.getEvaluationsCount();
+        }
+        return evaluations;
+    }
+
+    @Override
+    public long getConditionHits() {
+        long hits = 0;
+        for (BreakpointCondition condition : getBreakpointConditions()) {
+            hits += condition.getHitsCount();
+        }
+        return hits;
+    }
+
+    @Override
+    public long getConditionEvaluationTime() {
+        long time = 0;
+        for (BreakpointCondition condition : getBreakpointConditions()) {
+            time += condition.getEvaluationTimeNanos();
+        }
+        return TimeUnit.NANOSECONDS.toMillis(time);
+    }
+
+    @Override
+    public long getLookupCacheHits() {
+        long hits = 0;
+        for (BreakpointCondition condition : getBreakpointConditions()) {
+            hits += condition.getLookupCache().getHits();
+        }
+        return hits;
+    }
+
+    @Override
+    public long getLookupCacheMisses() {
+        long misses = 0;
+        for (BreakpointCondition condition : getBreakpointConditions()) {
+            misses += condition.getLookupCache().getMisses();
+        }
+        return misses;
+    }
+
+    private List<BreakpointCondition> getBreakpointConditions() {
+        final List<BreakpointRequest> breakpointRequests;
+        try {
+            breakpointRequests = vm.eventRequestManager().breakpointRequests();
+        } catch (VMCannotBeModifiedException e) {
+            // If target VM in read-only state then list of break point always empty.
+            return Collections.emptyList();
+        }
+        final List<BreakpointCondition> conditions = new ArrayList<>();
+        for (BreakpointRequest breakpointRequest : breakpointRequests) {
+            BreakpointCondition condition = (BreakpointCondition)breakpointRequest.getProperty(CONDITION_PROPERTY);
+            if (condition != null) {
+                conditions.add(condition);
+            }
+        }
+        return conditions;
+    }
+
     private ThreadReference getCurrentThread() throws DebuggerException {
         if (thread == null) {
             throw new DebuggerException("Target Java VM is not suspended. ");
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+/**
+ * Statistics of the conditional breakpoints of the debugger session.
+ * Only the breakpoints which are currently set are taken into account.
+ *
+ * @see BreakpointCondition
+ */
+public interface JavaDebuggerMXBean {
+
+    /** Returns number of breakpoints which have condition. */
+    int getConditionalBreakpoints();
+
+    /** Returns number of condition evaluations. */
+    long getConditionEvaluations();
+
+    /** Returns number of evaluations when condition was true and target VM was suspended. */
+    long getConditionHits();
+
+    /** Returns total time spent on condition evaluations in milliseconds. */
+    long getConditionEvaluationTime();
+
+    /** Returns number of fields, methods and local variables resolved from the lookup cache. */
+    long getLookupCacheHits();
+
+    /** Returns number of fields, methods and local variables resolved through JDI. */
+    long getLookupCacheMisses();
+}
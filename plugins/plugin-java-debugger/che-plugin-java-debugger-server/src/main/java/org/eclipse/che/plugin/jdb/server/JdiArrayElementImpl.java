@@ -16,13 +16,13 @@ import com.sun.jdi.Value;
 
 /** @author andrew00x */
 public class JdiArrayElementImpl implements JdiArrayElement {
-    private final int    index;
-    private final Value  value;
-    private final String name;
+    private final int            index;
+    private final JdiArrayValues values;
+    private final String         name;
 
-    public JdiArrayElementImpl(int index, Value value) {
+    public JdiArrayElementImpl(int index, JdiArrayValues values) {
         this.index = index;
-        this.value = value;
+        this.values = values;
         this.name = "[" + index + "]";
     }
 
@@ -38,16 +38,17 @@ public class JdiArrayElementImpl implements JdiArrayElement {
 
     @Override
     public boolean isArray() {
-        return value instanceof ArrayReference;
+        return getJdiValue() instanceof ArrayReference;
     }
 
     @Override
     public boolean isPrimitive() {
-        return value instanceof PrimitiveValue;
+        return getJdiValue() instanceof PrimitiveValue;
     }
 
     @Override
     public JdiValue getValue() {
+        final Value value = getJdiValue();
         if (value == null) {
             return new JdiNullValue();
         }
@@ -56,9 +57,14 @@ public class JdiArrayElementImpl implements JdiArrayElement {
 
     @Override
     public String getTypeName() {
+        final Value value = getJdiValue();
         if (value == null) {
             return "null";
         }
         return value.type().name();
     }
+
+    private Value getJdiValue() {
+        return values.get(index);
+    }
 }
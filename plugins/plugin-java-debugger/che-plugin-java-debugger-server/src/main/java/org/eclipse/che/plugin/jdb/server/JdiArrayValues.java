@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.Value;
+
+import java.util.List;
+
+/**
+ * Elements of array in the target VM. Elements are fetched on demand page by page,
+ * so expanding of huge array doesn't request all its elements and
+ * neighbour elements are fetched with single request to the target VM.
+ */
+class JdiArrayValues {
+    /** Max number of array elements fetched from the target VM with single request. */
+    static final int PAGE_SIZE = 1000;
+
+    private final ArrayReference array;
+    private final int            length;
+    private final List<Value>[]  pages;
+
+    @SuppressWarnings("unchecked")
+    JdiArrayValues(ArrayReference array, int length) {
+        this.array = array;
+        this.length = length;
+        this.pages = (List<Value>[])new List[(length + PAGE_SIZE - 1) / PAGE_SIZE];
+    }
+
+    /** Returns number of elements of the array. */
+    int length() {
+        return length;
+    }
+
+    /** Returns value of element with the specified index, fetches the page of the element if it isn't fetched yet. */
+    Value get(int index) {
+        final int page = index / PAGE_SIZE;
+        if (pages[page] == null) {
+            final int from = page * PAGE_SIZE;
+            pages[page] = array.getValues(from, Math.min(PAGE_SIZE, length - from));
+        }
+        return pages[page].get(index % PAGE_SIZE);
+    }
+}
@@ -23,6 +23,9 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
     private final ReferenceType   type;
     private final ObjectReference object;
 
+    /** Value of the field, once fetched it is kept while the target VM stays suspended. */
+    private JdiValue value;
+
     public JdiFieldImpl(Field field, ObjectReference object) {
         this.field = field;
         this.object = object;
@@ -35,6 +38,21 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
         this.object = null;
     }
 
+    /**
+     * Creates field with value which is already fetched from the target VM,
+     * e.g. with {@link ObjectReference#getValues(java.util.List)} for all the fields of object at once.
+     */
+    public JdiFieldImpl(Field field, ObjectReference object, Value value) {
+        this(field, object);
+        this.value = value == null ? new JdiNullValue() : new JdiValueImpl(value);
+    }
+
+    /** Creates static field with value which is already fetched from the target VM. */
+    public JdiFieldImpl(Field field, ReferenceType type, Value value) {
+        this(field, type);
+        this.value = value == null ? new JdiNullValue() : new JdiValueImpl(value);
+    }
+
     @Override
     public String getName() {
         return field.name();
@@ -72,11 +90,11 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
 
     @Override
     public JdiValue getValue() {
-        Value value = object == null ? type.getValue(field) : object.getValue(field);
         if (value == null) {
-            return new JdiNullValue();
+            Value fieldValue = object == null ? type.getValue(field) : object.getValue(field);
+            value = fieldValue == null ? new JdiNullValue() : new JdiValueImpl(fieldValue);
         }
-        return new JdiValueImpl(value);
+        return value;
     }
 
     @Override
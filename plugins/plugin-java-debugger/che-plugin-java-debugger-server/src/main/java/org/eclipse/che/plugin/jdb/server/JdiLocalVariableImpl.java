@@ -21,11 +21,23 @@ public class JdiLocalVariableImpl implements JdiLocalVariable {
     private final LocalVariable variable;
     private final StackFrame    stackFrame;
 
+    /** Value of the variable, once fetched it is kept while the target VM stays suspended. */
+    private JdiValue value;
+
     public JdiLocalVariableImpl(StackFrame stackFrame, LocalVariable variable) {
         this.stackFrame = stackFrame;
         this.variable = variable;
     }
 
+    /**
+     * Creates variable with value which is already fetched from the target VM,
+     * e.g. with {@link StackFrame#getValues(java.util.List)} for all the visible variables at once.
+     */
+    public JdiLocalVariableImpl(StackFrame stackFrame, LocalVariable variable, Value value) {
+        this(stackFrame, variable);
+        this.value = value == null ? new JdiNullValue() : new JdiValueImpl(value);
+    }
+
     @Override
     public String getName() {
         return variable.name();
@@ -43,11 +55,11 @@ public class JdiLocalVariableImpl implements JdiLocalVariable {
 
     @Override
     public JdiValue getValue() {
-        Value value = stackFrame.getValue(variable);
         if (value == null) {
-            return new JdiNullValue();
+            Value variableValue = stackFrame.getValue(variable);
+            value = variableValue == null ? new JdiNullValue() : new JdiValueImpl(variableValue);
         }
-        return new JdiValueImpl(value);
+        return value;
     }
 
     @Override
@@ -18,12 +18,16 @@ import com.sun.jdi.NativeMethodException;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StackFrame;
+import com.sun.jdi.Value;
 
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 import org.eclipse.che.plugin.jdb.server.exceptions.DebuggerAbsentInformationException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /** @author andrew00x */
 public class JdiStackFrameImpl implements JdiStackFrame {
@@ -43,17 +47,28 @@ public class JdiStackFrameImpl implements JdiStackFrame {
                 if (object == null) {
                     ReferenceType type = stackFrame.location().declaringType();
                     List<Field> fs = stackFrame.location().declaringType().allFields();
+                    List<Field> staticFields = new ArrayList<>();
+                    for (Field f : fs) {
+                        if (f.isStatic()) {
+                            staticFields.add(f);
+                        }
+                    }
+                    // fetch values of all static fields with single request to the target VM
+                    Map<Field, Value> values = staticFields.isEmpty() ? Collections.<Field, Value>emptyMap()
+                                                                      : type.getValues(staticFields);
                     fields = new JdiField[fs.size()];
                     int i = 0;
                     for (Field f : fs) {
-                        fields[i++] = new JdiFieldImpl(f, type);
+                        fields[i++] = f.isStatic() ? new JdiFieldImpl(f, type, values.get(f)) : new JdiFieldImpl(f, type);
                     }
                 } else {
                     List<Field> fs = object.referenceType().allFields();
+                    // fetch values of all fields with single request to the target VM
+                    Map<Field, Value> values = fs.isEmpty() ? Collections.<Field, Value>emptyMap() : object.getValues(fs);
                     fields = new JdiField[fs.size()];
                     int i = 0;
                     for (Field f : fs) {
-                        fields[i++] = new JdiFieldImpl(f, object);
+                        fields[i++] = new JdiFieldImpl(f, object, values.get(f));
                     }
                 }
 
@@ -83,10 +98,13 @@ public class JdiStackFrameImpl implements JdiStackFrame {
         if (localVariables == null) {
             try {
                 List<LocalVariable> targetVariables = stackFrame.visibleVariables();
+                // fetch values of all visible variables with single request to the target VM
+                Map<LocalVariable, Value> values = targetVariables.isEmpty() ? Collections.<LocalVariable, Value>emptyMap()
+                                                                             : stackFrame.getValues(targetVariables);
                 localVariables = new JdiLocalVariable[targetVariables.size()];
                 int i = 0;
                 for (LocalVariable var : targetVariables) {
-                    localVariables[i++] = new JdiLocalVariableImpl(stackFrame, var);
+                    localVariables[i++] = new JdiLocalVariableImpl(stackFrame, var, values.get(var));
                 }
             } catch (AbsentInformationException e) {
                 throw new DebuggerAbsentInformationException(e.getMessage(), e);
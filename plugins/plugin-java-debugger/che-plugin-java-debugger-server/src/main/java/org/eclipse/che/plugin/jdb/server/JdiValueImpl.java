@@ -20,7 +20,9 @@ import com.sun.jdi.Value;
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /** @author andrew00x */
 public class JdiValueImpl implements JdiValue {
@@ -47,19 +49,22 @@ public class JdiValueImpl implements JdiValue {
             } else {
                 if (isArray()) {
                     ArrayReference array = (ArrayReference)value;
-                    int length = array.length();
-                    variables = new JdiVariable[length];
-                    for (int i = 0; i < length; i++) {
-                        variables[i] = new JdiArrayElementImpl(i, array.getValue(i));
+                    // elements are fetched from the target VM when their values are requested
+                    JdiArrayValues values = new JdiArrayValues(array, array.length());
+                    variables = new JdiVariable[values.length()];
+                    for (int i = 0; i < variables.length; i++) {
+                        variables[i] = new JdiArrayElementImpl(i, values);
                     }
                 } else {
                     ObjectReference object = (ObjectReference)value;
                     ReferenceType type = object.referenceType();
                     List<Field> fields = type.allFields();
+                    // fetch values of all fields with single request to the target VM
+                    Map<Field, Value> values = fields.isEmpty() ? Collections.<Field, Value>emptyMap() : object.getValues(fields);
                     variables = new JdiVariable[fields.size()];
                     int i = 0;
                     for (Field f : fields) {
-                        variables[i++] = new JdiFieldImpl(f, object);
+                        variables[i++] = new JdiFieldImpl(f, object, values.get(f));
                     }
                     // See JdiFieldImpl#compareTo(JdiFieldImpl).
                     Arrays.sort(variables);
@@ -74,6 +79,9 @@ public class JdiValueImpl implements JdiValue {
         if (name == null) {
             throw new IllegalArgumentException("Variable name may not be null. ");
         }
+        if (isArray()) {
+            return getArrayElementByName(name);
+        }
         for (JdiVariable variable : getVariables()) {
             if (name.equals(variable.getName())) {
                 return variable;
@@ -82,6 +90,21 @@ public class JdiValueImpl implements JdiValue {
         return null;
     }
 
+    /** Finds array element by its name, e.g. <i>[5]</i>, without iteration over all the elements. */
+    private JdiVariable getArrayElementByName(String name) {
+        if (name.length() < 3 || name.charAt(0) != '[' || name.charAt(name.length() - 1) != ']') {
+            return null;
+        }
+        final int index;
+        try {
+            index = Integer.parseInt(name.substring(1, name.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        final JdiVariable[] elements = getVariables();
+        return index >= 0 && index < elements.length && name.equals(elements[index].getName()) ? elements[index] : null;
+    }
+
     private boolean isArray() {
         return value instanceof ArrayReference;
     }
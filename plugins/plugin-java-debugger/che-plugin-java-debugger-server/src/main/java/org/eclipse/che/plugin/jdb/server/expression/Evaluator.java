@@ -69,10 +69,20 @@ public class Evaluator {
 
     private final VirtualMachine  vm;
     private final ThreadReference thread;
+    private final LookupCache     lookupCache;
 
     public Evaluator(VirtualMachine vm, ThreadReference thread) {
+        this(vm, thread, new LookupCache());
+    }
+
+    /**
+     * Creates evaluator which resolves fields, methods and local variables through the given cache.
+     * The same cache may be shared between evaluations of the same expression.
+     */
+    public Evaluator(VirtualMachine vm, ThreadReference thread, LookupCache lookupCache) {
         this.vm = vm;
         this.thread = thread;
+        this.lookupCache = lookupCache;
     }
 
     private static boolean isPrimitive(Type type) {
@@ -241,7 +251,7 @@ public class Evaluator {
         ExpressionValue value = null;
         try {
             ObjectReference object = (ObjectReference)parent;
-            Field field = object.referenceType().fieldByName(name);
+            Field field = lookupCache.getField(object.referenceType(), name);
             if (field != null) {
                 value = new InstanceValue(object, field);
             }
@@ -256,7 +266,7 @@ public class Evaluator {
         ExpressionValue value = null;
         try {
             StackFrame frame = thread.frame(0);
-            LocalVariable var = frame.visibleVariableByName(text);
+            LocalVariable var = lookupCache.getLocalVariable(frame, text);
             if (var != null) {
                 value = new LocalValue(thread, var);
             }
@@ -391,7 +401,7 @@ public class Evaluator {
         }
         ObjectReference object = (ObjectReference)value;
         ReferenceType type = object.referenceType();
-        List<Method> methods = type.methodsByName(name);
+        List<Method> methods = lookupCache.getMethods(type, name);
         Method method = findMethod(methods, arguments);
         if (method == null) {
             throw new ExpressionException("No method with name " + name + " matched to specified arguments for " + type.name());
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.expression;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.Field;
+import com.sun.jdi.LocalVariable;
+import com.sun.jdi.Location;
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.StackFrame;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps results of JDI lookups performed by {@link Evaluator}, so expression which is evaluated
+ * many times, e.g. condition of breakpoint, resolves fields, methods and local variables only once.
+ *
+ * <p>Fields and methods are cached per {@link ReferenceType}, local variables per {@link Location}.
+ * Cached lookups are not validated on each access, since it costs a round trip to the target VM.
+ * JDI doesn't notify about redefinition of classes, so the owner of the cache must {@link #invalidate()}
+ * it whenever classes may have been redefined.
+ *
+ * <p>The instances of this class are <b>NOT thread safe</b>.
+ */
+public class LookupCache {
+    private final Map<List<Object>, Field>         fields         = new HashMap<>();
+    private final Map<List<Object>, List<Method>>  methods        = new HashMap<>();
+    private final Map<List<Object>, LocalVariable> localVariables = new HashMap<>();
+
+    /** Statistics are updated by the owner of the cache only, but may be read by any thread. */
+    private volatile long hits;
+    private volatile long misses;
+
+    /** Returns the field with given name or null if type doesn't have such field. */
+    public Field getField(ReferenceType type, String name) {
+        final List<Object> key = Arrays.asList(type, name);
+        if (fields.containsKey(key)) {
+            hits++;
+            return fields.get(key);
+        }
+        misses++;
+        final Field field = type.fieldByName(name);
+        fields.put(key, field);
+        return field;
+    }
+
+    /** Returns the methods with given name, the list is empty if type doesn't have such methods. */
+    public List<Method> getMethods(ReferenceType type, String name) {
+        final List<Object> key = Arrays.asList(type, name);
+        List<Method> result = methods.get(key);
+        if (result != null) {
+            hits++;
+            return result;
+        }
+        misses++;
+        result = type.methodsByName(name);
+        methods.put(key, result);
+        return result;
+    }
+
+    /** Returns the local variable visible in the frame or null if there is no such variable. */
+    public LocalVariable getLocalVariable(StackFrame frame, String name) throws AbsentInformationException {
+        final List<Object> key = Arrays.asList(frame.location(), name);
+        if (localVariables.containsKey(key)) {
+            hits++;
+            return localVariables.get(key);
+        }
+        misses++;
+        final LocalVariable variable = frame.visibleVariableByName(name);
+        localVariables.put(key, variable);
+        return variable;
+    }
+
+    /** Drops all the cached lookups. */
+    public void invalidate() {
+        fields.clear();
+        methods.clear();
+        localVariables.clear();
+    }
+
+    /** Returns the number of lookups resolved from the cache. */
+    public long getHits() {
+        return hits;
+    }
+
+    /** Returns the number of lookups resolved through JDI. */
+    public long getMisses() {
+        return misses;
+    }
+}
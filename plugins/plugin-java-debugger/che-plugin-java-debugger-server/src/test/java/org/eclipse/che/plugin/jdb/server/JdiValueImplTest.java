@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.IntegerValue;
+import com.sun.jdi.Value;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link JdiValueImpl}.
+ */
+public class JdiValueImplTest {
+    private static final int LENGTH = 2500;
+
+    private ArrayReference array;
+    private JdiValueImpl   value;
+
+    @BeforeMethod
+    public void setUp() {
+        array = mock(ArrayReference.class);
+        when(array.length()).thenReturn(LENGTH);
+        when(array.getValues(anyInt(), anyInt())).thenAnswer(invocation -> {
+            final int length = (Integer)invocation.getArguments()[1];
+            final List<Value> values = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                values.add(mock(IntegerValue.class));
+            }
+            return values;
+        });
+        value = new JdiValueImpl(array);
+    }
+
+    @Test
+    public void shouldNotFetchArrayElementsWhenListingThem() throws Exception {
+        final JdiVariable[] elements = value.getVariables();
+
+        assertEquals(elements.length, LENGTH);
+        assertEquals(elements[1234].getName(), "[1234]");
+        verify(array, times(1)).length();
+        verify(array, never()).getValues();
+        verify(array, never()).getValues(anyInt(), anyInt());
+        verify(array, never()).getValue(anyInt());
+    }
+
+    @Test
+    public void shouldFetchPageOfArrayElementsWithSingleRequest() throws Exception {
+        final JdiVariable[] elements = value.getVariables();
+
+        elements[5].getValue();
+        elements[7].getValue();
+        assertTrue(elements[999].isPrimitive());
+
+        verify(array).getValues(0, JdiArrayValues.PAGE_SIZE);
+        verify(array, times(1)).getValues(anyInt(), anyInt());
+        verify(array, never()).getValue(anyInt());
+    }
+
+    @Test
+    public void shouldFetchOnlyPagesOfRequestedArrayElements() throws Exception {
+        final JdiVariable[] elements = value.getVariables();
+
+        elements[LENGTH - 1].getValue();
+        elements[0].getValue();
+
+        verify(array).getValues(0, JdiArrayValues.PAGE_SIZE);
+        verify(array).getValues(2 * JdiArrayValues.PAGE_SIZE, LENGTH - 2 * JdiArrayValues.PAGE_SIZE);
+        verify(array, times(2)).getValues(anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldFindArrayElementByNameWithoutFetchingElements() throws Exception {
+        final JdiVariable element = value.getVariableByName("[1500]");
+
+        assertNotNull(element);
+        assertEquals(element.getName(), "[1500]");
+        verify(array, never()).getValues(anyInt(), anyInt());
+
+        element.getValue();
+
+        verify(array).getValues(JdiArrayValues.PAGE_SIZE, JdiArrayValues.PAGE_SIZE);
+        verify(array, times(1)).getValues(anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldReturnNullWhenArrayElementWithGivenNameDoesNotExist() throws Exception {
+        assertNull(value.getVariableByName("[" + LENGTH + "]"));
+        assertNull(value.getVariableByName("[-1]"));
+        assertNull(value.getVariableByName("[+1]"));
+        assertNull(value.getVariableByName("length"));
+        verify(array, never()).getValues(anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.expression;
+
+import com.sun.jdi.Field;
+import com.sun.jdi.LocalVariable;
+import com.sun.jdi.Location;
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.StackFrame;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests for {@link LookupCache}.
+ */
+public class LookupCacheTest {
+    private ReferenceType type;
+    private LookupCache   cache;
+
+    @BeforeMethod
+    public void setUp() {
+        type = mock(ReferenceType.class);
+        cache = new LookupCache();
+    }
+
+    @Test
+    public void shouldResolveFieldThroughJdiOnlyOnce() {
+        final Field field = mock(Field.class);
+        when(type.fieldByName("field")).thenReturn(field);
+
+        assertSame(cache.getField(type, "field"), field);
+        assertSame(cache.getField(type, "field"), field);
+
+        verify(type, times(1)).fieldByName("field");
+        assertEquals(cache.getMisses(), 1);
+        assertEquals(cache.getHits(), 1);
+    }
+
+    @Test
+    public void shouldCacheAbsenceOfField() {
+        assertNull(cache.getField(type, "absent"));
+        assertNull(cache.getField(type, "absent"));
+
+        verify(type, times(1)).fieldByName("absent");
+        assertEquals(cache.getHits(), 1);
+    }
+
+    @Test
+    public void shouldResolveFieldsOfDifferentTypesSeparately() {
+        final ReferenceType otherType = mock(ReferenceType.class);
+
+        cache.getField(type, "field");
+        cache.getField(otherType, "field");
+
+        verify(type).fieldByName("field");
+        verify(otherType).fieldByName("field");
+        assertEquals(cache.getMisses(), 2);
+        assertEquals(cache.getHits(), 0);
+    }
+
+    @Test
+    public void shouldNotCheckWhetherCachedMethodsAreObsolete() {
+        final Method method = mock(Method.class);
+        final List<Method> methods = Collections.singletonList(method);
+        when(type.methodsByName("method")).thenReturn(methods);
+
+        assertSame(cache.getMethods(type, "method"), methods);
+        assertSame(cache.getMethods(type, "method"), methods);
+        assertSame(cache.getMethods(type, "method"), methods);
+
+        verify(type, times(1)).methodsByName("method");
+        verify(method, never()).isObsolete();
+        assertEquals(cache.getMisses(), 1);
+        assertEquals(cache.getHits(), 2);
+    }
+
+    @Test
+    public void shouldResolveLocalVariableOncePerLocation() throws Exception {
+        final LocalVariable variable = mock(LocalVariable.class);
+        final StackFrame frame = mockFrame(mock(Location.class), variable);
+        final StackFrame otherFrame = mockFrame(mock(Location.class), variable);
+
+        assertSame(cache.getLocalVariable(frame, "var"), variable);
+        assertSame(cache.getLocalVariable(frame, "var"), variable);
+        assertSame(cache.getLocalVariable(otherFrame, "var"), variable);
+
+        verify(frame, times(1)).visibleVariableByName("var");
+        verify(otherFrame, times(1)).visibleVariableByName("var");
+        assertEquals(cache.getMisses(), 2);
+        assertEquals(cache.getHits(), 1);
+    }
+
+    @Test
+    public void shouldResolveEverythingAgainAfterInvalidation() throws Exception {
+        final StackFrame frame = mockFrame(mock(Location.class), mock(LocalVariable.class));
+        when(type.methodsByName("method")).thenReturn(Collections.emptyList());
+        cache.getField(type, "field");
+        cache.getMethods(type, "method");
+        cache.getLocalVariable(frame, "var");
+
+        cache.invalidate();
+        cache.getField(type, "field");
+        cache.getMethods(type, "method");
+        cache.getLocalVariable(frame, "var");
+
+        verify(type, times(2)).fieldByName("field");
+        verify(type, times(2)).methodsByName("method");
+        verify(frame, times(2)).visibleVariableByName("var");
+        assertEquals(cache.getMisses(), 6);
+        assertEquals(cache.getHits(), 0);
+    }
+
+    private StackFrame mockFrame(Location location, LocalVariable variable) throws Exception {
+        final StackFrame frame = mock(StackFrame.class);
+        when(frame.location()).thenReturn(location);
+        when(frame.visibleVariableByName("var")).thenReturn(variable);
+        return frame;
+    }
+}
@@ -93,6 +93,7 @@ public class MachineGinModule extends AbstractGinModule {
 
         bind(CreateMachineView.class).to(CreateMachineViewImpl.class);
         bind(OutputConsoleView.class).to(OutputConsoleViewImpl.class);
+        bindConstant().annotatedWith(Names.named("machine.extension.output_console.max_lines")).to(10000);
         install(new GinFactoryModuleBuilder()
                         .implement(CommandOutputConsole.class, Names.named("command"), CommandOutputConsolePresenter.class)
                         .implement(OutputConsole.class, Names.named("default"), DefaultOutputConsole.class)
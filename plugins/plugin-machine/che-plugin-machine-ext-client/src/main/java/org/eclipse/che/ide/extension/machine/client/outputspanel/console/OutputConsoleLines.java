@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.extension.machine.client.outputspanel.console;
+
+/**
+ * Bounded ring buffer of the output console lines.
+ * When the buffer is full the oldest line is dropped for each added line.
+ *
+ * <p>Lines are addressed by index, where 0 is the oldest line kept by the buffer.
+ */
+class OutputConsoleLines {
+
+    private final String[] texts;
+    private final String[] colors;
+
+    /** Index of the oldest line in the arrays. */
+    private int head;
+    private int size;
+    /** Number of the lines added since the buffer was created or cleared, including the dropped ones. */
+    private long added;
+
+    OutputConsoleLines(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Console lines capacity must be positive");
+        }
+        texts = new String[capacity];
+        colors = new String[capacity];
+    }
+
+    /** Appends the line, drops the oldest line if the buffer is full. */
+    void add(String text, String color) {
+        final int index;
+        if (size == texts.length) {
+            index = head;
+            head = (head + 1) % texts.length;
+        } else {
+            index = (head + size) % texts.length;
+            size++;
+        }
+        texts[index] = text;
+        colors[index] = color;
+        added++;
+    }
+
+    /** Replaces the newest line, appends the line if the buffer is empty. */
+    void replaceLast(String text, String color) {
+        if (size == 0) {
+            add(text, color);
+            return;
+        }
+        final int index = (head + size - 1) % texts.length;
+        texts[index] = text;
+        colors[index] = color;
+    }
+
+    /** Returns the text of the line with the given index. */
+    String getText(int index) {
+        return texts[toArrayIndex(index)];
+    }
+
+    /** Returns the color of the line with the given index or null if line has default color. */
+    String getColor(int index) {
+        return colors[toArrayIndex(index)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return texts.length;
+    }
+
+    /**
+     * Returns the number of the lines added since the buffer was created or cleared, including the dropped ones,
+     * so the line with index 0 is the line number {@code addedCount() - size()} counting from 0.
+     */
+    long addedCount() {
+        return added;
+    }
+
+    void clear() {
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = null;
+            colors[i] = null;
+        }
+        head = 0;
+        size = 0;
+        added = 0;
+    }
+
+    private int toArrayIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (head + index) % texts.length;
+    }
+}
@@ -11,30 +11,30 @@
 package org.eclipse.che.ide.extension.machine.client.outputspanel.console;
 
 import com.google.common.base.Strings;
+import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.core.client.GWT;
-import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
-import com.google.gwt.dom.client.Node;
-import com.google.gwt.dom.client.NodeList;
-import com.google.gwt.dom.client.PreElement;
+import com.google.gwt.dom.client.Style;
 import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.dom.client.ClickHandler;
 import com.google.gwt.event.dom.client.ScrollEvent;
 import com.google.gwt.event.dom.client.ScrollHandler;
 import com.google.gwt.regexp.shared.MatchResult;
 import com.google.gwt.regexp.shared.RegExp;
-import com.google.gwt.safehtml.shared.SafeHtml;
+import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.gwt.uibinder.client.UiBinder;
 import com.google.gwt.uibinder.client.UiField;
-import com.google.gwt.user.client.DOM;
 import com.google.gwt.user.client.ui.Anchor;
 import com.google.gwt.user.client.ui.Composite;
 import com.google.gwt.user.client.ui.DockLayoutPanel;
 import com.google.gwt.user.client.ui.FlowPanel;
 import com.google.gwt.user.client.ui.Label;
+import com.google.gwt.user.client.ui.RequiresResize;
 import com.google.gwt.user.client.ui.ScrollPanel;
 import com.google.gwt.user.client.ui.Widget;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 
 import org.eclipse.che.ide.extension.machine.client.MachineLocalizationConstant;
 import org.eclipse.che.ide.extension.machine.client.MachineResources;
@@ -54,10 +54,26 @@ import java.util.List;
 /**
  * View representation of output console.
  *
+ * <p>The printed lines are kept in the {@link OutputConsoleLines} ring buffer
+ * limited by {@code machine.extension.output_console.max_lines} lines, the oldest lines
+ * are dropped when the limit is reached. Only the lines visible in the scroll area
+ * are rendered, the rest of the area is filled with paddings calculated from the line height.
+ * Wrapped lines have different heights, so all the kept lines are rendered when text is wrapped,
+ * but only once: after that each frame appends the lines printed since the previous frame
+ * and removes the dropped ones, so the browser reflows the wrapped lines itself on resize.
+ * Lines are rendered once per animation frame, so the output printed between the frames
+ * is rendered in a single batch. The lines printed while the view is hidden are rendered
+ * when the view is attached or resized, which happens when it's shown.
+ *
  * @author Artem Zatsarynnyi
  * @author Vitaliy Guliy
  */
-public class OutputConsoleViewImpl extends Composite implements OutputConsoleView, ScrollHandler {
+public class OutputConsoleViewImpl extends Composite implements OutputConsoleView, ScrollHandler, RequiresResize {
+
+    /** Count of lines rendered above and below the visible area. */
+    private static final int OVERSCAN_LINES      = 20;
+    /** Line height used until the real height of rendered line is measured, same to {@code consoleLineHeight}. */
+    private static final int DEFAULT_LINE_HEIGHT = 13;
 
     private final List<Pair<RegExp, String>> output2Color = newArrayList(new Pair<>(compile("\\[\\s*(DOCKER)\\s*\\]"), "#4EABFF"),
                                                                          new Pair<>(compile("\\[\\s*(ERROR)\\s*\\]"), "#FF2727"),
@@ -120,14 +136,37 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
     /** Follow the output. Scroll to the bottom automatically when <b>true</b>. */
     private boolean followOutput = true;
 
-    /** Scroll to the bottom immediately when view become visible. */
-    private boolean followScheduled = false;
+    /** Text is wrapped when <b>true</b>, all the lines are rendered in this case. */
+    private boolean wrapText;
+
+    /** Wrapped lines are rendered and only the changes should be applied when <b>true</b>. */
+    private boolean wrappedLinesRendered;
+
+    /**
+     * Number of the first rendered wrapped line and number of the line following the last rendered one,
+     * see {@link OutputConsoleLines#addedCount()}.
+     */
+    private long renderedFrom;
+    private long renderedTo;
+
+    /** The last rendered wrapped line has been replaced since it was rendered when <b>true</b>. */
+    private boolean renderedLineReplaced;
+
+    /** Lines are rendered on the next animation frame when <b>true</b>. */
+    private boolean renderScheduled = false;
+
+    private int lineHeight = DEFAULT_LINE_HEIGHT;
+
+    private final OutputConsoleLines lines;
 
     @Inject
     public OutputConsoleViewImpl(MachineResources resources,
-                                 MachineLocalizationConstant localization) {
+                                 MachineLocalizationConstant localization,
+                                 @Named("machine.extension.output_console.max_lines") int maxLines) {
         initWidget(UI_BINDER.createAndBindUi(this));
 
+        lines = new OutputConsoleLines(maxLines);
+
         reRunProcessButton.add(new SVGImage(resources.reRunIcon()));
         stopProcessButton.add(new SVGImage(resources.stopIcon()));
         clearOutputsButton.add(new SVGImage(resources.clearOutputsIcon()));
@@ -235,11 +274,14 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
     @Override
     public void wrapText(boolean wrap) {
+        wrapText = wrap;
+        wrappedLinesRendered = false;
         if (wrap) {
             consoleLines.getElement().setAttribute("wrap", "");
         } else {
             consoleLines.getElement().removeAttribute("wrap");
         }
+        scheduleRender();
     }
 
     @Override
@@ -250,7 +292,12 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
     @Override
     public void clearConsole() {
+        lines.clear();
+        carriageReturn = false;
+        wrappedLinesRendered = false;
         consoleLines.getElement().setInnerHTML("");
+        consoleLines.getElement().getStyle().setPaddingTop(0, Style.Unit.PX);
+        consoleLines.getElement().getStyle().setPaddingBottom(0, Style.Unit.PX);
     }
 
     @Override
@@ -314,57 +361,26 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
     @Override
     public void print(final String text, boolean carriageReturn, String color) {
         if (this.carriageReturn) {
-            Node lastChild = consoleLines.getElement().getLastChild();
-            if (lastChild != null) {
-                lastChild.removeFromParent();
+            lines.replaceLast(text, color);
+            if (wrappedLinesRendered && lines.addedCount() == renderedTo) {
+                renderedLineReplaced = true;
             }
+        } else {
+            lines.add(text, color);
         }
 
         this.carriageReturn = carriageReturn;
 
-        final SafeHtml colorOutput = new SafeHtml() {
-            @Override
-            public String asString() {
-
-                if (Strings.isNullOrEmpty(text)) {
-                    return " ";
-                }
-
-                for (final Pair<RegExp, String> pair : output2Color) {
-                    final MatchResult matcher = pair.first.exec(text);
-
-                    if (matcher != null) {
-                        return text.replaceAll(matcher.getGroup(1),
-                                               "<span style=\"color: " + pair.second + "\">" + matcher.getGroup(1) + "</span>");
-                    }
-                }
-
-                return text;
-            }
-        };
-
-        PreElement pre = DOM.createElement("pre").cast();
-        pre.setInnerSafeHtml(colorOutput);
-        if (color != null) {
-            pre.getStyle().setColor(color);
-        }
-        consoleLines.getElement().appendChild(pre);
-
-        followOutput();
+        scheduleRender();
     }
 
     @Override
     public String getText() {
-        String text = "";
-        NodeList<Node> nodes = consoleLines.getElement().getChildNodes();
-
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Node node = nodes.getItem(i);
-            Element element = node.cast();
-            text += element.getInnerText() + "\r\n";
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            text.append(lines.getText(i)).append("\r\n");
         }
-
-        return text;
+        return text.toString();
     }
 
     @Override
@@ -389,6 +405,163 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
         if (delegate != null) {
             delegate.onOutputScrolled(followOutput);
         }
+
+        // all the lines are already rendered when text is wrapped
+        if (!wrapText) {
+            scheduleRender();
+        }
+    }
+
+    @Override
+    public void onResize() {
+        scheduleRender();
+    }
+
+    @Override
+    protected void onLoad() {
+        super.onLoad();
+        scheduleRender();
+    }
+
+    /** Renders the lines on the next animation frame, all the lines printed before the frame are rendered at once. */
+    private void scheduleRender() {
+        if (renderScheduled) {
+            return;
+        }
+        renderScheduled = true;
+
+        AnimationScheduler.get().requestAnimationFrame(new AnimationScheduler.AnimationCallback() {
+            @Override
+            public void execute(double timestamp) {
+                renderScheduled = false;
+                render();
+                followOutput();
+            }
+        });
+    }
+
+    /**
+     * Renders the lines which are visible in the scroll area plus {@link #OVERSCAN_LINES}
+     * lines above and below it. The space of the lines which are not rendered is
+     * reserved by top and bottom paddings of the lines container.
+     * When text is wrapped all the lines are rendered, see {@link #renderWrapped()}.
+     * Hidden view isn't rendered, it's rendered on {@link #onResize()} when it's shown.
+     */
+    private void render() {
+        final Element scrollElement = scrollPanel.getElement();
+        if (scrollElement.getOffsetParent() == null) {
+            return;
+        }
+
+        if (wrapText) {
+            renderWrapped();
+            return;
+        }
+
+        final int total = lines.size();
+        final int visibleLines = scrollElement.getClientHeight() / lineHeight + 1 + 2 * OVERSCAN_LINES;
+        final int first;
+        if (followOutput) {
+            first = Math.max(0, total - visibleLines);
+        } else {
+            first = Math.max(0, Math.min(scrollElement.getScrollTop() / lineHeight - OVERSCAN_LINES, total - visibleLines));
+        }
+        final int last = Math.min(total, first + visibleLines);
+
+        final Element linesElement = consoleLines.getElement();
+        linesElement.getStyle().setPaddingTop(first * lineHeight, Style.Unit.PX);
+        linesElement.getStyle().setPaddingBottom((total - last) * lineHeight, Style.Unit.PX);
+        linesElement.setInnerHTML(toHtml(first, last));
+
+        final Element firstLine = linesElement.getFirstChildElement();
+        if (firstLine != null && firstLine.getOffsetHeight() > 0) {
+            lineHeight = firstLine.getOffsetHeight();
+        }
+    }
+
+    /**
+     * Renders all the kept lines when text has just been wrapped, otherwise only applies the changes
+     * made since the previous rendering: re-renders the replaced last line, removes the dropped lines
+     * and appends the printed ones.
+     */
+    private void renderWrapped() {
+        final Element linesElement = consoleLines.getElement();
+        final long added = lines.addedCount();
+        final long firstKept = added - lines.size();
+
+        if (!wrappedLinesRendered) {
+            linesElement.getStyle().setPaddingTop(0, Style.Unit.PX);
+            linesElement.getStyle().setPaddingBottom(0, Style.Unit.PX);
+            linesElement.setInnerHTML(toHtml(0, lines.size()));
+            wrappedLinesRendered = true;
+            renderedLineReplaced = false;
+            renderedFrom = firstKept;
+            renderedTo = added;
+            return;
+        }
+
+        if (renderedLineReplaced && renderedTo > firstKept) {
+            linesElement.removeChild(linesElement.getLastChild());
+            append(linesElement, toHtml((int)(renderedTo - 1 - firstKept), (int)(renderedTo - firstKept)));
+        }
+        renderedLineReplaced = false;
+
+        if (firstKept >= renderedTo) {
+            linesElement.setInnerHTML("");
+        } else {
+            for (; renderedFrom < firstKept; renderedFrom++) {
+                linesElement.removeChild(linesElement.getFirstChild());
+            }
+        }
+
+        append(linesElement, toHtml((int)(Math.max(renderedTo, firstKept) - firstKept), lines.size()));
+        renderedFrom = Math.max(renderedFrom, firstKept);
+        renderedTo = added;
+    }
+
+    /** Appends the elements described by the given HTML to the given element. */
+    private static void append(Element element, String html) {
+        if (html.isEmpty()) {
+            return;
+        }
+        final Element container = Document.get().createDivElement();
+        container.setInnerHTML(html);
+        while (container.getFirstChild() != null) {
+            element.appendChild(container.getFirstChild());
+        }
+    }
+
+    /** Returns HTML of the lines with indexes from {@code first} inclusive to {@code last} exclusive. */
+    private String toHtml(int first, int last) {
+        final StringBuilder html = new StringBuilder();
+        for (int i = first; i < last; i++) {
+            final String color = lines.getColor(i);
+            if (color == null) {
+                html.append("<pre>");
+            } else {
+                html.append("<pre style=\"color: ").append(SafeHtmlUtils.htmlEscape(color)).append("\">");
+            }
+            html.append(colorize(lines.getText(i))).append("</pre>");
+        }
+        return html.toString();
+    }
+
+    /** Returns HTML of the line text with highlighted output markers such as {@code [ERROR]}. */
+    private String colorize(String text) {
+        if (Strings.isNullOrEmpty(text)) {
+            return " ";
+        }
+
+        for (final Pair<RegExp, String> pair : output2Color) {
+            final MatchResult matcher = pair.first.exec(text);
+
+            if (matcher != null) {
+                return text.replaceAll(matcher.getGroup(1),
+                                       "<span style=\"color: " + pair.second + "\">" + matcher.getGroup(1) + "</span>");
+            }
+        }
+
+        return text;
     }
 
     /**
@@ -399,35 +572,10 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
             return;
         }
 
-        /** Scroll bottom immediately if view is visible */
+        // hidden view is scrolled when it's shown, see #onResize()
         if (scrollPanel.getElement().getOffsetParent() != null) {
             scrollPanel.scrollToBottom();
             scrollPanel.scrollToLeft();
-            return;
-        }
-
-        /** Otherwise, check the visibility periodically and scroll the view when it's visible */
-        if (!followScheduled) {
-            followScheduled = true;
-
-            Scheduler.get().scheduleFixedPeriod(new Scheduler.RepeatingCommand() {
-                @Override
-                public boolean execute() {
-                    if (!followOutput) {
-                        followScheduled = false;
-                        return false;
-                    }
-
-                    if (scrollPanel.getElement().getOffsetParent() != null) {
-                        scrollPanel.scrollToBottom();
-                        scrollPanel.scrollToLeft();
-                        followScheduled = false;
-                        return false;
-                    }
-
-                    return true;
-                }
-            }, 500);
         }
     }
 
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.extension.machine.client.outputspanel.console;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link OutputConsoleLines}.
+ */
+public class OutputConsoleLinesTest {
+
+    @Test
+    public void shouldKeepLinesInOrderOfAdding() {
+        final OutputConsoleLines lines = new OutputConsoleLines(3);
+
+        lines.add("line1", null);
+        lines.add("line2", "red");
+
+        assertEquals(lines.size(), 2);
+        assertEquals(lines.getText(0), "line1");
+        assertNull(lines.getColor(0));
+        assertEquals(lines.getText(1), "line2");
+        assertEquals(lines.getColor(1), "red");
+    }
+
+    @Test
+    public void shouldDropOldestLinesWhenCapacityIsReached() {
+        final OutputConsoleLines lines = new OutputConsoleLines(3);
+
+        for (int i = 1; i <= 5; i++) {
+            lines.add("line" + i, null);
+        }
+
+        assertEquals(lines.size(), 3);
+        assertEquals(lines.getText(0), "line3");
+        assertEquals(lines.getText(1), "line4");
+        assertEquals(lines.getText(2), "line5");
+    }
+
+    @Test
+    public void shouldReplaceLastLine() {
+        final OutputConsoleLines lines = new OutputConsoleLines(2);
+        lines.add("line1", null);
+        lines.add("line2", null);
+        lines.add("progress 10%", null);
+
+        lines.replaceLast("progress 20%", "green");
+
+        assertEquals(lines.size(), 2);
+        assertEquals(lines.getText(0), "line2");
+        assertEquals(lines.getText(1), "progress 20%");
+        assertEquals(lines.getColor(1), "green");
+    }
+
+    @Test
+    public void shouldAddLineWhenReplacingLastLineOfEmptyBuffer() {
+        final OutputConsoleLines lines = new OutputConsoleLines(2);
+
+        lines.replaceLast("line1", null);
+
+        assertEquals(lines.size(), 1);
+        assertEquals(lines.getText(0), "line1");
+    }
+
+    @Test
+    public void shouldBeEmptyAfterClear() {
+        final OutputConsoleLines lines = new OutputConsoleLines(2);
+        lines.add("line1", null);
+        lines.add("line2", null);
+        lines.add("line3", null);
+
+        lines.clear();
+        lines.add("line4", null);
+
+        assertEquals(lines.size(), 1);
+        assertEquals(lines.getText(0), "line4");
+    }
+
+    @Test
+    public void shouldCountAddedLinesIncludingDroppedOnes() {
+        final OutputConsoleLines lines = new OutputConsoleLines(2);
+        lines.add("line1", null);
+        lines.add("line2", null);
+        lines.add("progress 10%", null);
+        lines.replaceLast("progress 20%", null);
+
+        assertEquals(lines.addedCount(), 3);
+
+        lines.clear();
+
+        assertEquals(lines.addedCount(), 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowExceptionWhenGettingLineOutOfBounds() {
+        final OutputConsoleLines lines = new OutputConsoleLines(2);
+        lines.add("line1", null);
+
+        lines.getText(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCreateBufferWithNonPositiveCapacity() {
+        new OutputConsoleLines(0);
+    }
+}
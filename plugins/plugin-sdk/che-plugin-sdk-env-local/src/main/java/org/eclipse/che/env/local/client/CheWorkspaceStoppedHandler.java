@@ -34,9 +34,6 @@ import java.util.List;
 @Singleton
 public class CheWorkspaceStoppedHandler implements WorkspaceStoppedEvent.Handler {
 
-    private final static int SKIP_COUNT = 0;
-    private final static int MAX_COUNT  = 10;
-
     private final Provider<StartWorkspacePresenter> startWorkspacePresenterProvider;
     private final WorkspaceServiceClient            workspaceServiceClient;
     private final Callback<Component, Exception>    callback;
@@ -65,7 +62,7 @@ public class CheWorkspaceStoppedHandler implements WorkspaceStoppedEvent.Handler
         workspaceServiceClient.getWorkspace(event.getWorkspace().getId()).then(new Operation<WorkspaceDto>() {
             @Override
             public void apply(WorkspaceDto workspace) throws OperationException {
-                workspaceServiceClient.getWorkspaces(SKIP_COUNT, MAX_COUNT)
+                workspaceServiceClient.getWorkspaces()
                                       .then(new Operation<List<WorkspaceDto>>() {
                                           @Override
                                           public void apply(List<WorkspaceDto> workspaces) throws OperationException {
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.machine.ssh.jsch;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.assistedinject.Assisted;
 import com.jcraft.jsch.ChannelExec;
 import com.jcraft.jsch.ChannelSftp;
@@ -21,11 +22,15 @@ import com.jcraft.jsch.SftpException;
 import org.eclipse.che.api.core.util.ListLineConsumer;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.commons.lang.JmxUtils;
 import org.eclipse.che.plugin.machine.ssh.SshClient;
 import org.eclipse.che.plugin.machine.ssh.SshMachineRecipe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import javax.management.ObjectName;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
@@ -37,9 +42,17 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Client for communication with ssh machine using ssh protocol.
@@ -49,6 +62,9 @@ import static java.lang.String.format;
 // todo think about replacement JSch with Apace SSHD
 // todo tests for ssh library that ensures that it works as expected
 public class JschSshClient implements SshClient {
+    private static final Logger        LOG             = LoggerFactory.getLogger(JschSshClient.class);
+    private static final AtomicInteger CLIENTS_COUNTER = new AtomicInteger();
+
     private final JSch                jsch;
     private final JschUserInfoImpl    user;
     private final String              host;
@@ -56,16 +72,22 @@ public class JschSshClient implements SshClient {
     private final String              username;
     private final Map<String, String> envVars;
     private final int                 connectionTimeout;
+    private final int                 sftpChannels;
 
-    private Session session;
+    private Session            session;
+    private SftpChannelPool    sftpChannelPool;
+    private ObjectName         sftpChannelPoolMBean;
+    private ThreadPoolExecutor uploadExecutor;
 
     @Inject
     public JschSshClient(@Assisted SshMachineRecipe sshMachineRecipe,
                          @Assisted Map<String, String> envVars,
                          JSch jsch,
-                         @Named("che.workspace.ssh_connection_timeout_ms") int connectionTimeoutMs) {
+                         @Named("che.workspace.ssh_connection_timeout_ms") int connectionTimeoutMs,
+                         @Named("che.workspace.ssh_sftp_channels") int sftpChannels) {
         this.envVars = envVars;
         this.connectionTimeout = connectionTimeoutMs;
+        this.sftpChannels = sftpChannels;
         this.user = JschUserInfoImpl.builder()
                                     .password(sshMachineRecipe.getPassword())
                                     .promptPassword(true)
@@ -93,6 +115,21 @@ public class JschSshClient implements SshClient {
             if (!session.isConnected()) {
                 session.connect(connectionTimeout);
             }
+            sftpChannelPool = new SftpChannelPool(session, sftpChannels, connectionTimeout);
+            // many machines may be accessed with the same credentials, so the name is made unique by the client number
+            sftpChannelPoolMBean = JmxUtils.register(sftpChannelPool,
+                                                     "SftpChannelPool",
+                                                     username + '@' + host + ':' + port + '#' + CLIENTS_COUNTER.incrementAndGet());
+            // threads are stopped when idle, so connected client which doesn't copy folders doesn't keep them
+            uploadExecutor = new ThreadPoolExecutor(sftpChannels,
+                                                    sftpChannels,
+                                                    60,
+                                                    SECONDS,
+                                                    new LinkedBlockingQueue<>(),
+                                                    new ThreadFactoryBuilder().setNameFormat("SshMachineUploader-%d")
+                                                                              .setDaemon(true)
+                                                                              .build());
+            uploadExecutor.allowCoreThreadTimeOut(true);
         } catch (JSchException e) {
             throw new MachineException("Ssh machine creation failed because ssh of machine is inaccessible. Error: " +
                                        e.getLocalizedMessage());
@@ -110,6 +147,18 @@ public class JschSshClient implements SshClient {
 
     @Override
     public void stop() throws MachineException {
+        if (uploadExecutor != null) {
+            uploadExecutor.shutdownNow();
+        }
+        if (sftpChannelPool != null) {
+            JmxUtils.unregister(sftpChannelPoolMBean);
+            sftpChannelPool.close();
+            LOG.debug("Ssh connection to {} closed, sftp channels acquired: {}, reused: {}, average acquire time: {} ms",
+                      host,
+                      sftpChannelPool.getAcquired(),
+                      sftpChannelPool.getReused(),
+                      sftpChannelPool.getAverageAcquireTimeMs());
+        }
         session.disconnect();
     }
 
@@ -143,68 +192,115 @@ public class JschSshClient implements SshClient {
     }
 
     private void copyRecursively(String sourceFolder, String targetFolder) throws MachineException {
-        // create target dir
+        // create target dir, not normalized paths don't work so absolute path is resolved at the same time
+        final String targetAbsolutePath;
         try {
-            int execCode = execAndGetCode("mkdir -p " + targetFolder);
-
-            if (execCode != 0) {
-                throw new MachineException(format("Creation of folder %s failed. Exit code is %s", targetFolder, execCode));
-            }
-        } catch (JSchException | IOException e) {
+            targetAbsolutePath = execAndGetOutput(format("mkdir -p %1$s && cd %1$s && pwd", targetFolder));
+        } catch (JSchException | IOException | MachineException e) {
             throw new MachineException(format("Creation of folder %s failed. Error: %s", targetFolder, e.getLocalizedMessage()));
         }
 
-        // not normalized paths don't work
-        final String targetAbsolutePath = getAbsolutePath(targetFolder);
-
-        // copy files
+        // directories are created while walking the tree, files are uploaded concurrently over the pooled channels
+        final Path source = Paths.get(sourceFolder);
+        final List<Future<?>> uploads = new ArrayList<>();
         ChannelSftp sftp = null;
         try {
-            sftp = (ChannelSftp)session.openChannel("sftp");
-            sftp.connect(connectionTimeout);
+            sftp = sftpChannelPool.acquire();
 
             final ChannelSftp finalSftp = sftp;
-            Files.walkFileTree(Paths.get(sourceFolder), new SimpleFileVisitor<Path>() {
+            Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
                 @Override
-                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-                    try {
-                        if (!attrs.isDirectory()) {
-                            copyFile(file.toString(),
-                                     Paths.get(targetAbsolutePath, file.getFileName().toString()).toString(), finalSftp);
-                        } else {
-                            finalSftp.mkdir(file.normalize().toString());
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    if (!dir.equals(source)) {
+                        final String targetDir = getTargetPath(targetAbsolutePath, source, dir);
+                        try {
+                            mkdir(targetDir, finalSftp);
+                        } catch (SftpException e) {
+                            throw new IOException(format("Sftp creation of folder %s failed. Error: %s", targetDir, e.getLocalizedMessage()));
                         }
-                    } catch (MachineException | SftpException e) {
-                        throw new IOException(format("Sftp copying of file %s failed. Error: %s", file, e.getLocalizedMessage()));
                     }
                     return FileVisitResult.CONTINUE;
                 }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    final String targetFile = getTargetPath(targetAbsolutePath, source, file);
+                    uploads.add(uploadExecutor.submit(() -> {
+                        final ChannelSftp channel = sftpChannelPool.acquire();
+                        boolean copied = false;
+                        try {
+                            copyFile(file.toString(), targetFile, channel);
+                            copied = true;
+                        } finally {
+                            // upload may be interrupted by cancellation in the middle of the transfer
+                            sftpChannelPool.release(channel, !copied || Thread.currentThread().isInterrupted());
+                        }
+                        return null;
+                    }));
+                    return FileVisitResult.CONTINUE;
+                }
             });
+            sftpChannelPool.release(sftp, false);
+            sftp = null;
+
+            for (Future<?> upload : uploads) {
+                upload.get();
+            }
+        } catch (ExecutionException e) {
+            throw new MachineException("Copying failed. Error: " + e.getCause().getLocalizedMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MachineException("Copying was interrupted");
         } catch (JSchException | IOException e) {
             throw new MachineException("Copying failed. Error: " + e.getLocalizedMessage());
         } finally {
+            // folders creation failed, so the channel isn't reused
             if (sftp != null) {
-                sftp.disconnect();
+                sftpChannelPool.release(sftp, true);
+            }
+            // stop the rest of uploads if copying failed, does nothing for completed uploads
+            for (Future<?> upload : uploads) {
+                upload.cancel(true);
             }
         }
     }
 
     private void copyFile(String sourcePath, String targetPath) throws MachineException {
         ChannelSftp sftp = null;
+        boolean copied = false;
         try {
-            sftp = (ChannelSftp)session.openChannel("sftp");
-            sftp.connect(connectionTimeout);
+            sftp = sftpChannelPool.acquire();
             String absoluteTargetPath = getAbsolutePath(targetPath);
             copyFile(sourcePath, absoluteTargetPath, sftp);
+            copied = true;
         } catch (JSchException e) {
             throw new MachineException("Sftp copying failed. Error: " + e.getLocalizedMessage());
         } finally {
             if (sftp != null) {
-                sftp.disconnect();
+                sftpChannelPool.release(sftp, !copied || Thread.currentThread().isInterrupted());
             }
         }
     }
 
+    private String getTargetPath(String targetAbsolutePath, Path source, Path path) {
+        return targetAbsolutePath + '/' + source.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private void mkdir(String path, ChannelSftp channelSftp) throws SftpException {
+        try {
+            channelSftp.mkdir(path);
+        } catch (SftpException e) {
+            // folder may already exist, e.g. when the same sources are copied again
+            try {
+                if (channelSftp.stat(path).isDir()) {
+                    return;
+                }
+            } catch (SftpException ignored) {
+            }
+            throw e;
+        }
+    }
+
     private void copyFile(String sourcePath, String absoluteTargetPath, ChannelSftp channelSftp) throws MachineException {
         try {
             channelSftp.put(sourcePath, absoluteTargetPath);
@@ -237,25 +333,6 @@ public class JschSshClient implements SshClient {
         }
     }
 
-    private int execAndGetCode(String command) throws JSchException, IOException {
-        ChannelExec exec = (ChannelExec)session.openChannel("exec");
-        exec.setCommand(command);
-
-        try (InputStream inStream = exec.getInputStream();
-             InputStream erStream = exec.getErrStream()) {
-
-            exec.connect(connectionTimeout);
-
-            // read streams to wait until command finishes its work
-            IoUtil.readStream(inStream);
-            IoUtil.readStream(erStream);
-        } finally {
-            exec.disconnect();
-        }
-
-        return exec.getExitStatus();
-    }
-
     private String execAndGetOutput(String command) throws JSchException, MachineException, IOException {
         ChannelExec exec = (ChannelExec)session.openChannel("exec");
         exec.setCommand(command);
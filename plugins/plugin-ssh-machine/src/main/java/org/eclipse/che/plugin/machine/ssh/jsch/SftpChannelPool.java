@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.machine.ssh.jsch;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+
+import org.eclipse.che.api.machine.server.exception.MachineException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Bounded pool of the sftp channels of the ssh session.
+ * <p>
+ * Opening of the channel costs round trips to the ssh server, so connected channels are kept after use
+ * and handed out to the next copying. No more than {@code maxChannels} channels are opened at the same time,
+ * acquiring waits until one of them is released when the limit is reached.
+ * Usage statistics of the pool are available over JMX while ssh client is connected.
+ */
+class SftpChannelPool implements SftpChannelPoolMXBean {
+    private final Session            session;
+    private final int                maxChannels;
+    private final int                connectionTimeout;
+    private final Deque<ChannelSftp> idle;
+
+    private int     opened;
+    private boolean closed;
+    private long    acquired;
+    private long    reused;
+    private long    acquireTimeNanos;
+
+    SftpChannelPool(Session session, int maxChannels, int connectionTimeout) {
+        this.session = session;
+        this.maxChannels = maxChannels;
+        this.connectionTimeout = connectionTimeout;
+        this.idle = new ArrayDeque<>();
+    }
+
+    /**
+     * Returns connected channel which must be given back with {@link #release(ChannelSftp, boolean)} after use.
+     *
+     * @throws JSchException
+     *         if new channel can't be opened
+     * @throws MachineException
+     *         if pool is closed or waiting for the channel is interrupted
+     */
+    ChannelSftp acquire() throws JSchException, MachineException {
+        final long start = System.nanoTime();
+        synchronized (this) {
+            while (true) {
+                if (closed) {
+                    throw new MachineException("Ssh connection is closed");
+                }
+                ChannelSftp channel;
+                while ((channel = idle.pollFirst()) != null) {
+                    if (channel.isConnected()) {
+                        reused++;
+                        acquired(start);
+                        return channel;
+                    }
+                    opened--;
+                }
+                if (opened < maxChannels) {
+                    opened++;
+                    break;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MachineException("Waiting for sftp channel was interrupted");
+                }
+            }
+        }
+
+        final ChannelSftp channel;
+        try {
+            channel = (ChannelSftp)session.openChannel("sftp");
+            channel.connect(connectionTimeout);
+        } catch (JSchException | RuntimeException e) {
+            synchronized (this) {
+                opened--;
+                notify();
+            }
+            throw e;
+        }
+        synchronized (this) {
+            acquired(start);
+        }
+        return channel;
+    }
+
+    /**
+     * Gives back channel acquired from this pool, channel is disconnected if it is broken,
+     * disconnected or pool is closed.
+     *
+     * @param channel
+     *         channel acquired from this pool
+     * @param broken
+     *         whether the channel may be left in inconsistent state, e.g. its transfer failed
+     *         or was interrupted, so the channel must not be reused
+     */
+    void release(ChannelSftp channel, boolean broken) {
+        synchronized (this) {
+            if (!broken && !closed && channel.isConnected()) {
+                idle.addFirst(channel);
+                notify();
+                return;
+            }
+            opened--;
+            notify();
+        }
+        channel.disconnect();
+    }
+
+    /** Disconnects idle channels, channels which are in use are disconnected when they are released. */
+    void close() {
+        final ChannelSftp[] channels;
+        synchronized (this) {
+            closed = true;
+            channels = idle.toArray(new ChannelSftp[idle.size()]);
+            opened -= idle.size();
+            idle.clear();
+            notifyAll();
+        }
+        for (ChannelSftp channel : channels) {
+            channel.disconnect();
+        }
+    }
+
+    @Override
+    public synchronized long getAcquired() {
+        return acquired;
+    }
+
+    @Override
+    public synchronized long getReused() {
+        return reused;
+    }
+
+    @Override
+    public synchronized double getAverageAcquireTimeMs() {
+        return acquired == 0 ? 0 : (double)NANOSECONDS.toMicros(acquireTimeNanos) / 1000 / acquired;
+    }
+
+    @Override
+    public synchronized int getOpened() {
+        return opened;
+    }
+
+    private void acquired(long start) {
+        acquired++;
+        acquireTimeNanos += System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.machine.ssh.jsch;
+
+/**
+ * Usage statistics of the pool of sftp channels of the ssh machine connection.
+ *
+ * @see SftpChannelPool
+ */
+public interface SftpChannelPoolMXBean {
+
+    /** Returns number of times channel was acquired from the pool. */
+    long getAcquired();
+
+    /** Returns number of times already opened channel was acquired instead of opening the new one. */
+    long getReused();
+
+    /** Returns average time in milliseconds spent on acquiring of the channel, including opening of the new one. */
+    double getAverageAcquireTimeMs();
+
+    /** Returns number of currently opened channels, both idle and in use. */
+    int getOpened();
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.machine.ssh.jsch;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+
+import org.eclipse.che.api.machine.server.exception.MachineException;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for {@link SftpChannelPool}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class SftpChannelPoolTest {
+    private static final int TIMEOUT = 1000;
+
+    @Mock
+    private Session     session;
+    @Mock
+    private ChannelSftp channel1;
+    @Mock
+    private ChannelSftp channel2;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        when(session.openChannel("sftp")).thenReturn(channel1, channel2);
+        when(channel1.isConnected()).thenReturn(true);
+        when(channel2.isConnected()).thenReturn(true);
+    }
+
+    @Test
+    public void shouldReuseReleasedChannel() throws Exception {
+        final SftpChannelPool pool = new SftpChannelPool(session, 2, TIMEOUT);
+
+        pool.release(pool.acquire(), false);
+        final ChannelSftp channel = pool.acquire();
+
+        assertSame(channel, channel1);
+        verify(session).openChannel("sftp");
+        verify(channel1).connect(TIMEOUT);
+        verify(channel1, never()).disconnect();
+        assertEquals(pool.getAcquired(), 2);
+        assertEquals(pool.getReused(), 1);
+    }
+
+    @Test
+    public void shouldOpenNewChannelWhenAllChannelsAreInUse() throws Exception {
+        final SftpChannelPool pool = new SftpChannelPool(session, 2, TIMEOUT);
+
+        assertSame(pool.acquire(), channel1);
+        assertSame(pool.acquire(), channel2);
+
+        assertEquals(pool.getOpened(), 2);
+        assertEquals(pool.getReused(), 0);
+    }
+
+    @Test
+    public void shouldWaitForReleasedChannelWhenLimitIsReached() throws Exception {
+        final SftpChannelPool pool = new SftpChannelPool(session, 1, TIMEOUT);
+        final ChannelSftp channel = pool.acquire();
+
+        final CompletableFuture<ChannelSftp> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.acquire();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        try {
+            waiting.get(200, TimeUnit.MILLISECONDS);
+            fail("Channel must not be acquired until it is released");
+        } catch (TimeoutException ignored) {
+        }
+        pool.release(channel, false);
+
+        assertSame(waiting.get(5, TimeUnit.SECONDS), channel1);
+        verify(session).openChannel("sftp");
+    }
+
+    @Test
+    public void shouldOpenNewChannelInsteadOfDisconnectedOne() throws Exception {
+        final SftpChannelPool pool = new SftpChannelPool(session, 1, TIMEOUT);
+        final ChannelSftp channel = pool.acquire();
+        when(channel1.isConnected()).thenReturn(false);
+
+        pool.release(channel, false);
+
+        assertSame(pool.acquire(), channel2);
+        verify(channel1).disconnect();
+        assertEquals(pool.getOpened(), 1);
+    }
+
+    @Test
+    public void shouldDisconnectBrokenChannelInsteadOfReusingIt() throws Exception {
+        final SftpChannelPool pool = new SftpChannelPool(session, 1, TIMEOUT);
+
+        pool.release(pool.acquire(), true);
+
+        verify(channel1).disconnect();
+        assertEquals(pool.getOpened(), 0);
+        assertSame(pool.acquire(), channel2);
+        assertEquals(pool.getReused(), 0);
+    }
+
+    @Test
+    public void shouldDisconnectChannelsOnClose() throws Exception {
+        final SftpChannelPool pool = new SftpChannelPool(session, 2, TIMEOUT);
+        final ChannelSftp idle = pool.acquire();
+        final ChannelSftp used = pool.acquire();
+        pool.release(idle, false);
+
+        pool.close();
+
+        verify(channel1).disconnect();
+        verify(channel2, never()).disconnect();
+        pool.release(used, false);
+        verify(channel2).disconnect();
+        assertEquals(pool.getOpened(), 0);
+    }
+
+    @Test(expectedExceptions = MachineException.class)
+    public void shouldNotAcquireChannelWhenPoolIsClosed() throws Exception {
+        final SftpChannelPool pool = new SftpChannelPool(session, 2, TIMEOUT);
+        pool.close();
+
+        pool.acquire();
+    }
+
+    @Test
+    public void shouldNotCountChannelWhichFailedToOpen() throws Exception {
+        when(session.openChannel("sftp")).thenThrow(new JSchException("failed")).thenReturn(channel2);
+        final SftpChannelPool pool = new SftpChannelPool(session, 1, TIMEOUT);
+
+        try {
+            pool.acquire();
+            fail("Exception expected");
+        } catch (JSchException ignored) {
+        }
+
+        assertSame(pool.acquire(), channel2);
+        verify(session, times(2)).openChannel("sftp");
+        assertEquals(pool.getOpened(), 1);
+    }
+}
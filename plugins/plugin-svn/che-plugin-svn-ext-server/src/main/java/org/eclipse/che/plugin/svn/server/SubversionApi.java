@@ -11,6 +11,7 @@
 package org.eclipse.che.plugin.svn.server;
 
 import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.io.Files;
 import com.google.common.net.MediaType;
@@ -75,11 +76,13 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -97,15 +100,29 @@ public class SubversionApi {
 
     private static Logger LOG = LoggerFactory.getLogger(SubversionApi.class);
 
+    /** Commands which may change the statuses of the working copy items. */
+    private static final Set<String> MODIFYING_COMMANDS = ImmutableSet.of("add", "revert", "copy", "switch", "checkout",
+                                                                          "commit", "remove", "update", "lock", "unlock",
+                                                                          "resolve", "move", "propset", "propdel",
+                                                                          "merge", "cleanup");
+
     private final RepositoryUrlProvider repositoryUrlProvider;
     private final SshScriptProvider     sshScriptProvider;
+    private final SubversionStatusCache statusCache;
     protected     LineConsumerFactory   svnOutputPublisherFactory;
 
-    @Inject
     public SubversionApi(RepositoryUrlProvider repositoryUrlProvider,
                          SshScriptProvider sshScriptProvider) {
+        this(repositoryUrlProvider, sshScriptProvider, new SubversionStatusCache());
+    }
+
+    @Inject
+    public SubversionApi(RepositoryUrlProvider repositoryUrlProvider,
+                         SshScriptProvider sshScriptProvider,
+                         SubversionStatusCache statusCache) {
         this.repositoryUrlProvider = repositoryUrlProvider;
         this.sshScriptProvider = sshScriptProvider;
+        this.statusCache = statusCache;
     }
 
     /**
@@ -403,6 +420,17 @@ public class SubversionApi {
     public CLIOutputResponse status(final StatusRequest request) throws IOException, SubversionException, UnauthorizedException {
         final File projectPath = new File(request.getProjectPath());
 
+        if (isStatusCacheable(request)) {
+            final List<String> paths = request.getPaths() != null ? request.getPaths() : new ArrayList<>();
+            final List<String> output = statusCache.getStatus(projectPath, paths, request.isShowUnversioned(), this::readXmlStatus);
+            if (output != null) {
+                return DtoFactory.getInstance().createDto(CLIOutputResponse.class)
+                                 .withCommand("svn status " + String.join(" ", addWorkingCopyPathIfNecessary(new ArrayList<>(paths))))
+                                 .withOutput(output)
+                                 .withErrOutput(new ArrayList<>());
+            }
+        }
+
         final List<String> cliArgs = defaultArgs();
 
         // Flags
@@ -428,6 +456,30 @@ public class SubversionApi {
                          .withErrOutput(result.getStderr());
     }
 
+    /**
+     * Returns true if the status request can be answered by {@link SubversionStatusCache}, which keeps
+     * the local statuses of all the changed items, the same as "svn status" without any options shows.
+     */
+    private boolean isStatusCacheable(final StatusRequest request) {
+        return !request.isShowIgnored()
+               && !request.isShowUpdates()
+               && !request.isVerbose()
+               && (request.getChangeLists() == null || request.getChangeLists().isEmpty())
+               && (request.getDepth() == null || "infinity".equals(request.getDepth()));
+    }
+
+    private List<String> readXmlStatus(final File workingCopy,
+                                       final List<String> paths,
+                                       final boolean recursive) throws SubversionException, UnauthorizedException {
+        final List<String> cliArgs = defaultArgs();
+
+        addFlag(cliArgs, "--xml", true);
+        addOption(cliArgs, "--depth", recursive ? null : "empty");
+        cliArgs.add("status");
+
+        return runCommand(null, cliArgs, workingCopy, paths).getStdout();
+    }
+
     /**
      * Perform an "svn checkout" based on the request.
      *
@@ -1073,6 +1125,10 @@ public class SubversionApi {
             if (sshEnvironment != null) {
                 sshEnvironment.cleanUp();
             }
+            // paths may coincide with command names, it only causes redundant invalidation
+            if (!Collections.disjoint(args, MODIFYING_COMMANDS)) {
+                statusCache.invalidate(projectPath);
+            }
         }
 
         if (result.getExitCode() != 0) {
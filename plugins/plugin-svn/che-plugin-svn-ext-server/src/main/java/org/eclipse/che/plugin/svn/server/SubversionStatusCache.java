@@ -0,0 +1,407 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server;
+
+import com.google.inject.Singleton;
+
+import org.eclipse.che.api.core.UnauthorizedException;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationListener;
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.lang.JmxUtils;
+import org.eclipse.che.plugin.svn.server.utils.StatusUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.management.ObjectName;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.UPDATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.plugin.svn.server.utils.StatusUtils.isUnversioned;
+import static org.eclipse.che.plugin.svn.server.utils.StatusUtils.normalizePath;
+import static org.eclipse.che.plugin.svn.server.utils.StatusUtils.parseXmlStatus;
+
+/**
+ * Keeps the statuses of the working copies items, so "svn status" requests are answered without starting svn process.
+ *
+ * <p>Statuses of the working copy are loaded with single "svn status --xml" when they are requested first time.
+ * Items reported as changed by the file watcher or by the project API are marked as dirty and only their
+ * statuses are reloaded on the next request. Svn commands which may change the working copy, e.g. commit
+ * or update, have to {@link #invalidate(File) invalidate} the whole working copy. Changes of the svn metadata
+ * are ignored except for the working copy database, its change invalidates the whole working copy,
+ * so the changes made by svn processes started outside of the workspace agent are noticed too.
+ *
+ * <p>Working copies with externals aren't cached.
+ */
+@Singleton
+public class SubversionStatusCache implements SubversionStatusCacheMXBean {
+
+    private static final Logger LOG     = LoggerFactory.getLogger(SubversionStatusCache.class);
+    private static final String SVN_DIR = ".svn";
+    private static final String WC_DB   = SVN_DIR + "/wc.db";
+
+    private final ConcurrentMap<String, WorkingCopy> workingCopies = new ConcurrentHashMap<>();
+    private final AtomicLong                         forks         = new AtomicLong();
+    private final AtomicLong                         hits          = new AtomicLong();
+
+    private ObjectName mbeanName;
+
+    /**
+     * Reads statuses of the working copy items, the result is the output of "svn status --xml".
+     */
+    public interface StatusReader {
+        /**
+         * @param workingCopy
+         *         root of the working copy
+         * @param paths
+         *         paths relative to the working copy root
+         * @param recursive
+         *         if false the statuses of the given paths are read without their children
+         */
+        List<String> read(File workingCopy, List<String> paths, boolean recursive) throws SubversionException, UnauthorizedException;
+    }
+
+    /**
+     * Creates cache which isn't notified about changes of the files, so only {@link #onChanged(File, boolean)}
+     * and {@link #invalidate(File)} keep it up to date.
+     */
+    public SubversionStatusCache() {
+    }
+
+    @Inject
+    public SubversionStatusCache(FileWatcherNotificationHandler fileWatcherNotificationHandler,
+                                 EventService eventService,
+                                 @Named("che.user.workspaces.storage") String workspacePath) {
+        fileWatcherNotificationHandler.addNotificationListener(
+                new FileWatcherNotificationListener(file -> !isSvnMetadata(file.getPath().toString())
+                                                    || isWorkingCopyDb(file.getPath().toString())) {
+                    @Override
+                    public void onFileWatcherEvent(VirtualFile virtualFile, FileWatcherEventType eventType) {
+                        onChanged(virtualFile.toIoFile(), virtualFile.isFolder() && eventType == DELETED);
+                    }
+                });
+
+        eventService.subscribe(new EventSubscriber<ProjectItemModifiedEvent>() {
+            @Override
+            public void onEvent(ProjectItemModifiedEvent event) {
+                final boolean recursive = event.isFolder() && event.getType() != UPDATED;
+                onChanged(new File(workspacePath, event.getPath()), recursive);
+                if (event.getOldPath() != null) {
+                    onChanged(new File(workspacePath, event.getOldPath()), recursive);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the lines of "svn status" output for the given paths. Statuses are loaded with the given reader
+     * if the working copy isn't cached yet or some of its items were changed.
+     *
+     * @param workingCopy
+     *         root of the working copy
+     * @param paths
+     *         paths relative to the working copy root, whole working copy if empty
+     * @param showUnversioned
+     *         whether unversioned items should be shown
+     * @param reader
+     *         reads statuses of the working copy items
+     * @return status lines or null if the working copy can't be cached
+     */
+    @Nullable
+    public List<String> getStatus(File workingCopy,
+                                  List<String> paths,
+                                  boolean showUnversioned,
+                                  StatusReader reader) throws SubversionException, UnauthorizedException {
+        final String root = toKey(workingCopy);
+        final WorkingCopy wc = workingCopies.computeIfAbsent(root, WorkingCopy::new);
+
+        synchronized (wc) {
+            if (!wc.loaded) {
+                wc.load(reader);
+            } else if (!wc.externals && wc.isDirty()) {
+                wc.refresh(reader);
+            } else {
+                hits.incrementAndGet();
+            }
+
+            if (wc.externals) {
+                return null;
+            }
+            return wc.select(paths, showUnversioned);
+        }
+    }
+
+    /**
+     * Marks the item as changed, its status is reloaded on the next request.
+     *
+     * @param file
+     *         changed file or folder
+     * @param recursive
+     *         whether statuses of the folder children should be reloaded too, e.g. when folder is deleted
+     */
+    public void onChanged(File file, boolean recursive) {
+        final String path = toKey(file);
+        for (WorkingCopy wc : workingCopies.values()) {
+            final String relative;
+            if (path.equals(wc.root)) {
+                relative = ".";
+            } else if (path.startsWith(wc.root + File.separator)) {
+                relative = normalizePath(path.substring(wc.root.length() + 1));
+            } else {
+                continue;
+            }
+
+            if (WC_DB.equals(relative)) {
+                // working copy is changed by svn process, e.g. started from the terminal
+                if (workingCopies.remove(wc.root, wc)) {
+                    LOG.debug("Statuses of {} are invalidated by the change of the working copy database", wc.root);
+                }
+            } else if (!isSvnMetadata(relative)) {
+                wc.markDirty(relative, recursive);
+            }
+        }
+    }
+
+    /**
+     * Drops the cached statuses of the working copy.
+     */
+    public void invalidate(File workingCopy) {
+        final WorkingCopy wc = workingCopies.remove(toKey(workingCopy));
+        if (wc != null) {
+            LOG.debug("Statuses of {} are invalidated", wc.root);
+        }
+    }
+
+    @Override
+    public long getForksCount() {
+        return forks.get();
+    }
+
+    @Override
+    public long getHitsCount() {
+        return hits.get();
+    }
+
+    @Override
+    public int getWorkingCopiesCount() {
+        return workingCopies.size();
+    }
+
+    @PostConstruct
+    void registerMBean() {
+        mbeanName = JmxUtils.register(this, "SubversionStatusCache");
+    }
+
+    @PreDestroy
+    void unregisterMBean() {
+        JmxUtils.unregister(mbeanName);
+    }
+
+    private static String toKey(File file) {
+        return file.getAbsoluteFile().toPath().normalize().toString();
+    }
+
+    private static boolean isWorkingCopyDb(String path) {
+        final String normalized = path.replace('\\', '/');
+        return normalized.equals(WC_DB) || normalized.endsWith('/' + WC_DB);
+    }
+
+    private static boolean isSvnMetadata(String path) {
+        final String normalized = path.replace('\\', '/');
+        return normalized.equals(SVN_DIR)
+               || normalized.startsWith(SVN_DIR + '/')
+               || normalized.endsWith('/' + SVN_DIR)
+               || normalized.contains('/' + SVN_DIR + '/');
+    }
+
+    private class WorkingCopy {
+        private final String root;
+
+        /** Status flags mapped by normalized path relative to the working copy root. */
+        private final TreeMap<String, String> entries;
+        private final Set<String>             dirty;
+        private final Set<String>             dirtyTrees;
+
+        private volatile boolean loaded;
+        private volatile boolean externals;
+
+        private WorkingCopy(String root) {
+            this.root = root;
+            this.entries = new TreeMap<>();
+            this.dirty = ConcurrentHashMap.newKeySet();
+            this.dirtyTrees = ConcurrentHashMap.newKeySet();
+        }
+
+        /** Isn't synchronized, so file events aren't blocked while statuses are being read. */
+        private void markDirty(String path, boolean recursive) {
+            if (loaded && !externals) {
+                (recursive ? dirtyTrees : dirty).add(path);
+            }
+        }
+
+        private boolean isDirty() {
+            return !dirty.isEmpty() || !dirtyTrees.isEmpty();
+        }
+
+        private void load(StatusReader reader) throws SubversionException, UnauthorizedException {
+            dirty.clear();
+            dirtyTrees.clear();
+            entries.clear();
+
+            // changes which happen while statuses are being read are refreshed on the next request
+            loaded = true;
+            final Map<String, String> statuses;
+            try {
+                statuses = read(reader, Collections.singletonList("."), true);
+            } catch (SubversionException | UnauthorizedException e) {
+                loaded = false;
+                throw e;
+            }
+            entries.putAll(statuses);
+            externals = statuses.values().stream().anyMatch(StatusUtils::isExternal);
+
+            LOG.debug("Statuses of {} are loaded, {} changed items", root, entries.size());
+        }
+
+        private void refresh(StatusReader reader) throws SubversionException, UnauthorizedException {
+            final TreeSet<String> trees = new TreeSet<>(dirtyTrees);
+            final TreeSet<String> items = new TreeSet<>(dirty);
+            dirtyTrees.removeAll(trees);
+            dirty.removeAll(items);
+
+            // trees cover their subtrees, items under unversioned folders aren't reported by "svn status"
+            trees.removeIf(path -> hasAncestor(path, trees) || hasUnversionedAncestor(path));
+            items.removeIf(path -> trees.contains(path) || hasAncestor(path, trees) || hasUnversionedAncestor(path));
+
+            for (String tree : trees) {
+                removeSubtree(tree);
+            }
+            for (String item : items) {
+                entries.remove(item);
+            }
+
+            try {
+                if (!trees.isEmpty()) {
+                    entries.putAll(read(reader, new ArrayList<>(trees), true));
+                }
+                if (!items.isEmpty()) {
+                    entries.putAll(read(reader, new ArrayList<>(items), false));
+                }
+            } catch (SubversionException | UnauthorizedException e) {
+                workingCopies.remove(root, this);
+                loaded = false;
+                throw e;
+            }
+        }
+
+        private Map<String, String> read(StatusReader reader,
+                                         List<String> paths,
+                                         boolean recursive) throws SubversionException, UnauthorizedException {
+            forks.incrementAndGet();
+            return parseXmlStatus(reader.read(new File(root), paths, recursive));
+        }
+
+        private List<String> select(List<String> paths, boolean showUnversioned) {
+            final Map<String, String> selected = new TreeMap<>();
+            if (paths == null || paths.isEmpty()) {
+                selected.putAll(entries);
+            } else {
+                for (String path : paths) {
+                    final String normalized = normalizePath(path);
+                    if (".".equals(normalized)) {
+                        selected.putAll(entries);
+                        continue;
+                    }
+
+                    final String flags = entries.get(normalized);
+                    if (flags != null) {
+                        selected.put(normalized, flags);
+                    }
+                    selected.putAll(subtree(normalized));
+
+                    if (flags == null && hasUnversionedAncestor(normalized)) {
+                        selected.put(normalized, "?      ");
+                    }
+                }
+            }
+
+            final List<String> lines = new ArrayList<>(selected.size());
+            for (Map.Entry<String, String> entry : selected.entrySet()) {
+                if (showUnversioned || !isUnversioned(entry.getValue())) {
+                    lines.add(entry.getValue() + ' ' + entry.getKey());
+                }
+            }
+            return lines;
+        }
+
+        private void removeSubtree(String path) {
+            if (".".equals(path)) {
+                entries.clear();
+                return;
+            }
+
+            entries.remove(path);
+            subtree(path).clear();
+        }
+
+        /** Returns the view of the entries which are descendants of the given path. */
+        private SortedMap<String, String> subtree(String path) {
+            // '0' follows '/', so the range contains all the paths starting with "path/"
+            return entries.subMap(path + '/', path + '0');
+        }
+
+        private boolean hasUnversionedAncestor(String path) {
+            for (int i = path.lastIndexOf('/'); i > 0; i = path.lastIndexOf('/', i - 1)) {
+                final String flags = entries.get(path.substring(0, i));
+                if (flags != null && isUnversioned(flags)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean hasAncestor(String path, Set<String> ancestors) {
+            if (".".equals(path)) {
+                return false;
+            }
+            if (ancestors.contains(".")) {
+                return true;
+            }
+            for (int i = path.lastIndexOf('/'); i > 0; i = path.lastIndexOf('/', i - 1)) {
+                if (ancestors.contains(path.substring(0, i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
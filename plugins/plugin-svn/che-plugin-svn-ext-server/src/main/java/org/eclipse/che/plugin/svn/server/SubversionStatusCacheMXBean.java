@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server;
+
+/**
+ * Statistics of the svn statuses cache, registered
+ * as {@code org.eclipse.che:type=SubversionStatusCache}.
+ *
+ * @see SubversionStatusCache
+ */
+public interface SubversionStatusCacheMXBean {
+
+    /** Returns the number of svn processes started to load statuses. */
+    long getForksCount();
+
+    /** Returns the number of requests answered without starting svn process. */
+    long getHitsCount();
+
+    /** Returns the number of working copies whose statuses are cached. */
+    int getWorkingCopiesCount();
+}
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server.utils;
+
+import org.eclipse.che.plugin.svn.server.SubversionException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utilities for the output of "svn status --xml".
+ */
+public final class StatusUtils {
+
+    private static final String ITEM_EXTERNAL    = "external";
+    private static final String ITEM_UNVERSIONED = "unversioned";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    static {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private StatusUtils() {
+    }
+
+    /**
+     * Parses the output of "svn status --xml".
+     *
+     * @param xmlOutput
+     *         lines of the command output
+     * @return the status flags of the entries in the same format as "svn status" prints them (first seven columns)
+     * mapped by entry path, entry path is normalized with {@link #normalizePath(String)}
+     * @throws SubversionException
+     *         if output isn't valid
+     */
+    public static Map<String, String> parseXmlStatus(final List<String> xmlOutput) throws SubversionException {
+        final Map<String, String> statuses = new LinkedHashMap<>();
+
+        try {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(String.join("\n", xmlOutput)));
+            try {
+                String path = null;
+                char[] flags = null;
+
+                while (reader.hasNext()) {
+                    final int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        switch (reader.getLocalName()) {
+                            case "entry":
+                                path = normalizePath(reader.getAttributeValue(null, "path"));
+                                flags = null;
+                                break;
+                            case "wc-status":
+                                flags = toFlags(reader);
+                                break;
+                            case "lock":
+                                if (flags != null) {
+                                    flags[5] = 'K';
+                                }
+                                break;
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT && "entry".equals(reader.getLocalName())) {
+                        // entries which have nothing to show, e.g. normal ones, are skipped
+                        if (path != null && flags != null && !new String(flags).trim().isEmpty()) {
+                            statuses.put(path, new String(flags));
+                        }
+                        path = null;
+                        flags = null;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new SubversionException(e);
+        }
+
+        return statuses;
+    }
+
+    /**
+     * Returns true if the status flags describe the entry which is not under version control.
+     */
+    public static boolean isUnversioned(final String flags) {
+        return flags.charAt(0) == '?';
+    }
+
+    /**
+     * Returns true if the status flags describe the external definition.
+     */
+    public static boolean isExternal(final String flags) {
+        return flags.charAt(0) == 'X';
+    }
+
+    /**
+     * Normalizes path relative to the working copy root: separators are replaced with '/',
+     * leading "./" and trailing '/' are removed, the root itself is represented with ".".
+     */
+    public static String normalizePath(final String path) {
+        String normalized = path.replace('\\', '/');
+        while (normalized.startsWith("./")) {
+            normalized = normalized.substring(2);
+        }
+        while (normalized.length() > 1 && normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized.isEmpty() ? "." : normalized;
+    }
+
+    private static char[] toFlags(final XMLStreamReader reader) {
+        final char[] flags = "       ".toCharArray();
+
+        flags[0] = toItemFlag(reader.getAttributeValue(null, "item"));
+        flags[1] = toPropsFlag(reader.getAttributeValue(null, "props"));
+        if ("true".equals(reader.getAttributeValue(null, "wc-locked"))) {
+            flags[2] = 'L';
+        }
+        if ("true".equals(reader.getAttributeValue(null, "copied"))) {
+            flags[3] = '+';
+        }
+        if ("true".equals(reader.getAttributeValue(null, "switched"))) {
+            flags[4] = 'S';
+        }
+        if ("true".equals(reader.getAttributeValue(null, "tree-conflicted"))) {
+            flags[6] = 'C';
+        }
+
+        return flags;
+    }
+
+    private static char toItemFlag(final String item) {
+        if (item == null) {
+            return ' ';
+        }
+        switch (item) {
+            case "added":
+                return 'A';
+            case "conflicted":
+                return 'C';
+            case "deleted":
+                return 'D';
+            case ITEM_EXTERNAL:
+                return 'X';
+            case "ignored":
+                return 'I';
+            case "incomplete":
+            case "missing":
+                return '!';
+            case "modified":
+                return 'M';
+            case "obstructed":
+                return '~';
+            case "replaced":
+                return 'R';
+            case ITEM_UNVERSIONED:
+                return '?';
+            default:
+                return ' ';
+        }
+    }
+
+    private static char toPropsFlag(final String props) {
+        if (props == null) {
+            return ' ';
+        }
+        switch (props) {
+            case "conflicted":
+                return 'C';
+            case "modified":
+                return 'M';
+            default:
+                return ' ';
+        }
+    }
+}
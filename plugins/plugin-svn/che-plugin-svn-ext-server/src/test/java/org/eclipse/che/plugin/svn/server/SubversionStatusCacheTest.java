@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Unit tests for {@link SubversionStatusCache}.
+ */
+public class SubversionStatusCacheTest {
+
+    private static final File WORKING_COPY = new File("/projects/greek");
+
+    private SubversionStatusCache cache;
+    private FakeStatusReader      reader;
+
+    @Before
+    public void setUp() {
+        cache = new SubversionStatusCache();
+        reader = new FakeStatusReader();
+        reader.status("A", "modified", "none");
+        reader.status("A/B/lambda", "added", "none");
+        reader.status("iota", "normal", "modified");
+        reader.status("new", "unversioned", "none");
+    }
+
+    @Test
+    public void shouldLoadWorkingCopyOnceAndAnswerFromCache() throws Exception {
+        List<String> expected = asList("M       A",
+                                       "A       A/B/lambda",
+                                       " M      iota",
+                                       "?       new");
+
+        assertEquals(expected, cache.getStatus(WORKING_COPY, Collections.emptyList(), true, reader));
+        assertEquals(expected, cache.getStatus(WORKING_COPY, Collections.emptyList(), true, reader));
+
+        assertEquals(1, cache.getForksCount());
+        assertEquals(1, cache.getHitsCount());
+        assertEquals(1, reader.requests.size());
+    }
+
+    @Test
+    public void shouldSelectRequestedPaths() throws Exception {
+        assertEquals(asList("M       A", "A       A/B/lambda"),
+                     cache.getStatus(WORKING_COPY, asList("A"), true, reader));
+        assertEquals(asList("A       A/B/lambda"),
+                     cache.getStatus(WORKING_COPY, asList("A/B/"), true, reader));
+        assertEquals(asList("?       new/file"),
+                     cache.getStatus(WORKING_COPY, asList("new/file"), true, reader));
+        assertEquals(asList("M       A", "A       A/B/lambda", " M      iota"),
+                     cache.getStatus(WORKING_COPY, asList("."), false, reader));
+        assertEquals(1, cache.getForksCount());
+    }
+
+    @Test
+    public void shouldReloadOnlyChangedItems() throws Exception {
+        cache.getStatus(WORKING_COPY, Collections.emptyList(), true, reader);
+
+        reader.status("iota", "normal", "none");
+        reader.status("mu", "missing", "none");
+        cache.onChanged(new File(WORKING_COPY, "iota"), false);
+        cache.onChanged(new File(WORKING_COPY, "mu"), false);
+        cache.onChanged(new File(WORKING_COPY, "new/file"), false);
+        cache.onChanged(new File(WORKING_COPY, ".svn/tmp/file"), false);
+
+        assertEquals(asList("M       A", "A       A/B/lambda", "!       mu", "?       new"),
+                     cache.getStatus(WORKING_COPY, Collections.emptyList(), true, reader));
+
+        assertEquals(2, cache.getForksCount());
+        assertEquals("iota mu (depth=empty)", reader.requests.get(1));
+    }
+
+    @Test
+    public void shouldReloadSubtreeOfDeletedFolder() throws Exception {
+        cache.getStatus(WORKING_COPY, Collections.emptyList(), true, reader);
+
+        reader.status("A", "missing", "none");
+        reader.status("A/B/lambda", "missing", "none");
+        cache.onChanged(new File(WORKING_COPY, "A/B/lambda"), false);
+        cache.onChanged(new File(WORKING_COPY, "A"), true);
+
+        assertEquals(asList("!       A", "!       A/B/lambda"),
+                     cache.getStatus(WORKING_COPY, asList("A"), true, reader));
+        assertEquals("A (depth=infinity)", reader.requests.get(1));
+    }
+
+    @Test
+    public void shouldReloadWorkingCopyAfterInvalidation() throws Exception {
+        cache.getStatus(WORKING_COPY, Collections.emptyList(), true, reader);
+
+        cache.invalidate(WORKING_COPY);
+        assertEquals(0, cache.getWorkingCopiesCount());
+
+        cache.getStatus(WORKING_COPY, Collections.emptyList(), true, reader);
+        assertEquals(asList(". (depth=infinity)", ". (depth=infinity)"), reader.requests);
+    }
+
+    @Test
+    public void shouldReloadWorkingCopyWhenWorkingCopyDbChanged() throws Exception {
+        cache.getStatus(WORKING_COPY, Collections.emptyList(), true, reader);
+
+        reader.status("iota", "normal", "none");
+        cache.onChanged(new File(WORKING_COPY, ".svn/wc.db"), false);
+
+        assertEquals(asList("M       A", "A       A/B/lambda", "?       new"),
+                     cache.getStatus(WORKING_COPY, Collections.emptyList(), true, reader));
+        assertEquals(asList(". (depth=infinity)", ". (depth=infinity)"), reader.requests);
+    }
+
+    @Test
+    public void shouldNotCacheWorkingCopyWithExternals() throws Exception {
+        reader.status("ext", "external", "none");
+
+        assertNull(cache.getStatus(WORKING_COPY, Collections.emptyList(), true, reader));
+    }
+
+    /**
+     * Builds "svn status --xml" output from the statuses of the working copy, returns statuses of the requested paths only.
+     */
+    private static class FakeStatusReader implements SubversionStatusCache.StatusReader {
+        private final Map<String, String[]> statuses = new LinkedHashMap<>();
+        private final List<String>          requests = new ArrayList<>();
+
+        void status(String path, String item, String props) {
+            statuses.put(path, new String[] {item, props});
+        }
+
+        @Override
+        public List<String> read(File workingCopy, List<String> paths, boolean recursive) {
+            requests.add(String.join(" ", paths) + (recursive ? " (depth=infinity)" : " (depth=empty)"));
+
+            List<String> xml = new ArrayList<>();
+            xml.add("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+            xml.add("<status>");
+            xml.add("<target path=\".\">");
+            for (Map.Entry<String, String[]> entry : statuses.entrySet()) {
+                if (!isRequested(entry.getKey(), paths, recursive)) {
+                    continue;
+                }
+                xml.add("<entry path=\"" + entry.getKey() + "\">");
+                xml.add("<wc-status item=\"" + entry.getValue()[0] + "\" props=\"" + entry.getValue()[1] + "\">");
+                xml.add("</wc-status>");
+                xml.add("</entry>");
+            }
+            xml.add("</target>");
+            xml.add("</status>");
+            return xml;
+        }
+
+        private boolean isRequested(String path, List<String> paths, boolean recursive) {
+            for (String requested : paths) {
+                if (requested.equals(path) || recursive && (".".equals(requested) || path.startsWith(requested + '/'))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -67,6 +67,7 @@ import org.slf4j.LoggerFactory;
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -275,12 +276,14 @@ public class GitService {
     @Produces({MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN})
     public LogPage log(@QueryParam("fileFilter") List<String> fileFilter,
                        @QueryParam("since") String revisionRangeSince,
-                       @QueryParam("until") String revisionRangeUntil) throws ApiException {
+                       @QueryParam("until") String revisionRangeUntil,
+                       @DefaultValue("true") @QueryParam("diffCommitFile") boolean diffCommitFile) throws ApiException {
         try (GitConnection gitConnection = getGitConnection()) {
             return gitConnection.log(LogParams.create()
                                               .withFileFilter(fileFilter)
                                               .withRevisionRangeSince(revisionRangeSince)
-                                              .withRevisionRangeUntil(revisionRangeUntil));
+                                              .withRevisionRangeUntil(revisionRangeUntil)
+                                              .withDiffCommitFile(diffCommitFile));
         }
     }
 
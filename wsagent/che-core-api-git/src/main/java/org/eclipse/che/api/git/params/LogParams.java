@@ -26,10 +26,12 @@ public class LogParams {
     private String       filePath;
     private int          skip;
     private int          maxCount;
+    private boolean      diffCommitFile;
 
     private LogParams() {
         skip = -1;
         maxCount = -1;
+        diffCommitFile = true;
     }
 
     /**
@@ -146,6 +148,29 @@ public class LogParams {
         return this;
     }
 
+    /** Returns {@code true} if the files changed by each commit should be included in the log, it is {@code true} by default. */
+    public boolean isDiffCommitFile() {
+        return diffCommitFile;
+    }
+
+    /** Set whether the files changed by each commit should be included in the log. */
+    public void setDiffCommitFile(boolean diffCommitFile) {
+        this.diffCommitFile = diffCommitFile;
+    }
+
+    /**
+     * Create a {@link LogParams} object based on whether the files changed by each commit should be included in the log.
+     * Lists of the changed files are calculated by comparing each commit with its parent, so they should be excluded when
+     * they aren't needed, e.g. when they are requested separately for the commit selected by the user.
+     *
+     * @param diffCommitFile
+     *         {@code true} if the files changed by each commit should be included in the log
+     */
+    public LogParams withDiffCommitFile(boolean diffCommitFile) {
+        this.diffCommitFile = diffCommitFile;
+        return this;
+    }
+
     /** Returns the Filter revisions list by range of files. */
     public List<String> getFileFilter() {
         return fileFilter == null ? new ArrayList<>() : fileFilter;
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.shared.dto.event;
+
+import org.eclipse.che.dto.shared.DTO;
+
+import java.util.List;
+
+/**
+ * Ordered changes of the project tree items detected by server during a single time segment.
+ * Sequence number is incremented for every transmitted instance, so receiver is able to detect lost ones.
+ */
+@DTO
+public interface ProjectTreeDeltaDto {
+    long getSequence();
+
+    ProjectTreeDeltaDto withSequence(long sequence);
+
+    List<ProjectTreeItemDeltaDto> getDeltas();
+
+    ProjectTreeDeltaDto withDeltas(List<ProjectTreeItemDeltaDto> deltas);
+}
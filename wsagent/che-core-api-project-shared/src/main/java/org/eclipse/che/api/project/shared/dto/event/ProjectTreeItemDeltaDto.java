@@ -12,13 +12,17 @@ package org.eclipse.che.api.project.shared.dto.event;
 
 import org.eclipse.che.dto.shared.DTO;
 
+/**
+ * Change of a single project tree item.
+ */
 @DTO
-public interface ProjectTreeStatusUpdateDto {
+public interface ProjectTreeItemDeltaDto {
+    /** Path of the item relative to the workspace root, e.g. /project/src/file. */
     String getPath();
 
-    ProjectTreeStatusUpdateDto withPath(String path);
+    ProjectTreeItemDeltaDto withPath(String path);
 
     FileWatcherEventType getType();
 
-    ProjectTreeStatusUpdateDto withType(FileWatcherEventType type);
+    ProjectTreeItemDeltaDto withType(FileWatcherEventType type);
 }
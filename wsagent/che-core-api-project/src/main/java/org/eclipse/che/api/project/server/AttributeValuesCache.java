@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.project.server.type.ValueProvider;
+import org.eclipse.che.api.project.server.type.ValueProviderFactory;
+import org.eclipse.che.api.project.server.type.ValueStorageException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps values of the provided project attributes between initializations of the project.
+ * <p>
+ * Values are reused while the files which the {@link ValueProviderFactory} declares as dependencies of its providers,
+ * see {@link ValueProviderFactory#getDependencies()}, are not modified. Values of the providers without declared
+ * dependencies are never cached.
+ * <p>
+ * Dependencies are checked by their modification date and length. As the modification date precision
+ * may be as coarse as one second, values are cached only if none of the dependencies was modified
+ * within {@link #MODIFICATION_DATE_PRECISION_MS} before the values were provided, otherwise
+ * a change made right after the values were provided could leave the same stamps.
+ */
+class AttributeValuesCache {
+    static final long MODIFICATION_DATE_PRECISION_MS = 1000;
+
+    private final Map<String, CachedValues> values;
+    private final AtomicLong                providerCalls;
+
+    AttributeValuesCache() {
+        values = new ConcurrentHashMap<>();
+        providerCalls = new AtomicLong();
+    }
+
+    /**
+     * Gets values of the attribute of the project in the given folder,
+     * provider is called only if there are no cached values or any of its dependencies has been modified.
+     */
+    List<String> getValues(FolderEntry folder,
+                           String attributeName,
+                           ValueProviderFactory factory,
+                           ValueProvider provider) throws ValueStorageException {
+        final List<String> dependencies = factory.getDependencies();
+        if (dependencies.isEmpty()) {
+            return callProvider(provider, attributeName);
+        }
+
+        final String key = key(folder.getPath().toString(), attributeName);
+        final long stampedAt = System.currentTimeMillis();
+        final List<Long> stamps;
+        try {
+            stamps = getStamps(folder, dependencies);
+        } catch (ServerException e) {
+            values.remove(key);
+            return callProvider(provider, attributeName);
+        }
+
+        final CachedValues cached = values.get(key);
+        if (cached != null && cached.factory == factory && cached.stamps.equals(stamps)) {
+            return cached.values;
+        }
+
+        final List<String> provided = callProvider(provider, attributeName);
+        if (provided != null && isStable(stamps, stampedAt)) {
+            values.put(key, new CachedValues(factory, stamps, Collections.unmodifiableList(new ArrayList<>(provided))));
+        } else {
+            values.remove(key);
+        }
+        return provided;
+    }
+
+    /** Drops cached values of the attribute, e.g. when value is set to the provider. */
+    void invalidate(String projectPath, String attributeName) {
+        values.remove(key(projectPath, attributeName));
+    }
+
+    /** Drops cached values of all the projects on and under the given path. */
+    void invalidate(String path) {
+        final String prefix = key(path, "");
+        values.keySet().removeIf(key -> key.startsWith(prefix) || key.startsWith(path.endsWith("/") ? path : path + '/'));
+    }
+
+    /** Returns number of times the value providers have been called to get values, including the ones without dependencies. */
+    long getProviderCalls() {
+        return providerCalls.get();
+    }
+
+    private List<String> callProvider(ValueProvider provider, String attributeName) throws ValueStorageException {
+        providerCalls.incrementAndGet();
+        return provider.getValues(attributeName);
+    }
+
+    /** Modification date and length of each dependency, or {@code -1} for both if dependency doesn't exist. */
+    private static List<Long> getStamps(FolderEntry folder, List<String> dependencies) throws ServerException {
+        final List<Long> stamps = new ArrayList<>(dependencies.size() * 2);
+        for (String dependency : dependencies) {
+            final VirtualFileEntry child = folder.getChild(dependency);
+            if (child == null) {
+                stamps.add(-1L);
+                stamps.add(-1L);
+            } else {
+                stamps.add(child.getModified());
+                stamps.add(child.getVirtualFile().getLength());
+            }
+        }
+        return stamps;
+    }
+
+    /** Returns true if none of the dependencies was modified within the modification date precision before the stamps were taken. */
+    private static boolean isStable(List<Long> stamps, long stampedAt) {
+        for (int i = 0; i < stamps.size(); i += 2) {
+            if (stamps.get(i) > stampedAt - MODIFICATION_DATE_PRECISION_MS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String key(String projectPath, String attributeName) {
+        return projectPath + '#' + attributeName;
+    }
+
+    private static class CachedValues {
+        final ValueProviderFactory factory;
+        final List<Long>           stamps;
+        final List<String>         values;
+
+        CachedValues(ValueProviderFactory factory, List<Long> stamps, List<String> values) {
+            this.factory = factory;
+            this.stamps = stamps;
+            this.values = values;
+        }
+    }
+}
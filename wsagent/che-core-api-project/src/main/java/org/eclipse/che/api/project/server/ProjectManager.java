@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.project.server;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.eclipse.che.api.core.ConflictException;
@@ -19,7 +22,6 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.UnauthorizedException;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.project.SourceStorage;
-import org.eclipse.che.api.core.model.project.type.ProjectType;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
 import org.eclipse.che.api.project.server.handlers.CreateProjectHandler;
@@ -58,8 +60,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Facade for all project related operations.
@@ -70,6 +76,9 @@ import java.util.concurrent.Executors;
 public final class ProjectManager {
     private static final Logger LOG = LoggerFactory.getLogger(ProjectManager.class);
 
+    /** Max number of folders for which results of project types estimation are kept. */
+    private static final int ESTIMATIONS_CACHE_SIZE = 1000;
+
     private final VirtualFileSystem              vfs;
     private final EventService                   eventService;
     private final ProjectTypeRegistry            projectTypeRegistry;
@@ -81,6 +90,17 @@ public final class ProjectManager {
     private final ExecutorService                executor;
     private final WorkspaceProjectsSyncer        workspaceProjectsHolder;
     private final ProjectTreeChangesDetector     projectTreeChangesDetector;
+    private final ExecutorService                estimationExecutor;
+
+    /** Results of project types estimation, folder path -> (project type id -> resolution). */
+    private final LoadingCache<String, Map<String, ProjectTypeResolution>> estimations;
+    /** Incremented on each invalidation of estimations, guards against caching of the results computed before it. */
+    private final AtomicLong                                                estimationsVersion;
+    /**
+     * Estimations are cached only when file watcher is running, since it is the source of the invalidation events
+     * for the changes made bypassing the virtual file system, e.g. from terminal.
+     */
+    private volatile boolean                                                estimationsCacheEnabled;
 
     @Inject
     public ProjectManager(VirtualFileSystemProvider vfsProvider,
@@ -107,16 +127,26 @@ public final class ProjectManager {
         executor = Executors.newFixedThreadPool(1 + Runtime.getRuntime().availableProcessors(),
                                                 new ThreadFactoryBuilder().setNameFormat("ProjectService-IndexingThread-")
                                                                           .setDaemon(true).build());
+        estimationExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                                                          new ThreadFactoryBuilder().setNameFormat("ProjectManager-TypeEstimator-%d")
+                                                                                    .setDaemon(true).build());
+        estimations = CacheBuilder.newBuilder()
+                                  .maximumSize(ESTIMATIONS_CACHE_SIZE)
+                                  .build(CacheLoader.from(folder -> new ConcurrentHashMap<>()));
+        estimationsVersion = new AtomicLong();
     }
 
     @PostConstruct
     void initWatcher() throws IOException {
+        // changes made through the project API must be visible to the next estimation, watcher events come with delay
+        vfs.addChangeListener(path -> invalidateEstimations(path.toString()));
         FileWatcherNotificationListener defaultListener =
                 new FileWatcherNotificationListener(file -> !(file.getPath().toString().contains(".codenvy")
                                                               || file.getPath().toString().contains(".#"))) {
                     @Override
                     public void onFileWatcherEvent(VirtualFile virtualFile, FileWatcherEventType eventType) {
                         LOG.debug("FS event detected: " + eventType + " " + virtualFile.getPath().toString() + " " + virtualFile.isFile());
+                        invalidateEstimations(virtualFile.getPath().toString());
                         eventService.publish(LoEvent.newInstance()
                                                     .withPath(virtualFile.getPath().toString())
                                                     .withName(virtualFile.getName())
@@ -130,6 +160,7 @@ public final class ProjectManager {
         fileWatchNotifier.addNotificationListener(defaultListener);
         try {
             fileWatcher.startup();
+            estimationsCacheEnabled = true;
         } catch (IOException e) {
             LOG.error(e.getMessage(), e);
             fileWatchNotifier.removeNotificationListener(defaultListener);
@@ -139,6 +170,7 @@ public final class ProjectManager {
     @PreDestroy
     void stop() {
         executor.shutdownNow();
+        estimationExecutor.shutdownNow();
     }
 
     public FolderEntry getProjectsRoot() throws ServerException {
@@ -444,7 +476,7 @@ public final class ProjectManager {
             throw new NotFoundException("Folder not found: " + path);
         }
 
-        return projectType.resolveSources(baseFolder);
+        return estimate(baseFolder, projectType);
     }
 
     /**
@@ -458,26 +490,81 @@ public final class ProjectManager {
      * @throws NotFoundException
      */
     public List<ProjectTypeResolution> resolveSources(String path, boolean transientOnly) throws ServerException, NotFoundException {
-        final List<ProjectTypeResolution> resolutions = new ArrayList<>();
+        final FolderEntry baseFolder = asFolder(path);
 
-        for (ProjectType type : projectTypeRegistry.getProjectTypes(ProjectTypeRegistry.CHILD_TO_PARENT_COMPARATOR)) {
+        if (baseFolder == null) {
+            throw new NotFoundException("Folder not found: " + path);
+        }
+
+        // project types are estimated concurrently, results are collected in the order of types
+        final List<Future<ProjectTypeResolution>> estimated = new ArrayList<>();
+        for (ProjectTypeDef type : projectTypeRegistry.getProjectTypes(ProjectTypeRegistry.CHILD_TO_PARENT_COMPARATOR)) {
             if (transientOnly && type.isPersisted()) {
                 continue;
             }
+            estimated.add(estimationExecutor.submit(() -> estimate(baseFolder, type)));
+        }
 
-            try {
-                final ProjectTypeResolution resolution = estimateProject(path, type.getId());
-                if (resolution.matched()) {
-                    resolutions.add(resolution);
+        final List<ProjectTypeResolution> resolutions = new ArrayList<>();
+        try {
+            for (Future<ProjectTypeResolution> future : estimated) {
+                try {
+                    final ProjectTypeResolution resolution = future.get();
+                    if (resolution.matched()) {
+                        resolutions.add(resolution);
+                    }
+                } catch (ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof ValueStorageException) {
+                        LOG.warn(cause.getLocalizedMessage(), cause);
+                    } else if (cause instanceof ServerException) {
+                        throw (ServerException)cause;
+                    } else {
+                        throw new ServerException(cause.getLocalizedMessage(), cause);
+                    }
                 }
-            } catch (ValueStorageException e) {
-                LOG.warn(e.getLocalizedMessage(), e);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("Interrupted while estimating project types of folder " + path);
+        } finally {
+            estimated.forEach(future -> future.cancel(true));
         }
 
         return resolutions;
     }
 
+    /**
+     * Estimates folder as a project of particular type, result is reused until any item inside the folder is changed.
+     */
+    private ProjectTypeResolution estimate(FolderEntry folder, ProjectTypeDef projectType) throws ValueStorageException {
+        if (!estimationsCacheEnabled) {
+            return projectType.resolveSources(folder);
+        }
+
+        final Map<String, ProjectTypeResolution> folderEstimations = estimations.getUnchecked(folder.getPath().toString());
+        ProjectTypeResolution resolution = folderEstimations.get(projectType.getId());
+        if (resolution == null) {
+            final long version = estimationsVersion.get();
+            resolution = projectType.resolveSources(folder);
+            // the folder may be changed while estimating, then the result is not cached
+            if (version == estimationsVersion.get()) {
+                folderEstimations.put(projectType.getId(), resolution);
+            }
+        }
+        return resolution;
+    }
+
+    /** Drops estimations of the folders which contain the changed item, of the item itself and of the items inside of it. */
+    void invalidateEstimations(String path) {
+        estimationsVersion.incrementAndGet();
+        estimations.asMap().keySet().removeIf(folder -> isSameOrInside(path, folder) || isSameOrInside(folder, path));
+    }
+
+    private static boolean isSameOrInside(String path, String folder) {
+        return path.equals(folder) || path.startsWith(folder.endsWith("/") ? folder : folder + '/');
+    }
+
     /**
      * deletes item including project
      *
@@ -53,6 +53,7 @@ public class ProjectRegistry {
     private final ProjectHandlerRegistry         handlers;
     private final FolderEntry                    root;
     private final EventService                   eventService;
+    private final AttributeValuesCache           attributeValuesCache;
 
     private boolean initialized;
 
@@ -69,6 +70,7 @@ public class ProjectRegistry {
         this.projectTypeRegistry = projectTypeRegistry;
         this.handlers = handlers;
         this.root = new FolderEntry(vfs.getRoot());
+        this.attributeValuesCache = new AttributeValuesCache();
     }
 
     @PostConstruct
@@ -191,7 +193,7 @@ public class ProjectRegistry {
                                                           ConflictException,
                                                           NotFoundException {
 
-        final RegisteredProject project = new RegisteredProject(folder, config, updated, detected, this.projectTypeRegistry);
+        final RegisteredProject project = new RegisteredProject(folder, config, updated, detected, projectTypeRegistry, attributeValuesCache);
         projects.put(project.getPath(), project);
 
         return project;
@@ -211,6 +213,7 @@ public class ProjectRegistry {
         getProjects(path).forEach(p -> Optional.ofNullable(projects.remove(p))
                                                .ifPresent(removed::add));
 
+        attributeValuesCache.invalidate(path);
         removed.forEach(registeredProject -> eventService.publish(new ProjectDeletedEvent(registeredProject.getPath())));
     }
 
@@ -69,6 +69,7 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 import java.io.IOException;
@@ -692,8 +693,8 @@ public class ProjectService extends Service {
                    @ApiResponse(code = 403, message = "User not authorized to call this operation"),
                    @ApiResponse(code = 404, message = "Not found"),
                    @ApiResponse(code = 500, message = "Internal Server Error")})
-    public InputStream exportZip(@ApiParam(value = "Path to resource to be exported")
-                                 @PathParam("path") String path) throws NotFoundException, ForbiddenException, ServerException {
+    public Response exportZip(@ApiParam(value = "Path to resource to be exported")
+                              @PathParam("path") String path) throws NotFoundException, ForbiddenException, ServerException {
 
         final FolderEntry folder = projectManager.asFolder(path);
 
@@ -701,7 +702,16 @@ public class ProjectService extends Service {
             throw new NotFoundException("Folder not found " + path);
         }
 
-        return folder.getVirtualFile().zip();
+        // Archive is written directly to the response while folder is traversed,
+        // so the client starts receiving it immediately and nothing is spooled on disk.
+        final VirtualFile virtualFile = folder.getVirtualFile();
+        return Response.ok((StreamingOutput)output -> {
+            try {
+                virtualFile.zip(output);
+            } catch (ForbiddenException | ServerException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }).build();
     }
 
     @GET
@@ -50,6 +50,8 @@ public class RegisteredProject implements ProjectConfig {
     private       boolean       detected;
     private final ProjectTypes  types;
 
+    private final AttributeValuesCache attributeValuesCache;
+
     /**
      * Either root folder or config can be null, in this case Project is configured with problem.
      *
@@ -63,12 +65,15 @@ public class RegisteredProject implements ProjectConfig {
      *         if this project was detected, initialized when "parent" project initialized
      * @param projectTypeRegistry
      *         project type registry
+     * @param attributeValuesCache
+     *         values of the provided attributes kept between initializations of the project
      */
     RegisteredProject(FolderEntry folder,
                       ProjectConfig config,
                       boolean updated,
                       boolean detected,
-                      ProjectTypeRegistry projectTypeRegistry) throws NotFoundException,
+                      ProjectTypeRegistry projectTypeRegistry,
+                      AttributeValuesCache attributeValuesCache) throws NotFoundException,
                                                                       ProjectTypeConstraintException,
                                                                       ServerException,
                                                                       ValueStorageException {
@@ -88,6 +93,7 @@ public class RegisteredProject implements ProjectConfig {
         this.config = (config == null) ? new NewProjectConfig(path) : config;
         this.updated = updated;
         this.detected = detected;
+        this.attributeValuesCache = attributeValuesCache;
 
         if (folder == null || folder.isFile()) {
             problems.add(new Problem(10, "No project folder on file system " + this.config.getPath()));
@@ -142,9 +148,13 @@ public class RegisteredProject implements ProjectConfig {
 
                         if (!valueProvider.isSettable() || value.isEmpty()) {
                             // get provided value
-                            value = new AttributeValue(valueProvider.getValues(name));
+                            value = new AttributeValue(attributeValuesCache.getValues(folder,
+                                                                                      name,
+                                                                                      variable.getValueProviderFactory(),
+                                                                                      valueProvider));
                         } else {
                             // set provided (not empty) value
+                            attributeValuesCache.invalidate(folder.getPath().toString(), name);
                             valueProvider.setValues(name, value.getList());
                         }
 
@@ -12,6 +12,9 @@ package org.eclipse.che.api.project.server.type;
 
 import org.eclipse.che.api.project.server.FolderEntry;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Factory for {@link ValueProvider}.
  *
@@ -25,4 +28,13 @@ public interface ValueProviderFactory {
      * @param projectFolder
      */
     ValueProvider newInstance(FolderEntry projectFolder);
+
+    /**
+     * Gets paths, relative to the project folder, of the files which values returned by providers of this factory are
+     * calculated from, e.g. build descriptor. Values are reused between initializations of the project while these files
+     * are not modified. If empty list is returned, which is the default, the provider is asked for values each time.
+     */
+    default List<String> getDependencies() {
+        return Collections.emptyList();
+    }
 }
@@ -18,6 +18,7 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.commons.lang.Pair;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -504,6 +505,21 @@ public interface VirtualFile extends Comparable<VirtualFile> {
      */
     InputStream zip() throws ForbiddenException, ServerException;
 
+    /**
+     * Writes content of folder denoted by this VirtualFile as zip archive to the specified output. Archive is written while
+     * the folder is traversed, without buffering the whole archive, so it is preferable to {@link #zip()} for sending large
+     * folders to the client. Output is closed when archive is written.
+     *
+     * @param zipOutput
+     *         output for zipped content of folder denoted by this VirtualFile
+     * @throws ForbiddenException
+     *         if this item does not denote a folder
+     * @throws ServerException
+     *         if other error occurs, e.g. output can't be written
+     * @see #zip()
+     */
+    void zip(OutputStream zipOutput) throws ForbiddenException, ServerException;
+
     /**
      * Extracts zip archive to the folder denoted by this VirtualFile.
      *
@@ -537,6 +553,20 @@ public interface VirtualFile extends Comparable<VirtualFile> {
      */
     InputStream tar() throws ForbiddenException, ServerException;
 
+    /**
+     * Writes content of folder denoted by this VirtualFile as TAR archive to the specified output. Archive is written while
+     * the folder is traversed, without buffering the whole archive. Output is closed when archive is written.
+     *
+     * @param tarOutput
+     *         output for content of folder denoted by this VirtualFile as TAR archive
+     * @throws ForbiddenException
+     *         if this item does not denote a folder
+     * @throws ServerException
+     *         if other error occurs, e.g. output can't be written
+     * @see #tar()
+     */
+    void tar(OutputStream tarOutput) throws ForbiddenException, ServerException;
+
     /**
      * Extracts tar archive to the folder denoted by this VirtualFile.
      *
@@ -33,6 +33,12 @@ public interface VirtualFileSystem {
      */
     SearcherProvider getSearcherProvider();
 
+    /** Registers listener which is notified about each item changed through this VirtualFileSystem. */
+    void addChangeListener(VirtualFileSystemChangeListener listener);
+
+    /** Unregisters listener registered with {@link #addChangeListener(VirtualFileSystemChangeListener)}. */
+    void removeChangeListener(VirtualFileSystemChangeListener listener);
+
     /** Release used resources, e.g. clear caches, searcher index, etc */
     void close() throws ServerException;
 
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs;
+
+/**
+ * Listener of the modifications performed through {@link VirtualFileSystem}.
+ *
+ * <p>Unlike file watcher, listener is notified synchronously, in the thread which
+ * modifies the file system, so the state which depends on the content of the file
+ * system may be invalidated before the modification is visible to the caller.
+ * Modifications made bypassing the VirtualFileSystem are not reported.
+ *
+ * @see VirtualFileSystem#addChangeListener(VirtualFileSystemChangeListener)
+ */
+public interface VirtualFileSystemChangeListener {
+    /**
+     * Called when the item is created, updated or deleted. Moved, renamed or copied
+     * item is reported as deleted at the old path and created at the new one.
+     *
+     * @param path
+     *         path of the changed item
+     */
+    void onChanged(Path path);
+}
@@ -15,17 +15,23 @@ import com.google.common.io.ByteStreams;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.util.CheckedZipInputStream;
 import org.eclipse.che.api.vfs.util.NotClosableInputStream;
-import org.eclipse.che.api.vfs.util.ZipContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 public class ZipArchiver extends Archiver {
+    private static final Logger LOG = LoggerFactory.getLogger(ZipArchiver.class);
+
     public ZipArchiver(VirtualFile folder) {
         super(folder);
     }
@@ -84,52 +90,98 @@ public class ZipArchiver extends Archiver {
         }
     }
 
+    /**
+     * Extracts the archive in a single pass checking it isn't a zip bomb on the fly, see {@link CheckedZipInputStream}.
+     * If the archive turns out to be broken or a zip bomb, files and folders created by the extraction are removed,
+     * overwritten files aren't restored.
+     */
     @Override
     public void extract(InputStream zipInput, boolean overwrite, int stripNumber)
             throws IOException, ForbiddenException, ConflictException, ServerException {
-        try (ZipInputStream zip = new ZipInputStream(ZipContent.of(zipInput).getContent())) {
-            InputStream notClosableInputStream = new NotClosableInputStream(zip);
-            ZipEntry zipEntry;
-            while ((zipEntry = zip.getNextEntry()) != null) {
-                VirtualFile extractFolder = folder;
+        final List<Path> created = new ArrayList<>();
+        try (CheckedZipInputStream zip = new CheckedZipInputStream(zipInput)) {
+            try {
+                extract(zip, overwrite, stripNumber, created);
+            } catch (IOException | ServerException e) {
+                // reading errors may be wrapped by the virtual file system while it writes content of the file
+                if (zip.getFailure() == null) {
+                    throw e;
+                }
+                rollback(created);
+                throw zip.getFailure();
+            }
+        }
+    }
 
-                Path relativePath = Path.of(zipEntry.getName());
+    private void extract(ZipInputStream zip, boolean overwrite, int stripNumber, List<Path> created)
+            throws IOException, ForbiddenException, ConflictException, ServerException {
+        InputStream notClosableInputStream = new NotClosableInputStream(zip);
+        ZipEntry zipEntry;
+        while ((zipEntry = zip.getNextEntry()) != null) {
+            VirtualFile extractFolder = folder;
 
-                if (stripNumber > 0) {
-                    if (relativePath.length() <= stripNumber) {
-                        continue;
-                    }
-                    relativePath = relativePath.subPath(stripNumber);
-                }
+            Path relativePath = Path.of(zipEntry.getName());
 
-                if (zipEntry.isDirectory()) {
-                    if (!extractFolder.hasChild(relativePath)) {
-                        extractFolder.createFolder(relativePath.toString());
-                    }
+            if (stripNumber > 0) {
+                if (relativePath.length() <= stripNumber) {
                     continue;
                 }
+                relativePath = relativePath.subPath(stripNumber);
+            }
 
-                if (relativePath.length() > 1) {
-                    Path neededParentPath = relativePath.getParent();
-                    VirtualFile neededParent = extractFolder.getChild(neededParentPath);
-                    if (neededParent == null) {
-                        neededParent = extractFolder.createFolder(neededParentPath.toString());
-                    }
-                    extractFolder = neededParent;
+            if (zipEntry.isDirectory()) {
+                if (!extractFolder.hasChild(relativePath)) {
+                    createFolder(relativePath, created);
+                }
+                continue;
+            }
+
+            if (relativePath.length() > 1) {
+                Path neededParentPath = relativePath.getParent();
+                VirtualFile neededParent = extractFolder.getChild(neededParentPath);
+                if (neededParent == null) {
+                    neededParent = createFolder(neededParentPath, created);
                 }
+                extractFolder = neededParent;
+            }
 
-                String fileName = relativePath.getName();
-                VirtualFile file = extractFolder.getChild(Path.of(fileName));
-                if (file == null) {
-                    extractFolder.createFile(fileName, notClosableInputStream);
+            String fileName = relativePath.getName();
+            VirtualFile file = extractFolder.getChild(Path.of(fileName));
+            if (file == null) {
+                created.add(relativePath);
+                extractFolder.createFile(fileName, notClosableInputStream);
+            } else {
+                if (overwrite) {
+                    file.updateContent(notClosableInputStream);
                 } else {
-                    if (overwrite) {
-                        file.updateContent(notClosableInputStream);
-                    } else {
-                        throw new ConflictException(String.format("File '%s' already exists", file.getPath()));
-                    }
+                    throw new ConflictException(String.format("File '%s' already exists", file.getPath()));
+                }
+            }
+            zip.closeEntry();
+        }
+    }
+
+    /** Creates folder with all its missing parents and remembers the outermost created folder. */
+    private VirtualFile createFolder(Path relativePath, List<Path> created) throws ForbiddenException, ConflictException, ServerException {
+        for (int i = 1; i <= relativePath.length(); i++) {
+            final Path path = relativePath.subPath(0, i);
+            if (!folder.hasChild(path)) {
+                created.add(path);
+                break;
+            }
+        }
+        return folder.createFolder(relativePath.toString());
+    }
+
+    private void rollback(List<Path> created) {
+        for (int i = created.size() - 1; i >= 0; i--) {
+            try {
+                final VirtualFile item = folder.getChild(created.get(i));
+                if (item != null) {
+                    item.delete();
                 }
-                zip.closeEntry();
+            } catch (ForbiddenException | ServerException e) {
+                LOG.warn("Unable to remove '{}' extracted from the broken archive: {}", created.get(i), e.getMessage());
             }
         }
     }
@@ -24,6 +24,7 @@ import java.io.File;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import static java.util.Collections.singletonList;
 import static org.eclipse.che.api.vfs.Path.ROOT;
 
 @Singleton
@@ -41,13 +42,28 @@ public class DefaultFileWatcherNotificationHandler implements FileWatcherNotific
 
     @Override
     public void handleFileWatcherEvent(FileWatcherEventType eventType, File watchRoot, String subPath, boolean isDir) {
-        VirtualFile virtualFile = convertToVirtualFile(watchRoot, subPath, isDir);
-        if (virtualFile == null) {
+        handleFileWatcherEvents(watchRoot, singletonList(new FileWatcherEvent(eventType, subPath, isDir)));
+    }
+
+    @Override
+    public void handleFileWatcherEvents(File watchRoot, List<FileWatcherEvent> events) {
+        final LocalVirtualFileSystem virtualFileSystem;
+        try {
+            virtualFileSystem = (LocalVirtualFileSystem)virtualFileSystemProvider.getVirtualFileSystem(true);
+        } catch (ServerException e) {
+            LOG.warn(e.getMessage());
             return;
         }
-        for (FileWatcherNotificationListener virtualFileListener : fileWatcherNotificationListeners) {
-            if (virtualFileListener.shouldBeNotifiedFor(virtualFile)) {
-                virtualFileListener.onFileWatcherEvent(virtualFile, eventType);
+
+        for (FileWatcherEvent event : events) {
+            VirtualFile virtualFile = convertToVirtualFile(virtualFileSystem, watchRoot, event.getSubPath(), event.isDir());
+            if (virtualFile == null) {
+                continue;
+            }
+            for (FileWatcherNotificationListener virtualFileListener : fileWatcherNotificationListeners) {
+                if (virtualFileListener.shouldBeNotifiedFor(virtualFile)) {
+                    virtualFileListener.onFileWatcherEvent(virtualFile, event.getType());
+                }
             }
         }
     }
@@ -70,9 +86,8 @@ public class DefaultFileWatcherNotificationHandler implements FileWatcherNotific
         return fileWatcherNotificationListeners.remove(fileWatcherNotificationListener);
     }
 
-    private VirtualFile convertToVirtualFile(File root, String subPath, boolean isDir) {
+    private VirtualFile convertToVirtualFile(LocalVirtualFileSystem virtualFileSystem, File root, String subPath, boolean isDir) {
         try {
-            LocalVirtualFileSystem virtualFileSystem = (LocalVirtualFileSystem)virtualFileSystemProvider.getVirtualFileSystem(true);
             Path vfsPath = Path.of(subPath);
             VirtualFile virtualFile = virtualFileSystem.getRoot().getChild(vfsPath);
             if (virtualFile == null) {
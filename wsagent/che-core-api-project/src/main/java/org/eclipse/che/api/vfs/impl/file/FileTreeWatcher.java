@@ -24,11 +24,9 @@ import java.io.IOException;
 import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystems;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
@@ -39,16 +37,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.google.common.collect.Lists.newArrayList;
-import static com.google.common.collect.Maps.newHashMap;
 import static com.google.common.collect.Sets.newLinkedHashSet;
-import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.Files.getLastModifiedTime;
+import static java.nio.file.Files.readAttributes;
 import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
@@ -59,11 +57,21 @@ import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
 
+/**
+ * Watches the file tree and notifies {@link FileWatcherNotificationHandler} about changes.
+ * <p>
+ * Directories matched by the exclude matchers aren't watched at all, so matchers are expected
+ * to match the content of the excluded directory as well (the directory path element matchers do that).
+ * Changes are processed when there are no new changes during {@link #EVENT_PROCESS_TIMEOUT_SEC},
+ * but not later than in {@link #EVENT_PROCESS_MAX_DELAY_MILLIS} after the first unprocessed change,
+ * all the events detected by a single processing are delivered to the handler at once.
+ */
 @Singleton
 public class FileTreeWatcher {
     private static final Logger LOG = LoggerFactory.getLogger(FileTreeWatcher.class);
 
-    private static final long EVENT_PROCESS_TIMEOUT_SEC = 2;
+    private static final long EVENT_PROCESS_TIMEOUT_SEC      = 2;
+    private static final long EVENT_PROCESS_MAX_DELAY_MILLIS = 10_000;
 
     private final File                           watchRoot;
     private final Path                           watchRootPath;
@@ -74,6 +82,9 @@ public class FileTreeWatcher {
     private final AtomicBoolean                  running;
     private       WatchService                   watchService;
     private       WatchEvent.Modifier[]          watchEventModifiers;
+    private volatile long                        startupTime;
+    private volatile long                        lastEventLag;
+    private volatile long                        maxEventLag;
 
     @Inject
     public FileTreeWatcher(@Named("che.user.workspaces.storage") File watchRoot,
@@ -88,7 +99,7 @@ public class FileTreeWatcher {
         ThreadFactory threadFactory = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("FileTreeWatcher-%d").build();
         executor = Executors.newSingleThreadExecutor(threadFactory);
         running = new AtomicBoolean();
-        watchedDirectories = newHashMap();
+        watchedDirectories = new ConcurrentHashMap<>();
     }
 
     private static File toCanonicalFile(File file) {
@@ -105,7 +116,10 @@ public class FileTreeWatcher {
             watchEventModifiers = new WatchEvent.Modifier[]{createSensitivityWatchEventModifier()};
         }
         running.set(true);
-        walkTreeAndSetupWatches(watchRootPath);
+        final long start = System.currentTimeMillis();
+        setupDirectoryWatcher(watchRootPath, null);
+        startupTime = System.currentTimeMillis() - start;
+        LOG.info("Watching {} directories of {}, registration took {} ms", watchedDirectories.size(), watchRoot, startupTime);
         executor.execute(new WatchEventTask());
         fileWatcherNotificationHandler.started(watchRoot);
     }
@@ -140,10 +154,8 @@ public class FileTreeWatcher {
             executor.shutdownNow();
         }
 
-        try {
-            walkTreeAndRemoveWatches(watchRootPath);
-        } catch (IOException e) {
-            LOG.warn(e.getMessage());
+        for (Path directory : newArrayList(watchedDirectories.keySet())) {
+            cancelDirectoryWatcher(directory);
         }
 
         try {
@@ -165,17 +177,24 @@ public class FileTreeWatcher {
         this.excludePatterns.remove(exclude);
     }
 
-    private void walkTreeAndSetupWatches(Path root) throws IOException {
-        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
-            @Override
-            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-                Path relativePath = watchRootPath.relativize(dir);
-                if (shouldNotify(relativePath)) {
-                    setupDirectoryWatcher(dir);
-                }
-                return CONTINUE;
-            }
-        });
+    /** Returns time in milliseconds spent on registration of the watched directories at startup. */
+    public long getStartupTime() {
+        return startupTime;
+    }
+
+    /** Returns number of the watched directories. */
+    public int getWatchedDirectoriesCount() {
+        return watchedDirectories.size();
+    }
+
+    /** Returns time in milliseconds between the first change and the delivery of events of the last processing. */
+    public long getLastEventLag() {
+        return lastEventLag;
+    }
+
+    /** Returns max time in milliseconds between the first change and the delivery of its events. */
+    public long getMaxEventLag() {
+        return maxEventLag;
     }
 
     private boolean shouldNotify(Path subPath) {
@@ -187,54 +206,43 @@ public class FileTreeWatcher {
         return true;
     }
 
-    private void walkTreeAndRemoveWatches(Path root) throws IOException {
-        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
-            @Override
-            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-                cancelDirectoryWatcher(dir);
-                return CONTINUE;
-            }
-        });
-    }
-
-    private void walkTreeAndFireCreatedEvents(Path root) throws IOException {
-        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
-            @Override
-            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-                if (!dir.equals(root)) {
-                    fireWatchEvent(CREATED, dir, true);
-                }
-                return CONTINUE;
-            }
-
-            @Override
-            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-                fireWatchEvent(CREATED, file, false);
-                return CONTINUE;
-            }
-        });
-    }
-
-    private void setupDirectoryWatcher(Path directory) throws IOException {
+    /**
+     * Registers the directory and all its subdirectories which aren't excluded.
+     *
+     * @param events
+     *         if not {@code null} then events about creation of the directory content are added to it
+     */
+    private void setupDirectoryWatcher(Path directory, List<FileWatcherEvent> events) throws IOException {
         if (watchedDirectories.get(directory) == null) {
             WatchKey watchKey = directory.register(watchService,
                                                    new WatchEvent.Kind[]{ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY, OVERFLOW},
                                                    watchEventModifiers);
             WatchedDirectory watchedDirectory = new WatchedDirectory(directory, watchKey);
+            watchedDirectories.put(directory, watchedDirectory);
             try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
                 for (Path entry : entries) {
-                    watchedDirectory
-                            .addItem(new DirectoryItem(entry.getFileName(), Files.isDirectory(entry), getLastModifiedInMillis(entry)));
+                    final DirectoryItem directoryItem = newDirectoryItem(entry);
+                    watchedDirectory.addItem(directoryItem);
+                    if (events != null) {
+                        addWatchEvent(events, CREATED, entry, directoryItem.isDirectory());
+                    }
 
-                    if (Files.isDirectory(entry)) {
-                        setupDirectoryWatcher(entry);
+                    if (directoryItem.isDirectory() && shouldNotify(watchRootPath.relativize(entry))) {
+                        setupDirectoryWatcher(entry, events);
                     }
                 }
             }
-            watchedDirectories.put(directory, watchedDirectory);
         }
     }
 
+    /** Reads attributes of the item at once, symbolic links are followed only to find out whether they point to directory. */
+    private DirectoryItem newDirectoryItem(Path path) throws IOException {
+        final BasicFileAttributes attributes = readAttributes(path, BasicFileAttributes.class, NOFOLLOW_LINKS);
+        final boolean directory = attributes.isSymbolicLink() ? Files.isDirectory(path) : attributes.isDirectory();
+
+        return new DirectoryItem(path.getFileName(), directory, attributes.lastModifiedTime().toMillis());
+    }
+
     private void cancelDirectoryWatcher(Path path) {
         WatchedDirectory watchedDirectory = watchedDirectories.remove(path);
         if (watchedDirectory != null) {
@@ -244,6 +252,7 @@ public class FileTreeWatcher {
 
     private class WatchEventTask implements Runnable {
         final Set<PendingEvent> pendingEvents = newLinkedHashSet();
+        long pendingSince;
 
         @Override
         public void run() {
@@ -254,16 +263,20 @@ public class FileTreeWatcher {
                         watchKey = watchService.take();
                     } else {
                         watchKey = watchService.poll(EVENT_PROCESS_TIMEOUT_SEC, SECONDS);
-                        if (watchKey == null) {
-                            processPendingEvents(pendingEvents);
-                            pendingEvents.clear();
-                        }
                     }
                     if (watchKey != null) {
+                        if (pendingEvents.isEmpty()) {
+                            pendingSince = System.currentTimeMillis();
+                        }
                         pendingEvents.add(new PendingEvent((Path)watchKey.watchable()));
                         watchKey.pollEvents();
                         watchKey.reset();
                     }
+                    if (!pendingEvents.isEmpty()
+                        && (watchKey == null || System.currentTimeMillis() - pendingSince >= EVENT_PROCESS_MAX_DELAY_MILLIS)) {
+                        processPendingEvents(pendingEvents, pendingSince);
+                        pendingEvents.clear();
+                    }
                 } catch (InterruptedException | ClosedWatchServiceException e) {
                     running.set(false);
                 } catch (Throwable e) {
@@ -274,7 +287,8 @@ public class FileTreeWatcher {
         }
     }
 
-    private void processPendingEvents(Collection<PendingEvent> pendingEvents) throws IOException {
+    private void processPendingEvents(Collection<PendingEvent> pendingEvents, long pendingSince) throws IOException {
+        final List<FileWatcherEvent> events = newArrayList();
         for (PendingEvent pendingEvent : pendingEvents) {
             Path eventDirectoryPath = pendingEvent.getPath();
             WatchedDirectory watchedDirectory = watchedDirectories.get(eventDirectoryPath);
@@ -290,17 +304,15 @@ public class FileTreeWatcher {
                         DirectoryItem directoryItem = watchedDirectory.getItem(fsItem.getFileName());
                         if (directoryItem == null) {
                             try {
-                                boolean directory = Files.isDirectory(fsItem);
-                                directoryItem = new DirectoryItem(fsItem.getFileName(), directory, getLastModifiedInMillis(fsItem));
+                                directoryItem = newDirectoryItem(fsItem);
                                 watchedDirectory.addItem(directoryItem);
                                 if (isModifiedNotYetReported){
                                     isModifiedNotYetReported = false;
-                                    fireWatchEvent(MODIFIED, eventDirectoryPath, true);
+                                    addWatchEvent(events, MODIFIED, eventDirectoryPath, true);
                                 }
-                                fireWatchEvent(CREATED, fsItem, directoryItem.isDirectory());
-                                if (directory) {
-                                    walkTreeAndFireCreatedEvents(fsItem);
-                                    setupDirectoryWatcher(fsItem);
+                                addWatchEvent(events, CREATED, fsItem, directoryItem.isDirectory());
+                                if (directoryItem.isDirectory() && shouldNotify(watchRootPath.relativize(fsItem))) {
+                                    setupDirectoryWatcher(fsItem, events);
                                 }
                             } catch (IOException ignored) {
                             }
@@ -312,7 +324,7 @@ public class FileTreeWatcher {
                                 continue;
                             }
                             if (lastModified != directoryItem.getLastModified() && Files.isRegularFile(fsItem)) {
-                                fireWatchEvent(MODIFIED, fsItem, false);
+                                addWatchEvent(events, MODIFIED, fsItem, false);
                             }
                             directoryItem.touch(lastModified);
                             directoryItem.updateHitCounter(hitCounter);
@@ -326,24 +338,31 @@ public class FileTreeWatcher {
                         iterator.remove();
                         if (isModifiedNotYetReported){
                             isModifiedNotYetReported = false;
-                            fireWatchEvent(MODIFIED, eventDirectoryPath, true);
+                            addWatchEvent(events, MODIFIED, eventDirectoryPath, true);
                         }
-                        fireWatchEvent(DELETED, eventDirectoryPath.resolve(directoryItem.getName()), directoryItem.isDirectory());
+                        addWatchEvent(events, DELETED, eventDirectoryPath.resolve(directoryItem.getName()), directoryItem.isDirectory());
                     }
                 }
             } else {
                 for (DirectoryItem directoryItem : watchedDirectory.getItems()) {
-                    fireWatchEvent(DELETED, eventDirectoryPath.resolve(directoryItem.getName()), directoryItem.isDirectory());
+                    addWatchEvent(events, DELETED, eventDirectoryPath.resolve(directoryItem.getName()), directoryItem.isDirectory());
                 }
                 watchedDirectories.remove(eventDirectoryPath);
             }
         }
+
+        if (!events.isEmpty()) {
+            fileWatcherNotificationHandler.handleFileWatcherEvents(watchRoot, events);
+        }
+        lastEventLag = System.currentTimeMillis() - pendingSince;
+        maxEventLag = Math.max(maxEventLag, lastEventLag);
+        LOG.debug("{} file watcher events delivered in {} ms after the first change", events.size(), lastEventLag);
     }
 
-    private void fireWatchEvent(FileWatcherEventType eventType, Path eventPath, boolean isDirectory) {
+    private void addWatchEvent(List<FileWatcherEvent> events, FileWatcherEventType eventType, Path eventPath, boolean isDirectory) {
         Path relativePath = watchRootPath.relativize(eventPath);
         if (shouldNotify(relativePath)) {
-            fileWatcherNotificationHandler.handleFileWatcherEvent(eventType, watchRoot, relativePath.toString(), isDirectory);
+            events.add(new FileWatcherEvent(eventType, relativePath.toString(), isDirectory));
         }
     }
 
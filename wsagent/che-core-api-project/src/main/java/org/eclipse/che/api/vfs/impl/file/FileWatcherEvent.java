@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file;
+
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+
+/**
+ * Change of the file or directory detected by {@link FileTreeWatcher}.
+ */
+public class FileWatcherEvent {
+    private final FileWatcherEventType type;
+    private final String               subPath;
+    private final boolean              dir;
+
+    public FileWatcherEvent(FileWatcherEventType type, String subPath, boolean dir) {
+        this.type = type;
+        this.subPath = subPath;
+        this.dir = dir;
+    }
+
+    public FileWatcherEventType getType() {
+        return type;
+    }
+
+    /** Returns path of the changed item relative to the watch root. */
+    public String getSubPath() {
+        return subPath;
+    }
+
+    public boolean isDir() {
+        return dir;
+    }
+
+    @Override
+    public String toString() {
+        return "FileWatcherEvent{" +
+               "type=" + type +
+               ", subPath='" + subPath + '\'' +
+               ", dir=" + dir +
+               '}';
+    }
+}
@@ -25,6 +25,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -246,6 +247,11 @@ public class LocalVirtualFile implements VirtualFile {
         return fileSystem.zip(this);
     }
 
+    @Override
+    public void zip(OutputStream zipOutput) throws ForbiddenException, ServerException {
+        fileSystem.zip(this, zipOutput);
+    }
+
     @Override
     public void unzip(InputStream zipped, boolean overwrite, int stripNumber)
             throws ForbiddenException, ConflictException, ServerException {
@@ -257,6 +263,11 @@ public class LocalVirtualFile implements VirtualFile {
         return fileSystem.tar(this);
     }
 
+    @Override
+    public void tar(OutputStream tarOutput) throws ForbiddenException, ServerException {
+        fileSystem.tar(this, tarOutput);
+    }
+
     @Override
     public void untar(InputStream tarArchive, boolean overwrite, int stripNumber)
             throws ForbiddenException, ConflictException, ServerException {
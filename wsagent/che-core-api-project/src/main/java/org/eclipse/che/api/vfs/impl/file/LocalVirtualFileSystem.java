@@ -32,6 +32,7 @@ import org.eclipse.che.api.vfs.PathLockFactory;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
+import org.eclipse.che.api.vfs.VirtualFileSystemChangeListener;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 import org.eclipse.che.api.vfs.util.DeleteOnCloseFileInputStream;
@@ -52,10 +53,12 @@ import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -136,6 +139,8 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     private final FileMetadataSerializer                  metadataSerializer;
     private final LoadingCache<Path, Map<String, String>> metadataCache;
 
+    private final List<VirtualFileSystemChangeListener> changeListeners;
+
     @SuppressWarnings("unchecked")
     public LocalVirtualFileSystem(File ioRoot,
                                   ArchiverFactory archiverFactory,
@@ -162,6 +167,8 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
                                     .maximumSize(256)
                                     .expireAfterAccess(10, MINUTES)
                                     .build(new FilePropertiesCacheLoader());
+
+        changeListeners = new CopyOnWriteArrayList<>();
     }
 
     @Override
@@ -174,6 +181,16 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         return searcherProvider;
     }
 
+    @Override
+    public void addChangeListener(VirtualFileSystemChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(VirtualFileSystemChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
     @Override
     public void close() throws ServerException {
         cleanUpCaches();
@@ -597,14 +614,11 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
 
     InputStream zip(LocalVirtualFile folder) throws ForbiddenException, ServerException {
-        if(archiverFactory == null)
-            throw new ServerException("VFS: Could not create zip archiver. Archiver Factory is not properly configured (is null)");
+        return compress(createArchiver(folder, "zip"));
+    }
 
-        if (folder.isFolder()) {
-            return compress(archiverFactory.createArchiver(folder, "zip"));
-        } else {
-            throw new ForbiddenException(String.format("Unable export to zip. Item '%s' is not a folder", folder.getPath()));
-        }
+    void zip(LocalVirtualFile folder, OutputStream zipOutput) throws ForbiddenException, ServerException {
+        compress(createArchiver(folder, "zip"), zipOutput);
     }
 
 
@@ -623,14 +637,11 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
 
     InputStream tar(LocalVirtualFile folder) throws ForbiddenException, ServerException {
-        if(archiverFactory == null)
-            throw new ServerException("VFS: Could not create tar archiver. Archiver Factory is not properly configured (is null)");
+        return compress(createArchiver(folder, "tar"));
+    }
 
-        if (folder.isFolder()) {
-            return compress(archiverFactory.createArchiver(folder, "tar"));
-        } else {
-            throw new ForbiddenException(String.format("Unable export to tar archive. Item '%s' is not a folder", folder.getPath()));
-        }
+    void tar(LocalVirtualFile folder, OutputStream tarOutput) throws ForbiddenException, ServerException {
+        compress(createArchiver(folder, "tar"), tarOutput);
     }
 
     void untar(LocalVirtualFile parent, InputStream tarArchive, boolean overwrite, int stripNumber)
@@ -646,6 +657,26 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         }
     }
 
+    private Archiver createArchiver(LocalVirtualFile folder, String archiveType) throws ForbiddenException, ServerException {
+        if(archiverFactory == null)
+            throw new ServerException(String.format("VFS: Could not create %s archiver. Archiver Factory is not properly configured (is null)",
+                                                    archiveType));
+
+        if (folder.isFolder()) {
+            return archiverFactory.createArchiver(folder, archiveType);
+        } else {
+            throw new ForbiddenException(String.format("Unable export to %s archive. Item '%s' is not a folder", archiveType, folder.getPath()));
+        }
+    }
+
+    private void compress(Archiver archiver, OutputStream compressOutput) throws ServerException {
+        try {
+            archiver.compress(compressOutput, dotGitFilter());
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        }
+    }
+
     private InputStream compress(Archiver archiver) throws ForbiddenException, ServerException {
         File archive = null;
         try {
@@ -931,6 +962,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
 
     private void addInSearcher(LocalVirtualFile newVirtualFile) {
+        notifyChanged(newVirtualFile.getPath());
         if (searcherProvider != null) {
             try {
                 searcherProvider.getSearcher(this).add(newVirtualFile);
@@ -941,6 +973,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
     private void updateInSearcher(LocalVirtualFile virtualFile) {
+        notifyChanged(virtualFile.getPath());
         if (searcherProvider != null) {
             try {
                 searcherProvider.getSearcher(this).update(virtualFile);
@@ -951,6 +984,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
     private void deleteInSearcher(Path path, boolean isFile) {
+        notifyChanged(path);
         if (searcherProvider != null) {
             try {
                 searcherProvider.getSearcher(this).delete(path.toString(), isFile);
@@ -959,4 +993,14 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             }
         }
     }
+
+    private void notifyChanged(Path path) {
+        for (VirtualFileSystemChangeListener listener : changeListeners) {
+            try {
+                listener.onChanged(path);
+            } catch (RuntimeException e) {
+                LOG.error(e.getMessage(), e);
+            }
+        }
+    }
 }
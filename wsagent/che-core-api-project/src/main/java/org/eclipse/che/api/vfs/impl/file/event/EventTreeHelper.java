@@ -49,6 +49,29 @@ public class EventTreeHelper {
                 .withType(loEvent.getItemType());
     }
 
+    /**
+     * Adds all the events of the source tree to the target tree, source tree is left unchanged.
+     *
+     * @param target root node of the tree events are added to
+     *
+     * @param source root node of the tree events are taken from
+     */
+    public static void merge(EventTreeNode target, EventTreeNode source) {
+        source.stream()
+              .filter(EventTreeNode::modificationOccurred)
+              .forEach(node -> node.getEvents().forEach((time, type) -> {
+                  final LoEvent loEvent = LoEvent.newInstance()
+                                                 .withPath(node.getPath())
+                                                 .withName(node.getName())
+                                                 .withItemType(node.getType())
+                                                 .withEventType(type)
+                                                 .withTime(time)
+                                                 .withSubtreeModified(node.isSubtreeModified());
+
+                  addEventAndCreatePrecedingNodes(target, loEvent);
+              }));
+    }
+
     /**
      * Get a tree node according to a relative path starting from a predefined tree node.
      *
@@ -73,6 +73,11 @@ public class EventTreeNode {
      * Key - timestamp in millis, value - event type
      */
     private Map<Long, FileWatcherEventType> events;
+    /**
+     * Whether the whole subtree of this node is modified, see {@link LoEvent#isSubtreeModified()}.
+     * Children of such node may be absent even if they were changed.
+     */
+    private boolean                         subtreeModified;
 
     private EventTreeNode() {
         this.events = new LinkedHashMap<>();
@@ -106,6 +111,7 @@ public class EventTreeNode {
 
     public EventTreeNode withEvent(LoEvent loEvent) {
         this.events.put(loEvent.getTime(), loEvent.getEventType());
+        this.subtreeModified |= loEvent.isSubtreeModified();
         return this;
     }
 
@@ -168,6 +174,10 @@ public class EventTreeNode {
         return !events.isEmpty();
     }
 
+    public boolean isSubtreeModified() {
+        return subtreeModified;
+    }
+
     public boolean isFile() {
         return type.equals(FILE);
     }
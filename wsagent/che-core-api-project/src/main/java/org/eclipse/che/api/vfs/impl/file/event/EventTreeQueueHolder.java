@@ -16,16 +16,21 @@ import org.slf4j.Logger;
 
 import javax.inject.Singleton;
 import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.Optional.empty;
-import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.che.api.vfs.impl.file.event.EventTreeHelper.merge;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Simple holder to benefit from Guice DI routines.
+ * <p>
+ *     Queue is bounded, when it is full the new event tree is merged into
+ *     the last pending one instead of being enqueued, so the number of pending
+ *     trees doesn't grow if event trees are produced faster than processed.
+ * </p>
  *
  * @author Dmitry Kuleshov
  *
@@ -36,17 +41,45 @@ import static org.slf4j.LoggerFactory.getLogger;
 class EventTreeQueueHolder {
     private static final Logger LOG = getLogger(EventTreeQueueHolder.class);
 
-    private final BlockingQueue<EventTreeNode> loVfsEventQueue;
+    /** Max number of pending event trees, see {@link #EventTreeQueueHolder(int)}. */
+    static final int DEFAULT_CAPACITY = 100;
+
+    private final BlockingDeque<EventTreeNode> loVfsEventQueue;
+    private final AtomicLong                   mergedCount;
 
     public EventTreeQueueHolder() {
-        this.loVfsEventQueue = new LinkedBlockingQueue<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity
+     *         max number of pending event trees
+     */
+    EventTreeQueueHolder(int capacity) {
+        this.loVfsEventQueue = new LinkedBlockingDeque<>(capacity);
+        this.mergedCount = new AtomicLong();
     }
 
+    /**
+     * Enqueues the event tree or merges it into the last pending one if the queue is full.
+     * Expected to be called by the single producer thread.
+     */
     public void put(EventTreeNode loVfsEventTreeRoot) {
+        if (loVfsEventQueue.offerLast(loVfsEventTreeRoot)) {
+            return;
+        }
+
+        final EventTreeNode last = loVfsEventQueue.pollLast();
+        if (last != null) {
+            merge(last, loVfsEventTreeRoot);
+            mergedCount.incrementAndGet();
+            LOG.debug("Event tree queue is full, event tree is merged into the last pending one");
+        }
         try {
-            loVfsEventQueue.put(loVfsEventTreeRoot);
+            loVfsEventQueue.putLast(last != null ? last : loVfsEventTreeRoot);
         } catch (InterruptedException e) {
             LOG.error("Error trying to put an event tree to an event tree queue: {}", loVfsEventTreeRoot, e);
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -58,4 +91,14 @@ class EventTreeQueueHolder {
         }
         return empty();
     }
+
+    /** Returns number of pending event trees. */
+    int getSize() {
+        return loVfsEventQueue.size();
+    }
+
+    /** Returns number of event trees merged into the pending ones because the queue was full. */
+    long getMergedCount() {
+        return mergedCount.get();
+    }
 }
@@ -58,6 +58,12 @@ public class LoEvent {
     private String               name;
     private FileWatcherEventType eventType;
     private ItemType             itemType;
+    /**
+     * Marks the event that replaces all the events of the folder subtree, it is produced by
+     * {@link LoEventQueueHolder} when there are too many pending events. Receivers should
+     * consider the whole subtree as modified and reread it.
+     */
+    private boolean              subtreeModified;
 
     private LoEvent() {
     }
@@ -111,6 +117,26 @@ public class LoEvent {
         return this;
     }
 
+    public boolean isSubtreeModified() {
+        return subtreeModified;
+    }
+
+    public LoEvent withSubtreeModified(boolean subtreeModified) {
+        this.subtreeModified = subtreeModified;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "LoEvent{" +
+               "time=" + time +
+               ", path='" + path + '\'' +
+               ", eventType=" + eventType +
+               ", itemType=" + itemType +
+               ", subtreeModified=" + subtreeModified +
+               '}';
+    }
+
     public enum ItemType {
         FILE, DIR, UNDEFINED
     }
@@ -12,47 +12,308 @@ package org.eclipse.che.api.vfs.impl.file.event;
 
 import com.google.common.annotations.Beta;
 
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.commons.lang.JmxUtils;
 import org.slf4j.Logger;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Singleton;
+import javax.management.ObjectName;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static java.util.Optional.empty;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
+import static org.eclipse.che.api.vfs.impl.file.event.LoEvent.ItemType.DIR;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
+ * Bounded queue of low level events, at most one event per item path is kept.
+ * <p>
+ *     Events of the item that is already in the queue are coalesced with the pending
+ *     event, e.g. creation followed by modification is kept as creation, creation
+ *     followed by removal is dropped at all. Coalesced event gets the item type of
+ *     the latest event and keeps the time and the place in the queue of the first one,
+ *     so the lag is measured by the oldest change. Removal of the folder drops pending
+ *     events of its children.
+ * </p>
+ * <p>
+ *     When the queue is full all the pending events are folded into a single event of
+ *     their closest common folder, see {@link LoEvent#isSubtreeModified()}, so the
+ *     receivers reread that folder instead of processing every change. Events of the
+ *     folded subtree are dropped while the folding event is pending.
+ * </p>
+ *
  * @author Dmitry Kuleshov
  *
  * @since 4.5
  */
 @Beta
 @Singleton
-class LoEventQueueHolder {
+class LoEventQueueHolder implements LoEventQueueMXBean {
     private static final Logger LOG = getLogger(LoEventQueueHolder.class);
 
-    private final BlockingQueue<LoEvent> loEventQueue;
+    /** Max number of pending events, see {@link #LoEventQueueHolder(int)}. */
+    static final int DEFAULT_CAPACITY = 100_000;
+
+    private static final String ROOT = "/";
+
+    private final int                  capacity;
+    private final Lock                 lock;
+    private final Condition            notEmpty;
+    /** Pending events by item path in the order of the first event of the item. */
+    private final Map<String, LoEvent> pending;
+    /** Sorted paths of the pending events to find the children of removed folder. */
+    private final TreeSet<String>      paths;
+    /** Paths of the pending folding events. */
+    private final Set<String>          subtrees;
+
+    private long coalescedCount;
+    private long droppedCount;
+    private long overflowCount;
+
+    private ObjectName mbeanName;
 
     public LoEventQueueHolder() {
-        this.loEventQueue = new LinkedBlockingQueue<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity
+     *         max number of pending events, when it is exceeded pending events are folded
+     */
+    LoEventQueueHolder(int capacity) {
+        this.capacity = capacity;
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.pending = new LinkedHashMap<>();
+        this.paths = new TreeSet<>();
+        this.subtrees = new HashSet<>();
+    }
+
+    @PostConstruct
+    void registerMBean() {
+        mbeanName = JmxUtils.register(this, "LoEventQueue");
+    }
+
+    @PreDestroy
+    void unregisterMBean() {
+        JmxUtils.unregister(mbeanName);
     }
 
     void put(LoEvent loEvent) {
+        final String path = loEvent.getPath();
+        lock.lock();
         try {
-            loEventQueue.put(loEvent);
-        } catch (InterruptedException e) {
-            LOG.error("Error trying to put an event to an event queue: {}", loEvent, e);
+            if (isInsideOfFoldedSubtree(path)) {
+                droppedCount++;
+                return;
+            }
+
+            final LoEvent previous = pending.get(path);
+            if (previous != null) {
+                coalescedCount++;
+                final FileWatcherEventType type = coalesce(previous.getEventType(), loEvent.getEventType());
+                if (type == null) {
+                    remove(path);
+                } else {
+                    // e.g. file may be removed and then created in place of the removed folder
+                    pending.put(path, previous.withEventType(type)
+                                              .withItemType(loEvent.getItemType()));
+                }
+            } else if (pending.size() >= capacity) {
+                fold(loEvent);
+            } else {
+                add(loEvent);
+            }
+
+            if (loEvent.getItemType() == DIR && loEvent.getEventType() == DELETED) {
+                removeChildren(path);
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
         }
     }
 
     Optional<LoEvent> poll(long timeout) {
+        lock.lock();
         try {
-            return Optional.ofNullable(loEventQueue.poll(timeout, MILLISECONDS));
+            long nanos = MILLISECONDS.toNanos(timeout);
+            while (pending.isEmpty()) {
+                if (nanos <= 0) {
+                    return empty();
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            final Iterator<LoEvent> iterator = pending.values().iterator();
+            final LoEvent loEvent = iterator.next();
+            iterator.remove();
+            paths.remove(loEvent.getPath());
+            subtrees.remove(loEvent.getPath());
+            return Optional.of(loEvent);
         } catch (InterruptedException e) {
             LOG.error("Error trying to poll an event out of an event queue", e);
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
         }
         return empty();
     }
+
+    @Override
+    public int getSize() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getLag() {
+        lock.lock();
+        try {
+            return pending.isEmpty() ? 0 : System.currentTimeMillis() - pending.values().iterator().next().getTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getCoalescedCount() {
+        lock.lock();
+        try {
+            return coalescedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getDroppedCount() {
+        lock.lock();
+        try {
+            return droppedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getOverflowCount() {
+        lock.lock();
+        try {
+            return overflowCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns type of the change described by the pending and the new event
+     * or {@code null} if item was created and then removed.
+     */
+    private static FileWatcherEventType coalesce(FileWatcherEventType first, FileWatcherEventType last) {
+        if (last == DELETED) {
+            return first == CREATED ? null : DELETED;
+        }
+        if (first == CREATED) {
+            return CREATED;
+        }
+        if (first == DELETED) {
+            return MODIFIED;
+        }
+        return last;
+    }
+
+    private void add(LoEvent loEvent) {
+        pending.put(loEvent.getPath(), loEvent);
+        paths.add(loEvent.getPath());
+        if (loEvent.isSubtreeModified()) {
+            subtrees.add(loEvent.getPath());
+        }
+    }
+
+    private void remove(String path) {
+        pending.remove(path);
+        paths.remove(path);
+        subtrees.remove(path);
+    }
+
+    private void removeChildren(String path) {
+        // '0' is the character next to '/', so the subset contains all the paths starting with the folder path
+        final Set<String> children = paths.subSet(path + '/', true, path + '0', false);
+        for (Iterator<String> iterator = children.iterator(); iterator.hasNext(); ) {
+            final String child = iterator.next();
+            pending.remove(child);
+            subtrees.remove(child);
+            iterator.remove();
+            coalescedCount++;
+        }
+    }
+
+    /** Replaces all the pending events and the given one with the single event of their closest common folder. */
+    private void fold(LoEvent loEvent) {
+        String folder = loEvent.getItemType() == DIR ? loEvent.getPath() : getParent(loEvent.getPath());
+        long time = loEvent.getTime();
+        for (LoEvent event : pending.values()) {
+            while (!isInside(event.getPath(), folder)) {
+                folder = getParent(folder);
+            }
+            time = Math.min(time, event.getTime());
+        }
+
+        overflowCount++;
+        droppedCount += pending.size() + 1;
+        LOG.warn("Event queue overflow, {} pending events are replaced with modification of '{}'", pending.size() + 1, folder);
+
+        pending.clear();
+        paths.clear();
+        subtrees.clear();
+        add(LoEvent.newInstance()
+                   .withPath(folder)
+                   .withName(folder.substring(folder.lastIndexOf('/') + 1))
+                   .withItemType(DIR)
+                   .withEventType(MODIFIED)
+                   .withTime(time)
+                   .withSubtreeModified(true));
+    }
+
+    private boolean isInsideOfFoldedSubtree(String path) {
+        if (subtrees.isEmpty() || ROOT.equals(path)) {
+            return false;
+        }
+        for (String parent = getParent(path); ; parent = getParent(parent)) {
+            if (subtrees.contains(parent)) {
+                return true;
+            }
+            if (ROOT.equals(parent)) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean isInside(String path, String folder) {
+        return ROOT.equals(folder) || path.equals(folder) || path.startsWith(folder + '/');
+    }
+
+    private static String getParent(String path) {
+        final int index = path.lastIndexOf('/');
+        return index <= 0 ? ROOT : path.substring(0, index);
+    }
 }
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file.event;
+
+/**
+ * Statistics of the queue of low level events, registered
+ * as {@code org.eclipse.che:type=LoEventQueue}.
+ *
+ * @see LoEventQueueHolder
+ */
+public interface LoEventQueueMXBean {
+
+    /** Returns number of pending events. */
+    int getSize();
+
+    /** Returns time in milliseconds the oldest pending event waits to be processed. */
+    long getLag();
+
+    /** Returns number of events coalesced with the pending events of the same item or its parent folder. */
+    long getCoalescedCount();
+
+    /** Returns number of events dropped because of the queue overflow. */
+    long getDroppedCount();
+
+    /** Returns number of times the queue overflowed and pending events were folded. */
+    long getOverflowCount();
+}
@@ -106,6 +106,11 @@ public class LoEventService extends VfsEventService {
 
         eventTreeQueueHolder.put(vfsEventTreeRoot);
         LOG.trace("Flushing old event tree {}.", vfsEventTreeRoot);
+        LOG.trace("Pending events: {}, lag: {} ms, dropped events: {}, pending event trees: {}",
+                  loEventQueueHolder.getSize(),
+                  loEventQueueHolder.getLag(),
+                  loEventQueueHolder.getDroppedCount(),
+                  eventTreeQueueHolder.getSize());
 
         vfsEventTreeRoot = newRootInstance();
         LOG.trace("Starting new event tree {}.", vfsEventTreeRoot);
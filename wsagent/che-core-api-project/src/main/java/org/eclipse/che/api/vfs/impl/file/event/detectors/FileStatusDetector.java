@@ -22,6 +22,9 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Optional;
 
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
+
 /**
  * Tracks and notifies about VFS operations for registered files. List of registered files is
  * contained within an instance of {@link FileTrackingRegistry}.
@@ -31,12 +34,13 @@ import java.util.Optional;
 @Beta
 @Singleton
 public class FileStatusDetector implements HiEventDetector<FileStatusDetector> {
-    private final EventService eventService;
-
+    private final EventService         eventService;
+    private final FileTrackingRegistry registry;
 
     @Inject
-    public FileStatusDetector(EventService eventService) {
+    public FileStatusDetector(EventService eventService, FileTrackingRegistry registry) {
         this.eventService = eventService;
+        this.registry = registry;
     }
 
     @Override
@@ -50,9 +54,22 @@ public class FileStatusDetector implements HiEventDetector<FileStatusDetector> {
                      .filter(EventTreeNode::isFile)
                      .forEach(node -> eventService.publish(new FileTrackingEvent(node.getLastEventType(), node.getPath())));
 
+        // changes of the files inside of the modified subtree might be dropped, so all the registered files are checked
+        eventTreeNode.stream()
+                     .filter(EventTreeNode::isSubtreeModified)
+                     .forEach(this::publishRegisteredFilesOf);
+
         return Optional.empty();
     }
 
+    private void publishRegisteredFilesOf(EventTreeNode subtree) {
+        final String prefix = subtree.isRoot() ? "/" : subtree.getPath() + '/';
+        registry.getPaths()
+                .stream()
+                .filter(path -> path.startsWith(prefix))
+                .forEach(path -> eventService.publish(new FileTrackingEvent(registry.exists(path) ? MODIFIED : DELETED, path)));
+    }
+
     public static class FileTrackingEvent {
         private final FileWatcherEventType type;
         private final String               path;
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs.impl.file.event.detectors;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import com.google.inject.Singleton;
 
@@ -22,13 +24,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
-import static java.nio.charset.Charset.defaultCharset;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.toSet;
 
@@ -37,12 +40,26 @@ import static java.util.stream.Collectors.toSet;
  * system detector - {@link FileStatusDetector}. For each tracked file stores an MD5
  * hash corresponding to its content.
  *
+ * <p>The content is hashed as a stream through the per thread buffer, so the
+ * file is never loaded into memory. Along with the hash the registry stores the
+ * last modification date and the length of the file, if neither of them changed
+ * since the hash was computed the file is not hashed again. As the modification
+ * date precision may be as coarse as one second the check is applied only to the
+ * files which were not modified within {@link #MODIFICATION_DATE_PRECISION_MS}
+ * before their hash had been computed.
+ *
  * @author Dmitry Kuleshov
  */
 @Singleton
 public class FileTrackingRegistry {
     private static final Logger LOG = LoggerFactory.getLogger(FileTrackingRegistry.class);
 
+    @VisibleForTesting
+    static final long MODIFICATION_DATE_PRECISION_MS = 1000;
+
+    private static final int                 BUFFER_SIZE = 8192;
+    private static final ThreadLocal<byte[]> BUFFER      = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
     private final Map<String, FileTrackingMetadata> registry = new ConcurrentHashMap<>();
 
     private final VirtualFileSystemProvider vfsProvider;
@@ -119,13 +136,13 @@ public class FileTrackingRegistry {
     }
 
     public boolean updateHash(String path) {
-        final String newHash = getHash(path);
-
         final FileTrackingMetadata fileTrackingMetadata = registry.get(path);
+        final FileState newState = getState(path, fileTrackingMetadata.getState());
+
         final String oldHash = fileTrackingMetadata.getHashCode();
-        fileTrackingMetadata.setHashCode(newHash);
+        fileTrackingMetadata.setState(newState);
 
-        return !Objects.equals(oldHash, newHash);
+        return !Objects.equals(oldHash, newState.hashCode);
     }
 
     public boolean contains(String path) {
@@ -140,33 +157,89 @@ public class FileTrackingRegistry {
         return unmodifiableSet(registry.keySet());
     }
 
-    private String getHash(String path) {
+    /** Returns true if the file with the given path exists in the virtual file system. */
+    public boolean exists(String path) {
+        try {
+            return vfsProvider.getVirtualFileSystem()
+                              .getRoot()
+                              .getChild(Path.of(path)) != null;
+        } catch (ServerException e) {
+            LOG.error("Error trying to check existence of {} file", path, e);
+            return true;
+        }
+    }
+
+    /**
+     * Returns the state of the file with the given path, the content of the file
+     * is hashed only if the file might have changed since the {@code previous} state.
+     */
+    private FileState getState(String path, FileState previous) {
         try {
             final VirtualFile file = vfsProvider.getVirtualFileSystem()
                                                 .getRoot()
                                                 .getChild(Path.of(path));
-            String content;
             if (file == null) {
-                content = "";
-            } else {
-                content = file.getContentAsString();
+                return new FileState(Hashing.md5().newHasher().hash().toString(), -1, -1, -1);
+            }
+
+            final long hashedAt = System.currentTimeMillis();
+            final long lastModified = file.getLastModificationDate();
+            final long length = file.getLength();
+            if (previous != null && previous.isUpToDate(lastModified, length)) {
+                return previous;
             }
 
-            return Hashing.md5().hashString(content, defaultCharset()).toString();
-        } catch (ServerException | ForbiddenException e) {
+            final Hasher hasher = Hashing.md5().newHasher();
+            final byte[] buffer = BUFFER.get();
+            try (InputStream content = file.getContent()) {
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    hasher.putBytes(buffer, 0, read);
+                }
+            }
+            return new FileState(hasher.hash().toString(), lastModified, length, hashedAt);
+        } catch (ServerException | ForbiddenException | IOException e) {
             LOG.error("Error trying to read {} file and broadcast it", path, e);
         }
-        return null;
+        return new FileState(null, -1, -1, -1);
+    }
+
+    /** Describes the content hash of the file and the file attributes at the moment of hashing. */
+    private static class FileState {
+        private final String hashCode;
+        private final long   lastModified;
+        private final long   length;
+        private final long   hashedAt;
+
+        private FileState(String hashCode, long lastModified, long length, long hashedAt) {
+            this.hashCode = hashCode;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.hashedAt = hashedAt;
+        }
+
+        /**
+         * Returns true if the file with given attributes has the same content as
+         * the file described by this state, if it is not known(e.g. the file was
+         * modified right before hashing) returns false.
+         */
+        private boolean isUpToDate(long lastModified, long length) {
+            return hashCode != null
+                   && this.lastModified > 0
+                   && this.lastModified == lastModified
+                   && this.length == length
+                   && hashedAt - lastModified > MODIFICATION_DATE_PRECISION_MS;
+        }
     }
 
     private class FileTrackingMetadata {
         private static final boolean ACTIVE     = true;
         private static final boolean NOT_ACTIVE = false;
-        private String hashCode;
+        private volatile FileState state;
         private Map<Integer, Boolean> endpoints = new ConcurrentHashMap<>();
 
         public FileTrackingMetadata(String path, int endpoint) {
-            this.hashCode = getHash(path);
+            this.state = getState(path, null);
             this.endpoints.put(endpoint, ACTIVE);
         }
 
@@ -183,11 +256,15 @@ public class FileTrackingRegistry {
         }
 
         public String getHashCode() {
-            return hashCode;
+            return state.hashCode;
         }
 
-        public void setHashCode(String hashCode) {
-            this.hashCode = hashCode;
+        public FileState getState() {
+            return state;
+        }
+
+        public void setState(FileState state) {
+            this.state = state;
         }
 
         public void addEndpoint(int endpoint) {
@@ -15,7 +15,8 @@ import com.google.common.annotations.Beta;
 import org.eclipse.che.api.core.jsonrpc.JsonRpcRequestTransmitter;
 import org.eclipse.che.api.core.jsonrpc.shared.JsonRpcRequest;
 import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
-import org.eclipse.che.api.project.shared.dto.event.ProjectTreeStatusUpdateDto;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeDeltaDto;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeItemDeltaDto;
 import org.eclipse.che.api.vfs.impl.file.event.EventTreeNode;
 import org.eclipse.che.api.vfs.impl.file.event.HiEvent;
 import org.eclipse.che.api.vfs.impl.file.event.HiEventDetector;
@@ -25,17 +26,32 @@ import org.slf4j.Logger;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static java.lang.Math.min;
+import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
-import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
+ * Collects project tree changes and periodically transmits them to clients as ordered
+ * list of item deltas, see {@link ProjectTreeDeltaDto}. Several events of the same item
+ * are coalesced into a single delta, changes inside of the removed directory are dropped.
+ * When there are too many changes only the closest common directory is reported as modified,
+ * so clients reload that directory instead of applying every delta.
+ *
  * @author Dmitry Kuleshov
  */
 @Beta
@@ -43,12 +59,16 @@ import static org.slf4j.LoggerFactory.getLogger;
 public class ProjectTreeChangesDetector implements HiEventDetector<ProjectTreeChangesDetector> {
     private static final Logger LOG = getLogger(ProjectTreeChangesDetector.class);
 
+    /** Max number of deltas transmitted at once, if there are more changes they are reported as modification of their common directory. */
+    static final int MAX_DELTAS = 1000;
+
     private final JsonRpcRequestTransmitter transmitter;
     private final ThreadPullLauncher        launcher;
 
-    private final Set<EventTreeNode> trees = new HashSet<>();
+    private final Queue<EventTreeNode> trees = new ConcurrentLinkedQueue<>();
 
     private State state;
+    private long  sequence;
 
     @Inject
     public ProjectTreeChangesDetector(JsonRpcRequestTransmitter transmitter, ThreadPullLauncher launcher) {
@@ -100,39 +120,126 @@ public class ProjectTreeChangesDetector implements HiEventDetector<ProjectTreeCh
         return Optional.empty();
     }
 
-    private void transmit() {
+    void transmit() {
         if (state == State.SUSPENDED) {
             return;
         }
 
-        final Optional<String> commonSubstring = trees.stream()
-                                                      .flatMap(EventTreeNode::stream)
-                                                      .filter(EventTreeNode::modificationOccurred)
-                                                      .map(EventTreeNode::getPath)
-                                                      .reduce(ProjectTreeChangesDetector::findLongestPrefix);
-        if (commonSubstring.isPresent()) {
-            final String s = commonSubstring.get();
-            final String path = s.substring(0, s.lastIndexOf('/'));
-            transmit(path, FileWatcherEventType.MODIFIED);
+        final List<EventTreeNode> collected = new ArrayList<>();
+        for (EventTreeNode tree = trees.poll(); tree != null; tree = trees.poll()) {
+            collected.add(tree);
+        }
+
+        final List<ProjectTreeItemDeltaDto> deltas = getDeltas(collected);
+        if (deltas.isEmpty()) {
+            return;
         }
 
-        trees.clear();
+        if (deltas.size() > MAX_DELTAS) {
+            final String prefix = deltas.stream()
+                                        .map(ProjectTreeItemDeltaDto::getPath)
+                                        .reduce(ProjectTreeChangesDetector::findLongestPrefix)
+                                        .get();
+            final String path = prefix.substring(0, prefix.lastIndexOf('/'));
+
+            LOG.debug("{} project tree changes detected, transmitting modification of '{}' instead", deltas.size(), path);
+
+            transmit(singletonList(newDelta(path, MODIFIED)));
+        } else {
+            transmit(deltas);
+        }
     }
 
-    private void transmit(String path, FileWatcherEventType type) {
-        final String params = getParams(path, type);
-        final JsonRpcRequest request = getJsonRpcRequest(params);
+    /**
+     * Coalesces events of the collected trees into item deltas ordered by item path,
+     * so parent directory always precedes its children. Modification of the whole
+     * subtree is reported as modification of its directory, changes inside of it are dropped.
+     * Modification of the whole tree is reported as modification of the item with empty path.
+     */
+    private List<ProjectTreeItemDeltaDto> getDeltas(List<EventTreeNode> collected) {
+        final Map<String, TreeMap<Long, FileWatcherEventType>> eventsByPath = new TreeMap<>();
+        final Map<String, Boolean> directories = new TreeMap<>();
+        final Set<String> subtrees = new HashSet<>();
+        collected.stream()
+                 .flatMap(EventTreeNode::stream)
+                 .filter(node -> node.modificationOccurred() && (!node.isRoot() || node.isSubtreeModified()))
+                 .forEach(node -> {
+                     final String path = node.isRoot() ? "" : node.getPath();
+                     eventsByPath.computeIfAbsent(path, key -> new TreeMap<>()).putAll(node.getEvents());
+                     directories.put(path, node.isRoot() || node.isDir());
+                     if (node.isSubtreeModified()) {
+                         subtrees.add(path);
+                     }
+                 });
+
+        final List<ProjectTreeItemDeltaDto> deltas = new ArrayList<>();
+        final Set<String> skippedDirectories = new HashSet<>();
+        for (Map.Entry<String, TreeMap<Long, FileWatcherEventType>> entry : eventsByPath.entrySet()) {
+            final String path = entry.getKey();
+            if (isInsideOf(path, skippedDirectories)) {
+                continue;
+            }
 
-        transmitter.transmit(request);
+            final TreeMap<Long, FileWatcherEventType> events = entry.getValue();
+            final boolean directory = directories.get(path);
+            final boolean subtree = subtrees.contains(path);
+            final FileWatcherEventType type = coalesce(events.firstEntry().getValue(), events.lastEntry().getValue());
+            // modification of the directory means modification of its children, which are reported on their own
+            if (type == null || directory && type == MODIFIED && !subtree) {
+                continue;
+            }
+
+            if (subtree || directory && type == DELETED) {
+                skippedDirectories.add(path);
+            }
+            deltas.add(newDelta(path, type));
+        }
+
+        return deltas;
+    }
+
+    /** Checks whether any parent of the path is in the given set of directories. */
+    private static boolean isInsideOf(String path, Set<String> directories) {
+        for (String parent = path; !parent.isEmpty(); ) {
+            parent = parent.substring(0, parent.lastIndexOf('/'));
+            if (directories.contains(parent)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private String getParams(String path, FileWatcherEventType type) {
-        return newDto(ProjectTreeStatusUpdateDto.class).withPath(path).withType(type).toString();
+    /**
+     * Returns type of the change described by the first and the last event of the item
+     * or {@code null} if item was created and removed within the same time segment.
+     */
+    private static FileWatcherEventType coalesce(FileWatcherEventType first, FileWatcherEventType last) {
+        if (last == DELETED) {
+            return first == CREATED ? null : DELETED;
+        }
+        if (first == CREATED) {
+            return CREATED;
+        }
+        if (first == DELETED) {
+            return MODIFIED;
+        }
+        return last;
+    }
+
+    private ProjectTreeItemDeltaDto newDelta(String path, FileWatcherEventType type) {
+        return newDto(ProjectTreeItemDeltaDto.class).withPath(path).withType(type);
+    }
+
+    private void transmit(List<ProjectTreeItemDeltaDto> deltas) {
+        final String params = newDto(ProjectTreeDeltaDto.class).withSequence(++sequence).withDeltas(deltas).toString();
+        final JsonRpcRequest request = getJsonRpcRequest(params);
+
+        transmitter.transmit(request);
     }
 
     private JsonRpcRequest getJsonRpcRequest(String params) {
         return newDto(JsonRpcRequest.class)
-                .withMethod("event:project-tree-status-changed")
+                .withMethod("event:project-tree-delta")
                 .withJsonrpc("2.0")
                 .withParams(params);
     }
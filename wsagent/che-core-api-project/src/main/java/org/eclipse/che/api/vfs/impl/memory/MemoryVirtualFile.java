@@ -34,6 +34,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -588,6 +589,17 @@ public class MemoryVirtualFile implements VirtualFile {
         }
     }
 
+    @Override
+    public void zip(OutputStream zipOutput) throws ForbiddenException, ServerException {
+        checkExistence();
+
+        if (isFolder()) {
+            compress(fileSystem.getArchiverFactory().createArchiver(this, "zip"), zipOutput);
+        } else {
+            throw new ForbiddenException(String.format("Unable export to zip. Item '%s' is not a folder", getPath()));
+        }
+    }
+
     @Override
     public void unzip(InputStream zipped, boolean overwrite, int stripNumber)
             throws ForbiddenException, ServerException, ConflictException {
@@ -612,6 +624,17 @@ public class MemoryVirtualFile implements VirtualFile {
         }
     }
 
+    @Override
+    public void tar(OutputStream tarOutput) throws ForbiddenException, ServerException {
+        checkExistence();
+
+        if (isFolder()) {
+            compress(fileSystem.getArchiverFactory().createArchiver(this, "tar"), tarOutput);
+        } else {
+            throw new ForbiddenException(String.format("Unable export to tar archive. Item '%s' is not a folder", getPath()));
+        }
+    }
+
     @Override
     public void untar(InputStream tarArchive, boolean overwrite, int stripNumber)
             throws ForbiddenException, ConflictException, ServerException {
@@ -625,6 +648,14 @@ public class MemoryVirtualFile implements VirtualFile {
         }
     }
 
+    private void compress(Archiver archiver, OutputStream compressOutput) throws ServerException {
+        try {
+            archiver.compress(compressOutput);
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        }
+    }
+
     private InputStream compress(Archiver archiver) throws ForbiddenException, ServerException {
         try {
             ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
@@ -837,6 +868,7 @@ public class MemoryVirtualFile implements VirtualFile {
     }
 
     private void addInSearcher(VirtualFile newFile) {
+        fileSystem.notifyChanged(newFile.getPath());
         SearcherProvider searcherProvider = fileSystem.getSearcherProvider();
         if (searcherProvider != null) {
             try {
@@ -848,6 +880,7 @@ public class MemoryVirtualFile implements VirtualFile {
     }
 
     private void updateInSearcher() {
+        fileSystem.notifyChanged(getPath());
         SearcherProvider searcherProvider = fileSystem.getSearcherProvider();
         if (searcherProvider != null) {
             try {
@@ -859,6 +892,7 @@ public class MemoryVirtualFile implements VirtualFile {
     }
 
     private void deleteFromSearcher(Path path, boolean isFile) {
+        fileSystem.notifyChanged(path);
         SearcherProvider searcherProvider = fileSystem.getSearcherProvider();
         if (searcherProvider != null) {
             try {
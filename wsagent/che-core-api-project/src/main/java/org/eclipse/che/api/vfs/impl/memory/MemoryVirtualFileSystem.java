@@ -14,10 +14,14 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.vfs.AbstractVirtualFileSystemProvider;
 import org.eclipse.che.api.vfs.ArchiverFactory;
 import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
+import org.eclipse.che.api.vfs.VirtualFileSystemChangeListener;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -35,6 +39,8 @@ public class MemoryVirtualFileSystem implements VirtualFileSystem {
     private final AbstractVirtualFileSystemProvider.CloseCallback closeCallback;
     private final int id = ID.incrementAndGet();
 
+    private final List<VirtualFileSystemChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
     private VirtualFile root;
 
     public MemoryVirtualFileSystem(ArchiverFactory archiverFactory, SearcherProvider searcherProvider) {
@@ -72,6 +78,22 @@ public class MemoryVirtualFileSystem implements VirtualFileSystem {
         return searcherProvider;
     }
 
+    @Override
+    public void addChangeListener(VirtualFileSystemChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(VirtualFileSystemChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    void notifyChanged(Path path) {
+        for (VirtualFileSystemChangeListener listener : changeListeners) {
+            listener.onChanged(path);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
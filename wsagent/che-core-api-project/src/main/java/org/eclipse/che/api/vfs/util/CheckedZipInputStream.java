@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.util;
+
+import org.apache.commons.io.input.CountingInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * {@link ZipInputStream} that checks the compression ratio of the data read so far and fails with
+ * {@link IOException} as soon as the archive looks like a zip bomb, so the archive may be validated
+ * while it is being extracted.
+ */
+public class CheckedZipInputStream extends ZipInputStream {
+    /** The threshold after that checking of ZIP ratio started. */
+    static final long ZIP_THRESHOLD = 1000000;
+    /**
+     * Max compression ratio. If the number of bytes uncompressed data is exceed the number
+     * of bytes of compressed stream more than this ratio (and number of uncompressed data
+     * is more than threshold) then IOException is thrown.
+     */
+    static final int  ZIP_RATIO     = 100;
+
+    private final CountingInputStream compressedDataCounter;
+
+    private long        uncompressedBytes;
+    private IOException failure;
+
+    public CheckedZipInputStream(InputStream in) {
+        this(new CountingInputStream(in));
+    }
+
+    private CheckedZipInputStream(CountingInputStream compressedDataCounter) {
+        super(compressedDataCounter);
+        this.compressedDataCounter = compressedDataCounter;
+    }
+
+    @Override
+    public ZipEntry getNextEntry() throws IOException {
+        try {
+            return super.getNextEntry();
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int bytes;
+        try {
+            bytes = super.read(b, off, len);
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+
+        if (bytes > 0) {
+            uncompressedBytes += bytes;
+            if (uncompressedBytes > ZIP_THRESHOLD && uncompressedBytes > ZIP_RATIO * compressedDataCounter.getByteCount()) {
+                failure = new IOException("Zip bomb detected");
+                throw failure;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the error of reading the archive, e.g. the archive is broken or looks like a zip bomb,
+     * or {@code null} if there were no errors. Useful when the error is wrapped by the code that
+     * consumes content of the entries.
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+}
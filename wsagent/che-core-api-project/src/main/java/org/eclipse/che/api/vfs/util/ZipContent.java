@@ -10,30 +10,24 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs.util;
 
-import org.apache.commons.io.input.CountingInputStream;
-
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
-/** @author andrew00x */
+/**
+ * Spools the zip archive and checks it isn't a zip bomb, see {@link CheckedZipInputStream}.
+ * Use {@link CheckedZipInputStream} directly when the archive is read once, to avoid reading it twice.
+ *
+ * @author andrew00x
+ */
 public final class ZipContent {
     /** Memory threshold. If zip stream over this size it spooled in file. */
-    private static final int  KEEP_IN_MEMORY_THRESHOLD = 200 * 1024;
-    private static final int  COPY_BUFFER_SIZE         = 8 * 1024;
-    /** The threshold after that checking of ZIP ratio started. */
-    private static final long ZIP_THRESHOLD            = 1000000;
-    /**
-     * Max compression ratio. If the number of bytes uncompressed data is exceed the number
-     * of bytes of compressed stream more than this ratio (and number of uncompressed data
-     * is more than threshold) then IOException is thrown.
-     */
-    private static final int  ZIP_RATIO                = 100;
+    private static final int KEEP_IN_MEMORY_THRESHOLD = 200 * 1024;
+    private static final int COPY_BUFFER_SIZE         = 8 * 1024;
 
     public static ZipContent of(InputStream in) throws IOException {
         java.io.File file = null;
@@ -64,22 +58,10 @@ public final class ZipContent {
             spool = new ByteArrayInputStream(inMemory);
         }
 
-        try (CountingInputStream compressedDataCounter = new CountingInputStream(spool);
-             ZipInputStream zip = new ZipInputStream(compressedDataCounter)) {
-            try (CountingInputStream uncompressedDataCounter = new CountingInputStream(zip)) {
-                ZipEntry zipEntry;
-                while ((zipEntry = zip.getNextEntry()) != null) {
-                    if (!zipEntry.isDirectory()) {
-                        while (uncompressedDataCounter.read(buff) != -1) {
-                            long uncompressedBytes = uncompressedDataCounter.getByteCount();
-                            if (uncompressedBytes > ZIP_THRESHOLD) {
-                                long compressedBytes = compressedDataCounter.getByteCount();
-                                if (uncompressedBytes > (ZIP_RATIO * compressedBytes)) {
-                                    throw new IOException("Zip bomb detected");
-                                }
-                            }
-                        }
-                    }
+        try (ZipInputStream zip = new CheckedZipInputStream(spool)) {
+            while (zip.getNextEntry() != null) {
+                while (zip.read(buff) != -1) {
+                    // read the whole entry to check its compression ratio
                 }
             }
 
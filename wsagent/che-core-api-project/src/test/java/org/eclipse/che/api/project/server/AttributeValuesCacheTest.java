@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.project.server.type.ValueProvider;
+import org.eclipse.che.api.project.server.type.ValueProviderFactory;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link AttributeValuesCache}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AttributeValuesCacheTest {
+    private static final String ATTRIBUTE  = "provided";
+    private static final String DEPENDENCY = "descriptor";
+
+    @Mock
+    private FolderEntry          folder;
+    @Mock
+    private VirtualFileEntry     descriptor;
+    @Mock
+    private VirtualFile          descriptorFile;
+    @Mock
+    private ValueProviderFactory factory;
+    @Mock
+    private ValueProvider        provider;
+
+    private AttributeValuesCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        when(folder.getPath()).thenReturn(Path.of("/project"));
+        when(folder.getChild(DEPENDENCY)).thenReturn(descriptor);
+        when(descriptor.getVirtualFile()).thenReturn(descriptorFile);
+        when(factory.getDependencies()).thenReturn(singletonList(DEPENDENCY));
+        when(provider.getValues(ATTRIBUTE)).thenReturn(singletonList("provided value"));
+
+        cache = new AttributeValuesCache();
+    }
+
+    @Test
+    public void shouldReuseValuesUntilDependencyIsModified() throws Exception {
+        setDescriptor(System.currentTimeMillis() - 10_000, 10);
+
+        getValues();
+        assertEquals(singletonList("provided value"), getValues());
+        assertEquals(1, cache.getProviderCalls());
+
+        setDescriptor(System.currentTimeMillis() - 5_000, 10);
+        getValues();
+        assertEquals(2, cache.getProviderCalls());
+
+        setDescriptor(System.currentTimeMillis() - 5_000, 19);
+        getValues();
+        assertEquals(3, cache.getProviderCalls());
+    }
+
+    @Test
+    public void shouldNotReuseValuesWhenDependencyIsModifiedWithinModificationDatePrecision() throws Exception {
+        // the next change within the same tick may leave the same modification date
+        setDescriptor(System.currentTimeMillis(), 10);
+
+        getValues();
+        getValues();
+
+        assertEquals(2, cache.getProviderCalls());
+    }
+
+    @Test
+    public void shouldNotCacheValuesOfProviderWithoutDependencies() throws Exception {
+        when(factory.getDependencies()).thenReturn(emptyList());
+
+        getValues();
+        getValues();
+
+        assertEquals(2, cache.getProviderCalls());
+    }
+
+    @Test
+    public void shouldProvideValuesAgainWhenTheyAreInvalidated() throws Exception {
+        setDescriptor(System.currentTimeMillis() - 10_000, 10);
+        getValues();
+
+        cache.invalidate("/project", ATTRIBUTE);
+        getValues();
+        cache.invalidate("/");
+        getValues();
+
+        assertEquals(3, cache.getProviderCalls());
+    }
+
+    private List<String> getValues() throws Exception {
+        return cache.getValues(folder, ATTRIBUTE, factory, provider);
+    }
+
+    private void setDescriptor(long modified, long length) throws Exception {
+        when(descriptor.getModified()).thenReturn(modified);
+        when(descriptorFile.getLength()).thenReturn(length);
+    }
+}
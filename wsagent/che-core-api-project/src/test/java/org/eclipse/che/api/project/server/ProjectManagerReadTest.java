@@ -14,6 +14,7 @@ import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.project.server.handlers.ProjectHandlerRegistry;
 import org.eclipse.che.api.project.server.type.BaseProjectType;
 import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
+import org.eclipse.che.api.project.server.type.ProjectTypeResolution;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.junit.Before;
@@ -25,7 +26,9 @@ import java.util.HashSet;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 
@@ -224,6 +227,37 @@ public class ProjectManagerReadTest extends WsAgentTestBase {
 
     }
 
+    @Test
+    public void testEstimationIsReusedUntilFolderIsChanged() throws Exception {
+        ProjectTypeResolution resolution = pm.estimateProject("/normal", "pt3");
+        assertFalse(resolution.matched());
+        assertSame(resolution, pm.estimateProject("/normal", "pt3"));
+
+        new File(root, "/normal/file1").createNewFile();
+        pm.invalidateEstimations("/normal/file1");
+
+        assertTrue(pm.estimateProject("/normal", "pt3").matched());
+    }
+
+
+    @Test
+    public void testEstimationIsDroppedWhenFolderIsChangedThroughVirtualFileSystem() throws Exception {
+        assertFalse(pm.estimateProject("/normal", "pt3").matched());
+
+        pm.getProjectsRoot().getChildFolder("normal").createFile("file1", new byte[0]);
+
+        assertTrue(pm.estimateProject("/normal", "pt3").matched());
+    }
+
+    @Test
+    public void testEstimationIsDroppedWhenItemInsideOfFolderIsDeletedThroughVirtualFileSystem() throws Exception {
+        pm.getProjectsRoot().getChildFolder("normal").createFile("file1", new byte[0]);
+        assertTrue(pm.estimateProject("/normal", "pt3").matched());
+
+        pm.getProjectsRoot().getChildFolder("normal").getChild("file1").remove();
+
+        assertFalse(pm.estimateProject("/normal", "pt3").matched());
+    }
 
     @Test
     public void testIfConstantAttrIsAccessible() throws Exception {
@@ -43,6 +43,7 @@ import static com.google.common.collect.Maps.newHashMap;
 import static java.util.stream.Collectors.toMap;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -118,6 +119,30 @@ public class ZipArchiverTest {
         assertEquals(readArchiveEntries(new ByteArrayInputStream(archive)), entries);
     }
 
+    @Test
+    public void failsExtractZipBombAndRemovesExtractedItems() throws Exception {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(byteOut)) {
+            zipOut.putNextEntry(new ZipEntry("arc/"));
+            zipOut.putNextEntry(new ZipEntry("arc/a/_a.txt"));
+            zipOut.write(TEST_CONTENT_BYTES);
+            zipOut.putNextEntry(new ZipEntry("arc/bomb.txt"));
+            zipOut.write(new byte[10 * 1024 * 1024]);
+        }
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        folder.createFile("existed.txt", TEST_CONTENT);
+
+        try {
+            new ZipArchiver(folder).extract(new ByteArrayInputStream(byteOut.toByteArray()), false, 0);
+            fail("Zip bomb must be detected");
+        } catch (IOException e) {
+            assertEquals("Zip bomb detected", e.getMessage());
+        }
+
+        assertEquals(1, folder.getChildren().size());
+        assertTrue(folder.hasChild(Path.of("existed.txt")));
+    }
+
     @Test
     public void extractsArchiveToFolderAndSkipsRootFolderFromArchive() throws Exception {
         byte[] archive = createTestZipArchive();
@@ -16,14 +16,17 @@ import org.eclipse.che.api.vfs.VirtualFileSystemProvider;
 import org.eclipse.che.commons.lang.NameGenerator;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import java.io.File;
 
+import static java.util.Arrays.asList;
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,6 +39,7 @@ public class DefaultFileWatcherNotificationHandlerTest {
 
     private FileWatcherNotificationListener notificationListener;
     private LocalVirtualFileSystem virtualFileSystem;
+    private VirtualFileSystemProvider virtualFileSystemProvider;
 
     private Path virtualFilePath;
     private VirtualFile virtualFile;
@@ -47,7 +51,7 @@ public class DefaultFileWatcherNotificationHandlerTest {
         testDirectory = new File(targetDir, NameGenerator.generate("watcher-notifications-", 4));
 
         virtualFileSystem = mock(LocalVirtualFileSystem.class, RETURNS_DEEP_STUBS);
-        VirtualFileSystemProvider virtualFileSystemProvider = mock(VirtualFileSystemProvider.class);
+        virtualFileSystemProvider = mock(VirtualFileSystemProvider.class);
         when(virtualFileSystemProvider.getVirtualFileSystem(true)).thenReturn(virtualFileSystem);
 
         notificationListener = mock(FileWatcherNotificationListener.class);
@@ -84,6 +88,17 @@ public class DefaultFileWatcherNotificationHandlerTest {
         virtualFile = null;
     }
 
+    @Test
+    public void notifiesFileWatcherNotificationListenersAboutEachEventOfBatch() throws Exception {
+        notificationHandler.handleFileWatcherEvents(testDirectory, asList(new FileWatcherEvent(CREATED, "/a/b/c", true),
+                                                                          new FileWatcherEvent(MODIFIED, "/a/b/c", true)));
+
+        InOrder inOrder = inOrder(notificationListener);
+        inOrder.verify(notificationListener).onFileWatcherEvent(virtualFile, CREATED);
+        inOrder.verify(notificationListener).onFileWatcherEvent(virtualFile, MODIFIED);
+        verify(virtualFileSystemProvider).getVirtualFileSystem(true);
+    }
+
     @Test
     public void notifiesFileWatcherNotificationListenersWhenPathIsModified() throws Exception {
         notificationHandler.handleFileWatcherEvent(MODIFIED, testDirectory, "/a/b/c", true);
@@ -31,8 +31,10 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyListOf;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -206,8 +208,18 @@ public class FileTreeWatcherMassiveIoOperationTest {
         assertThatCollectionsContainsSameItemsOrFailWithDiff(eventsCaptor.getAllValues(), created);
     }
 
+    @SuppressWarnings("unchecked")
     private FileWatcherNotificationHandler aNotificationListener() {
-        return mock(FileWatcherNotificationHandler.class);
+        FileWatcherNotificationHandler notificationHandler = mock(FileWatcherNotificationHandler.class);
+        // events are delivered in batches, pass them one by one to verify each of them
+        doAnswer(invocation -> {
+            File watchRoot = (File)invocation.getArguments()[0];
+            for (FileWatcherEvent event : (List<FileWatcherEvent>)invocation.getArguments()[1]) {
+                notificationHandler.handleFileWatcherEvent(event.getType(), watchRoot, event.getSubPath(), event.isDir());
+            }
+            return null;
+        }).when(notificationHandler).handleFileWatcherEvents(any(File.class), anyListOf(FileWatcherEvent.class));
+        return notificationHandler;
     }
 
     private void assertThatCollectionsContainsSameItemsOrFailWithDiff(Collection<String> actual, Collection<String> expected) {
@@ -31,8 +31,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyListOf;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -277,6 +279,7 @@ public class FileTreeWatcherTest {
         PathMatcher excludeMatcher =  FileSystems.getDefault().getPathMatcher("glob:excluded");
         fileWatcher = new FileTreeWatcher(testDirectory, newHashSet(excludeMatcher), notificationHandler);
         fileWatcher.startup();
+        assertEquals(1, fileWatcher.getWatchedDirectoriesCount());
 
         Thread.sleep(500);
 
@@ -351,7 +354,17 @@ public class FileTreeWatcherTest {
         verify(notificationHandler, timeout(10000)).errorOccurred(eq(testDirectory), eq(error));
     }
 
+    @SuppressWarnings("unchecked")
     private FileWatcherNotificationHandler aNotificationHandler() {
-        return mock(FileWatcherNotificationHandler.class);
+        FileWatcherNotificationHandler notificationHandler = mock(FileWatcherNotificationHandler.class);
+        // events are delivered in batches, pass them one by one to verify each of them
+        doAnswer(invocation -> {
+            File watchRoot = (File)invocation.getArguments()[0];
+            for (FileWatcherEvent event : (List<FileWatcherEvent>)invocation.getArguments()[1]) {
+                notificationHandler.handleFileWatcherEvent(event.getType(), watchRoot, event.getSubPath(), event.isDir());
+            }
+            return null;
+        }).when(notificationHandler).handleFileWatcherEvents(any(File.class), anyListOf(FileWatcherEvent.class));
+        return notificationHandler;
     }
 }
@@ -13,6 +13,9 @@ package org.eclipse.che.api.vfs.impl.file;
 import org.eclipse.che.api.core.util.FileCleaner;
 import org.eclipse.che.api.vfs.AbstractVirtualFileSystemProvider;
 import org.eclipse.che.api.vfs.ArchiverFactory;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileSystemChangeListener;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 import org.eclipse.che.commons.lang.IoUtil;
@@ -25,7 +28,11 @@ import java.io.File;
 
 import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.eq;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -64,4 +71,29 @@ public class LocalVirtualFileSystemTest {
         fileSystem.close();
         verify(searcher).close();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void notifiesChangeListenerWhenItemIsCreatedUpdatedAndDeleted() throws Exception {
+        assertTrue(testDirectory.mkdir());
+        VirtualFileSystemChangeListener listener = mock(VirtualFileSystemChangeListener.class);
+        fileSystem.addChangeListener(listener);
+
+        VirtualFile file = fileSystem.getRoot().createFile("file", "content");
+        file.updateContent("updated content");
+        file.delete();
+
+        verify(listener, times(3)).onChanged(Path.of("/file"));
+    }
+
+    @Test
+    public void doesNotNotifyRemovedChangeListener() throws Exception {
+        assertTrue(testDirectory.mkdir());
+        VirtualFileSystemChangeListener listener = mock(VirtualFileSystemChangeListener.class);
+        fileSystem.addChangeListener(listener);
+        fileSystem.removeChangeListener(listener);
+
+        fileSystem.getRoot().createFile("file", "content");
+
+        verify(listener, never()).onChanged(any(Path.class));
+    }
+}
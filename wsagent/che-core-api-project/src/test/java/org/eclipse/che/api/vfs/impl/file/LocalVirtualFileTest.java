@@ -1408,6 +1408,26 @@ public class LocalVirtualFileTest {
         file.zip();
     }
 
+    @Test
+    public void compressesFolderToZipArchiveDirectlyInOutput() throws Exception {
+        VirtualFile folder = getRoot().createFolder(generateFolderName());
+        Archiver archiver = mock(Archiver.class);
+        when(archiverFactory.createArchiver(eq(folder), eq("zip"))).thenReturn(archiver);
+        ByteArrayOutputStream zipOutput = new ByteArrayOutputStream();
+        folder.zip(zipOutput);
+        verify(archiver).compress(eq(zipOutput), any(VirtualFileFilter.class));
+    }
+
+    @Test
+    public void failsZipFileDirectlyInOutput() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile file = root.createFile(generateFileName(), DEFAULT_CONTENT);
+
+        thrown.expect(ForbiddenException.class);
+
+        file.zip(new ByteArrayOutputStream());
+    }
+
     @Test
     public void unzipsInFolder() throws Exception {
         VirtualFile folder = getRoot().createFolder(generateFolderName());
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file.event;
+
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.vfs.impl.file.event.LoEvent.ItemType;
+import org.eclipse.che.commons.lang.JmxUtils;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
+import static org.eclipse.che.api.vfs.impl.file.event.LoEvent.ItemType.DIR;
+import static org.eclipse.che.api.vfs.impl.file.event.LoEvent.ItemType.FILE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for {@link LoEventQueueHolder}
+ */
+public class LoEventQueueHolderTest {
+    private static final long TIMEOUT = 10;
+
+    @Test
+    public void shouldCoalesceEventsOfSameItem() throws Exception {
+        final LoEventQueueHolder queue = new LoEventQueueHolder();
+        queue.put(event("/project/a", FILE, CREATED, 1L));
+        queue.put(event("/project/b", FILE, MODIFIED, 2L));
+        queue.put(event("/project/a", FILE, MODIFIED, 3L));
+        queue.put(event("/project/c", FILE, CREATED, 4L));
+        queue.put(event("/project/c", FILE, DELETED, 5L));
+
+        assertEquals(2, queue.getSize());
+        assertEquals(2, queue.getCoalescedCount());
+        assertEvent(queue.poll(TIMEOUT), "/project/a", CREATED, 1L);
+        assertEvent(queue.poll(TIMEOUT), "/project/b", MODIFIED, 2L);
+        assertFalse(queue.poll(TIMEOUT).isPresent());
+    }
+
+    @Test
+    public void shouldTakeItemTypeOfLatestEventWhenRemovedItemIsCreatedAgain() throws Exception {
+        final LoEventQueueHolder queue = new LoEventQueueHolder();
+        // type of the removed item is not known, so it is reported as folder
+        queue.put(event("/project/a", DIR, DELETED, 1L));
+        queue.put(event("/project/a", FILE, CREATED, 2L));
+
+        final Optional<LoEvent> event = queue.poll(TIMEOUT);
+        assertEvent(event, "/project/a", MODIFIED, 1L);
+        assertEquals(FILE, event.get().getItemType());
+        assertFalse(queue.poll(TIMEOUT).isPresent());
+    }
+
+    @Test
+    public void shouldExposeStatisticsAsMBean() throws Exception {
+        final LoEventQueueHolder queue = new LoEventQueueHolder();
+        queue.registerMBean();
+        try {
+            queue.put(event("/project/a", FILE, CREATED, 1L));
+            queue.put(event("/project/a", FILE, MODIFIED, 2L));
+
+            final ObjectName name = new ObjectName(JmxUtils.DOMAIN, "type", "LoEventQueue");
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1, server.getAttribute(name, "Size"));
+            assertEquals(1L, server.getAttribute(name, "CoalescedCount"));
+        } finally {
+            queue.unregisterMBean();
+        }
+    }
+
+    @Test
+    public void shouldDropEventsInsideOfRemovedFolder() throws Exception {
+        final LoEventQueueHolder queue = new LoEventQueueHolder();
+        queue.put(event("/project/folder/a", FILE, MODIFIED, 1L));
+        queue.put(event("/project/folder/sub/b", FILE, CREATED, 2L));
+        queue.put(event("/project/folder-2/c", FILE, MODIFIED, 3L));
+        queue.put(event("/project/folder", DIR, DELETED, 4L));
+
+        assertEquals(2, queue.getSize());
+        assertEvent(queue.poll(TIMEOUT), "/project/folder-2/c", MODIFIED, 3L);
+        assertEvent(queue.poll(TIMEOUT), "/project/folder", DELETED, 4L);
+    }
+
+    @Test
+    public void shouldFoldPendingEventsWhenQueueIsFull() throws Exception {
+        final LoEventQueueHolder queue = new LoEventQueueHolder(2);
+        queue.put(event("/project/folder/a", FILE, CREATED, 1L));
+        queue.put(event("/project/folder/sub/b", FILE, CREATED, 2L));
+        queue.put(event("/project/folder/c", FILE, CREATED, 3L));
+        queue.put(event("/project/folder/sub/d", FILE, CREATED, 4L));
+        queue.put(event("/project/e", FILE, MODIFIED, 5L));
+
+        assertEquals(2, queue.getSize());
+        assertEquals(1, queue.getOverflowCount());
+        assertEquals(4, queue.getDroppedCount());
+
+        final Optional<LoEvent> folded = queue.poll(TIMEOUT);
+        assertEvent(folded, "/project/folder", MODIFIED, 1L);
+        assertTrue(folded.get().isSubtreeModified());
+        assertEquals(DIR, folded.get().getItemType());
+        assertEvent(queue.poll(TIMEOUT), "/project/e", MODIFIED, 5L);
+    }
+
+    @Test
+    public void shouldFoldEventsIntoRootWhenTheyHaveNoOtherCommonFolder() throws Exception {
+        final LoEventQueueHolder queue = new LoEventQueueHolder(1);
+        queue.put(event("/project1/a", FILE, MODIFIED, 1L));
+        queue.put(event("/project2/b", FILE, MODIFIED, 2L));
+        queue.put(event("/project3/c", FILE, MODIFIED, 3L));
+
+        assertEquals(1, queue.getSize());
+        final Optional<LoEvent> folded = queue.poll(TIMEOUT);
+        assertEvent(folded, "/", MODIFIED, 1L);
+        assertTrue(folded.get().isSubtreeModified());
+    }
+
+    @Test
+    public void shouldReportLagOfOldestPendingEvent() throws Exception {
+        final LoEventQueueHolder queue = new LoEventQueueHolder();
+        assertEquals(0, queue.getLag());
+
+        queue.put(event("/project/a", FILE, MODIFIED, System.currentTimeMillis() - 1000L));
+        queue.put(event("/project/b", FILE, MODIFIED, System.currentTimeMillis()));
+
+        assertTrue(queue.getLag() >= 1000L);
+    }
+
+    @Test
+    public void shouldReportLagOfOldestChangeOfCoalescedEvent() throws Exception {
+        final LoEventQueueHolder queue = new LoEventQueueHolder();
+        queue.put(event("/project/a", FILE, MODIFIED, System.currentTimeMillis() - 1000L));
+        queue.put(event("/project/b", FILE, MODIFIED, System.currentTimeMillis()));
+        queue.put(event("/project/a", FILE, MODIFIED, System.currentTimeMillis()));
+
+        assertTrue(queue.getLag() >= 1000L);
+    }
+
+    private void assertEvent(Optional<LoEvent> optional, String path, FileWatcherEventType type, long time) {
+        assertTrue(optional.isPresent());
+        assertEquals(path, optional.get().getPath());
+        assertEquals(type, optional.get().getEventType());
+        assertEquals(time, optional.get().getTime());
+    }
+
+    private LoEvent event(String path, ItemType itemType, FileWatcherEventType type, long time) {
+        return LoEvent.newInstance()
+                      .withPath(path)
+                      .withName(path.substring(path.lastIndexOf('/') + 1))
+                      .withItemType(itemType)
+                      .withEventType(type)
+                      .withTime(time);
+    }
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file.event.detectors;
+
+import com.google.common.hash.Hashing;
+
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileSystem;
+import org.eclipse.che.api.vfs.VirtualFileSystemProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link FileTrackingRegistry}
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FileTrackingRegistryTest {
+    private static final String PATH     = "/project/file.txt";
+    private static final int    ENDPOINT = 1;
+
+    @Mock
+    private VirtualFileSystemProvider vfsProvider;
+    @Mock
+    private VirtualFileSystem         vfs;
+    @Mock
+    private VirtualFile               root;
+    @Mock
+    private VirtualFile               file;
+
+    private FileTrackingRegistry registry;
+
+    private byte[] content;
+
+    @Before
+    public void setUp() throws Exception {
+        when(vfsProvider.getVirtualFileSystem()).thenReturn(vfs);
+        when(vfs.getRoot()).thenReturn(root);
+        when(root.getChild(Path.of(PATH))).thenReturn(file);
+        when(file.getContent()).thenAnswer(invocation -> new ByteArrayInputStream(content));
+
+        registry = new FileTrackingRegistry(vfsProvider);
+    }
+
+    @Test
+    public void shouldStoreMd5HashOfFileContent() throws Exception {
+        setContent("file content", System.currentTimeMillis());
+
+        registry.add(PATH, ENDPOINT);
+
+        assertEquals(registry.getHashCode(PATH), Hashing.md5().hashString("file content", UTF_8).toString());
+    }
+
+    @Test
+    public void shouldCheckFileExistence() throws Exception {
+        assertTrue(registry.exists(PATH));
+        assertFalse(registry.exists("/project/missing.txt"));
+    }
+
+    @Test
+    public void shouldHashLargeFileAsStream() throws Exception {
+        final byte[] large = new byte[16 * 1024 * 1024 + 17];
+        Arrays.fill(large, (byte)'a');
+        content = large;
+        when(file.getLength()).thenReturn((long)large.length);
+
+        registry.add(PATH, ENDPOINT);
+
+        assertEquals(registry.getHashCode(PATH), Hashing.md5().hashBytes(large).toString());
+        verify(file, never()).getContentAsString();
+        verify(file, never()).getContentAsBytes();
+    }
+
+    @Test
+    public void shouldNotHashFileAgainIfItsModificationDateAndLengthAreNotChanged() throws Exception {
+        setContent("file content", System.currentTimeMillis() - 10 * FileTrackingRegistry.MODIFICATION_DATE_PRECISION_MS);
+        registry.add(PATH, ENDPOINT);
+
+        assertFalse(registry.updateHash(PATH));
+        assertFalse(registry.updateHash(PATH));
+
+        verify(file, times(1)).getContent();
+    }
+
+    @Test
+    public void shouldDetectContentChangeWhenModificationDateIsChanged() throws Exception {
+        final long modified = System.currentTimeMillis() - 10 * FileTrackingRegistry.MODIFICATION_DATE_PRECISION_MS;
+        setContent("file content", modified);
+        registry.add(PATH, ENDPOINT);
+
+        setContent("file CONTENT", modified + 1);
+
+        assertTrue(registry.updateHash(PATH));
+        assertEquals(registry.getHashCode(PATH), Hashing.md5().hashString("file CONTENT", UTF_8).toString());
+    }
+
+    @Test
+    public void shouldHashRecentlyModifiedFileEvenIfItsAttributesAreNotChanged() throws Exception {
+        final long modified = System.currentTimeMillis();
+        setContent("file content", modified);
+        registry.add(PATH, ENDPOINT);
+
+        // the same length and modification date within the date precision
+        setContent("file CONTENT", modified);
+
+        assertTrue(registry.updateHash(PATH));
+        assertEquals(registry.getHashCode(PATH), Hashing.md5().hashString("file CONTENT", UTF_8).toString());
+    }
+
+    @Test
+    public void shouldReportNoChangesIfContentIsTheSameAfterModification() throws Exception {
+        final long modified = System.currentTimeMillis() - 10 * FileTrackingRegistry.MODIFICATION_DATE_PRECISION_MS;
+        setContent("file content", modified);
+        registry.add(PATH, ENDPOINT);
+
+        setContent("file content", modified + 1);
+
+        assertFalse(registry.updateHash(PATH));
+        verify(file, times(2)).getContent();
+    }
+
+    private void setContent(String text, long lastModified) throws Exception {
+        content = text.getBytes(UTF_8);
+        when(file.getLength()).thenReturn((long)content.length);
+        when(file.getLastModificationDate()).thenReturn(lastModified);
+    }
+}
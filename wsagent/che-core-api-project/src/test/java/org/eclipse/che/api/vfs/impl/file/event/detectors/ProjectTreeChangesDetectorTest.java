@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file.event.detectors;
+
+import org.eclipse.che.api.core.jsonrpc.JsonRpcRequestTransmitter;
+import org.eclipse.che.api.core.jsonrpc.shared.JsonRpcRequest;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeDeltaDto;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeItemDeltaDto;
+import org.eclipse.che.api.vfs.impl.file.event.EventTreeNode;
+import org.eclipse.che.api.vfs.impl.file.event.LoEvent;
+import org.eclipse.che.api.vfs.impl.file.event.LoEvent.ItemType;
+import org.eclipse.che.commons.schedule.executor.ThreadPullLauncher;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.List;
+
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
+import static org.eclipse.che.api.vfs.impl.file.event.LoEvent.ItemType.DIR;
+import static org.eclipse.che.api.vfs.impl.file.event.LoEvent.ItemType.FILE;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test for {@link ProjectTreeChangesDetector}
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ProjectTreeChangesDetectorTest {
+    @Mock
+    private JsonRpcRequestTransmitter transmitter;
+    @Mock
+    private ThreadPullLauncher        launcher;
+
+    private ProjectTreeChangesDetector detector;
+
+    @Before
+    public void setUp() throws Exception {
+        detector = new ProjectTreeChangesDetector(transmitter, launcher);
+    }
+
+    @Test
+    public void shouldTransmitOrderedDeltas() {
+        final EventTreeNode root = EventTreeNode.newRootInstance();
+        final EventTreeNode project = node(root, "/project", DIR);
+        node(project, "/project/b.txt", FILE).withEvent(event(1L, MODIFIED));
+        node(project, "/project/a.txt", FILE).withEvent(event(2L, CREATED));
+        detector.detect(root);
+
+        detector.transmit();
+
+        final ProjectTreeDeltaDto dto = transmitted();
+        assertEquals(1L, dto.getSequence());
+        assertEquals(2, dto.getDeltas().size());
+        assertDelta(dto.getDeltas().get(0), "/project/a.txt", CREATED);
+        assertDelta(dto.getDeltas().get(1), "/project/b.txt", MODIFIED);
+    }
+
+    @Test
+    public void shouldCoalesceEventsOfSameItem() {
+        final EventTreeNode root = EventTreeNode.newRootInstance();
+        final EventTreeNode project = node(root, "/project", DIR);
+        node(project, "/project/created", FILE).withEvent(event(1L, CREATED)).withEvent(event(2L, MODIFIED));
+        node(project, "/project/temporary", FILE).withEvent(event(3L, CREATED)).withEvent(event(4L, DELETED));
+        node(project, "/project/replaced", FILE).withEvent(event(5L, DELETED)).withEvent(event(6L, CREATED));
+        detector.detect(root);
+
+        detector.transmit();
+
+        final List<ProjectTreeItemDeltaDto> deltas = transmitted().getDeltas();
+        assertEquals(2, deltas.size());
+        assertDelta(deltas.get(0), "/project/created", CREATED);
+        assertDelta(deltas.get(1), "/project/replaced", MODIFIED);
+    }
+
+    @Test
+    public void shouldSkipChangesInsideOfRemovedDirectory() {
+        final EventTreeNode root = EventTreeNode.newRootInstance();
+        final EventTreeNode project = node(root, "/project", DIR);
+        final EventTreeNode folder = node(project, "/project/folder", DIR).withEvent(event(2L, DELETED));
+        node(folder, "/project/folder/file", FILE).withEvent(event(1L, DELETED));
+        node(project, "/project/folder2", DIR).withEvent(event(3L, MODIFIED));
+        detector.detect(root);
+
+        detector.transmit();
+
+        final List<ProjectTreeItemDeltaDto> deltas = transmitted().getDeltas();
+        assertEquals(1, deltas.size());
+        assertDelta(deltas.get(0), "/project/folder", DELETED);
+    }
+
+    @Test
+    public void shouldTransmitModificationOfSubtreeAndSkipChangesInsideOfIt() {
+        final EventTreeNode root = EventTreeNode.newRootInstance();
+        final EventTreeNode project = node(root, "/project", DIR);
+        final EventTreeNode folder = node(project, "/project/folder", DIR).withEvent(event(2L, MODIFIED).withSubtreeModified(true));
+        node(folder, "/project/folder/file", FILE).withEvent(event(1L, CREATED));
+        node(project, "/project/folder-2", FILE).withEvent(event(3L, CREATED));
+        detector.detect(root);
+
+        detector.transmit();
+
+        final List<ProjectTreeItemDeltaDto> deltas = transmitted().getDeltas();
+        assertEquals(2, deltas.size());
+        assertDelta(deltas.get(0), "/project/folder", MODIFIED);
+        assertDelta(deltas.get(1), "/project/folder-2", CREATED);
+    }
+
+    @Test
+    public void shouldTransmitModificationOfWorkspaceRootWhenWholeTreeIsModified() {
+        final EventTreeNode root = EventTreeNode.newRootInstance().withEvent(event(2L, MODIFIED).withSubtreeModified(true));
+        node(node(root, "/project", DIR), "/project/file", FILE).withEvent(event(1L, MODIFIED));
+        detector.detect(root);
+
+        detector.transmit();
+
+        final List<ProjectTreeItemDeltaDto> deltas = transmitted().getDeltas();
+        assertEquals(1, deltas.size());
+        assertDelta(deltas.get(0), "", MODIFIED);
+    }
+
+    @Test
+    public void shouldTransmitModificationOfCommonDirectoryWhenTooManyChanges() {
+        final EventTreeNode root = EventTreeNode.newRootInstance();
+        final EventTreeNode folder = node(node(root, "/project", DIR), "/project/folder", DIR);
+        for (int i = 0; i <= ProjectTreeChangesDetector.MAX_DELTAS; i++) {
+            node(folder, "/project/folder/file" + i, FILE).withEvent(event(i, CREATED));
+        }
+        detector.detect(root);
+
+        detector.transmit();
+
+        final List<ProjectTreeItemDeltaDto> deltas = transmitted().getDeltas();
+        assertEquals(1, deltas.size());
+        assertDelta(deltas.get(0), "/project/folder", MODIFIED);
+    }
+
+    @Test
+    public void shouldIncrementSequenceAndSkipEmptyChanges() {
+        final EventTreeNode root = EventTreeNode.newRootInstance();
+        node(node(root, "/project", DIR), "/project/file", FILE).withEvent(event(1L, MODIFIED));
+        detector.detect(root);
+        detector.transmit();
+
+        detector.transmit();
+        verify(transmitter).transmit(any(JsonRpcRequest.class));
+
+        final EventTreeNode anotherRoot = EventTreeNode.newRootInstance();
+        node(node(anotherRoot, "/project", DIR), "/project/file", FILE).withEvent(event(2L, MODIFIED));
+        detector.detect(anotherRoot);
+        detector.transmit();
+
+        final ArgumentCaptor<JsonRpcRequest> captor = ArgumentCaptor.forClass(JsonRpcRequest.class);
+        verify(transmitter, times(2)).transmit(captor.capture());
+        assertEquals(2L, toDto(captor.getValue()).getSequence());
+    }
+
+    @Test
+    public void shouldNotTransmitWhenSuspended() {
+        final EventTreeNode root = EventTreeNode.newRootInstance();
+        node(node(root, "/project", DIR), "/project/file", FILE).withEvent(event(1L, MODIFIED));
+        detector.detect(root);
+
+        detector.suspend();
+        detector.transmit();
+
+        verify(transmitter, never()).transmit(any(JsonRpcRequest.class));
+    }
+
+    private ProjectTreeDeltaDto transmitted() {
+        final ArgumentCaptor<JsonRpcRequest> captor = ArgumentCaptor.forClass(JsonRpcRequest.class);
+        verify(transmitter).transmit(captor.capture());
+        assertEquals("event:project-tree-delta", captor.getValue().getMethod());
+
+        return toDto(captor.getValue());
+    }
+
+    private ProjectTreeDeltaDto toDto(JsonRpcRequest request) {
+        return DtoFactory.getInstance().createDtoFromJson(request.getParams(), ProjectTreeDeltaDto.class);
+    }
+
+    private void assertDelta(ProjectTreeItemDeltaDto delta, String path, FileWatcherEventType type) {
+        assertEquals(path, delta.getPath());
+        assertEquals(type, delta.getType());
+    }
+
+    private EventTreeNode node(EventTreeNode parent, String path, ItemType type) {
+        return EventTreeNode.newInstance()
+                            .withName(path.substring(path.lastIndexOf('/') + 1))
+                            .withPath(path)
+                            .withType(type)
+                            .withParent(parent);
+    }
+
+    private LoEvent event(long time, FileWatcherEventType type) {
+        return LoEvent.newInstance()
+                      .withTime(time)
+                      .withEventType(type);
+    }
+}
@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.jgit.errors.IncorrectObjectTypeException;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.eclipse.jgit.lib.Constants.R_HEADS;
+import static org.eclipse.jgit.lib.Constants.R_REMOTES;
+
+/**
+ * Index of the local and remote branches which contain commits of the repository.
+ * <p>
+ * Each commit reachable from any branch has the bitmap of the branches it is reachable from. Index is kept per repository
+ * and is refreshed incrementally when branches change: new and fast-forwarded branches are marked on the commits which
+ * don't have their bit yet, while removal or rewriting of any branch causes rebuilding of the whole index, which is done
+ * in a single topological walk propagating bitmaps from children to parents.
+ * <p>
+ * It is used instead of {@link org.eclipse.jgit.api.ListBranchCommand#setContains(String)}, which walks the history
+ * from each branch for each commit.
+ */
+class CommitBranchesIndex {
+    private static final Logger LOG = LoggerFactory.getLogger(CommitBranchesIndex.class);
+
+    private static final Cache<File, CommitBranchesIndex> INDEXES = CacheBuilder.newBuilder()
+                                                                                .maximumSize(16)
+                                                                                .expireAfterAccess(30, MINUTES)
+                                                                                .build();
+
+    /** Names of indexed branches, position in the list is the bit of the branch in the bitmaps of commits. */
+    private final List<String>          branches;
+    private final Map<String, ObjectId> tips;
+    private final Map<ObjectId, BitSet> reachability;
+
+    CommitBranchesIndex() {
+        branches = new ArrayList<>();
+        tips = new HashMap<>();
+        reachability = new HashMap<>();
+    }
+
+    /** Returns index of the given repository, index is shared by all connections to the same repository. */
+    static CommitBranchesIndex of(Repository repository) {
+        final File directory = repository.getDirectory();
+        if (directory == null) {
+            return new CommitBranchesIndex();
+        }
+        try {
+            return INDEXES.get(directory.getAbsoluteFile(), CommitBranchesIndex::new);
+        } catch (ExecutionException e) {
+            // never happens, index creation doesn't throw checked exceptions
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /** Brings index up to date with the current local and remote branches of the repository. */
+    synchronized void refresh(Repository repository) throws IOException {
+        final Map<String, ObjectId> current = readTips(repository);
+        if (current.equals(tips)) {
+            return;
+        }
+
+        try (RevWalk walk = new RevWalk(repository)) {
+            boolean rebuild = reachability.isEmpty();
+            for (Map.Entry<String, ObjectId> tip : tips.entrySet()) {
+                final ObjectId newTip = current.get(tip.getKey());
+                if (newTip == null || !isFastForward(walk, tip.getValue(), newTip)) {
+                    rebuild = true;
+                    break;
+                }
+            }
+
+            if (rebuild) {
+                build(walk, current);
+            } else {
+                final List<String> moved = new ArrayList<>();
+                for (Map.Entry<String, ObjectId> tip : current.entrySet()) {
+                    if (!tip.getValue().equals(tips.get(tip.getKey()))) {
+                        moved.add(tip.getKey());
+                    }
+                }
+                for (String branch : moved) {
+                    int bit = branches.indexOf(branch);
+                    if (bit == -1) {
+                        bit = branches.size();
+                        branches.add(branch);
+                    }
+                    mark(walk, bit, current.get(branch));
+                }
+            }
+        }
+
+        tips.clear();
+        tips.putAll(current);
+    }
+
+    /** Returns sorted names of the branches which contain the given commit. */
+    synchronized List<String> getBranches(AnyObjectId commit) {
+        final BitSet bits = reachability.get(commit);
+        if (bits == null) {
+            return Collections.emptyList();
+        }
+        final List<String> names = new ArrayList<>(bits.cardinality());
+        for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+            names.add(branches.get(bit));
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    /** Returns number of indexed commits. */
+    synchronized int size() {
+        return reachability.size();
+    }
+
+    private void build(RevWalk walk, Map<String, ObjectId> current) throws IOException {
+        final long start = System.currentTimeMillis();
+        branches.clear();
+        reachability.clear();
+
+        walk.reset();
+        walk.sort(RevSort.TOPO);
+        for (Map.Entry<String, ObjectId> tip : current.entrySet()) {
+            final RevCommit commit = parseCommit(walk, tip.getValue());
+            if (commit != null) {
+                bitsOf(commit).set(branches.size());
+                branches.add(tip.getKey());
+                walk.markStart(commit);
+            }
+        }
+        // topological order guarantees that all children of the commit are visited before it
+        for (RevCommit commit = walk.next(); commit != null; commit = walk.next()) {
+            final BitSet bits = bitsOf(commit);
+            for (RevCommit parent : commit.getParents()) {
+                bitsOf(parent).or(bits);
+            }
+        }
+        walk.reset();
+        walk.sort(RevSort.NONE);
+        LOG.debug("Index of {} branches of {} commits is built in {} ms",
+                  branches.size(), reachability.size(), System.currentTimeMillis() - start);
+    }
+
+    private void mark(RevWalk walk, int bit, ObjectId tip) throws IOException {
+        final RevCommit tipCommit = parseCommit(walk, tip);
+        if (tipCommit == null) {
+            return;
+        }
+        final Deque<RevCommit> queue = new ArrayDeque<>();
+        queue.push(tipCommit);
+        while (!queue.isEmpty()) {
+            final RevCommit commit = queue.pop();
+            final BitSet bits = bitsOf(commit);
+            if (!bits.get(bit)) {
+                bits.set(bit);
+                walk.parseHeaders(commit);
+                for (RevCommit parent : commit.getParents()) {
+                    queue.push(parent);
+                }
+            }
+        }
+    }
+
+    private BitSet bitsOf(RevCommit commit) {
+        BitSet bits = reachability.get(commit);
+        if (bits == null) {
+            bits = new BitSet();
+            reachability.put(commit.copy(), bits);
+        }
+        return bits;
+    }
+
+    private boolean isFastForward(RevWalk walk, ObjectId oldTip, ObjectId newTip) throws IOException {
+        if (oldTip.equals(newTip)) {
+            return true;
+        }
+        final RevCommit oldCommit = parseCommit(walk, oldTip);
+        final RevCommit newCommit = parseCommit(walk, newTip);
+        try {
+            return oldCommit != null && newCommit != null && walk.isMergedInto(oldCommit, newCommit);
+        } finally {
+            walk.reset();
+        }
+    }
+
+    private static RevCommit parseCommit(RevWalk walk, ObjectId id) throws IOException {
+        try {
+            return walk.parseCommit(id);
+        } catch (MissingObjectException | IncorrectObjectTypeException e) {
+            LOG.debug("Branch tip {} isn't a commit and isn't indexed", id.getName());
+            return null;
+        }
+    }
+
+    private static Map<String, ObjectId> readTips(Repository repository) throws IOException {
+        final Map<String, ObjectId> tips = new HashMap<>();
+        for (String prefix : new String[]{R_HEADS, R_REMOTES}) {
+            for (Ref ref : repository.getRefDatabase().getRefs(prefix).values()) {
+                if (ref.getObjectId() != null) {
+                    tips.put(ref.getName(), ref.getObjectId());
+                }
+            }
+        }
+        return tips;
+    }
+}
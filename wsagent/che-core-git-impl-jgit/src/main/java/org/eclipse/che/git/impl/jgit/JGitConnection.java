@@ -253,14 +253,16 @@ class JGitConnection implements GitConnection {
     private final SshKeyProvider    sshKeyProvider;
     private final GitUserResolver   userResolver;
     private final Repository        repository;
+    private final JGitStatusCache   statusCache;
 
     @Inject
     JGitConnection(Repository repository, CredentialsLoader credentialsLoader, SshKeyProvider sshKeyProvider,
-                   GitUserResolver userResolver) {
+                   GitUserResolver userResolver, JGitStatusCache statusCache) {
         this.repository = repository;
         this.credentialsLoader = credentialsLoader;
         this.sshKeyProvider = sshKeyProvider;
         this.userResolver = userResolver;
+        this.statusCache = statusCache;
     }
 
     @Override
@@ -725,10 +727,12 @@ class JGitConnection implements GitConnection {
                 logCommand.addPath(filePath);
             }
             Iterator<RevCommit> revIterator = logCommand.call().iterator();
+            CommitBranchesIndex branchesIndex = CommitBranchesIndex.of(repository);
+            branchesIndex.refresh(repository);
             List<Revision> commits = new ArrayList<>();
             while (revIterator.hasNext()) {
                 RevCommit commit = revIterator.next();
-                Revision revision = getRevision(commit, filePath);
+                Revision revision = getRevision(commit, filePath, branchesIndex, params.isDiffCommitFile());
                 commits.add(revision);
             }
             return new LogPage(commits);
@@ -743,19 +747,29 @@ class JGitConnection implements GitConnection {
         }
     }
 
-    private Revision getRevision(RevCommit commit, String filePath) throws GitAPIException, IOException {
+    private Revision getRevision(RevCommit commit,
+                                 String filePath,
+                                 CommitBranchesIndex branchesIndex,
+                                 boolean withDiffCommitFile) throws IOException {
         List<String> commitParentsList = Stream.of(commit.getParents())
                                                .map(RevCommit::getName)
                                                .collect(Collectors.toList());
-
-        return newDto(Revision.class).withId(commit.getId().getName())
-                                     .withMessage(commit.getFullMessage())
-                                     .withCommitTime((long)commit.getCommitTime() * 1000)
-                                     .withCommitter(getCommitCommitter(commit))
-                                     .withAuthor(getCommitAuthor(commit))
-                                     .withBranches(getBranchesOfCommit(commit, ListMode.ALL))
-                                     .withCommitParent(commitParentsList)
-                                     .withDiffCommitFile(getCommitDiffFiles(commit, filePath));
+        List<Branch> branches = branchesIndex.getBranches(commit)
+                                             .stream()
+                                             .map(branch -> newDto(Branch.class).withName(branch))
+                                             .collect(Collectors.toList());
+
+        Revision revision = newDto(Revision.class).withId(commit.getId().getName())
+                                                  .withMessage(commit.getFullMessage())
+                                                  .withCommitTime((long)commit.getCommitTime() * 1000)
+                                                  .withCommitter(getCommitCommitter(commit))
+                                                  .withAuthor(getCommitAuthor(commit))
+                                                  .withBranches(branches)
+                                                  .withCommitParent(commitParentsList);
+        if (withDiffCommitFile) {
+            revision.setDiffCommitFile(getCommitDiffFiles(commit, filePath));
+        }
+        return revision;
     }
 
     private GitUser getCommitCommitter(RevCommit commit) {
@@ -770,16 +784,6 @@ class JGitConnection implements GitConnection {
                                     .withEmail(authorIdentity.getEmailAddress());
     }
 
-    private List<Branch> getBranchesOfCommit(RevCommit commit, ListMode mode) throws GitAPIException {
-        List<Ref> branches = getGit().branchList()
-                                     .setListMode(mode)
-                                     .setContains(commit.getName())
-                                     .call();
-        return branches.stream()
-                       .map(branch -> newDto(Branch.class).withName(branch.getName()))
-                       .collect(Collectors.toList());
-    }
-
     private List<DiffCommitFile> getCommitDiffFiles(RevCommit revCommit, String pattern) throws IOException {
         List<DiffEntry> diffs;
         TreeFilter filter = null;
@@ -1462,7 +1466,10 @@ class JGitConnection implements GitConnection {
             throw new GitException("Not a git repository");
         }
         String branchName = getCurrentBranch();
-        return new JGitStatusImpl(branchName, getGit().status(), format);
+        if (statusCache == null) {
+            return new JGitStatusImpl(branchName, getGit().status(), format);
+        }
+        return statusCache.getStatus(getGit(), branchName, format);
     }
 
     @Override
@@ -44,12 +44,17 @@ public class JGitConnectionFactory extends GitConnectionFactory {
     private final CredentialsLoader credentialsLoader;
     private final SshKeyProvider    sshKeyProvider;
     private final GitUserResolver   userResolver;
+    private final JGitStatusCache   statusCache;
 
     @Inject
-    public JGitConnectionFactory(CredentialsLoader credentialsLoader, SshKeyProvider sshKeyProvider, GitUserResolver userResolver) throws GitException {
+    public JGitConnectionFactory(CredentialsLoader credentialsLoader,
+                                 SshKeyProvider sshKeyProvider,
+                                 GitUserResolver userResolver,
+                                 JGitStatusCache statusCache) throws GitException {
         this.credentialsLoader = credentialsLoader;
         this.sshKeyProvider = sshKeyProvider;
         this.userResolver = userResolver;
+        this.statusCache = statusCache;
 
         UserAgent.set(USER_AGENT);
         // Install the all-trusting trust manager
@@ -79,7 +84,7 @@ public class JGitConnectionFactory extends GitConnectionFactory {
     @Override
     public JGitConnection getConnection(File workDir, LineConsumerFactory outputPublisherFactory) throws GitException {
         Repository gitRepo = createRepository(workDir);
-        JGitConnection conn = new JGitConnection(gitRepo, credentialsLoader, sshKeyProvider, userResolver);
+        JGitConnection conn = new JGitConnection(gitRepo, credentialsLoader, sshKeyProvider, userResolver, statusCache);
         conn.setOutputLineConsumerFactory(outputPublisherFactory);
         return conn;
     }
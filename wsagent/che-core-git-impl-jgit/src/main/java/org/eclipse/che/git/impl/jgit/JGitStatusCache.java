@@ -0,0 +1,380 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.git.exception.GitException;
+import org.eclipse.che.api.git.shared.Status;
+import org.eclipse.che.api.git.shared.StatusFormat;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.vfs.impl.file.event.LoEvent;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.StatusCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Keeps results of git status of the repositories located in the workspace storage and updates them incrementally.
+ * <p>
+ * Paths changed in the working tree are collected from the events of the file watcher and from the modifications made
+ * through the project API, then only these paths are checked on the next status request and the result is merged into
+ * the previous one. As the file watcher reports changes with a delay and doesn't watch excluded directories, before
+ * the status is returned the tracked files are also checked against the stat data stored in the index, so modified,
+ * deleted or restored tracked files are found even if their change isn't reported yet. Full status, which walks the
+ * whole working tree, is calculated only for the first request and when HEAD or the index of the repository changes,
+ * e.g. after commit, checkout or adding files to the index.
+ */
+@Singleton
+public class JGitStatusCache implements EventSubscriber<LoEvent> {
+    private static final Logger LOG = LoggerFactory.getLogger(JGitStatusCache.class);
+
+    private final EventService                  eventService;
+    private final File                          root;
+    private final Cache<File, RepositoryStatus> statuses;
+
+    private final EventSubscriber<ProjectItemModifiedEvent> projectItemModifiedSubscriber;
+
+    /**
+     * @param root
+     *         workspace storage, status of the repositories outside of it isn't cached since changes of their working trees
+     *         aren't reported by the file watcher
+     */
+    @Inject
+    public JGitStatusCache(EventService eventService, @Named("che.user.workspaces.storage") File root) {
+        this.eventService = eventService;
+        this.root = root.getAbsoluteFile();
+        this.statuses = CacheBuilder.newBuilder()
+                                    .maximumSize(64)
+                                    .expireAfterAccess(30, MINUTES)
+                                    .build();
+        this.projectItemModifiedSubscriber = new EventSubscriber<ProjectItemModifiedEvent>() {
+            @Override
+            public void onEvent(ProjectItemModifiedEvent event) {
+                onProjectItemModified(event);
+            }
+        };
+    }
+
+    @PostConstruct
+    void subscribe() {
+        eventService.subscribe(this);
+        eventService.subscribe(projectItemModifiedSubscriber);
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        eventService.unsubscribe(this);
+        eventService.unsubscribe(projectItemModifiedSubscriber);
+    }
+
+    @Override
+    public void onEvent(LoEvent event) {
+        onChange(event.getPath());
+    }
+
+    /**
+     * Project API publishes the event right after the item is modified,
+     * so the change is taken into account without waiting for the file watcher.
+     */
+    void onProjectItemModified(ProjectItemModifiedEvent event) {
+        onChange(event.getPath());
+        if (event.getOldPath() != null) {
+            onChange(event.getOldPath());
+        }
+    }
+
+    private void onChange(String path) {
+        for (RepositoryStatus status : statuses.asMap().values()) {
+            status.onChange(path);
+        }
+    }
+
+    /**
+     * Returns status of the given repository, status is calculated only for the paths changed since the previous request
+     * if it is possible.
+     */
+    Status getStatus(Git git, String branchName, StatusFormat format) throws GitException {
+        final Repository repository = git.getRepository();
+        final File workTree = repository.getWorkTree().getAbsoluteFile();
+        final String vfsPath = toVfsPath(workTree);
+        if (vfsPath == null) {
+            return new JGitStatusImpl(branchName, git.status(), format);
+        }
+
+        final RepositoryStatus status = statuses.asMap().computeIfAbsent(workTree, key -> new RepositoryStatus(vfsPath));
+        try {
+            return status.update(git).toStatus(branchName, format);
+        } catch (GitAPIException | IOException e) {
+            throw new GitException(e.getMessage(), e);
+        }
+    }
+
+    private String toVfsPath(File workTree) {
+        final String rootPath = root.getPath();
+        final String workTreePath = workTree.getPath();
+        if (workTreePath.equals(rootPath)) {
+            return "";
+        }
+        if (workTreePath.startsWith(rootPath + File.separatorChar)) {
+            return workTreePath.substring(rootPath.length()).replace(File.separatorChar, '/');
+        }
+        return null;
+    }
+
+    /**
+     * Last known status of the repository and paths of its working tree changed since it was calculated.
+     * Updates are numbered when started, so a slow update doesn't replace the snapshot of an update started later.
+     */
+    private static class RepositoryStatus {
+        private final String      vfsPath;
+        private final Set<String> changed;
+
+        private boolean  wholeTreeChanged;
+        private Snapshot snapshot;
+        private long     startedUpdates;
+        private long     appliedUpdate;
+
+        RepositoryStatus(String vfsPath) {
+            this.vfsPath = vfsPath;
+            this.changed = new HashSet<>();
+        }
+
+        synchronized void onChange(String path) {
+            if (path.equals(vfsPath) || vfsPath.startsWith(path + '/') || path.equals("/") && vfsPath.isEmpty()) {
+                wholeTreeChanged = true;
+            } else if (path.startsWith(vfsPath + '/')) {
+                final String relative = path.substring(vfsPath.length() + 1);
+                // changes of HEAD and index are detected by their own state
+                if (!relative.equals(Constants.DOT_GIT) && !relative.startsWith(Constants.DOT_GIT + '/')) {
+                    changed.add(relative);
+                }
+            }
+        }
+
+        Snapshot update(Git git) throws GitAPIException, IOException {
+            final Repository repository = git.getRepository();
+            final List<Object> state = readState(repository);
+            final Map<String, List<Long>> statChanged = readStatChanged(repository);
+            final Collection<String> paths;
+            final long generation;
+            synchronized (this) {
+                if (snapshot == null || wholeTreeChanged || !state.equals(snapshot.state)) {
+                    paths = null;
+                } else {
+                    final Set<String> unreported = snapshot.findUnreportedChanges(repository.getWorkTree(), statChanged);
+                    if (changed.isEmpty() && unreported.isEmpty()) {
+                        return snapshot;
+                    }
+                    final Set<String> all = new HashSet<>(changed);
+                    all.addAll(unreported);
+                    paths = all;
+                }
+                // changes reported during the calculation will be checked next time
+                changed.clear();
+                wholeTreeChanged = false;
+                generation = ++startedUpdates;
+            }
+
+            final long start = System.currentTimeMillis();
+            final StatusCommand statusCommand = git.status();
+            if (paths != null) {
+                paths.forEach(statusCommand::addPath);
+            }
+            final org.eclipse.jgit.api.Status gitStatus = statusCommand.call();
+            LOG.debug("Status of {} {} is calculated in {} ms",
+                      paths == null ? "whole working tree" : paths.size() + " changed paths",
+                      git.getRepository().getWorkTree(),
+                      System.currentTimeMillis() - start);
+
+            synchronized (this) {
+                if (generation < appliedUpdate) {
+                    // the result may be older than the snapshot, so the paths are checked again next time
+                    if (paths == null) {
+                        wholeTreeChanged = true;
+                    } else {
+                        changed.addAll(paths);
+                    }
+                    return snapshot;
+                }
+                appliedUpdate = generation;
+                final Snapshot base = paths == null || snapshot == null ? Snapshot.EMPTY : snapshot;
+                snapshot = base.merge(paths, gitStatus, state, statChanged);
+                return snapshot;
+            }
+        }
+
+        /**
+         * Returns the tracked files which modification date or length differs from the ones stored in the index,
+         * mapped to their modification date and length. Only the file attributes are read, so it is much cheaper
+         * than the status which also walks untracked directories and compares the content of racily clean files.
+         */
+        private static Map<String, List<Long>> readStatChanged(Repository repository) throws IOException {
+            final File workTree = repository.getWorkTree();
+            final DirCache index = repository.readDirCache();
+            final Map<String, List<Long>> statChanged = new HashMap<>();
+            for (int i = 0; i < index.getEntryCount(); i++) {
+                final DirCacheEntry entry = index.getEntry(i);
+                final File file = new File(workTree, entry.getPathString());
+                final long lastModified = file.lastModified();
+                final long length = file.length();
+                if (entry.isSmudged() || lastModified != entry.getLastModified() || length != entry.getLength()) {
+                    statChanged.put(entry.getPathString(), Arrays.asList(lastModified, length));
+                }
+            }
+            return statChanged;
+        }
+
+        /** Id of the commit HEAD points to, and modification date and length of the index file. */
+        private static List<Object> readState(Repository repository) throws IOException {
+            final ObjectId head = repository.resolve(Constants.HEAD);
+            final File index = repository.getIndexFile();
+            return Arrays.asList(head, index.lastModified(), index.length());
+        }
+    }
+
+    /** Immutable result of the status. */
+    private static class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(null, null);
+
+        final List<Object>            state;
+        final Map<String, List<Long>> statChanged;
+        final Set<String>             added;
+        final Set<String>             changed;
+        final Set<String>             removed;
+        final Set<String>             missing;
+        final Set<String>             modified;
+        final Set<String>             untracked;
+        final Set<String>             untrackedFolders;
+        final Set<String>             conflicting;
+
+        private Snapshot(List<Object> state, Map<String, List<Long>> statChanged) {
+            this.state = state;
+            this.statChanged = statChanged;
+            added = new TreeSet<>();
+            changed = new TreeSet<>();
+            removed = new TreeSet<>();
+            missing = new TreeSet<>();
+            modified = new TreeSet<>();
+            untracked = new TreeSet<>();
+            untrackedFolders = new TreeSet<>();
+            conflicting = new TreeSet<>();
+        }
+
+        /**
+         * Creates new snapshot replacing the status of the given paths with the new status,
+         * if paths are {@code null} then new status is the status of the whole working tree.
+         */
+        Snapshot merge(Collection<String> paths,
+                       org.eclipse.jgit.api.Status status,
+                       List<Object> state,
+                       Map<String, List<Long>> statChanged) {
+            final Snapshot merged = new Snapshot(state, statChanged);
+            merge(added, status.getAdded(), merged.added, paths);
+            merge(changed, status.getChanged(), merged.changed, paths);
+            merge(removed, status.getRemoved(), merged.removed, paths);
+            merge(missing, status.getMissing(), merged.missing, paths);
+            merge(modified, status.getModified(), merged.modified, paths);
+            merge(untracked, status.getUntracked(), merged.untracked, paths);
+            merge(untrackedFolders, status.getUntrackedFolders(), merged.untrackedFolders, paths);
+            merge(conflicting, status.getConflicting(), merged.conflicting, paths);
+            return merged;
+        }
+
+        /**
+         * Returns the paths which status may have changed, while their change isn't reported:
+         * tracked files which attributes changed since this snapshot was calculated
+         * and untracked files which don't exist anymore.
+         */
+        Set<String> findUnreportedChanges(File workTree, Map<String, List<Long>> currentStatChanged) {
+            final Set<String> unreported = new HashSet<>();
+            for (Map.Entry<String, List<Long>> entry : currentStatChanged.entrySet()) {
+                if (!entry.getValue().equals(statChanged.get(entry.getKey()))) {
+                    unreported.add(entry.getKey());
+                }
+            }
+            for (String path : statChanged.keySet()) {
+                if (!currentStatChanged.containsKey(path)) {
+                    unreported.add(path);
+                }
+            }
+            for (String path : untracked) {
+                if (!new File(workTree, path).exists()) {
+                    unreported.add(path);
+                }
+            }
+            return unreported;
+        }
+
+        private static void merge(Set<String> previous, Set<String> current, Set<String> target, Collection<String> paths) {
+            if (paths != null) {
+                for (String path : previous) {
+                    if (!isInside(path, paths)) {
+                        target.add(path);
+                    }
+                }
+            }
+            target.addAll(current);
+        }
+
+        private static boolean isInside(String path, Collection<String> paths) {
+            for (String changedPath : paths) {
+                if (path.equals(changedPath) || path.startsWith(changedPath + '/')) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Status toStatus(String branchName, StatusFormat format) {
+            final JGitStatusImpl status = new JGitStatusImpl(branchName, format);
+            status.setAdded(new ArrayList<>(added));
+            status.setChanged(new ArrayList<>(changed));
+            status.setRemoved(new ArrayList<>(removed));
+            status.setMissing(new ArrayList<>(missing));
+            status.setModified(new ArrayList<>(modified));
+            status.setUntracked(new ArrayList<>(untracked));
+            status.setUntrackedFolders(new ArrayList<>(untrackedFolders));
+            status.setConflicting(new ArrayList<>(conflicting));
+            status.setClean(added.isEmpty() && changed.isEmpty() && removed.isEmpty() && missing.isEmpty() && modified.isEmpty()
+                            && untracked.isEmpty() && conflicting.isEmpty());
+            return status;
+        }
+    }
+}
@@ -45,6 +45,19 @@ public class JGitStatusImpl implements Status, InfoPage {
     private List<String> conflicting;
     private String       repositoryState;
 
+    /**
+     * Creates empty status, its content is set by {@link JGitStatusCache}.
+     *
+     * @param branchName
+     *         current repository branch name
+     * @param format
+     *         the output format for the status
+     */
+    JGitStatusImpl(String branchName, StatusFormat format) {
+        this.branchName = branchName;
+        this.format = format;
+    }
+
     /**
      * @param branchName
      *         current repository branch name
@@ -13,13 +13,17 @@ package org.eclipse.che.git.impl;
 
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.git.CredentialsLoader;
 import org.eclipse.che.api.git.exception.GitException;
 import org.eclipse.che.api.git.GitUserResolver;
 import org.eclipse.che.git.impl.jgit.JGitConnectionFactory;
+import org.eclipse.che.git.impl.jgit.JGitStatusCache;
 import org.eclipse.che.plugin.ssh.key.script.SshKeyProvider;
 import org.testng.annotations.DataProvider;
 
+import java.io.File;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -37,7 +41,10 @@ public class GitConnectionFactoryProvider {
                         new JGitConnectionFactory(
                                 mock(CredentialsLoader.class),
                                 mock(SshKeyProvider.class),
-                                resolver
+                                resolver,
+                                // test repositories are created in the temporary directory
+                                new JGitStatusCache(new EventService(),
+                                                    new File(System.getProperty("java.io.tmpdir")))
                         )
                 }
         };
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ListBranchCommand.ListMode;
+import org.eclipse.jgit.api.ResetCommand.ResetType;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link CommitBranchesIndex}.
+ */
+public class CommitBranchesIndexTest {
+    private File            directory;
+    private Git             git;
+    private List<RevCommit> commits;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("commit-branches-index").toFile();
+        git = Git.init().setDirectory(directory).call();
+        commits = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            commits.add(commit("commit " + i));
+        }
+        final Random random = new Random(1);
+        for (int i = 0; i < 50; i++) {
+            git.branchCreate().setName("branch" + i).setStartPoint(commits.get(random.nextInt(commits.size()))).call();
+        }
+        for (int i = 0; i < 5; i++) {
+            git.checkout().setName("branch" + i).call();
+            commits.add(commit("commit in branch" + i));
+        }
+        git.checkout().setName("master").call();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        git.close();
+        IoUtil.deleteRecursive(directory);
+    }
+
+    @Test
+    public void shouldReturnSameBranchesAsListBranchCommand() throws Exception {
+        final CommitBranchesIndex index = new CommitBranchesIndex();
+
+        index.refresh(git.getRepository());
+
+        assertBranchesOfAllCommits(index);
+    }
+
+    @Test
+    public void shouldUpdateIndexWhenBranchesAreCreatedOrFastForwarded() throws Exception {
+        final CommitBranchesIndex index = new CommitBranchesIndex();
+        index.refresh(git.getRepository());
+
+        git.branchCreate().setName("new-branch").setStartPoint(commits.get(10)).call();
+        git.checkout().setName("branch1").call();
+        commits.add(commit("fast-forward"));
+        git.checkout().setName("master").call();
+        index.refresh(git.getRepository());
+
+        assertBranchesOfAllCommits(index);
+        assertEquals(index.getBranches(commits.get(commits.size() - 1)), singletonList("refs/heads/branch1"));
+    }
+
+    @Test
+    public void shouldUpdateIndexWhenBranchesAreRemovedOrRewritten() throws Exception {
+        final CommitBranchesIndex index = new CommitBranchesIndex();
+        index.refresh(git.getRepository());
+
+        git.branchDelete().setBranchNames("branch2").setForce(true).call();
+        git.checkout().setName("branch3").call();
+        git.reset().setMode(ResetType.HARD).setRef(commits.get(3).getName()).call();
+        git.checkout().setName("master").call();
+        index.refresh(git.getRepository());
+
+        assertBranchesOfAllCommits(index);
+    }
+
+    private RevCommit commit(String message) throws Exception {
+        return git.commit().setMessage(message).call();
+    }
+
+    private void assertBranchesOfAllCommits(CommitBranchesIndex index) throws Exception {
+        for (RevCommit commit : commits) {
+            final List<String> expected = git.branchList()
+                                             .setListMode(ListMode.ALL)
+                                             .setContains(commit.getName())
+                                             .call()
+                                             .stream()
+                                             .map(Ref::getName)
+                                             .sorted()
+                                             .collect(Collectors.toList());
+            assertEquals(index.getBranches(commit), expected, "Branches of commit " + commit.getName());
+        }
+    }
+}
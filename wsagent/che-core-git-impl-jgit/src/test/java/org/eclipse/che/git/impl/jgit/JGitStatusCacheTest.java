@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.git.shared.Status;
+import org.eclipse.che.api.git.shared.StatusFormat;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.vfs.impl.file.event.LoEvent;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.jgit.api.Git;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link JGitStatusCache}.
+ */
+public class JGitStatusCacheTest {
+    private File            root;
+    private File            workTree;
+    private Git             git;
+    private JGitStatusCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("git-status-cache").toFile();
+        workTree = new File(root, "project");
+        git = Git.init().setDirectory(workTree).call();
+        write("a.txt", "a");
+        write("folder/b.txt", "b");
+        git.add().addFilepattern(".").call();
+        git.commit().setMessage("init").call();
+        cache = new JGitStatusCache(new EventService(), root);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        git.close();
+        IoUtil.deleteRecursive(root);
+    }
+
+    @Test
+    public void shouldReturnSameStatusAsFullStatusAfterChangedFilesAreReported() throws Exception {
+        assertTrue(cachedStatus().isClean());
+
+        write("a.txt", "changed");
+        changed("/project/a.txt");
+        assertSameAsFullStatus();
+
+        write("new.txt", "new");
+        changed("/project/new.txt");
+        assertSameAsFullStatus();
+
+        Files.delete(new File(workTree, "folder/b.txt").toPath());
+        changed("/project/folder/b.txt");
+        assertSameAsFullStatus();
+
+        write("new-folder/c.txt", "c");
+        changed("/project/new-folder");
+        changed("/project/new-folder/c.txt");
+        assertSameAsFullStatus();
+
+        final Status status = cachedStatus();
+        assertEquals(status.getModified(), singletonList("a.txt"));
+        assertEquals(status.getMissing(), singletonList("folder/b.txt"));
+        assertEquals(sorted(status.getUntracked()), asList("new-folder/c.txt", "new.txt"));
+        assertEquals(status.getUntrackedFolders(), singletonList("new-folder"));
+    }
+
+    @Test
+    public void shouldRecomputeWholeStatusWhenIndexOrHeadIsChanged() throws Exception {
+        write("a.txt", "changed");
+        changed("/project/a.txt");
+        assertEquals(cachedStatus().getModified(), singletonList("a.txt"));
+
+        git.add().addFilepattern("a.txt").call();
+        assertSameAsFullStatus();
+        assertEquals(cachedStatus().getChanged(), singletonList("a.txt"));
+
+        git.commit().setMessage("change").call();
+        assertSameAsFullStatus();
+        assertTrue(cachedStatus().isClean());
+    }
+
+    @Test
+    public void shouldRecomputeWholeStatusWhenProjectIsChanged() throws Exception {
+        assertTrue(cachedStatus().isClean());
+
+        write("a.txt", "changed");
+        write("folder/b.txt", "changed");
+        changed("/project");
+
+        assertEquals(sorted(cachedStatus().getModified()), asList("a.txt", "folder/b.txt"));
+    }
+
+    @Test
+    public void shouldIgnoreChangesOfOtherProjectsAndGitDirectory() throws Exception {
+        assertTrue(cachedStatus().isClean());
+
+        // new untracked files are found only through the reported changes
+        write("new.txt", "new");
+        changed("/project2/new.txt");
+        changed("/project/.git/config");
+
+        assertEquals(cachedStatus().getUntracked(), emptyList());
+    }
+
+    @Test
+    public void shouldFindChangesOfTrackedFilesWhichAreNotReported() throws Exception {
+        assertTrue(cachedStatus().isClean());
+
+        write("a.txt", "changed");
+        Files.delete(new File(workTree, "folder/b.txt").toPath());
+        assertSameAsFullStatus();
+        assertEquals(cachedStatus().getModified(), singletonList("a.txt"));
+        assertEquals(cachedStatus().getMissing(), singletonList("folder/b.txt"));
+
+        write("a.txt", "a");
+        write("folder/b.txt", "b");
+        assertSameAsFullStatus();
+        assertTrue(cachedStatus().isClean());
+    }
+
+    @Test
+    public void shouldFindRemovedUntrackedFilesWhichAreNotReported() throws Exception {
+        write("new.txt", "new");
+        changed("/project/new.txt");
+        assertEquals(cachedStatus().getUntracked(), singletonList("new.txt"));
+
+        Files.delete(new File(workTree, "new.txt").toPath());
+
+        assertSameAsFullStatus();
+        assertTrue(cachedStatus().isClean());
+    }
+
+    @Test
+    public void shouldTakeIntoAccountItemsModifiedThroughProjectApi() throws Exception {
+        assertTrue(cachedStatus().isClean());
+
+        write("new.txt", "new");
+        cache.onProjectItemModified(new ProjectItemModifiedEvent(ProjectItemModifiedEvent.EventType.CREATED,
+                                                                 "workspace",
+                                                                 "project",
+                                                                 "/project/new.txt",
+                                                                 false));
+
+        assertEquals(cachedStatus().getUntracked(), singletonList("new.txt"));
+    }
+
+    @Test
+    public void shouldNotCacheStatusOfRepositoryOutsideOfWorkspace() throws Exception {
+        final JGitStatusCache otherRootCache = new JGitStatusCache(new EventService(), new File(root, "other"));
+        assertTrue(otherRootCache.getStatus(git, "master", StatusFormat.LONG).isClean());
+
+        write("a.txt", "changed");
+
+        assertFalse(otherRootCache.getStatus(git, "master", StatusFormat.LONG).isClean());
+    }
+
+    private void assertSameAsFullStatus() throws Exception {
+        final Status cached = cachedStatus();
+        final Status full = new JGitStatusImpl("master", git.status(), StatusFormat.LONG);
+        assertEquals(cached.isClean(), full.isClean());
+        assertEquals(sorted(cached.getAdded()), sorted(full.getAdded()));
+        assertEquals(sorted(cached.getChanged()), sorted(full.getChanged()));
+        assertEquals(sorted(cached.getRemoved()), sorted(full.getRemoved()));
+        assertEquals(sorted(cached.getMissing()), sorted(full.getMissing()));
+        assertEquals(sorted(cached.getModified()), sorted(full.getModified()));
+        assertEquals(sorted(cached.getUntracked()), sorted(full.getUntracked()));
+        assertEquals(sorted(cached.getUntrackedFolders()), sorted(full.getUntrackedFolders()));
+        assertEquals(sorted(cached.getConflicting()), sorted(full.getConflicting()));
+    }
+
+    private Status cachedStatus() throws Exception {
+        return cache.getStatus(git, "master", StatusFormat.LONG);
+    }
+
+    private void changed(String path) {
+        cache.onEvent(LoEvent.newInstance().withPath(path));
+    }
+
+    private void write(String path, String content) throws Exception {
+        final File file = new File(workTree, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes());
+    }
+
+    private static List<String> sorted(List<String> list) {
+        final List<String> sorted = new ArrayList<>(list);
+        Collections.sort(sorted);
+        return sorted;
+    }
+}
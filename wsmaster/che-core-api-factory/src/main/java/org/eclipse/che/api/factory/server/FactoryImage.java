@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.api.factory.server;
 
+import com.google.common.hash.Hashing;
+
 import javax.persistence.Basic;
 import javax.persistence.Embeddable;
 import java.util.Arrays;
@@ -28,6 +30,13 @@ public class FactoryImage {
     @Basic
     private String name;
 
+    /**
+     * Hash of the image data, it is stored with the image, so the hash of
+     * the image can be read without loading of the image data.
+     */
+    @Basic
+    private String hash;
+
     public FactoryImage() {}
 
     public FactoryImage(byte[] data, String mediaType, String name) {
@@ -42,6 +51,7 @@ public class FactoryImage {
 
     public void setImageData(byte[] imageData) {
         this.imageData = imageData;
+        this.hash = computeHash(imageData);
     }
 
     public String getMediaType() {
@@ -71,10 +81,23 @@ public class FactoryImage {
         this.name = name;
     }
 
+    /** Returns SHA-256 hash of the image data in hex, which is used as the entity tag of the image. */
+    public String getHash() {
+        // images stored before the hash was persisted don't have it
+        if (hash == null) {
+            hash = computeHash(imageData);
+        }
+        return hash;
+    }
+
     public boolean hasContent() {
         return imageData != null && imageData.length > 0;
     }
 
+    private static String computeHash(byte[] imageData) {
+        return Hashing.sha256().hashBytes(imageData != null ? imageData : new byte[0]).toString();
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
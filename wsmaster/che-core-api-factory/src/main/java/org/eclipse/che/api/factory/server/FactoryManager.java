@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.factory.server;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
@@ -25,12 +28,15 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.ws.rs.core.UriBuilder;
 import java.net.URI;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.MoreObjects.firstNonNull;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.eclipse.che.api.factory.shared.Constants.HTML_SNIPPET_TYPE;
 import static org.eclipse.che.api.factory.shared.Constants.IFRAME_SNIPPET_TYPE;
 import static org.eclipse.che.api.factory.shared.Constants.MARKDOWN_SNIPPET_TYPE;
@@ -42,9 +48,30 @@ import static org.eclipse.che.api.factory.shared.Constants.URL_SNIPPET_TYPE;
 @Singleton
 public class FactoryManager {
 
+    /** Max total size in bytes of the images kept in memory. */
+    private static final long MAX_CACHED_IMAGES_SIZE = 32 * 1024 * 1024;
+
     @Inject
     private FactoryDao factoryDao;
 
+    /**
+     * Images of the recently requested factories, so the popular images, e.g. embedded to the README badges,
+     * are not loaded from the storage on every request. Entry is dropped when factory is updated or removed,
+     * entries also expire to catch up with the changes made bypassing this manager.
+     * Factories without images are not cached as their entries weigh nothing and would never be evicted.
+     */
+    private final Cache<String, Set<FactoryImage>> images = CacheBuilder.newBuilder()
+                                                                        .maximumWeight(MAX_CACHED_IMAGES_SIZE)
+                                                                        .weigher(FactoryManager::sizeOf)
+                                                                        .expireAfterWrite(10, MINUTES)
+                                                                        .build();
+
+    /**
+     * Number of the factory modifications, guarded by {@link #images}. Loaded images are not cached
+     * if any factory was modified during the loading, as they may be loaded before the modification.
+     */
+    private long modifications;
+
     /**
      * Stores {@link Factory} instance.
      *
@@ -133,10 +160,14 @@ public class FactoryManager {
                                                                                   ServerException {
         requireNonNull(update);
         final AuthorImpl creator = factoryDao.getById(update.getId()).getCreator();
-        return factoryDao.update(FactoryImpl.builder()
-                                            .from(new FactoryImpl(update, images))
-                                            .setCreator(new AuthorImpl(creator.getUserId(), creator.getCreated()))
-                                            .build());
+        try {
+            return factoryDao.update(FactoryImpl.builder()
+                                                .from(new FactoryImpl(update, images))
+                                                .setCreator(new AuthorImpl(creator.getUserId(), creator.getCreated()))
+                                                .build());
+        } finally {
+            invalidateImages(update.getId());
+        }
     }
 
     /**
@@ -151,7 +182,11 @@ public class FactoryManager {
      */
     public void removeFactory(String id) throws ServerException {
         requireNonNull(id);
-        factoryDao.remove(id);
+        try {
+            factoryDao.remove(id);
+        } finally {
+            invalidateImages(id);
+        }
     }
 
     /**
@@ -209,7 +244,58 @@ public class FactoryManager {
     public Set<FactoryImage> getFactoryImages(String factoryId) throws NotFoundException,
                                                                        ServerException {
         requireNonNull(factoryId);
-        return factoryDao.getById(factoryId).getImages();
+        Set<FactoryImage> factoryImages = images.getIfPresent(factoryId);
+        if (factoryImages == null) {
+            final long loadedAfter;
+            synchronized (images) {
+                loadedAfter = modifications;
+            }
+            factoryImages = unmodifiableSet(new LinkedHashSet<>(factoryDao.getById(factoryId).getImages()));
+            if (!factoryImages.isEmpty()) {
+                synchronized (images) {
+                    if (modifications == loadedAfter) {
+                        images.put(factoryId, factoryImages);
+                    }
+                }
+            }
+        }
+        return factoryImages;
+    }
+
+    /**
+     * Gets hash of the factory image, image data is not loaded if the image isn't kept in memory.
+     *
+     * @param factoryId
+     *         factory identifier
+     * @param imageId
+     *         image identifier, when it's null the hash of the first found image is returned
+     * @return hash of the image, or null if it isn't known, e.g. when image doesn't exist,
+     * image identifier is not specified and factory has several images or the hash is not stored
+     * @throws ServerException
+     *         when any server errors occurs
+     */
+    public String getFactoryImageHash(String factoryId, String imageId) throws ServerException {
+        requireNonNull(factoryId);
+        final Set<FactoryImage> factoryImages = images.getIfPresent(factoryId);
+        if (factoryImages != null) {
+            for (FactoryImage image : factoryImages) {
+                if (imageId == null || imageId.equals(image.getName())) {
+                    return image.getHash();
+                }
+            }
+            return null;
+        }
+        final List<Pair<String, String>> hashes = factoryDao.getImageHashes(factoryId);
+        if (imageId == null) {
+            // first found image may differ from the image loaded later when factory has several images
+            return hashes.size() == 1 ? hashes.get(0).second : null;
+        }
+        for (Pair<String, String> hash : hashes) {
+            if (imageId.equals(hash.first)) {
+                return hash.second;
+            }
+        }
+        return null;
     }
 
     /**
@@ -282,4 +368,21 @@ public class FactoryManager {
                 return null;
         }
     }
+
+    private void invalidateImages(String factoryId) {
+        synchronized (images) {
+            modifications++;
+            images.invalidate(factoryId);
+        }
+    }
+
+    private static int sizeOf(String factoryId, Set<FactoryImage> factoryImages) {
+        int size = 0;
+        for (FactoryImage image : factoryImages) {
+            if (image.getImageData() != null) {
+                size += image.getImageData().length;
+            }
+        }
+        return size;
+    }
 }
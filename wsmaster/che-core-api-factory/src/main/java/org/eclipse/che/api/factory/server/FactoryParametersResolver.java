@@ -35,6 +35,10 @@ public interface FactoryParametersResolver {
     /**
      * Create factory object based on provided parameters
      *
+     * <p>Created factories are reused for the same parameters and the same user
+     * for some time, see {@link ResolvedFactoryCache}, so the result must depend
+     * only on the parameters and on the current user.
+     *
      * @param factoryParameters
      *         map containing factory data parameters provided through URL
      * @throws BadRequestException
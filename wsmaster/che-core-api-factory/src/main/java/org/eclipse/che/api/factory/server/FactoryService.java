@@ -51,13 +51,18 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import java.io.ByteArrayOutputStream;
@@ -103,6 +108,16 @@ public class FactoryService extends Service {
      */
     public static final String VALIDATE_QUERY_PARAMETER = "validate";
 
+    /**
+     * Refresh query parameter. If true, factory will be resolved again instead of using the cached one
+     */
+    public static final String REFRESH_QUERY_PARAMETER = "refresh";
+
+    /**
+     * Time in seconds during which clients may use factory image without revalidating it by its entity tag.
+     */
+    private static final int IMAGE_MAX_AGE = 300;
+
     /**
      * Set of resolvers for factories. Injected through an holder.
      */
@@ -116,6 +131,7 @@ public class FactoryService extends Service {
     private final FactoryAcceptValidator acceptValidator;
     private final FactoryBuilder         factoryBuilder;
     private final WorkspaceManager       workspaceManager;
+    private final ResolvedFactoryCache   resolvedFactoryCache;
 
     @Inject
     public FactoryService(FactoryManager factoryManager,
@@ -126,7 +142,8 @@ public class FactoryService extends Service {
                           FactoryEditValidator editValidator,
                           FactoryBuilder factoryBuilder,
                           WorkspaceManager workspaceManager,
-                          FactoryParametersResolverHolder factoryParametersResolverHolder) {
+                          FactoryParametersResolverHolder factoryParametersResolverHolder,
+                          ResolvedFactoryCache resolvedFactoryCache) {
         this.factoryManager = factoryManager;
         this.userManager = userManager;
         this.createValidator = createValidator;
@@ -136,6 +153,7 @@ public class FactoryService extends Service {
         this.factoryBuilder = factoryBuilder;
         this.workspaceManager = workspaceManager;
         this.factoryParametersResolvers = factoryParametersResolverHolder.getFactoryParametersResolvers();
+        this.resolvedFactoryCache = resolvedFactoryCache;
     }
 
     @POST
@@ -329,8 +347,10 @@ public class FactoryService extends Service {
     @Path("/{id}/image")
     @Produces("image/*")
     @ApiOperation(value = "Get factory image",
-                  notes = "If image identifier is not specified then first found image will be returned")
+                  notes = "If image identifier is not specified then first found image will be returned. " +
+                          "Image is sent with its entity tag, so it may be requested conditionally with If-None-Match header")
     @ApiResponses({@ApiResponse(code = 200, message = "Response contains requested factory image"),
+                   @ApiResponse(code = 304, message = "Image matches the entity tag given in If-None-Match header"),
                    @ApiResponse(code = 400, message = "Missed required parameters, parameters are not valid"),
                    @ApiResponse(code = 404, message = "Factory or factory image not found"),
                    @ApiResponse(code = 500, message = "Internal server error")})
@@ -339,9 +359,26 @@ public class FactoryService extends Service {
                              String factoryId,
                              @ApiParam(value = "Image identifier")
                              @QueryParam("imgId")
-                             String imageId) throws NotFoundException,
+                             String imageId,
+                             @HeaderParam(HttpHeaders.IF_NONE_MATCH)
+                             String ifNoneMatch,
+                             @Context
+                             Request request) throws NotFoundException,
                                                     BadRequestException,
                                                     ServerException {
+        final CacheControl cacheControl = new CacheControl();
+        cacheControl.setMaxAge(IMAGE_MAX_AGE);
+        // conditional request is checked against the stored hash, so the image isn't loaded if client has it
+        if (ifNoneMatch != null) {
+            final String hash = factoryManager.getFactoryImageHash(factoryId, isNullOrEmpty(imageId) ? null : imageId);
+            if (hash != null) {
+                final EntityTag tag = new EntityTag(hash);
+                final Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+                if (notModified != null) {
+                    return notModified.tag(tag).cacheControl(cacheControl).build();
+                }
+            }
+        }
         final Set<FactoryImage> images;
         if (isNullOrEmpty(imageId)) {
             if ((images = factoryManager.getFactoryImages(factoryId)).isEmpty()) {
@@ -355,7 +392,15 @@ public class FactoryService extends Service {
             }
         }
         final FactoryImage image = images.iterator().next();
-        return Response.ok(image.getImageData(), image.getMediaType()).build();
+        final EntityTag tag = new EntityTag(image.getHash());
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.tag(tag).cacheControl(cacheControl).build();
+        }
+        return Response.ok(image.getImageData(), image.getMediaType())
+                       .tag(tag)
+                       .cacheControl(cacheControl)
+                       .build();
     }
 
     @GET
@@ -417,7 +462,7 @@ public class FactoryService extends Service {
     @Consumes(APPLICATION_JSON)
     @Produces(APPLICATION_JSON)
     @ApiOperation(value = "Create factory by providing map of parameters",
-                  notes = "Get JSON with factory information")
+                  notes = "Get JSON with factory information. Factories resolved from the same parameters are reused for some time")
     @ApiResponses({@ApiResponse(code = 200, message = "Factory successfully built from parameters"),
                    @ApiResponse(code = 400, message = "Missed required parameters, failed to validate factory"),
                    @ApiResponse(code = 500, message = "Internal server error")})
@@ -428,8 +473,14 @@ public class FactoryService extends Service {
                                                defaultValue = "false")
                                      @DefaultValue("false")
                                      @QueryParam(VALIDATE_QUERY_PARAMETER)
-                                     Boolean validate) throws ServerException,
-                                                              BadRequestException {
+                                     Boolean validate,
+                                     @ApiParam(value = "Whether or not to resolve factory again instead of using the cached one",
+                                               allowableValues = "true,false",
+                                               defaultValue = "false")
+                                     @DefaultValue("false")
+                                     @QueryParam(REFRESH_QUERY_PARAMETER)
+                                     Boolean refresh) throws ServerException,
+                                                             BadRequestException {
 
         // check parameter
         requiredNotNull(parameters, "Factory build parameters");
@@ -437,7 +488,10 @@ public class FactoryService extends Service {
         // search matching resolver and create factory from matching resolver
         for (FactoryParametersResolver resolver : factoryParametersResolvers) {
             if (resolver.accept(parameters)) {
-                final FactoryDto factory = resolver.createFactory(parameters);
+                if (refresh) {
+                    resolvedFactoryCache.invalidate(parameters);
+                }
+                final FactoryDto factory = resolvedFactoryCache.get(parameters, resolver);
                 if (validate) {
                     acceptValidator.validateOnAccept(factory);
                 }
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.factory.server;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.factory.shared.dto.FactoryDto;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.che.commons.subject.Subject;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.che.dto.server.DtoFactory.cloneDto;
+
+/**
+ * Keeps factories created by {@link FactoryParametersResolver} for some time,
+ * so accepting of the same factory, e.g. by many users of a workshop, doesn't fetch and parse its sources again.
+ * <p>
+ * Factories are cached by the parameters they are resolved from and by the id of the user who resolves them,
+ * as resolvers may fetch the sources with the user's credentials, e.g. from a private repository,
+ * so the factory resolved for one user is never returned to another one.
+ * Parameters are normalized before lookup: keys and values are trimmed and empty values are ignored.
+ * Concurrent requests for the same parameters wait for the single resolution.
+ */
+@Singleton
+public class ResolvedFactoryCache {
+    private final Cache<Pair<String, SortedMap<String, String>>, FactoryDto> factories;
+
+    /**
+     * @param ttlSeconds
+     *         time in seconds during which the resolved factory is reused, 0 disables caching
+     * @param maxSize
+     *         max number of the kept factories
+     */
+    @Inject
+    public ResolvedFactoryCache(@Named("che.factory.resolver.cache_ttl_sec") long ttlSeconds,
+                                @Named("che.factory.resolver.cache_size") long maxSize) {
+        this.factories = CacheBuilder.newBuilder()
+                                     .expireAfterWrite(ttlSeconds, SECONDS)
+                                     .maximumSize(maxSize)
+                                     .build();
+    }
+
+    /**
+     * Returns copy of the factory resolved from the given parameters for the current user,
+     * factory is created by the given {@code resolver} if it isn't cached yet.
+     *
+     * @param parameters
+     *         parameters to resolve factory from
+     * @param resolver
+     *         resolver which accepts given parameters
+     * @return resolved factory, the returned instance may be modified by caller
+     * @throws BadRequestException
+     *         when resolver fails to create factory from the given parameters
+     * @throws ServerException
+     *         when any other error occurs during resolution
+     */
+    public FactoryDto get(Map<String, String> parameters, FactoryParametersResolver resolver) throws BadRequestException,
+                                                                                                     ServerException {
+        try {
+            return cloneDto(factories.get(Pair.of(currentUserId(), normalize(parameters)),
+                                          () -> resolver.createFactory(parameters)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof BadRequestException) {
+                throw (BadRequestException)e.getCause();
+            }
+            throw new ServerException(e.getCause().getLocalizedMessage(), e.getCause());
+        }
+    }
+
+    /** Drops factories resolved from the given parameters for all the users, so they are resolved again on the next request. */
+    public void invalidate(Map<String, String> parameters) {
+        final SortedMap<String, String> normalized = normalize(parameters);
+        factories.asMap().keySet().removeIf(key -> key.second.equals(normalized));
+    }
+
+    /** Drops all the resolved factories. */
+    public void invalidateAll() {
+        factories.invalidateAll();
+    }
+
+    private static String currentUserId() {
+        final Subject subject = EnvironmentContext.getCurrent().getSubject();
+        return subject == null ? null : subject.getUserId();
+    }
+
+    private static SortedMap<String, String> normalize(Map<String, String> parameters) {
+        final SortedMap<String, String> normalized = new TreeMap<>();
+        for (Map.Entry<String, String> entry : parameters.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null && !entry.getValue().trim().isEmpty()) {
+                normalized.put(entry.getKey().trim(), entry.getValue().trim());
+            }
+        }
+        return Collections.unmodifiableSortedMap(normalized);
+    }
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.factory.server.jpa;
+
+import com.google.inject.persist.Transactional;
+
+import org.eclipse.che.api.core.jdbc.jpa.guice.JpaInitializer;
+import org.eclipse.che.api.factory.server.model.impl.FactoryImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Creates the indexes declared on {@link FactoryImpl} in the existing databases,
+ * as the schema generation creates indexes only together with a new table.
+ * Statements must be kept in sync with the indexes declared on the entity.
+ */
+@Singleton
+public class FactoryIndexesCreator {
+    private static final Logger LOG = LoggerFactory.getLogger(FactoryIndexesCreator.class);
+
+    private static final List<String> STATEMENTS = asList("CREATE INDEX IF NOT EXISTS index_factory_userid ON Factory (userId)",
+                                                          "CREATE INDEX IF NOT EXISTS index_factory_name ON Factory (name)");
+
+    @Inject
+    private Provider<EntityManager> managerProvider;
+
+    @Inject
+    @SuppressWarnings("unused")
+    // persistence service must be started before the indexes are created
+    private JpaInitializer jpaInitializer;
+
+    @PostConstruct
+    public void createIndexes() {
+        for (String statement : STATEMENTS) {
+            try {
+                doCreate(statement);
+            } catch (RuntimeException x) {
+                // the search by attributes works without indexes, only slower
+                LOG.warn("Could not create index of factories using statement '{}'. Error: {}", statement, x.getLocalizedMessage());
+            }
+        }
+    }
+
+    @Transactional
+    protected void doCreate(String statement) {
+        managerProvider.get().createNativeQuery(statement).executeUpdate();
+    }
+}
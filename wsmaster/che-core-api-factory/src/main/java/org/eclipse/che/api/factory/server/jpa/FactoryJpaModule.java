@@ -23,5 +23,6 @@ public class FactoryJpaModule extends AbstractModule {
     protected void configure() {
         bind(FactoryDao.class).to(JpaFactoryDao.class);
         bind(RemoveFactoriesBeforeUserRemovedEventSubscriber.class).asEagerSingleton();
+        bind(FactoryIndexesCreator.class).asEagerSingleton();
     }
 }
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.factory.server.jpa;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.persist.Transactional;
 
 import org.eclipse.che.api.core.ConflictException;
@@ -34,14 +37,21 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
-import java.util.HashMap;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.SingularAttribute;
+import javax.persistence.metamodel.Type;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
 
 import static java.lang.String.format;
 import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 
 /**
  * @author Anton Korneta
@@ -53,6 +63,15 @@ public class JpaFactoryDao implements FactoryDao {
     @Inject
     private Provider<EntityManager> managerProvider;
 
+    /**
+     * Queries built for the attribute names used in the search, reused while searching by the same attributes.
+     * Queries aren't registered as named ones, so the number of kept queries is bounded by this cache,
+     * while the parsed query text is reused by the EclipseLink JPQL parse cache.
+     */
+    private final Cache<List<String>, AttributesQuery> attributesQueries = CacheBuilder.newBuilder()
+                                                                                       .maximumSize(100)
+                                                                                       .build();
+
     @Override
     public FactoryImpl create(FactoryImpl factory) throws ConflictException, ServerException {
         requireNonNull(factory);
@@ -112,26 +131,41 @@ public class JpaFactoryDao implements FactoryDao {
                                             List<Pair<String, String>> attributes) throws ServerException {
         try {
             LOG.info("FactoryDao#getByAttributes #maxItems: {} #skipCount: {}, #attributes: {}", maxItems, skipCount, attributes);
-            final Map<String, String> params = new HashMap<>();
-            String query = "SELECT factory FROM Factory factory";
-            if (!attributes.isEmpty()) {
-                final StringJoiner matcher = new StringJoiner(" AND ", " WHERE ", " ");
-                int i = 0;
-                for (Pair<String, String> attribute : attributes) {
-                    final String parameterName = "parameterName" + i++;
-                    params.put(parameterName, attribute.second);
-                    matcher.add("factory." + attribute.first + " = :" + parameterName);
-                }
-                query = query + matcher;
-            }
-            final TypedQuery<FactoryImpl> typedQuery = managerProvider.get()
-                                                                      .createQuery(query, FactoryImpl.class)
-                                                                      .setFirstResult(skipCount)
-                                                                      .setMaxResults(maxItems);
-            for (Map.Entry<String, String> entry : params.entrySet()) {
-                typedQuery.setParameter(entry.getKey(), entry.getValue());
+            final EntityManager manager = managerProvider.get();
+            // the same attributes given in different order use the same query
+            final List<Pair<String, String>> sorted = attributes.stream()
+                                                                .sorted(comparing(attribute -> attribute.first))
+                                                                .collect(toList());
+            final List<String> names = sorted.stream()
+                                             .map(attribute -> attribute.first)
+                                             .collect(toList());
+            final AttributesQuery query = attributesQueries.get(names, () -> AttributesQuery.build(manager, names));
+            final TypedQuery<FactoryImpl> typedQuery = manager.createQuery(query.jpql, FactoryImpl.class)
+                                                              .setFirstResult(skipCount)
+                                                              .setMaxResults(maxItems);
+            for (int i = 0; i < sorted.size(); i++) {
+                typedQuery.setParameter("parameter" + i, query.convert(i, sorted.get(i).second));
             }
             return typedQuery.getResultList();
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            throw new ServerException(ex.getCause().getLocalizedMessage(), ex.getCause());
+        } catch (RuntimeException ex) {
+            throw new ServerException(ex.getLocalizedMessage(), ex);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<Pair<String, String>> getImageHashes(String factoryId) throws ServerException {
+        requireNonNull(factoryId);
+        try {
+            return managerProvider.get()
+                                  .createNamedQuery("Factory.getImageHashes", Object[].class)
+                                  .setParameter("id", factoryId)
+                                  .getResultList()
+                                  .stream()
+                                  .map(row -> Pair.of((String)row[0], (String)row[1]))
+                                  .collect(toList());
         } catch (RuntimeException ex) {
             throw new ServerException(ex.getLocalizedMessage(), ex);
         }
@@ -193,4 +227,65 @@ public class JpaFactoryDao implements FactoryDao {
             }
         }
     }
+
+    /**
+     * Query of the factories which have all the given attributes equal to the parameters,
+     * attributes are paths of the factory properties, e.g. {@code creator.userId}.
+     * The query is built once for the list of attribute names and is reused with different values.
+     */
+    private static class AttributesQuery {
+        final String         jpql;
+        final List<Class<?>> types;
+
+        AttributesQuery(String jpql, List<Class<?>> types) {
+            this.jpql = jpql;
+            this.types = types;
+        }
+
+        /**
+         * Resolves the attributes through the metamodel, so unknown attributes
+         * can't get into the query text, and builds the query text.
+         */
+        static AttributesQuery build(EntityManager manager, List<String> names) {
+            final Metamodel metamodel = manager.getMetamodel();
+            final List<Class<?>> types = new ArrayList<>(names.size());
+            final StringJoiner matcher = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+            for (String name : names) {
+                ManagedType<?> type = metamodel.entity(FactoryImpl.class);
+                Class<?> javaType = null;
+                for (String property : name.split("\\.", -1)) {
+                    if (type == null) {
+                        throw new IllegalArgumentException(format("Attribute '%s' is not a property of factory", name));
+                    }
+                    final Attribute<?, ?> attribute = type.getAttribute(property);
+                    if (attribute.isCollection()) {
+                        throw new IllegalArgumentException(format("Search by collection attribute '%s' is not supported", name));
+                    }
+                    final Type<?> attributeType = ((SingularAttribute<?, ?>)attribute).getType();
+                    type = attributeType.getPersistenceType() == Type.PersistenceType.BASIC ? null : (ManagedType<?>)attributeType;
+                    javaType = attribute.getJavaType();
+                }
+                matcher.add("factory." + name + " = :parameter" + types.size());
+                types.add(javaType);
+            }
+            return new AttributesQuery("SELECT factory FROM Factory factory" + matcher, types);
+        }
+
+        Object convert(int index, String value) {
+            final Class<?> type = types.get(index);
+            if (value == null || type == String.class) {
+                return value;
+            }
+            if (type == Long.class || type == long.class) {
+                return Long.valueOf(value);
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(value);
+            }
+            if (type == Boolean.class || type == boolean.class) {
+                return Boolean.valueOf(value);
+            }
+            return value;
+        }
+    }
 }
@@ -27,7 +27,10 @@ import javax.persistence.ElementCollection;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 import java.util.HashSet;
@@ -37,10 +40,23 @@ import java.util.Set;
 /**
  * Data object for {@link Factory}.
  *
+ * <p>Note that the indexes declared on this entity are created by the schema
+ * generation only together with a new table, in the existing databases they are
+ * created by {@link org.eclipse.che.api.factory.server.jpa.FactoryIndexesCreator}.
+ *
  * @author Anton Korneta
  */
 @Entity(name = "Factory")
-@Table
+@NamedQueries(
+        {
+                @NamedQuery(name = "Factory.getImageHashes",
+                            query = "SELECT image.name, image.hash " +
+                                    "FROM Factory factory JOIN factory.images image " +
+                                    "WHERE factory.id = :id")
+        }
+)
+@Table(indexes = {@Index(name = "index_factory_userid", columnList = "userId"),
+                  @Index(name = "index_factory_name", columnList = "name")})
 // TODO fix after issue: https://github.com/eclipse/che/issues/2110
 //(uniqueConstraints = {@UniqueConstraint(columnNames = {"name", "userId"})})
 public class FactoryImpl implements Factory {
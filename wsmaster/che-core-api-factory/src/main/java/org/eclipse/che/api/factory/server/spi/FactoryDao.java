@@ -103,4 +103,18 @@ public interface FactoryDao {
     List<FactoryImpl> getByAttribute(int maxItems,
                                      int skipCount,
                                      List<Pair<String, String>> attributes) throws ServerException;
+
+    /**
+     * Gets hashes of the factory images without loading of the images data.
+     *
+     * @param factoryId
+     *         factory identifier
+     * @return list of pairs of image name and image hash, hash is null for the images stored without it,
+     * empty list if factory doesn't exist or doesn't have images
+     * @throws NullPointerException
+     *         when {@code factoryId} is null
+     * @throws ServerException
+     *         when any other error occurs
+     */
+    List<Pair<String, String>> getImageHashes(String factoryId) throws ServerException;
 }
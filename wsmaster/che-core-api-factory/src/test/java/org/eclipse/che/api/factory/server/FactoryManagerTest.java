@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.factory.server;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.eclipse.che.api.factory.server.model.impl.AuthorImpl;
+import org.eclipse.che.api.factory.server.model.impl.FactoryImpl;
+import org.eclipse.che.api.factory.server.spi.FactoryDao;
+import org.eclipse.che.commons.lang.Pair;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link FactoryManager}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class FactoryManagerTest {
+    private static final String FACTORY_ID = "factory123";
+
+    @Mock
+    private FactoryDao     factoryDao;
+    @InjectMocks
+    private FactoryManager factoryManager;
+
+    private FactoryImage image;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        image = new FactoryImage(new byte[] {1, 2, 3}, "image/png", "image");
+        final FactoryImpl factory = FactoryImpl.builder()
+                                               .setId(FACTORY_ID)
+                                               .setCreator(new AuthorImpl("user123", 1L))
+                                               .setImages(ImmutableSet.of(image))
+                                               .build();
+        when(factoryDao.getById(FACTORY_ID)).thenReturn(factory);
+        when(factoryDao.update(any(FactoryImpl.class))).thenReturn(factory);
+    }
+
+    @Test
+    public void shouldLoadFactoryImagesOnlyOnce() throws Exception {
+        final Set<FactoryImage> images = factoryManager.getFactoryImages(FACTORY_ID);
+        factoryManager.getFactoryImages(FACTORY_ID);
+        factoryManager.getFactoryImages(FACTORY_ID, "image");
+
+        assertEquals(images, ImmutableSet.of(image));
+        verify(factoryDao).getById(FACTORY_ID);
+    }
+
+    @Test
+    public void shouldReloadFactoryImagesWhenFactoryIsUpdated() throws Exception {
+        factoryManager.getFactoryImages(FACTORY_ID);
+
+        factoryManager.updateFactory(factoryDao.getById(FACTORY_ID), ImmutableSet.of(image));
+        factoryManager.getFactoryImages(FACTORY_ID);
+
+        // initial load, the one made by the test, the one made by update and load after update
+        verify(factoryDao, times(4)).getById(FACTORY_ID);
+    }
+
+    @Test
+    public void shouldGetImageHashWithoutLoadingFactoryImages() throws Exception {
+        when(factoryDao.getImageHashes(FACTORY_ID)).thenReturn(singletonList(Pair.of("image", image.getHash())));
+
+        assertEquals(factoryManager.getFactoryImageHash(FACTORY_ID, "image"), image.getHash());
+        assertEquals(factoryManager.getFactoryImageHash(FACTORY_ID, null), image.getHash());
+        assertNull(factoryManager.getFactoryImageHash(FACTORY_ID, "unknown"));
+        verify(factoryDao, never()).getById(FACTORY_ID);
+    }
+
+    @Test
+    public void shouldNotGetImageHashOfFirstFoundImageWhenFactoryHasSeveralImages() throws Exception {
+        when(factoryDao.getImageHashes(FACTORY_ID)).thenReturn(asList(Pair.of("image", image.getHash()),
+                                                                      Pair.of("image2", "hash2")));
+
+        assertNull(factoryManager.getFactoryImageHash(FACTORY_ID, null));
+        assertEquals(factoryManager.getFactoryImageHash(FACTORY_ID, "image2"), "hash2");
+    }
+
+    @Test
+    public void shouldGetImageHashOfImageKeptInMemory() throws Exception {
+        factoryManager.getFactoryImages(FACTORY_ID);
+
+        assertEquals(factoryManager.getFactoryImageHash(FACTORY_ID, "image"), image.getHash());
+        verify(factoryDao, never()).getImageHashes(FACTORY_ID);
+    }
+
+    @Test
+    public void shouldReloadFactoryImagesWhenFactoryIsRemoved() throws Exception {
+        factoryManager.getFactoryImages(FACTORY_ID);
+
+        factoryManager.removeFactory(FACTORY_ID);
+        factoryManager.getFactoryImages(FACTORY_ID);
+
+        verify(factoryDao, times(2)).getById(FACTORY_ID);
+    }
+
+    @Test
+    public void shouldNotKeepImagesLoadedBeforeFactoryModification() throws Exception {
+        final FactoryImpl factory = factoryDao.getById(FACTORY_ID);
+        when(factoryDao.getById(FACTORY_ID)).thenAnswer(invocation -> {
+            // factory is removed while its images are being loaded
+            factoryManager.removeFactory(FACTORY_ID);
+            return factory;
+        });
+
+        factoryManager.getFactoryImages(FACTORY_ID);
+        factoryManager.getFactoryImages(FACTORY_ID);
+
+        verify(factoryDao, times(3)).getById(FACTORY_ID);
+    }
+
+    @Test
+    public void shouldNotKeepEmptyImagesOfFactoryWithoutImages() throws Exception {
+        when(factoryDao.getById(FACTORY_ID)).thenReturn(FactoryImpl.builder()
+                                                                   .setId(FACTORY_ID)
+                                                                   .setCreator(new AuthorImpl("user123", 1L))
+                                                                   .build());
+
+        assertTrue(factoryManager.getFactoryImages(FACTORY_ID).isEmpty());
+        factoryManager.getFactoryImages(FACTORY_ID);
+
+        verify(factoryDao, times(2)).getById(FACTORY_ID);
+    }
+}
@@ -94,6 +94,7 @@ import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static org.eclipse.che.api.factory.server.DtoConverter.asDto;
+import static org.eclipse.che.api.factory.server.FactoryService.REFRESH_QUERY_PARAMETER;
 import static org.eclipse.che.api.factory.server.FactoryService.VALIDATE_QUERY_PARAMETER;
 import static org.everrest.assured.JettyHttpServer.ADMIN_USER_NAME;
 import static org.everrest.assured.JettyHttpServer.ADMIN_USER_PASSWORD;
@@ -107,6 +108,7 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -186,7 +188,8 @@ public class FactoryServiceTest {
                                      editValidator,
                                      factoryBuilderSpy,
                                      workspaceManager,
-                                     factoryParametersResolverHolder);
+                                     factoryParametersResolverHolder,
+                                     new ResolvedFactoryCache(60, 100));
     }
 
     @Filter
@@ -602,6 +605,53 @@ public class FactoryServiceTest {
         assertEquals(response.asByteArray(), imageContent);
     }
 
+    @Test
+    public void shouldReturnFactoryImageWithEntityTagAndCacheControl() throws Exception {
+        final byte[] imageContent = Files.readAllBytes(getImagePath());
+        final FactoryImage image = new FactoryImage(imageContent, FACTORY_IMAGE_MIME_TYPE, IMAGE_NAME);
+        when(factoryManager.getFactoryImages(FACTORY_ID, IMAGE_NAME)).thenReturn(ImmutableSet.of(image));
+
+        final Response response = given().when()
+                                         .expect()
+                                         .statusCode(200)
+                                         .get(SERVICE_PATH + "/" + FACTORY_ID + "/image?imgId=" + IMAGE_NAME);
+
+        assertEquals(response.getHeader("ETag"), '"' + image.getHash() + '"');
+        assertTrue(response.getHeader("Cache-Control").contains("max-age=300"));
+    }
+
+    @Test
+    public void shouldReturnNotModifiedWhenFactoryImageMatchesEntityTag() throws Exception {
+        final byte[] imageContent = Files.readAllBytes(getImagePath());
+        final FactoryImage image = new FactoryImage(imageContent, FACTORY_IMAGE_MIME_TYPE, IMAGE_NAME);
+        when(factoryManager.getFactoryImages(FACTORY_ID)).thenReturn(ImmutableSet.of(image));
+
+        final Response response = given().header("If-None-Match", '"' + image.getHash() + '"')
+                                         .when()
+                                         .expect()
+                                         .statusCode(304)
+                                         .get(SERVICE_PATH + "/" + FACTORY_ID + "/image");
+
+        assertEquals(response.getHeader("ETag"), '"' + image.getHash() + '"');
+        assertEquals(response.asByteArray().length, 0);
+    }
+
+    @Test
+    public void shouldReturnNotModifiedWithoutLoadingFactoryImageWhenStoredHashMatchesEntityTag() throws Exception {
+        final String hash = new FactoryImage(Files.readAllBytes(getImagePath()), FACTORY_IMAGE_MIME_TYPE, IMAGE_NAME).getHash();
+        when(factoryManager.getFactoryImageHash(FACTORY_ID, IMAGE_NAME)).thenReturn(hash);
+
+        final Response response = given().header("If-None-Match", '"' + hash + '"')
+                                         .when()
+                                         .expect()
+                                         .statusCode(304)
+                                         .get(SERVICE_PATH + "/" + FACTORY_ID + "/image?imgId=" + IMAGE_NAME);
+
+        assertEquals(response.getHeader("ETag"), '"' + hash + '"');
+        verify(factoryManager, never()).getFactoryImages(anyString(), anyString());
+        verify(factoryManager, never()).getFactoryImages(anyString());
+    }
+
     @Test
     public void shouldThrowNotFoundExceptionWhenFactoryImageWithGivenIdentifierIsNotExist() throws Exception {
         final String errMessage = "Image with name " + IMAGE_NAME + " is not found";
@@ -745,6 +795,48 @@ public class FactoryServiceTest {
         verify(acceptValidator).validateOnAccept(any());
     }
 
+    @Test
+    public void shouldReuseFactoryResolvedFromSameParameters() throws Exception {
+        final FactoryParametersResolver resolver = Mockito.mock(FactoryParametersResolver.class);
+        factoryParametersResolvers.add(resolver);
+        when(resolver.accept(anyMapOf(String.class, String.class))).thenReturn(true);
+        when(resolver.createFactory(anyMapOf(String.class, String.class)))
+                .thenReturn(DTO.createDto(FactoryDto.class).withV("4.0").withName("resolvedFactory"));
+
+        for (int i = 0; i < 3; i++) {
+            final Response response = given().contentType(ContentType.JSON)
+                                             .when()
+                                             .body(singletonMap("url", "https://github.com/eclipse/che"))
+                                             .post(SERVICE_PATH + "/resolver");
+
+            assertEquals(response.getStatusCode(), 200);
+            assertEquals(getFromResponse(response, FactoryDto.class).getName(), "resolvedFactory");
+        }
+
+        verify(resolver).createFactory(anyMapOf(String.class, String.class));
+    }
+
+    @Test
+    public void shouldResolveFactoryAgainWhenRefreshIsRequested() throws Exception {
+        final FactoryParametersResolver resolver = Mockito.mock(FactoryParametersResolver.class);
+        factoryParametersResolvers.add(resolver);
+        when(resolver.accept(anyMapOf(String.class, String.class))).thenReturn(true);
+        when(resolver.createFactory(anyMapOf(String.class, String.class)))
+                .thenReturn(DTO.createDto(FactoryDto.class).withV("4.0").withName("resolvedFactory"));
+
+        given().contentType(ContentType.JSON)
+               .when()
+               .body(singletonMap("url", "https://github.com/eclipse/che"))
+               .post(SERVICE_PATH + "/resolver");
+        given().contentType(ContentType.JSON)
+               .when()
+               .body(singletonMap("url", "https://github.com/eclipse/che"))
+               .queryParam(REFRESH_QUERY_PARAMETER, valueOf(true))
+               .post(SERVICE_PATH + "/resolver");
+
+        verify(resolver, times(2)).createFactory(anyMapOf(String.class, String.class));
+    }
+
     private Factory createFactory() {
         return createNamedFactory(FACTORY_NAME);
     }
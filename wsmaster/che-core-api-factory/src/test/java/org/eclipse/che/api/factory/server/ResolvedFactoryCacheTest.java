@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.factory.server;
+
+import com.google.common.collect.ImmutableMap;
+
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.api.factory.shared.dto.FactoryDto;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.subject.SubjectImpl;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for {@link ResolvedFactoryCache}.
+ */
+public class ResolvedFactoryCacheTest {
+    private static final Map<String, String> PARAMETERS = ImmutableMap.of("url", "https://github.com/eclipse/che");
+
+    private CountingResolver     resolver;
+    private ResolvedFactoryCache cache;
+
+    @BeforeMethod
+    public void setUp() {
+        resolver = new CountingResolver();
+        cache = new ResolvedFactoryCache(60, 100);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        EnvironmentContext.reset();
+    }
+
+    @Test
+    public void shouldResolveFactoryOnceForSameParameters() throws Exception {
+        final FactoryDto first = cache.get(PARAMETERS, resolver);
+        final FactoryDto second = cache.get(ImmutableMap.of(" url ", "https://github.com/eclipse/che ", "branch", ""), resolver);
+
+        assertEquals(resolver.invocations, 1);
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void shouldResolveFactoryForDifferentParameters() throws Exception {
+        cache.get(PARAMETERS, resolver);
+        cache.get(ImmutableMap.of("url", "https://github.com/eclipse/che", "branch", "master"), resolver);
+
+        assertEquals(resolver.invocations, 2);
+    }
+
+    @Test
+    public void shouldResolveFactoryForEachUser() throws Exception {
+        EnvironmentContext.getCurrent().setSubject(new SubjectImpl("user1", "id1", "token1", false));
+        cache.get(PARAMETERS, resolver);
+        EnvironmentContext.getCurrent().setSubject(new SubjectImpl("user2", "id2", "token2", false));
+        final FactoryDto factory = cache.get(PARAMETERS, resolver);
+
+        assertEquals(resolver.invocations, 2);
+        assertEquals(factory.getName(), "factory2");
+    }
+
+    @Test
+    public void shouldResolveFactoryAgainForAllUsersWhenItIsInvalidated() throws Exception {
+        EnvironmentContext.getCurrent().setSubject(new SubjectImpl("user1", "id1", "token1", false));
+        cache.get(PARAMETERS, resolver);
+        EnvironmentContext.getCurrent().setSubject(new SubjectImpl("user2", "id2", "token2", false));
+        cache.get(PARAMETERS, resolver);
+
+        cache.invalidate(PARAMETERS);
+        cache.get(PARAMETERS, resolver);
+        EnvironmentContext.getCurrent().setSubject(new SubjectImpl("user1", "id1", "token1", false));
+        cache.get(PARAMETERS, resolver);
+
+        assertEquals(resolver.invocations, 4);
+    }
+
+    @Test
+    public void shouldNotChangeCachedFactoryWhenReturnedOneIsModified() throws Exception {
+        cache.get(PARAMETERS, resolver).setName("modified");
+
+        assertEquals(cache.get(PARAMETERS, resolver).getName(), "factory1");
+    }
+
+    @Test
+    public void shouldResolveFactoryAgainWhenItIsInvalidated() throws Exception {
+        cache.get(PARAMETERS, resolver);
+
+        cache.invalidate(PARAMETERS);
+        cache.get(PARAMETERS, resolver);
+        cache.invalidateAll();
+        final FactoryDto factory = cache.get(PARAMETERS, resolver);
+
+        assertEquals(resolver.invocations, 3);
+        assertEquals(factory.getName(), "factory3");
+    }
+
+    @Test
+    public void shouldResolveFactoryEveryTimeWhenCachingIsDisabled() throws Exception {
+        cache = new ResolvedFactoryCache(0, 100);
+
+        cache.get(PARAMETERS, resolver);
+        cache.get(PARAMETERS, resolver);
+
+        assertEquals(resolver.invocations, 2);
+    }
+
+    @Test
+    public void shouldNotCacheResolutionFailure() throws Exception {
+        resolver.fail = true;
+        try {
+            cache.get(PARAMETERS, resolver);
+            fail("BadRequestException expected");
+        } catch (BadRequestException ignored) {
+        }
+        resolver.fail = false;
+
+        assertEquals(cache.get(PARAMETERS, resolver).getName(), "factory2");
+    }
+
+    private static class CountingResolver implements FactoryParametersResolver {
+        int     invocations;
+        boolean fail;
+
+        @Override
+        public boolean accept(Map<String, String> factoryParameters) {
+            return true;
+        }
+
+        @Override
+        public FactoryDto createFactory(Map<String, String> factoryParameters) throws BadRequestException {
+            invocations++;
+            if (fail) {
+                throw new BadRequestException("Unable to resolve factory");
+            }
+            return DtoFactory.newDto(FactoryDto.class).withV("4.0").withName("factory" + invocations);
+        }
+    }
+}
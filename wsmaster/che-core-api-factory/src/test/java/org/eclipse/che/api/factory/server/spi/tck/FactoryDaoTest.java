@@ -16,6 +16,7 @@ import com.google.common.collect.ImmutableSet;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.factory.Button;
 import org.eclipse.che.api.factory.server.FactoryImage;
 import org.eclipse.che.api.factory.server.model.impl.ActionImpl;
@@ -59,6 +60,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Tests {@link FactoryDao} contract.
@@ -218,6 +220,49 @@ public class FactoryDaoTest {
         assertEquals(new HashSet<>(result), ImmutableSet.of(factories[0], factories[2], factories[4]));
     }
 
+    @Test
+    public void shouldFindFactoriesWhenSearchingBySameAttributesWithDifferentValues() throws Exception {
+        for (int i = 1; i < 3; i++) {
+            final List<Pair<String, String>> attributes = ImmutableList.of(Pair.of("creator.userId", users[i].getId()),
+                                                                           Pair.of("name", factories[i].getName()));
+            final List<FactoryImpl> result = factoryDao.getByAttribute(factories.length, 0, attributes);
+
+            assertEquals(new HashSet<>(result), ImmutableSet.of(factories[i]));
+        }
+    }
+
+    @Test
+    public void shouldFindFactoryByNonStringAttribute() throws Exception {
+        final FactoryImpl factory = factories[1];
+        final List<Pair<String, String>> attributes = ImmutableList.of(Pair.of("id", factory.getId()),
+                                                                       Pair.of("creator.created",
+                                                                               String.valueOf(factory.getCreator().getCreated())));
+        final List<FactoryImpl> result = factoryDao.getByAttribute(factories.length, 0, attributes);
+
+        assertEquals(new HashSet<>(result), ImmutableSet.of(factory));
+    }
+
+    @Test
+    public void shouldFindFactoriesWhenSearchingBySameAttributesInDifferentOrder() throws Exception {
+        final FactoryImpl factory = factories[1];
+        final List<FactoryImpl> result1 = factoryDao.getByAttribute(factories.length,
+                                                                    0,
+                                                                    ImmutableList.of(Pair.of("creator.userId", users[1].getId()),
+                                                                                     Pair.of("name", factory.getName())));
+        final List<FactoryImpl> result2 = factoryDao.getByAttribute(factories.length,
+                                                                    0,
+                                                                    ImmutableList.of(Pair.of("name", factory.getName()),
+                                                                                     Pair.of("creator.userId", users[1].getId())));
+
+        assertEquals(new HashSet<>(result1), ImmutableSet.of(factory));
+        assertEquals(new HashSet<>(result2), ImmutableSet.of(factory));
+    }
+
+    @Test(expectedExceptions = ServerException.class)
+    public void shouldThrowServerExceptionWhenSearchingByUnknownAttribute() throws Exception {
+        factoryDao.getByAttribute(factories.length, 0, ImmutableList.of(Pair.of("name = name OR 1", "1")));
+    }
+
     @Test
     public void shouldFindAllFactoriesWhenAttributesNotSpecified() throws Exception {
         final List<Pair<String, String>> attributes = emptyList();
@@ -238,6 +283,28 @@ public class FactoryDaoTest {
         factoryDao.remove(null);
     }
 
+    @Test
+    public void shouldGetImageHashesOfFactory() throws Exception {
+        final FactoryImpl factory = createFactory(10, users[0].getId());
+        final FactoryImage image1 = new FactoryImage(new byte[] {1, 2, 3}, "image/png", "image1");
+        final FactoryImage image2 = new FactoryImage(new byte[] {4, 5, 6}, "image/png", "image2");
+        factory.setImages(new HashSet<>(asList(image1, image2)));
+        factoryDao.create(factory);
+
+        assertEquals(new HashSet<>(factoryDao.getImageHashes(factory.getId())),
+                     ImmutableSet.of(Pair.of("image1", image1.getHash()), Pair.of("image2", image2.getHash())));
+    }
+
+    @Test
+    public void shouldReturnEmptyListWhenGettingImageHashesOfNonExistingFactory() throws Exception {
+        assertTrue(factoryDao.getImageHashes("non-existing").isEmpty());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowNpeWhenGettingImageHashesByNullId() throws Exception {
+        factoryDao.getImageHashes(null);
+    }
+
     @Test
     public void shouldDoNothingWhenRemovingNonExistingFactory() throws Exception {
         factoryDao.remove("non-existing");
@@ -37,8 +37,10 @@ import java.util.HashSet;
 import java.util.List;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.fail;
 import static org.testng.AssertJUnit.assertTrue;
 
 /**
@@ -253,6 +255,25 @@ public class UserDaoTest {
         assertEqualsNoPassword(userDao.getById(newUser.getId()), newUser);
     }
 
+    @Test(dependsOnMethods = "shouldThrowNoFountExceptionWhenGettingNonExistingUserByName")
+    public void shouldGetCreatedUserByNameAndEmail() throws Exception {
+        try {
+            userDao.getByName("user_name");
+            fail("User with name 'user_name' must not exist");
+        } catch (NotFoundException ignored) {
+        }
+        final UserImpl newUser = new UserImpl("user123",
+                                              "user123@eclipse.org",
+                                              "user_name",
+                                              "password",
+                                              emptyList());
+
+        userDao.create(newUser);
+
+        assertEquals(userDao.getByName("user_name").getId(), newUser.getId());
+        assertEquals(userDao.getByEmail("user123@eclipse.org").getId(), newUser.getId());
+    }
+
     @Test(expectedExceptions = ConflictException.class)
     public void shouldThrowConflictExceptionWhenCreatingUserWithExistingId() throws Exception {
         final UserImpl newUser = new UserImpl(users[0].getId(),
@@ -319,6 +340,50 @@ public class UserDaoTest {
         assertEquals(new HashSet<>(updated.getAliases()), new HashSet<>(asList("google:new-alias", "github:new-alias")));
     }
 
+    @Test(dependsOnMethods = {"shouldGetUserByName", "shouldGetUserByEmail"})
+    public void shouldGetUserByNewNameAndEmailAfterUpdate() throws Exception {
+        final UserImpl user = users[0];
+        userDao.getByName(user.getName());
+        userDao.getByEmail(user.getEmail());
+
+        userDao.update(new UserImpl(user.getId(),
+                                    "new-email",
+                                    "new-name",
+                                    null,
+                                    user.getAliases()));
+
+        assertEquals(userDao.getByName("new-name").getId(), user.getId());
+        assertEquals(userDao.getByEmail("new-email").getId(), user.getId());
+    }
+
+    @Test(expectedExceptions = NotFoundException.class, dependsOnMethods = "shouldGetUserByName")
+    public void shouldNotGetUserByOldNameAfterUpdate() throws Exception {
+        final UserImpl user = users[0];
+        userDao.getByName(user.getName());
+
+        userDao.update(new UserImpl(user.getId(),
+                                    user.getEmail(),
+                                    "new-name",
+                                    null,
+                                    user.getAliases()));
+
+        userDao.getByName(user.getName());
+    }
+
+    @Test(expectedExceptions = NotFoundException.class, dependsOnMethods = "shouldGetUserByEmail")
+    public void shouldNotGetUserByOldEmailAfterUpdate() throws Exception {
+        final UserImpl user = users[0];
+        userDao.getByEmail(user.getEmail());
+
+        userDao.update(new UserImpl(user.getId(),
+                                    "new-email",
+                                    user.getName(),
+                                    null,
+                                    user.getAliases()));
+
+        userDao.getByEmail(user.getEmail());
+    }
+
     @Test(expectedExceptions = ConflictException.class)
     public void shouldThrowConflictExceptionWhenUpdatingUserWithReservedEmail() throws Exception {
         final UserImpl user = users[0];
@@ -369,6 +434,16 @@ public class UserDaoTest {
         userDao.getById(user.getId());
     }
 
+    @Test(expectedExceptions = NotFoundException.class, dependsOnMethods = "shouldGetUserByName")
+    public void shouldNotGetRemovedUserByName() throws Exception {
+        final UserImpl user = users[0];
+        userDao.getByName(user.getName());
+
+        userDao.remove(user.getId());
+
+        userDao.getByName(user.getName());
+    }
+
     @Test
     public void shouldFireEventOnRemoveExistedUser() throws Exception {
         final UserImpl user = users[0];
@@ -253,25 +253,37 @@ public class CheEnvironmentEngine {
                               networkId,
                               recover);
 
+        EnvironmentHolder environmentHolder;
         try (StripedLocks.WriteLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
-            EnvironmentHolder environmentHolder = environments.get(workspaceId);
+            environmentHolder = environments.get(workspaceId);
             // possible only if environment was stopped during its start
             if (environmentHolder == null) {
                 throw new ServerException("Environment start was interrupted by environment stopping");
             }
-            environmentHolder.status = EnvStatus.RUNNING;
-            // prevent list modification
-            return new ArrayList<>(environmentHolder.machines);
+            if (environmentHolder.status != EnvStatus.STOPPING) {
+                environmentHolder.status = EnvStatus.RUNNING;
+                // prevent list modification
+                return new ArrayList<>(environmentHolder.machines);
+            }
+            environments.remove(workspaceId);
         }
+        // environment was stopped after all its machines had been started
+        destroyEnvironment(environmentHolder.networkId, environmentHolder.machines);
+        throw new ServerException("Environment start was interrupted by environment stopping");
     }
 
     /**
      * Stops running environment of specified workspace.
      *
+     * <p>Stop of the starting environment interrupts its start: the environment is marked as stopping,
+     * the start doesn't start the rest of the machines and destroys the started ones, including the machine
+     * which is being started at the moment, as soon as the start of that machine is finished.
+     * In this case this method returns without waiting for the machines destroying.
+     *
      * @param workspaceId
      *         ID of workspace that owns environment
      * @throws EnvironmentNotRunningException
-     *         when environment is not running
+     *         when environment is neither running nor starting
      * @throws ServerException
      *         if other error occurs
      */
@@ -281,11 +293,16 @@ public class CheEnvironmentEngine {
         EnvironmentHolder environmentHolder;
         try (StripedLocks.WriteLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
             environmentHolder = environments.get(workspaceId);
-            if (environmentHolder == null || environmentHolder.status != EnvStatus.RUNNING) {
+            if (environmentHolder == null || environmentHolder.status == EnvStatus.STOPPING) {
                 throw new EnvironmentNotRunningException(
                         format("Stop of not running environment of workspace with ID '%s' is not allowed.",
                                workspaceId));
             }
+            if (environmentHolder.status == EnvStatus.STARTING) {
+                // the start notices it before the next machine start and destroys the environment
+                environmentHolder.status = EnvStatus.STOPPING;
+                return;
+            }
             environments.remove(workspaceId);
             List<Instance> machines = environmentHolder.machines;
             if (machines != null && !machines.isEmpty()) {
@@ -798,7 +815,7 @@ public class CheEnvironmentEngine {
                 try (StripedLocks.WriteLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
                     ensurePreDestroyIsNotExecuted();
                     EnvironmentHolder environmentHolder = environments.get(workspaceId);
-                    if (environmentHolder != null) {
+                    if (environmentHolder != null && environmentHolder.status != EnvStatus.STOPPING) {
                         final Queue<String> queue = environmentHolder.startQueue;
                         if (queue != null) {
                             queue.poll();
@@ -845,7 +862,10 @@ public class CheEnvironmentEngine {
             }
 
             try {
-                destroyEnvironment(env.networkId, env.machines);
+                // environment may be already removed on server stop
+                if (env != null) {
+                    destroyEnvironment(env.networkId, env.machines);
+                }
             } catch (Exception remEx) {
                 LOG.error(remEx.getLocalizedMessage(), remEx);
             }
@@ -1072,7 +1092,8 @@ public class CheEnvironmentEngine {
         try (StripedLocks.ReadLock lock = stripedLocks.acquireReadLock(workspaceId)) {
             ensurePreDestroyIsNotExecuted();
             EnvironmentHolder environmentHolder = environments.get(workspaceId);
-            if (environmentHolder == null || environmentHolder.startQueue == null) {
+            if (environmentHolder == null || environmentHolder.startQueue == null ||
+                environmentHolder.status == EnvStatus.STOPPING) {
                 throw new ServerException("Workspace " + workspaceId +
                                           " start interrupted. Workspace was stopped before all its machines were started");
             }
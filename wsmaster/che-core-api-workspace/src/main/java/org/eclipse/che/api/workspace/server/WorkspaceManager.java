@@ -20,6 +20,7 @@ import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
 import org.eclipse.che.api.core.model.workspace.Workspace;
@@ -33,6 +34,7 @@ import org.eclipse.che.api.machine.server.model.impl.SnapshotImpl;
 import org.eclipse.che.api.machine.server.spi.Instance;
 import org.eclipse.che.api.machine.server.spi.SnapshotDao;
 import org.eclipse.che.api.workspace.server.WorkspaceRuntimes.RuntimeDescriptor;
+import org.eclipse.che.api.workspace.server.WorkspaceRuntimes.WorkspaceState;
 import org.eclipse.che.api.workspace.server.event.WorkspaceCreatedEvent;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
@@ -56,10 +58,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.MoreObjects.firstNonNull;
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
@@ -67,7 +70,9 @@ import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.emptyMap;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STARTING;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
 import static org.eclipse.che.api.workspace.shared.Constants.AUTO_CREATE_SNAPSHOT;
 import static org.eclipse.che.api.workspace.shared.Constants.AUTO_RESTORE_FROM_SNAPSHOT;
@@ -258,6 +263,89 @@ public class WorkspaceManager {
         return workspaces;
     }
 
+    /**
+     * Gets page of workspaces which user can read.
+     *
+     * <p>Returned workspaces have either {@link WorkspaceStatus#STOPPED} status
+     * or status defined by their runtime instances(if those exist).
+     *
+     * @param user
+     *         the id of the user
+     * @param maxItems
+     *         the maximum number of workspaces to return
+     * @param skipCount
+     *         the number of workspaces to skip
+     * @return page of workspaces
+     * @throws NullPointerException
+     *         when {@code user} is null
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} is not positive or {@code skipCount} is negative
+     * @throws ServerException
+     *         when any server error occurs while getting workspaces
+     *         with {@link WorkspaceDao#getWorkspaces(String, int, long)}
+     */
+    public Page<WorkspaceImpl> getWorkspaces(String user, int maxItems, long skipCount) throws ServerException {
+        requireNonNull(user, "Required non-null user id");
+        checkArgument(maxItems > 0, "The number of items to return must be positive.");
+        checkArgument(skipCount >= 0, "The number of items to skip can't be negative.");
+        final Page<WorkspaceImpl> workspaces = workspaceDao.getWorkspaces(user, maxItems, skipCount);
+        for (WorkspaceImpl workspace : workspaces.getItems()) {
+            normalizeState(workspace);
+        }
+        return workspaces;
+    }
+
+    /**
+     * Gets page of workspaces which user can read and which have given status.
+     *
+     * <p>Status of the workspace is defined by its runtime, so the identifiers of
+     * the workspaces which have runtimes are used to filter workspaces on storage level:
+     * workspaces with given identifiers are fetched for any status except of {@link WorkspaceStatus#STOPPED},
+     * while for the stopped status all the workspaces except of the ones which have runtimes are fetched.
+     *
+     * @param user
+     *         the id of the user
+     * @param status
+     *         the status of workspaces to return
+     * @param maxItems
+     *         the maximum number of workspaces to return
+     * @param skipCount
+     *         the number of workspaces to skip
+     * @return page of workspaces
+     * @throws NullPointerException
+     *         when {@code user} or {@code status} is null
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} is not positive or {@code skipCount} is negative
+     * @throws ServerException
+     *         when any server error occurs while getting workspaces
+     *         with {@link WorkspaceDao#getWorkspaces(String, Collection, boolean, int, long)}
+     */
+    public Page<WorkspaceImpl> getWorkspaces(String user,
+                                             WorkspaceStatus status,
+                                             int maxItems,
+                                             long skipCount) throws ServerException {
+        requireNonNull(user, "Required non-null user id");
+        requireNonNull(status, "Required non-null status");
+        checkArgument(maxItems > 0, "The number of items to return must be positive.");
+        checkArgument(skipCount >= 0, "The number of items to skip can't be negative.");
+        final Map<String, WorkspaceState> states = runtimes.getWorkspaces();
+        final Page<WorkspaceImpl> workspaces;
+        if (status == STOPPED) {
+            workspaces = workspaceDao.getWorkspaces(user, states.keySet(), true, maxItems, skipCount);
+        } else {
+            final List<String> ids = states.entrySet()
+                                           .stream()
+                                           .filter(entry -> entry.getValue().getStatus() == status)
+                                           .map(Map.Entry::getKey)
+                                           .collect(toList());
+            workspaces = workspaceDao.getWorkspaces(user, ids, false, maxItems, skipCount);
+        }
+        for (WorkspaceImpl workspace : workspaces.getItems()) {
+            normalizeState(workspace);
+        }
+        return workspaces;
+    }
+
     /**
      * Gets list of workspaces which has given namespace
      *
@@ -463,6 +551,9 @@ public class WorkspaceManager {
      * Asynchronously stops the workspace,
      * creates a snapshot of it if {@code createSnapshot} is set to true.
      *
+     * <p>If the workspace is {@link WorkspaceStatus#STARTING starting} then
+     * its start is interrupted and snapshot is never created.
+     *
      * @param workspaceId
      *         the id of the workspace to stop
      * @param createSnapshot
@@ -480,6 +571,10 @@ public class WorkspaceManager {
                                                                                            ServerException {
         requireNonNull(workspaceId, "Required non-null workspace id");
         final WorkspaceImpl workspace = normalizeState(workspaceDao.get(workspaceId));
+        if (workspace.getStatus() == STARTING) {
+            performAsyncStartInterruption(workspace);
+            return;
+        }
         checkWorkspaceIsRunning(workspace, "stop");
         performAsyncStop(workspace, createSnapshot);
     }
@@ -628,17 +723,20 @@ public class WorkspaceManager {
         workspace.getAttributes().put(UPDATED_ATTRIBUTE_NAME, Long.toString(currentTimeMillis()));
         workspaceDao.update(workspace);
         final String env = firstNonNull(envName, workspace.getConfig().getDefaultEnv());
-        final Future<RuntimeDescriptor> descriptor = runtimes.startAsync(workspace, env, recover);
-        executor.execute(ThreadLocalPropagateContext.wrap(() -> {
-            try {
-                descriptor.get();
+        final String startedBy = sessionUserNameOr("undefined");
+        // no thread waits for the start, the result is handled
+        // by the thread which completes the last start stage
+        runtimes.startAsync(workspace, env, recover).whenComplete((descriptor, error) -> {
+            if (error == null) {
                 LOG.info("Workspace '{}:{}' with id '{}' started by user '{}'",
                          workspace.getNamespace(),
                          workspace.getConfig().getName(),
                          workspace.getId(),
-                         sessionUserNameOr("undefined"));
-            } catch (Exception ex) {
-                if (workspace.isTemporary()) {
+                         startedBy);
+                return;
+            }
+            if (workspace.isTemporary()) {
+                executor.execute(ThreadLocalPropagateContext.wrap(() -> {
                     try {
                         removeWorkspace(workspace.getId());
                     } catch (ConflictException | ServerException rmEx) {
@@ -646,10 +744,11 @@ public class WorkspaceManager {
                                   workspace.getId(),
                                   rmEx.getLocalizedMessage());
                     }
-                }
-                LOG.error(ex.getLocalizedMessage(), ex);
+                }));
             }
-        }));
+            final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            LOG.error(cause.getLocalizedMessage(), cause);
+        });
     }
 
     /**
@@ -705,6 +804,26 @@ public class WorkspaceManager {
         }));
     }
 
+    /**
+     * Asynchronously interrupts the start of the workspace,
+     * the environment is stopped by the start itself.
+     */
+    @VisibleForTesting
+    void performAsyncStartInterruption(WorkspaceImpl workspace) {
+        executor.execute(ThreadLocalPropagateContext.wrap(() -> {
+            LOG.info("Start of the workspace '{}:{}' with id '{}' is being interrupted by user '{}'",
+                     workspace.getNamespace(),
+                     workspace.getConfig().getName(),
+                     workspace.getId(),
+                     sessionUserNameOr("undefined"));
+            try {
+                runtimes.stop(workspace.getId());
+            } catch (RuntimeException | ConflictException | NotFoundException | ServerException ex) {
+                LOG.error(ex.getLocalizedMessage(), ex);
+            }
+        }));
+    }
+
     private void performAsyncStart(MachineConfig machineConfig, String workspaceId) {
         executor.execute(ThreadLocalPropagateContext.wrap(() -> {
             try {
@@ -61,14 +61,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.SNAPSHOTTING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STARTING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPING;
 import static org.eclipse.che.api.machine.shared.Constants.ENVIRONMENT_OUTPUT_CHANNEL_TEMPLATE;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -78,7 +84,12 @@ import static org.slf4j.LoggerFactory.getLogger;
  *
  * <p>This component implements {@link WorkspaceStatus} contract.
  *
- * <p>All the operations performed by this component are synchronous.
+ * <p>All the operations performed by this component are synchronous except of
+ * {@link #startAsync(Workspace, String, boolean)} which splits the start into stages
+ * (environment start, agents launching per machine, runtime completion), each stage
+ * is a separate task of the runtimes executor, so threads are not held by
+ * the workspace between the stages and a start may be interrupted by {@link #stop(String)}
+ * at any stage boundary.
  *
  * <p>The implementation is thread-safe and guarded by
  * eagerly initialized readwrite locks produced by {@link StripedLocks}.
@@ -107,6 +118,8 @@ public class WorkspaceRuntimes {
     private final AgentLauncherFactory        launcherFactory;
     private final AgentRegistry               agentRegistry;
     private final ExecutorService             executor;
+    private final AtomicInteger               queuedStartStages;
+    private final AtomicInteger               startingWorkspaces;
 
     private volatile boolean isPreDestroyInvoked;
 
@@ -124,6 +137,8 @@ public class WorkspaceRuntimes {
         this.workspaces = new HashMap<>();
         // 16 - experimental value for stripes count, it comes from default hash map size
         this.stripedLocks = new StripedLocks(16);
+        this.queuedStartStages = new AtomicInteger();
+        this.startingWorkspaces = new AtomicInteger();
         executor = Executors.newFixedThreadPool(2 * Runtime.getRuntime().availableProcessors(),
                                                 new ThreadFactoryBuilder().setNameFormat("WorkspaceRuntimes-%d")
                                                                           .setDaemon(false)
@@ -202,7 +217,7 @@ public class WorkspaceRuntimes {
      * @throws ConflictException
      *         when workspace is already running
      * @throws ConflictException
-     *         when start is interrupted
+     *         when start is interrupted by {@link #stop(String)}
      * @throws NotFoundException
      *         when any not found exception occurs during environment start
      * @throws ServerException
@@ -221,7 +236,12 @@ public class WorkspaceRuntimes {
         final EnvironmentImpl environment = copyEnv(workspace, envName);
         final String workspaceId = workspace.getId();
         initState(workspaceId, workspace.getConfig().getName(), envName);
-        doStart(environment, workspaceId, envName, recover);
+        startingWorkspaces.incrementAndGet();
+        try {
+            doStart(environment, workspaceId, envName, recover);
+        } finally {
+            startingWorkspaces.decrementAndGet();
+        }
         return get(workspaceId);
     }
 
@@ -229,17 +249,79 @@ public class WorkspaceRuntimes {
      * Starts the workspace like {@link #start(Workspace, String, boolean)}
      * method does, but asynchronously. Nonetheless synchronously checks that workspace
      * doesn't have runtime and makes it {@link WorkspaceStatus#STARTING}.
+     *
+     * <p>The start is performed as a chain of stages: environment start,
+     * agents launching(one stage per machine) and runtime completion.
+     * Each stage is submitted to the executor only when the previous one
+     * is finished, so starts of different workspaces interleave instead of
+     * occupying executor threads till the end. Between the stages the start
+     * checks whether it was interrupted by {@link #stop(String)}, if so
+     * the environment is stopped and returned future is completed
+     * with {@link ConflictException}.
+     *
+     * @return the future which is completed with runtime descriptor when workspace
+     * is {@link WorkspaceStatus#RUNNING running}, or exceptionally when start is failed
+     * or interrupted
      */
-    public Future<RuntimeDescriptor> startAsync(Workspace workspace,
-                                                String envName,
-                                                boolean recover) throws ConflictException, ServerException {
+    public CompletableFuture<RuntimeDescriptor> startAsync(Workspace workspace,
+                                                           String envName,
+                                                           boolean recover) throws ConflictException, ServerException {
         final EnvironmentImpl environment = copyEnv(workspace, envName);
         final String workspaceId = workspace.getId();
         initState(workspaceId, workspace.getConfig().getName(), envName);
-        return executor.submit(ThreadLocalPropagateContext.wrap(() -> {
-            doStart(environment, workspaceId, envName, recover);
-            return get(workspaceId);
-        }));
+        startingWorkspaces.incrementAndGet();
+        return runStartStage(() -> startEnvironment(environment, workspaceId, envName, recover))
+                .thenCompose(machines -> {
+                    CompletableFuture<Void> agents = CompletableFuture.completedFuture(null);
+                    for (Instance machine : machines) {
+                        agents = agents.thenCompose(ignored -> runStartStage(() -> {
+                            launchAgents(environment, machine);
+                            return null;
+                        }));
+                    }
+                    return agents;
+                })
+                .thenCompose(ignored -> runStartStage(() -> {
+                    completeStart(workspaceId);
+                    return null;
+                }))
+                .handle((ignored, error) -> error)
+                .thenCompose(error -> {
+                    final CompletableFuture<RuntimeDescriptor> result;
+                    if (error == null) {
+                        // the workspace is already running, read its runtime in place
+                        // so the result doesn't depend on the executor accepting new stages
+                        result = new CompletableFuture<>();
+                        completeStage(result, () -> get(workspaceId));
+                    } else {
+                        final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                        // the environment must be stopped even if the executor
+                        // doesn't accept new stages, otherwise the workspace
+                        // would stay in the starting or stopping state forever
+                        result = runStartStage(() -> {
+                            failStart(workspaceId, envName, cause);
+                            return null;
+                        }, true);
+                    }
+                    return result;
+                })
+                .whenComplete((descriptor, error) -> startingWorkspaces.decrementAndGet());
+    }
+
+    /**
+     * Returns the count of workspace start stages which are
+     * waiting for a free thread of the runtimes executor.
+     */
+    public int getQueuedStartStagesCount() {
+        return queuedStartStages.get();
+    }
+
+    /**
+     * Returns the count of workspaces which are being started at the moment,
+     * including the starts which are waiting in the executor queue.
+     */
+    public int getStartingWorkspacesCount() {
+        return startingWorkspaces.get();
     }
 
     /**
@@ -247,7 +329,12 @@ public class WorkspaceRuntimes {
      *
      * <p>Stops environment in an implementation specific way.
      * During the stop of the workspace its runtime is accessible with {@link WorkspaceStatus#STOPPING stopping} status.
-     * Workspace may be stopped only if its status is {@link WorkspaceStatus#RUNNING}.
+     * Workspace may be stopped only if its status is {@link WorkspaceStatus#RUNNING}
+     * or {@link WorkspaceStatus#STARTING}. Stop of the starting workspace interrupts its start:
+     * the machines which are not started yet are not started, the machine which is being started
+     * is destroyed as soon as its start is finished, see {@link CheEnvironmentEngine#stop(String)}.
+     * The workspace state is removed and the {@link EventType#STOPPED stopped} event is published
+     * by the start itself when the current start stage is finished.
      *
      * @param workspaceId
      *         identifier of workspace which should be stopped
@@ -256,7 +343,7 @@ public class WorkspaceRuntimes {
      * @throws ServerException
      *         when any error occurs during workspace stopping
      * @throws ConflictException
-     *         when running workspace status is different from {@link WorkspaceStatus#RUNNING}
+     *         when workspace status is different from {@link WorkspaceStatus#RUNNING} and {@link WorkspaceStatus#STARTING}
      * @see CheEnvironmentEngine#stop(String)
      * @see WorkspaceStatus#STOPPING
      */
@@ -265,23 +352,37 @@ public class WorkspaceRuntimes {
         // The double check is required as it is still possible to get unlucky timing
         // between locking and stopping workspace.
         ensurePreDestroyIsNotExecuted();
+        final boolean interruptStart;
         try (StripedLocks.WriteLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
             ensurePreDestroyIsNotExecuted();
             WorkspaceState workspaceState = workspaces.get(workspaceId);
             if (workspaceState == null) {
                 throw new NotFoundException("Workspace with id '" + workspaceId + "' is not running.");
             }
-            if (workspaceState.status != WorkspaceStatus.RUNNING) {
+            if (workspaceState.status != WorkspaceStatus.RUNNING && workspaceState.status != STARTING) {
                 throw new ConflictException(
-                        format("Couldn't stop '%s' workspace because its status is '%s'. Workspace can be stopped only if it is 'RUNNING'",
+                        format("Couldn't stop '%s' workspace because its status is '%s'. " +
+                               "Workspace can be stopped only if it is 'RUNNING' or 'STARTING'",
                                workspaceId,
                                workspaceState.status));
             }
-
+            interruptStart = workspaceState.status == STARTING;
             workspaceState.status = WorkspaceStatus.STOPPING;
         }
 
         publishWorkspaceEvent(EventType.STOPPING, workspaceId, null);
+        if (interruptStart) {
+            // stopping the environment interrupts the running start stage,
+            // the start notices the interruption and completes it, see #failStart
+            try {
+                environmentEngine.stop(workspaceId);
+            } catch (EnvironmentNotRunningException ignore) {
+                // environment start is not begun yet, the start is interrupted before it
+            } catch (ServerException | NotFoundException | RuntimeException e) {
+                LOG.error(e.getLocalizedMessage(), e);
+            }
+            return;
+        }
         String error = null;
         try {
             environmentEngine.stop(workspaceId);
@@ -624,54 +725,142 @@ public class WorkspaceRuntimes {
     private void doStart(EnvironmentImpl environment,
                          String workspaceId,
                          String envName,
-                         boolean recover) throws ServerException {
-        publishWorkspaceEvent(EventType.STARTING, workspaceId, null);
+                         boolean recover) throws ServerException, ConflictException {
         try {
-            List<Instance> machines = environmentEngine.start(workspaceId,
-                                                              envName,
-                                                              environment,
-                                                              recover,
-                                                              getEnvironmentLogger(workspaceId));
-            launchAgents(environment, machines);
-
-            try (StripedLocks.WriteLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
-                WorkspaceState workspaceState = workspaces.get(workspaceId);
-                workspaceState.status = WorkspaceStatus.RUNNING;
+            List<Instance> machines = startEnvironment(environment, workspaceId, envName, recover);
+            for (Instance machine : machines) {
+                launchAgents(environment, machine);
             }
-            // Event publication should be performed outside of the lock
-            // as it may take some time to notify subscribers
-            publishWorkspaceEvent(EventType.RUNNING, workspaceId, null);
+            completeStart(workspaceId);
         } catch (ApiException | EnvironmentException | RuntimeException e) {
-            try {
-                environmentEngine.stop(workspaceId);
-            } catch (EnvironmentNotRunningException ignore) {
-            } catch (Exception ex) {
-                LOG.error(ex.getLocalizedMessage(), ex);
-            }
-            String environmentStartError = "Start of environment " + envName +
-                                           " failed. Error: " + e.getLocalizedMessage();
-            try (StripedLocks.WriteLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
-                workspaces.remove(workspaceId);
+            failStart(workspaceId, envName, e);
+        }
+    }
+
+    /** The first stage of the start, publishes starting event and starts environment machines. */
+    private List<Instance> startEnvironment(EnvironmentImpl environment,
+                                            String workspaceId,
+                                            String envName,
+                                            boolean recover) throws ApiException, EnvironmentException {
+        ensureStartIsNotInterrupted(workspaceId);
+        publishWorkspaceEvent(EventType.STARTING, workspaceId, null);
+        return environmentEngine.start(workspaceId,
+                                       envName,
+                                       environment,
+                                       recover,
+                                       getEnvironmentLogger(workspaceId));
+    }
+
+    /** Launches the agents configured for the given machine of the starting environment. */
+    private void launchAgents(EnvironmentImpl environment, Instance instance) throws ServerException, ConflictException {
+        ensureStartIsNotInterrupted(instance.getWorkspaceId());
+        Map<String, ExtendedMachineImpl> envMachines = environment.getMachines();
+        if (envMachines != null) {
+            ExtendedMachine extendedMachine = envMachines.get(instance.getConfig().getName());
+            if (extendedMachine != null) {
+                List<String> agents = extendedMachine.getAgents();
+                launchAgents(instance, agents);
             }
-            publishWorkspaceEvent(EventType.ERROR,
-                                  workspaceId,
-                                  environmentStartError);
+        }
+    }
 
-            throw new ServerException(environmentStartError, e);
+    /** The last stage of the start, makes workspace {@link WorkspaceStatus#RUNNING}. */
+    private void completeStart(String workspaceId) throws ConflictException {
+        try (StripedLocks.WriteLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
+            getStartingState(workspaceId).status = RUNNING;
         }
+        // Event publication should be performed outside of the lock
+        // as it may take some time to notify subscribers
+        publishWorkspaceEvent(EventType.RUNNING, workspaceId, null);
     }
 
-    private void launchAgents(EnvironmentImpl environment, List<Instance> machines) throws ServerException {
-        for (Instance instance : machines) {
-            Map<String, ExtendedMachineImpl> envMachines = environment.getMachines();
-            if (envMachines != null) {
-                ExtendedMachine extendedMachine = envMachines.get(instance.getConfig().getName());
-                if (extendedMachine != null) {
-                    List<String> agents = extendedMachine.getAgents();
-                    launchAgents(instance, agents);
-                }
+    /**
+     * Stops the environment of the workspace which start is failed or interrupted,
+     * removes the workspace state and publishes the corresponding event.
+     * This method always throws an exception.
+     *
+     * @throws ConflictException
+     *         when start was interrupted by {@link #stop(String)}
+     * @throws ServerException
+     *         describes the start failure
+     */
+    private void failStart(String workspaceId, String envName, Throwable cause) throws ServerException, ConflictException {
+        try {
+            environmentEngine.stop(workspaceId);
+        } catch (EnvironmentNotRunningException ignore) {
+        } catch (Exception ex) {
+            LOG.error(ex.getLocalizedMessage(), ex);
+        }
+        final boolean interrupted;
+        try (StripedLocks.WriteLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
+            final WorkspaceState state = workspaces.remove(workspaceId);
+            interrupted = state != null && state.status == STOPPING;
+        }
+        if (interrupted) {
+            publishWorkspaceEvent(EventType.STOPPED, workspaceId, null);
+            throw new ConflictException(format("Start of environment '%s' was interrupted by workspace stop", envName));
+        }
+        String environmentStartError = "Start of environment " + envName +
+                                       " failed. Error: " + cause.getLocalizedMessage();
+        publishWorkspaceEvent(EventType.ERROR,
+                              workspaceId,
+                              environmentStartError);
+        throw new ServerException(environmentStartError, cause);
+    }
+
+    private void ensureStartIsNotInterrupted(String workspaceId) throws ConflictException {
+        try (StripedLocks.ReadLock lock = stripedLocks.acquireReadLock(workspaceId)) {
+            getStartingState(workspaceId);
+        }
+    }
+
+    private WorkspaceState getStartingState(String workspaceId) throws ConflictException {
+        final WorkspaceState state = workspaces.get(workspaceId);
+        if (state == null || state.status != STARTING) {
+            throw new ConflictException(format("Start of workspace '%s' was interrupted", workspaceId));
+        }
+        return state;
+    }
+
+    /**
+     * Submits the given start stage to the runtimes executor.
+     * The returned future is completed with the stage result or exceptionally
+     * with the exception thrown by the stage.
+     */
+    private <T> CompletableFuture<T> runStartStage(Callable<T> stage) {
+        return runStartStage(stage, false);
+    }
+
+    /**
+     * Submits the given start stage to the runtimes executor, if the executor
+     * rejects the stage and {@code runIfRejected} is true then the stage
+     * is performed in the caller thread.
+     */
+    private <T> CompletableFuture<T> runStartStage(Callable<T> stage, boolean runIfRejected) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        queuedStartStages.incrementAndGet();
+        try {
+            executor.execute(ThreadLocalPropagateContext.wrap(() -> {
+                queuedStartStages.decrementAndGet();
+                completeStage(result, stage);
+            }));
+        } catch (RejectedExecutionException x) {
+            queuedStartStages.decrementAndGet();
+            if (runIfRejected) {
+                completeStage(result, stage);
+            } else {
+                result.completeExceptionally(new ServerException("Could not perform operation because application server is stopping"));
             }
         }
+        return result;
+    }
+
+    private static <T> void completeStage(CompletableFuture<T> result, Callable<T> stage) {
+        try {
+            result.complete(stage.call());
+        } catch (Exception x) {
+            result.completeExceptionally(x);
+        }
     }
 
     private static EnvironmentImpl copyEnv(Workspace workspace, String envName) {
@@ -25,6 +25,7 @@ import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.rest.Service;
@@ -191,23 +192,40 @@ public class WorkspaceService extends Service {
                   responseContainer = "List")
     @ApiResponses({@ApiResponse(code = 200, message = "The workspaces successfully fetched"),
                    @ApiResponse(code = 500, message = "Internal server error occurred during workspaces fetching")})
-    public List<WorkspaceDto> getWorkspaces(@ApiParam("The number of the items to skip")
-                                            @DefaultValue("0")
-                                            @QueryParam("skipCount")
-                                            Integer skipCount,
-                                            @ApiParam("The limit of the items in the response, default is 30")
-                                            @DefaultValue("30")
-                                            @QueryParam("maxItems")
-                                            Integer maxItems,
-                                            @ApiParam("Workspace status")
-                                            @QueryParam("status")
-                                            String status) throws ServerException, BadRequestException {
-        //TODO add maxItems & skipCount to manager
-        return workspaceManager.getWorkspaces(EnvironmentContext.getCurrent().getSubject().getUserId())
-                               .stream()
-                               .filter(ws -> status == null || status.equalsIgnoreCase(ws.getStatus().toString()))
-                               .map(workspace -> linksInjector.injectLinks(asDto(workspace), getServiceContext()))
-                               .collect(toList());
+    public Response getWorkspaces(@ApiParam("The number of the items to skip")
+                                  @DefaultValue("0")
+                                  @QueryParam("skipCount")
+                                  Integer skipCount,
+                                  @ApiParam("The limit of the items in the response, " +
+                                            "all the workspaces are returned if it is not specified")
+                                  @QueryParam("maxItems")
+                                  Integer maxItems,
+                                  @ApiParam("Workspace status")
+                                  @QueryParam("status")
+                                  String status) throws ServerException, BadRequestException {
+        if (skipCount < 0) {
+            throw new BadRequestException("The number of items to skip can't be negative.");
+        }
+        if (maxItems != null && maxItems <= 0) {
+            throw new BadRequestException("The number of items to return must be positive.");
+        }
+        final String userId = EnvironmentContext.getCurrent().getSubject().getUserId();
+        final int limit = maxItems == null ? Integer.MAX_VALUE : maxItems;
+        final Page<WorkspaceImpl> workspacesPage;
+        if (status == null) {
+            workspacesPage = workspaceManager.getWorkspaces(userId, limit, skipCount);
+        } else {
+            workspacesPage = workspaceManager.getWorkspaces(userId, toWorkspaceStatus(status), limit, skipCount);
+        }
+        final Response.ResponseBuilder response = Response.ok()
+                                                          .entity(workspacesPage.getItems(
+                                                                  workspace -> linksInjector.injectLinks(asDto(workspace),
+                                                                                                         getServiceContext())));
+        // the links are sent only to the clients which request workspaces page by page
+        if (maxItems != null) {
+            response.header("Link", createLinkHeader(workspacesPage));
+        }
+        return response.build();
     }
 
     @GET
@@ -759,6 +777,14 @@ public class WorkspaceService extends Service {
         }
     }
 
+    private static WorkspaceStatus toWorkspaceStatus(String status) throws BadRequestException {
+        try {
+            return WorkspaceStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException x) {
+            throw new BadRequestException(format("Workspace status '%s' is not valid", status));
+        }
+    }
+
     private void relativizeRecipeLinks(WorkspaceConfigDto config) {
         config.getEnvironments().values().forEach(this::relativizeRecipeLinks);
     }
@@ -15,6 +15,7 @@ import com.google.inject.persist.Transactional;
 import org.eclipse.che.account.event.BeforeAccountRemovedEvent;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.jdbc.jpa.DuplicateKeyException;
 import org.eclipse.che.api.core.jdbc.jpa.event.CascadeRemovalEventSubscriber;
@@ -33,9 +34,12 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
+import java.util.Collection;
 import java.util.List;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -151,6 +155,62 @@ public class JpaWorkspaceDao implements WorkspaceDao {
         }
     }
 
+    @Override
+    @Transactional
+    public Page<WorkspaceImpl> getWorkspaces(String userId, int maxItems, long skipCount) throws ServerException {
+        // TODO respect userId when workers become a part of che
+        checkArgument(maxItems > 0, "The number of items to return must be positive.");
+        checkArgument(skipCount >= 0 && skipCount <= Integer.MAX_VALUE,
+                      "The number of items to skip can't be negative or greater than " + Integer.MAX_VALUE);
+        try {
+            final List<WorkspaceImpl> list = manager.get()
+                                                    .createNamedQuery("Workspace.getAllOrderedById", WorkspaceImpl.class)
+                                                    .setMaxResults(maxItems)
+                                                    .setFirstResult((int)skipCount)
+                                                    .getResultList();
+            final long totalCount = manager.get()
+                                           .createNamedQuery("Workspace.getAllCount", Long.class)
+                                           .getSingleResult();
+            return new Page<>(list, skipCount, maxItems, totalCount);
+        } catch (RuntimeException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+    }
+
+    @Override
+    @Transactional
+    public Page<WorkspaceImpl> getWorkspaces(String userId,
+                                             Collection<String> ids,
+                                             boolean exclude,
+                                             int maxItems,
+                                             long skipCount) throws ServerException {
+        // TODO respect userId when workers become a part of che
+        requireNonNull(ids, "Required non-null ids");
+        checkArgument(maxItems > 0, "The number of items to return must be positive.");
+        checkArgument(skipCount >= 0 && skipCount <= Integer.MAX_VALUE,
+                      "The number of items to skip can't be negative or greater than " + Integer.MAX_VALUE);
+        // empty IN clause is not supported by all the databases
+        if (ids.isEmpty()) {
+            return exclude ? getWorkspaces(userId, maxItems, skipCount) : new Page<>(emptyList(), skipCount, maxItems, 0);
+        }
+        try {
+            final String prefix = exclude ? "Workspace.getAllExceptIds" : "Workspace.getByIds";
+            final List<WorkspaceImpl> list = manager.get()
+                                                    .createNamedQuery(prefix + "OrderedById", WorkspaceImpl.class)
+                                                    .setParameter("ids", ids)
+                                                    .setMaxResults(maxItems)
+                                                    .setFirstResult((int)skipCount)
+                                                    .getResultList();
+            final long totalCount = manager.get()
+                                           .createNamedQuery(prefix + "Count", Long.class)
+                                           .setParameter("ids", ids)
+                                           .getSingleResult();
+            return new Page<>(list, skipCount, maxItems, totalCount);
+        } catch (RuntimeException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+    }
+
     @Transactional
     protected void doCreate(WorkspaceImpl workspace) {
         if (workspace.getConfig() != null) {
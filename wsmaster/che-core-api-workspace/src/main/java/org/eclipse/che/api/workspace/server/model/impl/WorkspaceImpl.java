@@ -30,6 +30,7 @@ import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.NamedQueries;
@@ -52,7 +53,8 @@ import java.util.Objects;
  * @author Yevhenii Voevodin
  */
 @Entity(name = "Workspace")
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"name", "accountId"}))
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"name", "accountId"}),
+       indexes = @Index(columnList = "accountId"))
 @NamedQueries(
         {
                 @NamedQuery(name = "Workspace.getByNamespace",
@@ -60,7 +62,19 @@ import java.util.Objects;
                 @NamedQuery(name = "Workspace.getByName",
                             query = "SELECT w FROM Workspace w WHERE w.account.name = :namespace AND w.name = :name"),
                 @NamedQuery(name = "Workspace.getAll",
-                            query = "SELECT w FROM Workspace w")
+                            query = "SELECT w FROM Workspace w"),
+                @NamedQuery(name = "Workspace.getAllOrderedById",
+                            query = "SELECT w FROM Workspace w ORDER BY w.id"),
+                @NamedQuery(name = "Workspace.getAllCount",
+                            query = "SELECT COUNT(w) FROM Workspace w"),
+                @NamedQuery(name = "Workspace.getByIdsOrderedById",
+                            query = "SELECT w FROM Workspace w WHERE w.id IN :ids ORDER BY w.id"),
+                @NamedQuery(name = "Workspace.getByIdsCount",
+                            query = "SELECT COUNT(w) FROM Workspace w WHERE w.id IN :ids"),
+                @NamedQuery(name = "Workspace.getAllExceptIdsOrderedById",
+                            query = "SELECT w FROM Workspace w WHERE w.id NOT IN :ids ORDER BY w.id"),
+                @NamedQuery(name = "Workspace.getAllExceptIdsCount",
+                            query = "SELECT COUNT(w) FROM Workspace w WHERE w.id NOT IN :ids")
         }
 )
 @EntityListeners({WorkspaceEntityListener.class, WorkspaceImpl.SyncNameOnUpdateAndPersistEventListener.class})
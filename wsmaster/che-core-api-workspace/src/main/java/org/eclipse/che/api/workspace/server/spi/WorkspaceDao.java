@@ -12,9 +12,11 @@ package org.eclipse.che.api.workspace.server.spi;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -142,4 +144,56 @@ public interface WorkspaceDao {
      *         when any other error occurs during workspaces fetching
      */
     List<WorkspaceImpl> getWorkspaces(String userId) throws ServerException;
+
+    /**
+     * Gets page of workspaces which user can read.
+     *
+     * <p>Workspaces are ordered by their identifiers, so the pages
+     * are stable between requests while workspaces are not created or removed.
+     *
+     * @param userId
+     *         id of user
+     * @param maxItems
+     *         the maximum number of workspaces to return
+     * @param skipCount
+     *         the number of workspaces to skip
+     * @return page of workspaces which user can read
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} is not positive or {@code skipCount} is negative
+     * @throws ServerException
+     *         when any other error occurs during workspaces fetching
+     */
+    Page<WorkspaceImpl> getWorkspaces(String userId, int maxItems, long skipCount) throws ServerException;
+
+    /**
+     * Gets page of workspaces which user can read, filtered by the identifiers.
+     *
+     * <p>Workspaces are ordered by their identifiers, the same as
+     * for {@link #getWorkspaces(String, int, long)}.
+     *
+     * @param userId
+     *         id of user
+     * @param ids
+     *         identifiers of the workspaces to include into the result,
+     *         or to exclude from it if {@code exclude} is true
+     * @param exclude
+     *         whether workspaces with given identifiers should be excluded
+     *         from the result instead of being the only ones included
+     * @param maxItems
+     *         the maximum number of workspaces to return
+     * @param skipCount
+     *         the number of workspaces to skip
+     * @return page of workspaces which user can read
+     * @throws NullPointerException
+     *         when {@code ids} is null
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} is not positive or {@code skipCount} is negative
+     * @throws ServerException
+     *         when any other error occurs during workspaces fetching
+     */
+    Page<WorkspaceImpl> getWorkspaces(String userId,
+                                      Collection<String> ids,
+                                      boolean exclude,
+                                      int maxItems,
+                                      long skipCount) throws ServerException;
 }
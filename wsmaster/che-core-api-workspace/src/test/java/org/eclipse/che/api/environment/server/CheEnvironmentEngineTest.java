@@ -88,6 +88,7 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 /**
  * @author Alexander Garagatyi
@@ -636,6 +637,52 @@ public class CheEnvironmentEngineTest {
         }
     }
 
+    @Test
+    public void shouldInterruptEnvStartOnEnvStop() throws Exception {
+        // given
+        EnvironmentImpl env = createEnv();
+        String envName = "env-1";
+        String workspaceId = "wsId";
+        List<Instance> startedMachines = new ArrayList<>();
+        when(machineProvider.startService(anyString(),
+                                          eq(workspaceId),
+                                          eq(envName),
+                                          anyString(),
+                                          anyBoolean(),
+                                          anyString(),
+                                          any(CheServiceImpl.class),
+                                          any(LineConsumer.class)))
+                .thenAnswer(invocationOnMock -> {
+                    Object[] arguments = invocationOnMock.getArguments();
+                    Machine machine = createMachine(workspaceId,
+                                                    envName,
+                                                    (CheServiceImpl)arguments[6],
+                                                    (String)arguments[3],
+                                                    (boolean)arguments[4]);
+                    NoOpMachineInstance instance = spy(new NoOpMachineInstance(machine));
+                    startedMachines.add(instance);
+                    // environment is stopped while its first machine is starting
+                    engine.stop(workspaceId);
+                    return instance;
+                });
+
+        // when
+        try {
+            engine.start(workspaceId,
+                         envName,
+                         env,
+                         false,
+                         messageConsumer);
+            fail("Environment start must be interrupted");
+        } catch (ServerException ignored) {
+        }
+
+        // then
+        assertEquals(startedMachines.size(), 1, "Rest of the machines must not be started");
+        verify(startedMachines.get(0)).destroy();
+        verify(machineProvider).destroyNetwork(anyString());
+    }
+
     @Test(expectedExceptions = EnvironmentNotRunningException.class,
           expectedExceptionsMessageRegExp = "Stop of not running environment of workspace with ID '.*' is not allowed.")
     public void shouldThrowExceptionOnEnvStopIfItIsNotRunning() throws Exception {
@@ -14,6 +14,7 @@ import org.eclipse.che.account.api.AccountManager;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
@@ -29,6 +30,7 @@ import org.eclipse.che.api.machine.server.model.impl.MachineSourceImpl;
 import org.eclipse.che.api.machine.server.model.impl.SnapshotImpl;
 import org.eclipse.che.api.machine.server.spi.SnapshotDao;
 import org.eclipse.che.api.workspace.server.WorkspaceRuntimes.RuntimeDescriptor;
+import org.eclipse.che.api.workspace.server.WorkspaceRuntimes.WorkspaceState;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentRecipeImpl;
 import org.eclipse.che.api.workspace.server.model.impl.ExtendedMachineImpl;
@@ -56,14 +58,16 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
-import static com.google.common.util.concurrent.Futures.immediateFuture;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.SNAPSHOTTING;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STARTING;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
 import static org.eclipse.che.api.workspace.server.WorkspaceManager.CREATED_ATTRIBUTE_NAME;
@@ -138,6 +142,7 @@ public class WorkspaceManagerTest {
         when(accountManager.getByName(NAMESPACE_2)).thenReturn(new AccountImpl("accountId2", NAMESPACE_2, "test"));
         when(workspaceDao.create(any(WorkspaceImpl.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
         when(workspaceDao.update(any(WorkspaceImpl.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+        when(runtimes.startAsync(any(), anyString(), anyBoolean())).thenReturn(new CompletableFuture<>());
 
         EnvironmentContext.setCurrent(new EnvironmentContext() {
             @Override
@@ -225,6 +230,65 @@ public class WorkspaceManagerTest {
         assertEquals(result, workspace);
     }
 
+    @Test
+    public void shouldBeAbleToGetPageOfWorkspacesAvailableForUser() throws Exception {
+        // given
+        final WorkspaceConfig config = createConfig();
+
+        final WorkspaceImpl workspace1 = workspaceManager.createWorkspace(config, NAMESPACE);
+        final WorkspaceImpl workspace2 = workspaceManager.createWorkspace(config, NAMESPACE_2);
+
+        when(workspaceDao.getWorkspaces(NAMESPACE, 2, 0)).thenReturn(new Page<>(asList(workspace1, workspace2), 0, 2, 5));
+        final RuntimeDescriptor descriptor = createDescriptor(workspace2, RUNNING);
+        when(runtimes.get(workspace2.getId())).thenReturn(descriptor);
+
+        // when
+        final Page<WorkspaceImpl> result = workspaceManager.getWorkspaces(NAMESPACE, 2, 0);
+
+        // then
+        assertEquals(result.getItemsCount(), 2);
+        assertEquals(result.getTotalItemsCount(), 5);
+        assertEquals(result.getItems().get(0).getStatus(), STOPPED);
+        assertEquals(result.getItems().get(1).getStatus(), RUNNING);
+    }
+
+    @Test
+    public void shouldGetPageOfWorkspacesWithRuntimeStatusFromDao() throws Exception {
+        final WorkspaceConfig config = createConfig();
+        final WorkspaceImpl workspace1 = workspaceManager.createWorkspace(config, NAMESPACE);
+        final WorkspaceImpl workspace2 = workspaceManager.createWorkspace(config, NAMESPACE_2);
+        final Map<String, WorkspaceState> states = new HashMap<>();
+        states.put(workspace1.getId(), new WorkspaceState(RUNNING, workspace1.getConfig().getDefaultEnv()));
+        states.put(workspace2.getId(), new WorkspaceState(STARTING, workspace2.getConfig().getDefaultEnv()));
+        when(runtimes.getWorkspaces()).thenReturn(states);
+        when(workspaceDao.getWorkspaces(NAMESPACE, singletonList(workspace1.getId()), false, 2, 0))
+                .thenReturn(new Page<>(singletonList(workspace1), 0, 2, 1));
+        final RuntimeDescriptor descriptor = createDescriptor(workspace1, RUNNING);
+        when(runtimes.get(workspace1.getId())).thenReturn(descriptor);
+
+        final Page<WorkspaceImpl> result = workspaceManager.getWorkspaces(NAMESPACE, RUNNING, 2, 0);
+
+        assertEquals(result.getItems(), singletonList(workspace1));
+        assertEquals(result.getItems().get(0).getStatus(), RUNNING);
+    }
+
+    @Test
+    public void shouldGetPageOfStoppedWorkspacesExcludingWorkspacesWithRuntimesFromDao() throws Exception {
+        final WorkspaceConfig config = createConfig();
+        final WorkspaceImpl workspace1 = workspaceManager.createWorkspace(config, NAMESPACE);
+        final WorkspaceImpl workspace2 = workspaceManager.createWorkspace(config, NAMESPACE_2);
+        when(runtimes.getWorkspaces()).thenReturn(singletonMap(workspace1.getId(),
+                                                               new WorkspaceState(RUNNING,
+                                                                                  workspace1.getConfig().getDefaultEnv())));
+        when(workspaceDao.getWorkspaces(NAMESPACE, singleton(workspace1.getId()), true, 2, 0))
+                .thenReturn(new Page<>(singletonList(workspace2), 0, 2, 1));
+
+        final Page<WorkspaceImpl> result = workspaceManager.getWorkspaces(NAMESPACE, STOPPED, 2, 0);
+
+        assertEquals(result.getItems(), singletonList(workspace2));
+        assertEquals(result.getItems().get(0).getStatus(), STOPPED);
+    }
+
     @Test
     public void shouldBeAbleToGetWorkspacesAvailableForUser() throws Exception {
         // given
@@ -457,7 +521,7 @@ public class WorkspaceManagerTest {
         when(workspaceDao.get(workspace.getId())).thenReturn(workspace);
         when(runtimes.get(workspace.getId())).thenThrow(new NotFoundException(""));
         final RuntimeDescriptor descriptor = createDescriptor(workspace, STARTING);
-        when(runtimes.startAsync(any(), anyString(), anyBoolean())).thenReturn(immediateFuture(descriptor));
+        when(runtimes.startAsync(any(), anyString(), anyBoolean())).thenReturn(CompletableFuture.completedFuture(descriptor));
 
         workspaceManager.startWorkspace(workspace.getId(), null, null);
 
@@ -474,7 +538,7 @@ public class WorkspaceManagerTest {
         when(workspaceDao.get(workspace.getId())).thenReturn(workspace);
         when(runtimes.get(workspace.getId())).thenThrow(new NotFoundException(""));
         final RuntimeDescriptor descriptor = createDescriptor(workspace, STARTING);
-        when(runtimes.startAsync(any(), anyString(), anyBoolean())).thenReturn(immediateFuture(descriptor));
+        when(runtimes.startAsync(any(), anyString(), anyBoolean())).thenReturn(CompletableFuture.completedFuture(descriptor));
         workspaceManager.startWorkspace(workspace.getId(), "non-default-env", false);
 
         // timeout is needed because this invocation will run in separate thread asynchronously
@@ -623,10 +687,8 @@ public class WorkspaceManagerTest {
         verify(runtimes, timeout(2000)).beginSnapshotting(workspace.getId());
     }
 
-    @Test(expectedExceptions = ConflictException.class,
-          expectedExceptionsMessageRegExp = "Could not stop the workspace " +
-                                            "'.*' because its status is 'STARTING'.")
-    public void shouldFailCreatingSnapshotWhenStoppingWorkspaceWhichIsNotRunning() throws Exception {
+    @Test
+    public void shouldInterruptStartWithoutCreatingSnapshotWhenStoppingStartingWorkspace() throws Exception {
         final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), NAMESPACE);
         workspace.getAttributes().put(Constants.AUTO_CREATE_SNAPSHOT, "true");
         final RuntimeDescriptor descriptor = createDescriptor(workspace, STARTING);
@@ -634,6 +696,34 @@ public class WorkspaceManagerTest {
         when(runtimes.get(any())).thenReturn(descriptor);
 
         workspaceManager.stopWorkspace(workspace.getId());
+
+        verify(workspaceManager).performAsyncStartInterruption(workspace);
+        verify(runtimes, timeout(2000)).stop(workspace.getId());
+        verify(runtimes, never()).beginSnapshotting(workspace.getId());
+    }
+
+    @Test(expectedExceptions = ConflictException.class,
+          expectedExceptionsMessageRegExp = "Could not stop the workspace " +
+                                            "'.*' because its status is 'SNAPSHOTTING'.")
+    public void shouldFailStoppingWorkspaceWhichIsSnapshotting() throws Exception {
+        final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), NAMESPACE);
+        final RuntimeDescriptor descriptor = createDescriptor(workspace, SNAPSHOTTING);
+        when(workspaceDao.get(workspace.getId())).thenReturn(workspace);
+        when(runtimes.get(any())).thenReturn(descriptor);
+
+        workspaceManager.stopWorkspace(workspace.getId());
+    }
+
+    @Test
+    public void shouldRemoveTemporaryWorkspaceWhenItsStartFailed() throws Exception {
+        final CompletableFuture<RuntimeDescriptor> startFuture = new CompletableFuture<>();
+        when(runtimes.startAsync(any(), anyString(), anyBoolean())).thenReturn(startFuture);
+        when(runtimes.get(any())).thenThrow(new NotFoundException(""));
+        final WorkspaceImpl workspace = workspaceManager.startWorkspace(createConfig(), NAMESPACE, true);
+
+        startFuture.completeExceptionally(new ServerException("start failed"));
+
+        verify(workspaceDao, timeout(2000)).remove(workspace.getId());
     }
 
     @Test
@@ -47,11 +47,16 @@ import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
@@ -72,6 +77,7 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 /**
@@ -642,6 +648,163 @@ public class WorkspaceRuntimesTest {
         runtimes.start(workspace, workspace.getConfig().getDefaultEnv(), false);
     }
 
+    @Test
+    public void shouldStartWorkspaceAsynchronously() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+
+        final RuntimeDescriptor descriptor = runtimes.startAsync(workspace, workspace.getConfig().getDefaultEnv(), false)
+                                                     .get(10, TimeUnit.SECONDS);
+
+        assertEquals(descriptor.getRuntimeStatus(), RUNNING);
+        assertEquals(descriptor, runtimes.get(workspace.getId()));
+        verify(runtimes).publishWorkspaceEvent(EventType.RUNNING, workspace.getId(), null);
+        assertEquals(runtimes.getStartingWorkspacesCount(), 0);
+        assertEquals(runtimes.getQueuedStartStagesCount(), 0);
+    }
+
+    @Test
+    public void shouldCompleteAsyncStartExceptionallyIfEnvStartFails() throws Exception {
+        when(environmentEngine.start(anyString(),
+                                     anyString(),
+                                     any(Environment.class),
+                                     anyBoolean(),
+                                     any()))
+                .thenThrow(new ServerException("Test env start error"));
+        final WorkspaceImpl workspace = createWorkspace();
+
+        try {
+            runtimes.startAsync(workspace, workspace.getConfig().getDefaultEnv(), false).get(10, TimeUnit.SECONDS);
+            fail("Expected start to fail");
+        } catch (ExecutionException x) {
+            assertTrue(x.getCause() instanceof ServerException);
+            assertEquals(x.getCause().getMessage(), "Start of environment " + ENV_NAME + " failed. Error: Test env start error");
+        }
+        assertFalse(runtimes.hasRuntime(workspace.getId()));
+        assertEquals(runtimes.getStartingWorkspacesCount(), 0);
+    }
+
+    @Test
+    public void shouldInterruptStartWhenStartingWorkspaceIsStopped() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+        doAnswer(inv -> {
+            runtimes.stop(workspace.getId());
+            return null;
+        }).when(eventService)
+          .publish(DtoFactory.newDto(WorkspaceStatusEvent.class)
+                             .withEventType(EventType.STARTING)
+                             .withWorkspaceId(workspace.getId()));
+
+        try {
+            runtimes.start(workspace, workspace.getConfig().getDefaultEnv(), false);
+            fail("Expected start to be interrupted");
+        } catch (ConflictException x) {
+            assertEquals(x.getMessage(), "Start of environment '" + ENV_NAME + "' was interrupted by workspace stop");
+        }
+
+        assertFalse(runtimes.hasRuntime(workspace.getId()));
+        // once by the stop itself and once by the interrupted start
+        verify(environmentEngine, times(2)).stop(workspace.getId());
+        verify(runtimes).publishWorkspaceEvent(EventType.STOPPING, workspace.getId(), null);
+        verify(runtimes).publishWorkspaceEvent(EventType.STOPPED, workspace.getId(), null);
+        verify(runtimes, never()).publishWorkspaceEvent(EventType.RUNNING, workspace.getId(), null);
+    }
+
+    @Test
+    public void shouldNotStartEnvironmentIfWorkspaceIsStoppedBeforeAsyncStartBegins() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+        final CountDownLatch blockedLatch = new CountDownLatch(1);
+        // occupy all the executor threads, so the start stage waits in the queue
+        final int threads = 2 * Runtime.getRuntime().availableProcessors();
+        final List<CompletableFuture<RuntimeDescriptor>> blockers = new ArrayList<>(threads);
+        when(environmentEngine.start(anyString(),
+                                     anyString(),
+                                     any(Environment.class),
+                                     anyBoolean(),
+                                     any())).thenAnswer(inv -> {
+            blockedLatch.await();
+            return singletonList(createMachine(true));
+        });
+        for (int i = 0; i < threads; i++) {
+            blockers.add(runtimes.startAsync(createWorkspace("blocker" + i), ENV_NAME, false));
+        }
+
+        final CompletableFuture<RuntimeDescriptor> start = runtimes.startAsync(workspace, ENV_NAME, false);
+        runtimes.stop(workspace.getId());
+        assertTrue(runtimes.getQueuedStartStagesCount() > 0);
+        blockedLatch.countDown();
+
+        try {
+            start.get(10, TimeUnit.SECONDS);
+            fail("Expected start to be interrupted");
+        } catch (ExecutionException x) {
+            assertTrue(x.getCause() instanceof ConflictException);
+        }
+        verify(environmentEngine, never()).start(eq(workspace.getId()), anyString(), any(), anyBoolean(), any());
+        assertFalse(runtimes.hasRuntime(workspace.getId()));
+        CompletableFuture.allOf(blockers.toArray(new CompletableFuture[blockers.size()]))
+                         .handle((ignored, error) -> null)
+                         .get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldFailStartWhenExecutorRejectsStartStages() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+        when(environmentEngine.start(anyString(),
+                                     anyString(),
+                                     any(Environment.class),
+                                     anyBoolean(),
+                                     any())).thenAnswer(inv -> {
+            // shut down the executor while the start stage is running
+            new Thread(runtimes::cleanup).start();
+            while (runtimes.hasRuntime(workspace.getId())) {
+                Thread.sleep(10);
+            }
+            throw new ServerException("Test env start error");
+        });
+
+        final CompletableFuture<RuntimeDescriptor> start = runtimes.startAsync(workspace, ENV_NAME, false);
+
+        try {
+            start.get(10, TimeUnit.SECONDS);
+            fail("Expected start to fail");
+        } catch (ExecutionException x) {
+            assertTrue(x.getCause() instanceof ServerException);
+            assertEquals(x.getCause().getMessage(), "Start of environment " + ENV_NAME + " failed. Error: Test env start error");
+        }
+        verify(runtimes).publishWorkspaceEvent(EventType.ERROR,
+                                               workspace.getId(),
+                                               "Start of environment " + ENV_NAME + " failed. Error: Test env start error");
+        assertEquals(runtimes.getStartingWorkspacesCount(), 0);
+    }
+
+    @Test
+    public void shouldStartManyWorkspacesConcurrently() throws Exception {
+        final int workspacesCount = 200;
+        when(environmentEngine.start(anyString(),
+                                     anyString(),
+                                     any(Environment.class),
+                                     anyBoolean(),
+                                     any())).thenAnswer(inv -> {
+            // emulates slow machines provider
+            Thread.sleep(10);
+            return asList(createMachine(true), createMachine(false));
+        });
+        when(environmentEngine.getMachines(anyString())).thenReturn(asList(createMachine(true), createMachine(false)));
+
+        final List<CompletableFuture<RuntimeDescriptor>> starts = new ArrayList<>(workspacesCount);
+        for (int i = 0; i < workspacesCount; i++) {
+            starts.add(runtimes.startAsync(createWorkspace("workspace" + i), ENV_NAME, false));
+        }
+        CompletableFuture.allOf(starts.toArray(new CompletableFuture[workspacesCount])).get(60, TimeUnit.SECONDS);
+
+        assertEquals(runtimes.getWorkspaces().size(), workspacesCount);
+        for (CompletableFuture<RuntimeDescriptor> start : starts) {
+            assertEquals(start.get().getRuntimeStatus(), RUNNING);
+        }
+        assertEquals(runtimes.getStartingWorkspacesCount(), 0);
+        assertEquals(runtimes.getQueuedStartStagesCount(), 0);
+    }
+
     private static Instance createMachine(boolean isDev) {
         return createMachine(createConfig(isDev));
     }
@@ -666,6 +829,10 @@ public class WorkspaceRuntimesTest {
     }
 
     private static WorkspaceImpl createWorkspace() {
+        return createWorkspace(WORKSPACE_ID);
+    }
+
+    private static WorkspaceImpl createWorkspace(String id) {
         EnvironmentImpl environment = new EnvironmentImpl(null,
                                                           null);
         WorkspaceConfigImpl wsConfig = WorkspaceConfigImpl.builder()
@@ -673,7 +840,7 @@ public class WorkspaceRuntimesTest {
                                                           .setEnvironments(singletonMap(ENV_NAME, environment))
                                                           .setDefaultEnv(ENV_NAME)
                                                           .build();
-        return new WorkspaceImpl(WORKSPACE_ID, new AccountImpl("accountId", "user123", "test"), wsConfig);
+        return new WorkspaceImpl(id, new AccountImpl("accountId", "user123", "test"), wsConfig);
     }
 
     private static class TestMachineInstance extends NoOpMachineInstance {
@@ -18,6 +18,7 @@ import com.jayway.restassured.response.Response;
 import org.eclipse.che.account.shared.model.Account;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.agent.server.WsAgentHealthChecker;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
@@ -113,6 +114,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -307,7 +309,10 @@ public class WorkspaceServiceTest {
     public void shouldGetWorkspaces() throws Exception {
         final WorkspaceImpl workspace1 = createWorkspace(createConfigDto());
         final WorkspaceImpl workspace2 = createWorkspace(createConfigDto(), STARTING);
-        when(wsManager.getWorkspaces(USER_ID)).thenReturn(asList(workspace1, workspace2));
+        when(wsManager.getWorkspaces(USER_ID, Integer.MAX_VALUE, 0)).thenReturn(new Page<>(asList(workspace1, workspace2),
+                                                                                           0,
+                                                                                           Integer.MAX_VALUE,
+                                                                                           2));
 
         final Response response = given().auth()
                                          .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
@@ -319,6 +324,35 @@ public class WorkspaceServiceTest {
                                                                 .map(ws -> new WorkspaceImpl(ws, TEST_ACCOUNT))
                                                                 .collect(toList()),
                      asList(workspace1, workspace2));
+        assertNull(response.getHeader("Link"));
+    }
+
+    @Test
+    public void shouldGetPageOfWorkspaces() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace(createConfigDto());
+        when(wsManager.getWorkspaces(USER_ID, 1, 1)).thenReturn(new Page<>(singletonList(workspace), 1, 1, 3));
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace?skipCount=1&maxItems=1");
+
+        assertEquals(response.getStatusCode(), 200);
+        assertEquals(unwrapDtoList(response, WorkspaceDto.class).stream()
+                                                                .map(ws -> new WorkspaceImpl(ws, TEST_ACCOUNT))
+                                                                .collect(toList()),
+                     singletonList(workspace));
+        assertNotNull(response.getHeader("Link"));
+    }
+
+    @Test
+    public void shouldNotGetWorkspacesWhenMaxItemsIsNotPositive() throws Exception {
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace?maxItems=0");
+
+        assertEquals(response.getStatusCode(), 400);
     }
 
     @Test
@@ -341,20 +375,29 @@ public class WorkspaceServiceTest {
 
     @Test
     public void shouldGetWorkspacesByStatus() throws Exception {
-        final WorkspaceImpl workspace1 = createWorkspace(createConfigDto());
-        final WorkspaceImpl workspace2 = createWorkspace(createConfigDto(), STARTING);
-        when(wsManager.getWorkspaces(USER_ID)).thenReturn(asList(workspace1, workspace2));
+        final WorkspaceImpl workspace = createWorkspace(createConfigDto(), STARTING);
+        when(wsManager.getWorkspaces(USER_ID, STARTING, 10, 0)).thenReturn(new Page<>(singletonList(workspace), 0, 10, 1));
 
         final Response response = given().auth()
                                          .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
                                          .when()
-                                         .get(SECURE_PATH + "/workspace?status=starting");
+                                         .get(SECURE_PATH + "/workspace?status=starting&maxItems=10");
 
         assertEquals(response.getStatusCode(), 200);
         assertEquals(unwrapDtoList(response, WorkspaceDto.class).stream()
                                                                 .map(ws -> new WorkspaceImpl(ws, TEST_ACCOUNT))
                                                                 .collect(toList()),
-                     singletonList(workspace2));
+                     singletonList(workspace));
+    }
+
+    @Test
+    public void shouldNotGetWorkspacesByInvalidStatus() throws Exception {
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace?status=unknown");
+
+        assertEquals(response.getStatusCode(), 400);
     }
 
     @Test
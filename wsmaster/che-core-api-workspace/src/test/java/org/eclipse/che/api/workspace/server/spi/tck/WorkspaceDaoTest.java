@@ -16,6 +16,7 @@ import com.google.common.collect.ImmutableMap;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.machine.server.model.impl.CommandImpl;
 import org.eclipse.che.api.workspace.server.event.WorkspaceRemovedEvent;
@@ -45,9 +46,11 @@ import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonMap;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 /**
  * Tests {@link WorkspaceDao} contract.
@@ -138,6 +141,63 @@ public class WorkspaceDaoTest {
         workspaceDao.getByNamespace(null);
     }
 
+    @Test
+    public void shouldGetPageOfWorkspacesOrderedById() throws Exception {
+        final Page<WorkspaceImpl> page = workspaceDao.getWorkspaces("user123", 2, 1);
+
+        assertEquals(page.getItems(), asList(workspaces[1], workspaces[2]));
+        assertEquals(page.getTotalItemsCount(), COUNT_OF_WORKSPACES);
+    }
+
+    @Test
+    public void shouldGetPageOfWorkspacesWithGivenIds() throws Exception {
+        final Page<WorkspaceImpl> page = workspaceDao.getWorkspaces("user123",
+                                                                    asList(workspaces[0].getId(),
+                                                                           workspaces[2].getId(),
+                                                                           workspaces[3].getId()),
+                                                                    false,
+                                                                    2,
+                                                                    1);
+
+        assertEquals(page.getItems(), asList(workspaces[2], workspaces[3]));
+        assertEquals(page.getTotalItemsCount(), 3);
+    }
+
+    @Test
+    public void shouldGetPageOfWorkspacesExceptOfGivenIds() throws Exception {
+        final Page<WorkspaceImpl> page = workspaceDao.getWorkspaces("user123",
+                                                                    asList(workspaces[0].getId(), workspaces[2].getId()),
+                                                                    true,
+                                                                    2,
+                                                                    0);
+
+        assertEquals(page.getItems(), asList(workspaces[1], workspaces[3]));
+        assertEquals(page.getTotalItemsCount(), COUNT_OF_WORKSPACES - 2);
+    }
+
+    @Test
+    public void shouldGetEmptyPageWhenGettingWorkspacesWithEmptyIds() throws Exception {
+        final Page<WorkspaceImpl> page = workspaceDao.getWorkspaces("user123", emptyList(), false, 2, 0);
+
+        assertTrue(page.isEmpty());
+        assertEquals(page.getTotalItemsCount(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionWhenGettingPageOfWorkspacesWithNegativeSkipCount() throws Exception {
+        workspaceDao.getWorkspaces("user123", 2, -1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionWhenGettingPageOfZeroWorkspaces() throws Exception {
+        workspaceDao.getWorkspaces("user123", 0, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionWhenGettingFilteredPageOfZeroWorkspaces() throws Exception {
+        workspaceDao.getWorkspaces("user123", emptyList(), true, 0, 0);
+    }
+
     @Test
     public void shouldGetWorkspaceByNameAndNamespace() throws Exception {
         final WorkspaceImpl workspace = workspaces[0];
@@ -186,6 +246,16 @@ public class WorkspaceDaoTest {
         workspaceDao.get(workspace.getId());
     }
 
+    @Test(expectedExceptions = NotFoundException.class, dependsOnMethods = "shouldGetWorkspaceByNameAndNamespace")
+    public void shouldNotGetRemovedWorkspaceByName() throws Exception {
+        final WorkspaceImpl workspace = workspaces[0];
+        workspaceDao.get(workspace.getConfig().getName(), workspace.getNamespace());
+
+        workspaceDao.remove(workspace.getId());
+
+        workspaceDao.get(workspace.getConfig().getName(), workspace.getNamespace());
+    }
+
     @Test
     public void shouldPublicRemoveWorkspaceEventAfterRemoveWorkspace() throws Exception {
         final boolean[] isNotified = new boolean[] {false};
@@ -215,6 +285,20 @@ public class WorkspaceDaoTest {
         assertEquals(workspaceDao.get(workspace.getId()), new WorkspaceImpl(workspace, workspace.getAccount()));
     }
 
+    @Test(dependsOnMethods = "shouldThrowNotFoundExceptionWhenWorkspaceWithSuchNameDoesNotExist")
+    public void shouldGetCreatedWorkspaceByName() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace("new-workspace", accounts[0], "new-name");
+        try {
+            workspaceDao.get("new-name", workspace.getNamespace());
+            fail("Workspace with name 'new-name' must not exist");
+        } catch (NotFoundException ignored) {
+        }
+
+        workspaceDao.create(workspace);
+
+        assertEquals(workspaceDao.get("new-name", workspace.getNamespace()).getId(), workspace.getId());
+    }
+
     @Test(expectedExceptions = ConflictException.class)
     public void shouldNotCreateWorkspaceWithANameWhichAlreadyExistsInGivenNamespace() throws Exception {
         final WorkspaceImpl workspace = workspaces[0];
@@ -360,6 +444,29 @@ public class WorkspaceDaoTest {
         assertEquals(workspaceDao.get(workspace.getId()), new WorkspaceImpl(workspace, workspace.getAccount()));
     }
 
+    @Test(dependsOnMethods = "shouldGetWorkspaceByNameAndNamespace")
+    public void shouldGetWorkspaceByNewNameAfterRename() throws Exception {
+        final WorkspaceImpl workspace = new WorkspaceImpl(workspaces[0], workspaces[0].getAccount());
+        workspaceDao.get(workspace.getConfig().getName(), workspace.getNamespace());
+
+        workspace.getConfig().setName("new-name");
+        workspaceDao.update(workspace);
+
+        assertEquals(workspaceDao.get("new-name", workspace.getNamespace()).getId(), workspace.getId());
+    }
+
+    @Test(expectedExceptions = NotFoundException.class, dependsOnMethods = "shouldGetWorkspaceByNameAndNamespace")
+    public void shouldNotGetWorkspaceByOldNameAfterRename() throws Exception {
+        final WorkspaceImpl workspace = new WorkspaceImpl(workspaces[0], workspaces[0].getAccount());
+        final String oldName = workspace.getConfig().getName();
+        workspaceDao.get(oldName, workspace.getNamespace());
+
+        workspace.getConfig().setName("new-name");
+        workspaceDao.update(workspace);
+
+        workspaceDao.get(oldName, workspace.getNamespace());
+    }
+
     @Test(expectedExceptions = NotFoundException.class)
     public void shouldNotUpdateWorkspaceWhichDoesNotExist() throws Exception {
         final WorkspaceImpl workspace = workspaces[0];
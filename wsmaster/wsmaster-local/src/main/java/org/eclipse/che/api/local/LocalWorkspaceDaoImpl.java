@@ -16,6 +16,7 @@ import com.google.common.reflect.TypeToken;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.Recipe;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
@@ -33,12 +34,14 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.String.format;
+import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
@@ -163,6 +166,40 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
         return new ArrayList<>(workspaces.values());
     }
 
+    @Override
+    public synchronized Page<WorkspaceImpl> getWorkspaces(String userId, int maxItems, long skipCount) throws ServerException {
+        return new Page<>(workspaces.values()
+                                    .stream()
+                                    .sorted(comparing(WorkspaceImpl::getId))
+                                    .skip(skipCount)
+                                    .limit(maxItems)
+                                    .collect(toList()),
+                          skipCount,
+                          maxItems,
+                          workspaces.size());
+    }
+
+    @Override
+    public synchronized Page<WorkspaceImpl> getWorkspaces(String userId,
+                                                          Collection<String> ids,
+                                                          boolean exclude,
+                                                          int maxItems,
+                                                          long skipCount) throws ServerException {
+        requireNonNull(ids, "Required non-null ids");
+        final List<WorkspaceImpl> filtered = workspaces.values()
+                                                       .stream()
+                                                       .filter(workspace -> ids.contains(workspace.getId()) != exclude)
+                                                       .sorted(comparing(WorkspaceImpl::getId))
+                                                       .collect(toList());
+        return new Page<>(filtered.stream()
+                                  .skip(skipCount)
+                                  .limit(maxItems)
+                                  .collect(toList()),
+                          skipCount,
+                          maxItems,
+                          filtered.size());
+    }
+
     private Optional<WorkspaceImpl> find(String name, String owner) {
         return workspaces.values()
                          .stream()